@@ -9,7 +9,7 @@ import blocks.item.ScoreDoubleBlock;
 import blocks.item.WeightBlock;
 import game.GameView;
 
-public abstract class Block implements java.io.Serializable {
+public abstract class Block implements java.io.Serializable, Cloneable {
     private static final long serialVersionUID = 1L;
     protected int [][] shape;
     private int x, y;
@@ -45,32 +45,64 @@ public abstract class Block implements java.io.Serializable {
     public static void reloadSettings() {
         cachedDifficulty = null;
         cachedWeights = null;
+        BlockTypeRegistry.invalidate();
     }
     
     // 난이도에 따른 가중치 계산 및 캐싱
     private static double[] getWeights() {
         if (cachedWeights == null) {
-            String difficulty = getDifficultyFromSettings();
-            cachedWeights = new double[7];
-            
-            if ("easy".equals(difficulty)) {
-                cachedWeights[0] = 1.2;   // I블록
-                for (int i = 1; i < 7; i++) {
-                    cachedWeights[i] = 0.933; // 나머지
-                }
-            } else if ("hard".equals(difficulty)) {
-                cachedWeights[0] = 0.8;    // I블록
-                for (int i = 1; i < 7; i++) {
-                    cachedWeights[i] = 1.033; // 나머지
-                }
-            } else { // normal
-                for (int i = 0; i < 7; i++) {
-                    cachedWeights[i] = 1.0;
-                }
-            }
+            cachedWeights = weightsFor(getDifficultyFromSettings());
         }
         return cachedWeights;
     }
+    
+    /**
+     * 난이도별 블록 가중치 (I, J, L, O, S, T, Z 순서)
+     * @param difficulty "easy", "hard", 그 외는 normal
+     */
+    public static double[] weightsFor(String difficulty) {
+        double[] weights = new double[7];
+        if ("easy".equals(difficulty)) {
+            weights[0] = 1.2;   // I블록
+            for (int i = 1; i < 7; i++) {
+                weights[i] = 0.933; // 나머지
+            }
+        } else if ("hard".equals(difficulty)) {
+            weights[0] = 0.8;    // I블록
+            for (int i = 1; i < 7; i++) {
+                weights[i] = 1.033; // 나머지
+            }
+        } else { // normal
+            for (int i = 0; i < 7; i++) {
+                weights[i] = 1.0;
+            }
+        }
+        return weights;
+    }
+    
+    /**
+     * 가중치 기반 블록 인덱스 선택
+     * @param unit [0, 1) 범위의 난수
+     * @return 0~6 (I, J, L, O, S, T, Z)
+     */
+    static int pickIndex(double[] weights, double unit) {
+        // 가중치 합계 계산
+        double totalWeight = 0;
+        for (double weight : weights) {
+            totalWeight += weight;
+        }
+        
+        // 가중치 기반 선택
+        double random = unit * totalWeight;
+        double cumulativeWeight = 0;
+        for (int i = 0; i < weights.length; i++) {
+            cumulativeWeight += weights[i];
+            if (random <= cumulativeWeight) {
+                return i;
+            }
+        }
+        return 0;
+    }
     // private Block currentBlock; gameboard로?
     
     // 게임 보드의 크기 상수
@@ -84,33 +116,27 @@ public abstract class Block implements java.io.Serializable {
         return getColorBlindModeFromSettings() ? 1 : 0;
     }
     
+    // 일반 블록 초기 위치 (I, J, L, O, S, T, Z 순서)
+    private static final int[][] SPAWN_POSITIONS = {
+        {3, 0},  // IBlock (5×5)
+        {4, 2}, {4, 2},
+        {5, 2},  // OBlock (2×2)
+        {4, 2}, {4, 2}, {4, 2}  // 나머지 블록 (3×3)
+    };
+    
     // 난이도에 따른 블록 생성
     public static Block spawn() {
         // 캐싱된 가중치 가져오기 (첫 호출 시 설정 파일 읽음)
-        double[] weights = getWeights();
-        
-        // 가중치 합계 계산
-        double totalWeight = 0;
-        for (double weight : weights) {
-            totalWeight += weight;
-        }
-        
-        // 가중치 기반 랜덤 선택
-        double random = Math.random() * totalWeight;
-        double cumulativeWeight = 0;
-        int selectedIndex = 0;
-        
-        for (int i = 0; i < weights.length; i++) {
-            cumulativeWeight += weights[i];
-            if (random <= cumulativeWeight) {
-                selectedIndex = i;
-                break;
-            }
-        }
-        
-        // 선택된 인덱스로 블록 생성
+        return spawn(pickIndex(getWeights(), Math.random()));
+    }
+    
+    /**
+     * 인덱스로 일반 블록 생성 (shape 초기화, 초기 위치 설정)
+     * @param index 0~6 (I, J, L, O, S, T, Z), 범위를 벗어나면 IBlock
+     */
+    public static Block spawn(int index) {
         Block newBlock;
-        switch (selectedIndex) {
+        switch (index) {
             case 0:
                 newBlock = new IBlock();
                 break;
@@ -134,26 +160,24 @@ public abstract class Block implements java.io.Serializable {
                 break;
             default:
                 newBlock = new IBlock(); // 기본값으로 IBlock 반환
+                index = 0;
                 break;
         }
 
         // 블록의 shape을 초기화
         newBlock.setShape();
         // 초기 위치 설정
-        switch(selectedIndex) {
-         case 0:  // IBlock (5×5)
-            newBlock.setPosition(3, 0);
-            break;
-        case 3:  // OBlock (2×2)
-            newBlock.setPosition(5, 2);
-            break;
-        case 1: case 2: case 4: case 5: case 6:  // 나머지 블록 (3×3)
-            newBlock.setPosition(4, 2);
-            break;
-        }
-
+        newBlock.setPosition(SPAWN_POSITIONS[index][0], SPAWN_POSITIONS[index][1]);
         return newBlock;
     }
+    
+    /**
+     * 일반 블록의 초기 위치 {x, y}
+     * @param index 0~6 (I, J, L, O, S, T, Z)
+     */
+    public static int[] spawnPosition(int index) {
+        return SPAWN_POSITIONS[index].clone();
+    }
 
     
     
@@ -374,6 +398,23 @@ public abstract class Block implements java.io.Serializable {
     // Allow item wrappers to inherit the exact visual color from a base block
     public void setExactColor(Color c) { this.color = c; }
 
+    /**
+     * 같은 종류/색상의 블록 복사 (생성자를 거치지 않으므로 설정 파일을 읽지 않음)
+     * shape는 깊은 복사, 위치와 UI 바인딩은 그대로 복사됩니다.
+     */
+    public Block copy() {
+        try {
+            Block copy = (Block) super.clone();
+            if (shape != null) {
+                copy.shape = new int[shape.length][];
+                for (int i = 0; i < shape.length; i++) copy.shape[i] = shape[i].clone();
+            }
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * After deserialization you should rebind UI references using this method.
      * Example: Block b = (Block)in.readObject(); b.bind(gameView);
@@ -0,0 +1,119 @@
+package blocks;
+
+import blocks.item.AllClearBlock;
+import blocks.item.BoxClearBlock;
+import blocks.item.OneLineClearBlock;
+import blocks.item.ScoreDoubleBlock;
+import blocks.item.WeightBlock;
+
+/**
+ * 블록 종류 레지스트리
+ * - 블록 클래스마다 1바이트 타입 ID를 부여해 네트워크 이벤트에서 클래스 이름 문자열 대신 사용합니다.
+ * - 종류별 프로토타입을 미리 만들어 두고 복사해서 돌려주므로
+ *   수신 측에서 리플렉션이나 생성자 안의 설정 파일 읽기가 일어나지 않습니다.
+ *
+ * 프로토타입의 색상은 만들 때의 색맹 모드 설정을 따르므로, 설정이 바뀔 수 있는 시점(게임 시작 등)에
+ * preload()를 호출해 다시 만듭니다.
+ */
+public final class BlockTypeRegistry {
+
+    public static final int NONE = 0;
+    public static final int I = 1;
+    public static final int J = 2;
+    public static final int L = 3;
+    public static final int O = 4;
+    public static final int S = 5;
+    public static final int T = 6;
+    public static final int Z = 7;
+    public static final int ALL_CLEAR = 8;
+    public static final int BOX_CLEAR = 9;
+    public static final int ONE_LINE_CLEAR = 10;
+    public static final int SCORE_DOUBLE = 11;
+    public static final int WEIGHT = 12;
+    /** 레지스트리에 없는 클래스 (이벤트에는 클래스 이름을 그대로 실음) */
+    public static final int UNKNOWN = 0xFF;
+
+    private static final Class<?>[] TYPES = {
+        null,
+        IBlock.class, JBlock.class, LBlock.class, OBlock.class, SBlock.class, TBlock.class, ZBlock.class,
+        AllClearBlock.class, BoxClearBlock.class, OneLineClearBlock.class, ScoreDoubleBlock.class, WeightBlock.class
+    };
+
+    private static volatile Block[] prototypes;
+
+    private BlockTypeRegistry() { /* util */ }
+
+    /**
+     * 클래스 이름 → 타입 ID (null이면 NONE, 등록되지 않은 이름이면 UNKNOWN)
+     */
+    public static int idOf(String className) {
+        if (className == null || className.isEmpty()) return NONE;
+        for (int id = 1; id < TYPES.length; id++) {
+            if (TYPES[id].getName().equals(className)) return id;
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * 블록 → 타입 ID
+     */
+    public static int idOf(Block block) {
+        if (block == null) return NONE;
+        Class<?> type = block.getClass();
+        for (int id = 1; id < TYPES.length; id++) {
+            if (TYPES[id] == type) return id;
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * 타입 ID → 클래스 이름 (NONE/UNKNOWN이면 null)
+     */
+    public static String classNameOf(int id) {
+        if (id <= NONE || id >= TYPES.length) return null;
+        return TYPES[id].getName();
+    }
+
+    /**
+     * 프로토타입을 복사해 새 블록 생성 (shape 초기화, 위치는 (0,0))
+     * @return 블록, 프로토타입이 없는 종류(기반 블록 모양이 필요한 아이템)나 잘못된 ID면 null
+     */
+    public static Block create(int id) {
+        if (id <= NONE || id >= TYPES.length) return null;
+        Block[] table = prototypes;
+        if (table == null) table = preload();
+        Block prototype = table[id];
+        return prototype == null ? null : prototype.copy();
+    }
+
+    /**
+     * 프로토타입을 (다시) 만들기
+     * 블록 생성자가 설정 파일을 읽으므로 수신 스레드가 아닌 곳에서 미리 호출하는 것이 좋습니다.
+     */
+    public static synchronized Block[] preload() {
+        Block[] table = new Block[TYPES.length];
+        table[I] = new IBlock();
+        table[J] = new JBlock();
+        table[L] = new LBlock();
+        table[O] = new OBlock();
+        table[S] = new SBlock();
+        table[T] = new TBlock();
+        table[Z] = new ZBlock();
+        table[ALL_CLEAR] = new AllClearBlock();
+        table[BOX_CLEAR] = new BoxClearBlock();
+        table[WEIGHT] = new WeightBlock();
+        // OneLineClear/ScoreDouble은 기반 블록 모양이 있어야 만들 수 있으므로 프로토타입 없음
+        for (Block block : table) {
+            if (block != null) block.setShape();
+        }
+        prototypes = table;
+        return table;
+    }
+
+    /**
+     * 프로토타입 폐기 (설정 변경 후 다음 create()에서 다시 생성)
+     */
+    public static void invalidate() {
+        prototypes = null;
+    }
+}
@@ -0,0 +1,108 @@
+package blocks;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 시드로 정해지는 블록 순서 (P2P 대전에서 양쪽이 같은 순서로 블록을 받음)
+ *
+ * 같은 시드와 난이도면 어느 컴퓨터에서든 n번째 블록이 같으므로,
+ * 블록 생성 이벤트에는 블록 종류 대신 순서 번호만 실어도 되고
+ * 수신 측은 상대의 다음 블록들을 미리 만들어 둘 수 있습니다.
+ *
+ * 블록 종류는 처음 요청될 때 순서대로 뽑아 보관합니다.
+ * 내 게임 루프(EDT)와 수신 스레드가 함께 쓰므로 메소드는 동기화되어 있습니다.
+ * 아이템 블록은 플레이어마다 줄 삭제 시점이 달라 이 순서에 포함되지 않습니다.
+ */
+public final class PieceSequence {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final long seed;
+    private final double[] weights;
+    private final Random random;
+    private byte[] indices = new byte[INITIAL_CAPACITY];
+    private int generated = 0;
+
+    /**
+     * @param seed 양쪽이 공유하는 시드
+     * @param difficulty 난이도 (0: normal, 1: hard, 2: easy - GameController와 같음)
+     */
+    public PieceSequence(long seed, int difficulty) {
+        this.seed = seed;
+        this.weights = Block.weightsFor(difficultyName(difficulty));
+        this.random = new Random(seed);
+    }
+
+    /**
+     * 새 시드 생성 (호스트가 경기 시작 때 한 번 호출)
+     */
+    public static long newSeed() {
+        return new Random().nextLong();
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * position번째 블록 인덱스
+     * @return 0~6 (I, J, L, O, S, T, Z)
+     */
+    public synchronized int indexAt(int position) {
+        if (position < 0) {
+            throw new IllegalArgumentException("position must be >= 0: " + position);
+        }
+        ensureGenerated(position + 1);
+        return indices[position];
+    }
+
+    /**
+     * position번째 블록의 BlockTypeRegistry 타입 ID
+     */
+    public int typeAt(int position) {
+        return indexAt(position) + 1;
+    }
+
+    /**
+     * position번째 블록 생성 (초기 위치 설정됨)
+     */
+    public Block blockAt(int position) {
+        return Block.spawn(indexAt(position));
+    }
+
+    /**
+     * from번째부터 count개의 타입 ID (상대의 다음 블록 미리보기용)
+     */
+    public synchronized int[] upcoming(int from, int count) {
+        ensureGenerated(from + count);
+        int[] types = new int[count];
+        for (int i = 0; i < count; i++) {
+            types[i] = indices[from + i] + 1;
+        }
+        return types;
+    }
+
+    /**
+     * count개까지 미리 뽑아 둠
+     */
+    public synchronized void ensureGenerated(int count) {
+        if (count > indices.length) {
+            indices = Arrays.copyOf(indices, Math.max(count, indices.length * 2));
+        }
+        while (generated < count) {
+            indices[generated++] = (byte) Block.pickIndex(weights, random.nextDouble());
+        }
+    }
+
+    private static String difficultyName(int difficulty) {
+        switch (difficulty) {
+            case 1:
+                return "hard";
+            case 2:
+                return "easy";
+            default:
+                return "normal";
+        }
+    }
+}
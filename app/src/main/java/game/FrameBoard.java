@@ -8,6 +8,7 @@ import javax.swing.JOptionPane;
 
 import settings.HighScoreModel;
 import game.core.GameController;
+import game.loop.ActiveRenderLoop;
 import game.events.*;
 import game.listeners.*;
 
@@ -77,6 +78,7 @@ public class FrameBoard extends JFrame {
     private final GameOverBoard gameOverBoard;
     // ScoreBoard UI 컴포넌트 제거 - HighScore 로직만 유지
     private final HighScoreModel highScoreModel;
+    private ActiveRenderLoop activeRenderLoop;  // -Dtetris.render=active일 때만 사용 (null이면 Swing 그리기)
     private int score = 0;  // 점수 변수 추가
     private int difficulty = 0;  // 난이도 (0: normal, 1: hard, 2: easy)
 
@@ -158,8 +160,9 @@ public class FrameBoard extends JFrame {
     // High Score 모델 초기화 (싱글톤)
     highScoreModel = HighScoreModel.getInstance();
     
-    // 게임 시작 시 블록 생성 설정 로드
+    // 게임 시작 시 블록 생성 설정 로드 (색맹 모드가 바뀌었을 수 있으므로 셀 이미지도 다시 그림)
     blocks.Block.reloadSettings();
+    game.panels.CellSpriteCache.invalidateAll();
 
     // JLayeredPane 생성 및 ContentPane으로 설정
     JLayeredPane layeredPane = new JLayeredPane();
@@ -214,6 +217,9 @@ public class FrameBoard extends JFrame {
     setVisible(true);
     System.out.println("[DEBUG] FrameBoard: setVisible(true) called");
 
+    // 선택: 능동 렌더링 (사용할 수 없으면 Swing 그리기 유지)
+    activeRenderLoop = ActiveRenderLoop.attachIfRequested(layeredPane, backgroundPanel, gameBoard);
+
     // 키 리스너 추가 (GameController 기반으로 리팩토링 완료)
     addKeyListener(new GameKeyListener(this, gameBoard, gameController));
     setFocusable(true);
@@ -333,8 +339,9 @@ public class FrameBoard extends JFrame {
     }
 
     public void gameInit() {
-        // 게임 재시작 시 블록 생성 설정 리로드
+        // 게임 재시작 시 블록 생성 설정 리로드 (셀 이미지도 새 색 구성으로)
         blocks.Block.reloadSettings();
+        game.panels.CellSpriteCache.invalidateAll();
         
         // GameController 재시작
         gameController.stop();
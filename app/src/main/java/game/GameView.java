@@ -6,6 +6,7 @@ import java.awt.event.ComponentEvent;
 import javax.swing.JPanel;
 
 import blocks.Block;
+import game.core.AnimationManager;
 import game.core.GameState;
 import game.panels.GameBoardPanel;
 import game.panels.HighScorePanel;
@@ -213,6 +214,17 @@ public class GameView extends JPanel {
         }
     }
     
+    /**
+     * GameState 보드 + 진행 중인 애니메이션 상태로 렌더링 (GameController용)
+     * 애니메이션을 반영한 GameState를 새로 만들지 않고 보드 패널의 렌더 버퍼에 바로 채웁니다.
+     */
+    public void render(GameState state, AnimationManager animation) {
+        gameBoardPanel.render(state, animation);
+        if (state.getNextBlock() != null) {
+            nextBlockPanel.setNextBlock(state.getNextBlock());
+        }
+    }
+    
     /**
      * 현재 떨어지는 블록 설정 (deprecated - render(GameState) 사용 권장)
      * 하위 호환성을 위해 유지
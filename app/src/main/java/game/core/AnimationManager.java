@@ -121,6 +121,10 @@ public class AnimationManager {
         return lineClearAnimating && flashingRows.contains(row);
     }
     
+    public List<Integer> getFlashingRows() {
+        return new ArrayList<>(flashingRows);
+    }
+    
     // ==================== AllClear 애니메이션 ====================
     
     /**
@@ -318,6 +322,16 @@ public class AnimationManager {
         boxFlashCenters.clear();
     }
     
+    /**
+     * 애니메이션 상태를 렌더 스냅샷에 기록 (applyAnimationState와 같은 내용, 할당 없음)
+     */
+    void writeTo(RenderSnapshot snapshot) {
+        snapshot.setAnimation(lineClearAnimating, flashBlack, flashingRows,
+            allClearAnimating, allClearFlashBlack,
+            boxClearAnimating, boxFlashBlack, boxFlashCenters,
+            weightAnimating);
+    }
+    
     /**
      * GameState에 애니메이션 상태 반영
      */
@@ -1,6 +1,7 @@
 package game.core;
 
 import blocks.Block;
+import blocks.PieceSequence;
 import game.GameView;
 
 /**
@@ -10,6 +11,9 @@ import game.GameView;
  * - 새로운 블록 생성
  * - 아이템 블록 생성 판정
  * - Next 블록 관리
+ * 
+ * 공유 블록 순서(PieceSequence)가 설정되면 일반 블록을 순서대로 꺼내 쓰고,
+ * 지금/다음 블록이 순서의 몇 번째인지 기억합니다 (아이템 블록은 -1).
  */
 public class BlockSpawner {
     
@@ -18,6 +22,7 @@ public class BlockSpawner {
     
     private final boolean itemMode;
     private final GameView view;
+    private HudUpdater hud;  // 설정되면 다음 블록 표시를 프레임 단위로 모아서 반영
     
     // 아이템 생성 관련
     private int lineClearCount = 0;
@@ -26,6 +31,12 @@ public class BlockSpawner {
     private boolean itemPending = false;
     private final int divisor = 10;  // 라인 10개마다 아이템 1개
     
+    // 공유 블록 순서 (null이면 무작위 생성)
+    private PieceSequence pieceSequence;
+    private int sequencePosition = 0;       // 다음에 꺼낼 순서 번호
+    private int currentSequenceIndex = -1;  // 지금 블록의 순서 번호 (아이템/무작위면 -1)
+    private int nextSequenceIndex = -1;     // 다음 블록의 순서 번호 (아이템/무작위면 -1)
+    
     /**
      * BlockSpawner 생성자
      * 
@@ -41,6 +52,21 @@ public class BlockSpawner {
         this.currentBlock = null;
     }
     
+    /**
+     * 다음 블록 표시를 HudUpdater로 보냄 (GameController용)
+     */
+    void setHudUpdater(HudUpdater hud) {
+        this.hud = hud;
+    }
+    
+    private void showNextBlock() {
+        if (hud != null) {
+            hud.setNextBlock(nextBlock);
+        } else if (view != null) {
+            view.setNextBlock(nextBlock);
+        }
+    }
+    
     /**
      * 새로운 블록 생성
      * GameModel.spawnNewBlock()의 로직을 그대로 가져옴
@@ -49,34 +75,33 @@ public class BlockSpawner {
      */
     public SpawnResult spawnNewBlock(GameState currentState) {
         if (nextBlock == null) {
-            nextBlock = Block.spawn();
+            nextBlock = drawBlock();
         }
         
         currentBlock = nextBlock;  // nextBlock을 currentBlock으로
+        currentSequenceIndex = nextSequenceIndex;
         
         // 아이템 모드 처리
         if (itemMode && this.itemPending) {
             // 애니메이션 지연으로 인한 itemPending 플래그 확인
-            nextBlock = Block.spawn();
-            nextBlock = Block.spawnItem(nextBlock);
+            nextBlock = Block.spawnItem(drawBlock());
+            nextSequenceIndex = -1;
             itemGenerateCount++;
             this.itemPending = false;
         } else if (itemMode && lineClearCount / divisor > itemGenerateCount) {
             // 라인 카운트 기준으로 아이템 생성
-            nextBlock = Block.spawn();
-            nextBlock = Block.spawnItem(nextBlock);
+            nextBlock = Block.spawnItem(drawBlock());
+            nextSequenceIndex = -1;
             itemGenerateCount++;
         } else {
             // 일반 블록 생성
-            nextBlock = Block.spawn();
+            nextBlock = drawBlock();
         }
         
         blocksSpawned++;
         
         // GameView 업데이트
-        if (view != null) {
-            view.setNextBlock(nextBlock);
-        }
+        showNextBlock();
         
         // 새로운 상태 빌드 (새로운 Builder 생성)
         GameState newState = new GameState.Builder(
@@ -101,6 +126,33 @@ public class BlockSpawner {
         return new SpawnResult(newState, speedLevel);
     }
     
+    /**
+     * 공유 블록 순서 사용 (게임 시작 전에 호출, 다음 블록을 순서의 처음부터 다시 뽑음)
+     * 
+     * @param pieceSequence 블록 순서 (null이면 다시 무작위 생성)
+     */
+    public void setPieceSequence(PieceSequence pieceSequence) {
+        this.pieceSequence = pieceSequence;
+        this.sequencePosition = 0;
+        this.currentSequenceIndex = -1;
+        this.nextSequenceIndex = -1;
+        this.nextBlock = drawBlock();
+        
+        showNextBlock();
+    }
+    
+    /**
+     * 일반 블록 하나 생성 (순서가 있으면 다음 순서 번호의 블록)
+     */
+    private Block drawBlock() {
+        if (pieceSequence == null) {
+            nextSequenceIndex = -1;
+            return Block.spawn();
+        }
+        nextSequenceIndex = sequencePosition;
+        return pieceSequence.blockAt(sequencePosition++);
+    }
+    
     /**
      * 라인 클리어 카운트 업데이트
      */
@@ -132,17 +184,23 @@ public class BlockSpawner {
      * 블록 리셋 (게임 재시작)
      */
     public void reset() {
-        this.nextBlock = Block.spawn();
-        this.currentBlock = this.nextBlock;
-        this.nextBlock = Block.spawn();
+        if (pieceSequence != null) {
+            // 순서는 처음부터 다시 (상대도 같은 순서를 받음)
+            this.sequencePosition = 0;
+            this.currentBlock = null;
+            this.currentSequenceIndex = -1;
+            this.nextBlock = drawBlock();
+        } else {
+            this.nextBlock = Block.spawn();
+            this.currentBlock = this.nextBlock;
+            this.nextBlock = Block.spawn();
+        }
         this.lineClearCount = 0;
         this.itemGenerateCount = 0;
         this.blocksSpawned = 0;
         this.itemPending = false;
         
-        if (view != null) {
-            view.setNextBlock(nextBlock);
-        }
+        showNextBlock();
     }
     
     // Getters
@@ -166,6 +224,20 @@ public class BlockSpawner {
         return lineClearCount;
     }
     
+    public PieceSequence getPieceSequence() {
+        return pieceSequence;
+    }
+    
+    /** 지금 블록의 순서 번호 (공유 순서가 없거나 아이템 블록이면 -1) */
+    public int getCurrentSequenceIndex() {
+        return currentSequenceIndex;
+    }
+    
+    /** 다음 블록의 순서 번호 (공유 순서가 없거나 아이템 블록이면 -1) */
+    public int getNextSequenceIndex() {
+        return nextSequenceIndex;
+    }
+    
     /**
      * 블록 생성 결과를 담는 클래스
      */
@@ -0,0 +1,120 @@
+package game.core;
+
+import game.util.VarInt;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 보드 스냅샷 압축 유틸리티
+ * - 보드/색상 배열을 하나의 int 배열로 묶고 (pack/unpack)
+ * - 두 스냅샷의 XOR 차이를 0 구간 RLE로 압축합니다 (delta).
+ *
+ * 키프레임 사이에는 바뀐 칸만 전송되므로 블록 하나가 놓였을 때의 delta는 수십 바이트 수준입니다.
+ */
+public final class BoardDeltaCodec {
+
+    private BoardDeltaCodec() { /* util */ }
+
+    /**
+     * 보드와 색상 배열을 [보드 rows*cols][색상 rows*cols] 형태의 int 배열로 묶기
+     */
+    public static int[] pack(int[][] board, int[][] colorBoard, int rows, int cols) {
+        int cells = rows * cols;
+        int[] packed = new int[cells * 2];
+        for (int r = 0; r < rows; r++) {
+            int[] boardRow = board != null && r < board.length ? board[r] : null;
+            int[] colorRow = colorBoard != null && r < colorBoard.length ? colorBoard[r] : null;
+            for (int c = 0; c < cols; c++) {
+                int i = r * cols + c;
+                packed[i] = boardRow != null && c < boardRow.length ? boardRow[c] : 0;
+                packed[cells + i] = colorRow != null && c < colorRow.length ? colorRow[c] : 0;
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * pack()으로 묶은 배열을 보드/색상 배열로 되돌리기
+     */
+    public static void unpack(int[] packed, int rows, int cols, int[][] boardOut, int[][] colorOut) {
+        int cells = rows * cols;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int i = r * cols + c;
+                boardOut[r][c] = packed[i];
+                colorOut[r][c] = packed[cells + i];
+            }
+        }
+    }
+
+    /**
+     * 두 배열의 XOR (같은 길이 가정, 결과는 새 배열)
+     */
+    public static int[] xor(int[] a, int[] b) {
+        int[] out = new int[a.length];
+        for (int i = 0; i < a.length; i++) {
+            out[i] = a[i] ^ b[i];
+        }
+        return out;
+    }
+
+    /**
+     * 모든 값이 0인지 (변경 없음)
+     */
+    public static boolean isZero(int[] words) {
+        for (int w : words) {
+            if (w != 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 0 구간 RLE 인코딩
+     * 형식: [0 개수(varint)][0이 아닌 값 개수(varint)][값(int) ...] 반복
+     */
+    public static byte[] encodeRle(int[] words) {
+        // 최악의 경우(0과 값이 번갈아 나옴): 값마다 varint 두 개 + int
+        ByteBuffer buffer = ByteBuffer.allocate(words.length * 8 + 16);
+        int i = 0;
+        while (i < words.length) {
+            int zeroStart = i;
+            while (i < words.length && words[i] == 0) i++;
+            int zeroRun = i - zeroStart;
+
+            int literalStart = i;
+            while (i < words.length && words[i] != 0) i++;
+            int literalRun = i - literalStart;
+
+            VarInt.putVarInt(buffer, zeroRun);
+            VarInt.putVarInt(buffer, literalRun);
+            for (int j = literalStart; j < literalStart + literalRun; j++) {
+                buffer.putInt(words[j]);
+            }
+        }
+        byte[] out = new byte[buffer.position()];
+        buffer.flip();
+        buffer.get(out);
+        return out;
+    }
+
+    /**
+     * encodeRle()의 역변환
+     * @param length 원래 배열 길이
+     */
+    public static int[] decodeRle(ByteBuffer buffer, int length) {
+        int[] words = new int[length];
+        int i = 0;
+        while (i < length) {
+            int zeroRun = VarInt.getVarInt(buffer);
+            int literalRun = VarInt.getVarInt(buffer);
+            i += zeroRun;
+            if (i + literalRun > length) {
+                throw new IllegalArgumentException("RLE 데이터가 보드 크기를 벗어남");
+            }
+            for (int j = 0; j < literalRun; j++) {
+                words[i++] = buffer.getInt();
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,98 @@
+package game.core;
+
+import java.util.SplittableRandom;
+
+/**
+ * 보드 해시 (Zobrist 방식 64비트)
+ * - 안쪽 영역(벽 제외)의 채워진 칸마다 고정 난수 키를 XOR 합니다.
+ * - 색상/블록 종류는 제외하고 "칸이 채워졌는지"만 반영하므로
+ *   상대 화면 재구성(RemoteGamePanel)과 실제 보드를 그대로 비교할 수 있습니다.
+ * - 칸 하나를 채우거나 비울 때는 toggle()/toggleChanged()로 갱신하고,
+ *   줄이 이동하면 이동한 줄만 rows()로 빼고 다시 더합니다 (해시 ^ 이동 전 rows() ^ 이동 후 rows()).
+ *
+ * 양쪽 피어가 같은 키를 써야 하므로 시드는 고정값입니다.
+ */
+public final class BoardHash {
+
+    /** 해시가 없음을 뜻하는 값 (of()가 0이 될 확률은 2^-64) */
+    public static final long NONE = 0L;
+
+    static final int MAX_ROWS = 64;
+    static final int MAX_COLS = 32;
+
+    private static final long SEED = 0x7E7215L;
+    private static final long BASE;
+    private static final long[][] KEYS = new long[MAX_ROWS][MAX_COLS];
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        BASE = random.nextLong() | 1L;
+        for (int r = 0; r < MAX_ROWS; r++) {
+            for (int c = 0; c < MAX_COLS; c++) {
+                KEYS[r][c] = random.nextLong();
+            }
+        }
+    }
+
+    private BoardHash() { /* util */ }
+
+    /**
+     * 보드 전체 해시 계산 (벽 제외: 위 2줄, 아래 1줄, 좌우 1열)
+     */
+    public static long of(int[][] board) {
+        if (board == null || board.length == 0) return BASE;
+        return BASE ^ rows(board, 2, board.length - 2);
+    }
+
+    /**
+     * fromRow~toRow 줄(안쪽 영역만)의 채워진 칸 키를 XOR한 값 (BASE 제외)
+     */
+    public static long rows(int[][] board, int fromRow, int toRow) {
+        long hash = 0L;
+        if (board == null || board.length == 0) return hash;
+        int cols = board[0].length;
+        int from = Math.max(2, fromRow);
+        int to = Math.min(Math.min(toRow, board.length - 2), MAX_ROWS - 1);
+        for (int r = from; r <= to; r++) {
+            int[] row = board[r];
+            for (int c = 1; c <= cols - 2 && c < MAX_COLS; c++) {
+                if (row[c] != 0) hash ^= KEYS[r][c];
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * 칸 하나가 비었다가 채워지거나 그 반대일 때 해시 갱신
+     */
+    public static long toggle(long hash, int row, int col) {
+        if (row < 0 || row >= MAX_ROWS || col < 0 || col >= MAX_COLS) return hash;
+        return hash ^ KEYS[row][col];
+    }
+
+    /**
+     * fromRow~toRow 줄에서 before와 after의 채워짐 여부가 다른 칸만 toggle (블록 고정처럼 몇 줄만 바뀔 때)
+     */
+    public static long toggleChanged(long hash, int[][] before, int[][] after, int fromRow, int toRow) {
+        int from = Math.max(2, fromRow);
+        int to = Math.min(Math.min(toRow, after.length - 2), MAX_ROWS - 1);
+        int cols = after[0].length;
+        for (int r = from; r <= to; r++) {
+            for (int c = 1; c <= cols - 2 && c < MAX_COLS; c++) {
+                if ((before[r][c] != 0) != (after[r][c] != 0)) hash ^= KEYS[r][c];
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * 해시가 계산 대상으로 삼는 칸인지 (벽 제외 안쪽 영역)
+     */
+    public static boolean isInner(int[][] board, int row, int col) {
+        return row >= 2 && row <= board.length - 2 && col >= 1 && col <= board[0].length - 2;
+    }
+
+    public static String toHex(long hash) {
+        return String.format("%016x", hash);
+    }
+}
@@ -3,6 +3,7 @@ package game.core;
 import java.util.ArrayList;
 import java.util.List;
 import blocks.Block;
+import blocks.PieceSequence;
 import game.GameView;
 import game.util.GameLogger;
 import game.events.EventBus;
@@ -14,9 +15,9 @@ import game.events.BlockMovedEvent;
 import game.events.BlockRotatedEvent;
 import game.events.BlockPlacedEvent;
 import game.events.EventListener;
+import game.model.AttackPattern;
 import game.loop.GameLoop;
 import game.loop.LocalGameLoop;
-import settings.HighScoreModel;
 
 /**
  * 게임의 메인 컨트롤러
@@ -40,6 +41,7 @@ public class GameController {
     private final BlockSpawner blockSpawner;  // 블록 생성 관리
     private final AnimationManager animationManager;  // 애니메이션 관리
     private final ItemBlockHandler itemBlockHandler;  // 아이템 블록 처리
+    private final HudUpdater hud;  // 점수/다음 블록/공격 미리보기를 프레임 단위로 모아서 반영
     
     // 게임 상태
     private int score = 0;
@@ -48,6 +50,7 @@ public class GameController {
     private boolean isGameOver = false;
     private int[][] lastBlockPattern = null;  // 마지막 블록의 패턴 (대전 모드 공격용)
     private int lastBlockX = -1;  // 마지막 블록의 X 위치 (대전 모드 공격용)
+    private long boardHash = BoardHash.NONE;  // 지금 보드 해시 (바뀐 칸/줄만 갱신, NONE이면 다음에 전체 계산)
     private final java.util.Deque<AttackItem> pendingAttacks = new java.util.ArrayDeque<>();  // 대기 중인 공격줄 큐
     
     // 설정
@@ -89,8 +92,12 @@ public class GameController {
         // 초기 상태 생성
         this.currentState = createInitialState();
         
+        // HudUpdater 생성
+        this.hud = new HudUpdater(view, itemMode, this::buildAttackPreview);
+        
         // BlockSpawner 생성
         this.blockSpawner = new BlockSpawner(itemMode, view);
+        this.blockSpawner.setHudUpdater(hud);
         
         // AnimationManager 생성
         this.animationManager = new AnimationManager(view);
@@ -261,6 +268,7 @@ public class GameController {
                     .build();
                 
                 score = scoreBeforeDrill;  // ✅ score 필드도 동기화
+                boardHash = BoardHash.NONE;  // 드릴은 여러 열을 바꾸므로 다음에 전체 계산
                 System.out.println("[handleBlockLanding] Score after drill: " + score);
                 
                 // PUBLISH ItemActivatedEvent
@@ -339,6 +347,8 @@ public class GameController {
         
         // 일반 블록을 보드에 고정
         int specialType = engine.placeBlock(currentBlock, board, colorBoard);
+        boardHash = BoardHash.toggleChanged(currentBoardHash(boardBeforePlacement), boardBeforePlacement, board,
+            currentBlock.getY(), currentBlock.getY() + shape.length - 1);
         
         System.out.println("Block placed at x=" + lastBlockX + ", y=" + currentBlock.getY() + ", specialType=" + specialType);
         
@@ -371,7 +381,7 @@ public class GameController {
             int placedX = lastBlockX;
             int blockType = specialType; // best-effort: specialType encodes some info, default 0
             System.out.println("[DEBUG GameController] publish BlockPlacedEvent: (" + placedX + ", " + placedY + ") type=" + blockType);
-            eventBus.publish(new game.events.BlockPlacedEvent(placedX, placedY, blockType, 0));
+            eventBus.publish(new game.events.BlockPlacedEvent(placedX, placedY, blockType, 0, boardHash));
         } catch (Throwable t) {
             System.err.println("[DEBUG GameController] BlockPlacedEvent publish 실패: " + t.getMessage());
         }
@@ -382,6 +392,7 @@ public class GameController {
             itemBlockHandler.handleSpecialBlock(specialType, placedState, (newState) -> {
                 // 특수 블록 처리 완료 후
                 currentState = newState;
+                boardHash = BoardHash.NONE;  // 아이템은 보드 여러 곳을 바꾸므로 다음에 전체 계산
                 score = newState.getScore();
 
                 // PUBLISH ItemActivatedEvent so EventSynchronizer can send it to peer
@@ -424,14 +435,20 @@ public class GameController {
             System.out.println("[GameController] 라인 클리어 애니메이션 시작 예정!");
             
             // 줄을 지우기 전에 지워질 줄의 패턴을 추출 (블록을 놓기 전 상태 사용)
-            int[][] clearedLinePattern = extractClearedLinePattern(boardBeforePlacement, fullLines);
+            AttackPattern clearedLinePattern = extractClearedLinePattern(boardBeforePlacement, fullLines);
             
             // 애니메이션 시작
             animationManager.startLineClearAnimation(fullLines, () -> {
                 // 애니메이션 완료 후 실제 라인 클리어 수행
                 int[][] clearedBoard = currentState.getBoardArray();
                 int[][] clearedColorBoard = currentState.getColorBoard();
+                // 지워진 줄과 그 위로 내려오는 줄만 해시를 다시 계산
+                int lowestCleared = java.util.Collections.max(fullLines);
+                long shiftedRows = currentBoardHash(clearedBoard) ^ BoardHash.rows(clearedBoard, 0, lowestCleared);
                 int linesCleared = engine.performLineClear(clearedBoard, clearedColorBoard);
+                boardHash = linesCleared == fullLines.size()
+                    ? shiftedRows ^ BoardHash.rows(clearedBoard, 0, lowestCleared)
+                    : BoardHash.NONE;  // 애니메이션 중 보드가 바뀌었으면 다음에 전체 계산
                 
                 // 점수 계산
                 int lineClearScore = engine.calculateLineClearScore(linesCleared, currentState.getCurrentLevel());
@@ -464,7 +481,7 @@ public class GameController {
                 
                 // LineClearedEvent 발행 - 지워진 줄의 패턴 전달 (비어있던 칸의 위치)
                 int[] rows = fullLines.stream().mapToInt(Integer::intValue).toArray();
-                eventBus.publish(new LineClearedEvent(rows, linesCleared, newScore, clearedLinePattern, 0));
+                eventBus.publish(new LineClearedEvent(rows, linesCleared, newScore, clearedLinePattern, 0, currentBoardHash(clearedBoard)));
                 
                 // 블록 고정 시점: 큐에 쌓인 공격줄 적용
                 applyQueuedAttacks();
@@ -526,7 +543,7 @@ public class GameController {
         // score 필드와 currentState.getScore() 동기화
         score = currentState.getScore();
         System.out.println("[SCORE] spawnNewBlock: oldScore=" + oldScore + ", stateScore=" + stateScore + ", newScore=" + score);
-        view.setScore(score);
+        hud.setScore(score);
         
         // 속도 업데이트
         updateSpeed(result.speedLevel);
@@ -542,17 +559,28 @@ public class GameController {
             Block nextBlock = currentState.getNextBlock();
             if (nextBlock != null) nextClass = nextBlock.getClass().getName();
             System.out.println("[GameController] 📤 BlockSpawnedEvent 발행: " + newBlock.getClass().getSimpleName() + " at (" + newBlock.getX() + ", " + newBlock.getY() + ") next=" + (nextClass != null ? nextClass : "<none>"));
-            eventBus.publish(new game.events.BlockSpawnedEvent(
-                newBlock.getClass().getName(),
-                newBlock.getX(),
-                newBlock.getY(),
-                nextClass
-            ));
+            eventBus.publish(game.events.BlockSpawnedEvent.of(newBlock, nextBlock, sharedSequenceIndex(newBlock)));
         } else {
             System.err.println("[GameController] ⚠️ currentBlock is NULL, BlockSpawnedEvent NOT published");
         }
     }
     
+    /**
+     * 지금 블록이 공유 순서 그대로라면 그 순서 번호, 아니면 -1
+     * (다음 블록도 바로 뒤 순서이고 초기 위치 그대로일 때만 순서 번호로 보낼 수 있음)
+     */
+    private int sharedSequenceIndex(Block newBlock) {
+        int index = blockSpawner.getCurrentSequenceIndex();
+        if (index < 0 || blockSpawner.getNextSequenceIndex() != index + 1) {
+            return -1;
+        }
+        int[] position = Block.spawnPosition(blockSpawner.getPieceSequence().indexAt(index));
+        if (newBlock.getX() != position[0] || newBlock.getY() != position[1]) {
+            return -1;
+        }
+        return index;
+    }
+    
     /**
      * 게임 오버 처리
      */
@@ -621,6 +649,16 @@ public class GameController {
         gameLoop.resume();
     }
     
+    /**
+     * 공유 블록 순서 사용 (P2P 대전에서 양쪽이 같은 시드로 같은 블록을 받음)
+     * start() 전에 호출해야 합니다.
+     * 
+     * @param pieceSequence 블록 순서 (null이면 무작위 생성)
+     */
+    public void usePieceSequence(PieceSequence pieceSequence) {
+        blockSpawner.setPieceSequence(pieceSequence);
+    }
+    
     /**
      * 게임 리셋 (재시작)
      */
@@ -632,8 +670,10 @@ public class GameController {
         
         // 상태 초기화
         currentState = createInitialState();
+        boardHash = BoardHash.NONE;
         score = 0;
         isGameOver = false;
+        hud.refreshHighScoreThreshold();
         
         // BlockSpawner 리셋
         blockSpawner.reset();
@@ -855,7 +895,7 @@ public class GameController {
     }
     
     /**
-     * 점수 추가 (HighScore도 함께 체크)
+     * 점수 추가 (HighScore도 함께 체크 - 화면 반영과 HighScore 비교는 HudUpdater가 프레임당 한 번)
      * 주의: 이 메서드는 score 필드만 업데이트하며, currentState는 업데이트하지 않습니다.
      * spawnNewBlock() 호출 전에 currentState 동기화가 필요합니다.
      */
@@ -863,14 +903,7 @@ public class GameController {
         int oldScore = score;
         score += points;
         System.out.println("[SCORE] addScore: " + oldScore + " + " + points + " = " + score);
-        view.setScore(score);
-        
-        // HighScore 체크 및 업데이트
-        HighScoreModel highScoreModel = HighScoreModel.getInstance();
-        int savedHighScore = highScoreModel.getHighScore(itemMode);
-        if (score > savedHighScore) {
-            view.setHighScore(score);
-        }
+        hud.setScore(score);
         
         // 점수 업데이트 이벤트 발행 (대전 모드 등에서 사용)
         eventBus.publish(new ScoreUpdateEvent(score));
@@ -909,6 +942,16 @@ public class GameController {
      * @param blockX 블록의 X 위치
      */
     public void addAttackLines(int lines, int[][] blockPattern, int blockX) {
+        addAttackRows(lines, AttackPattern.fromMatrix(blockPattern), blockX);
+    }
+    
+    /**
+     * 공격 줄 추가 (비트마스크 패턴)
+     * @param lines 추가할 줄 수
+     * @param holes 구멍 패턴 (줄마다 비트마스크, null이면 구멍 없음)
+     * @param blockX 패턴 0번 열이 놓일 보드 열
+     */
+    public void addAttackRows(int lines, AttackPattern holes, int blockX) {
         if (lines <= 0) return;
         
         int[][] board = currentState.getBoardArray();
@@ -932,42 +975,20 @@ public class GameController {
                 colorBoard[i][j] = colorBoard[i + lines][j];
             }
         }
+        boardHash = BoardHash.NONE;  // 공격줄은 안쪽 모든 줄을 밀어 올리므로 다음에 전체 계산
         System.out.println("  블록 이동 완료");
         
-        // 아래쪽에 새 줄 추가 (블록 패턴 모양으로 빈 칸 생성)
-        int startRow = INNER_BOTTOM - lines + 1;
-        System.out.println("  공격줄 추가: " + startRow + " ~ " + INNER_BOTTOM + " 범위에 " + lines + "줄 채우기");
-        for (int i = startRow; i <= INNER_BOTTOM; i++) {
-            for (int j = INNER_LEFT; j <= INNER_RIGHT; j++) {
-                // 기본적으로 모두 채움
-                board[i][j] = 1;
-                colorBoard[i][j] = 8;  // 회색 (공격 줄 색상)
-            }
-        }
-        System.out.println("  공격줄 " + lines + "줄 추가 완료");
-        
-        // 블록 패턴이 있으면 그 모양대로 구멍 뚫기
+        // 아래쪽에 새 줄 추가: 회색으로 채운 뒤 패턴 줄의 구멍 비트만 비움
         // 패턴 높이보다 공격 줄이 많을 경우 패턴을 반복해서 적용하여
         // 모든 공격 줄에 동일한 구멍 모양이 반영되도록 함
-        if (blockPattern != null && blockPattern.length > 0) {
-            int patternH = blockPattern.length;
-            int patternW = blockPattern[0].length;
-
-            for (int rOff = 0; rOff < lines; rOff++) {
-                int boardRow = INNER_BOTTOM - rOff;  // 아래에서부터 채움
-                int patternRow = rOff % patternH;   // 반복 적용
-
-                for (int j = 0; j < patternW; j++) {
-                    int boardCol = blockX + j;
-                    // 보드 범위 체크
-                    if (boardCol >= INNER_LEFT && boardCol <= INNER_RIGHT && patternRow >= 0
-                            && patternRow < blockPattern.length && blockPattern[patternRow][j] == 1) {
-                        board[boardRow][boardCol] = 0;
-                        colorBoard[boardRow][boardCol] = 0;
-                    }
-                }
-            }
+        int startRow = Math.max(INNER_TOP, INNER_BOTTOM - lines + 1);
+        System.out.println("  공격줄 추가: " + startRow + " ~ " + INNER_BOTTOM + " 범위에 " + lines + "줄 채우기");
+        for (int rOff = 0; rOff < lines && INNER_BOTTOM - rOff >= INNER_TOP; rOff++) {
+            int boardRow = INNER_BOTTOM - rOff;  // 아래에서부터 채움
+            AttackPattern.fillGarbageRow(holes, rOff, board[boardRow], colorBoard[boardRow],
+                blockX, INNER_LEFT, INNER_RIGHT);
         }
+        System.out.println("  공격줄 " + lines + "줄 추가 완료");
         
         // 상태 업데이트
         currentState = new GameState.Builder(
@@ -996,7 +1017,7 @@ public class GameController {
         }
         // Publish an AttackAppliedEvent so the remote peer's opponent view can be updated
         try {
-            eventBus.publish(new game.events.AttackAppliedEvent(lines, blockPattern, blockX));
+            eventBus.publish(game.events.AttackAppliedEvent.of(lines, holes, blockX));
         } catch (Throwable t) {
             System.err.println("[DEBUG GameController] AttackAppliedEvent publish 실패: " + t.getMessage());
         }
@@ -1018,10 +1039,10 @@ public class GameController {
     }
     
     /**
-     * 지워질 줄의 패턴을 추출 (비어있는 칸을 1로 표시)
+     * 지워질 줄의 패턴을 추출 (비어있는 칸을 구멍 비트로 표시)
      * 공격줄 생성 시 이 패턴을 사용하여 구멍을 만듦
      */
-    private int[][] extractClearedLinePattern(int[][] board, List<Integer> fullLines) {
+    private AttackPattern extractClearedLinePattern(int[][] board, List<Integer> fullLines) {
         if (fullLines.isEmpty()) return null;
         
         int COLS = board[0].length;
@@ -1029,20 +1050,11 @@ public class GameController {
         int INNER_RIGHT = COLS - 2;
         int INNER_WIDTH = INNER_RIGHT - INNER_LEFT + 1;
         
-        // 지워질 줄의 비어있는 칸을 1로 표시하는 패턴 생성
-        int[][] pattern = new int[fullLines.size()][INNER_WIDTH];
+        // 지워질 줄의 빈 칸(0)은 구멍 비트 1 (공격줄에서 구멍이 됨)
+        // 블록이 있던 칸(!=0)은 비트 0 (공격줄에서 채워짐)
+        AttackPattern pattern = AttackPattern.fromBoardRows(board, fullLines, INNER_LEFT, INNER_WIDTH);
         
-        for (int i = 0; i < fullLines.size(); i++) {
-            int row = fullLines.get(i);
-            for (int j = 0; j < INNER_WIDTH; j++) {
-                int col = INNER_LEFT + j;
-                // 빈 칸(0)이면 패턴에 1로 표시 (공격줄에서 구멍이 됨)
-                // 블록이 있던 칸(!=0)은 패턴에 0으로 표시 (공격줄에서 채워짐)
-                pattern[i][j] = (board[row][col] == 0) ? 1 : 0;
-            }
-        }
-        
-        GameLogger.debug("extractClearedLinePattern: " + fullLines.size() + "줄, 패턴 크기: " + pattern.length + "x" + pattern[0].length);
+        GameLogger.debug("extractClearedLinePattern: " + fullLines.size() + "줄, 패턴 크기: " + pattern);
         for (int i = 0; i < fullLines.size(); i++) {
             int row = fullLines.get(i);
             StringBuilder sb = new StringBuilder("  row " + row + " (pattern[" + i + "]): ");
@@ -1050,16 +1062,10 @@ public class GameController {
             // 실제 보드 상태 출력
             sb.append("보드=[");
             for (int j = 0; j < INNER_WIDTH; j++) {
-                int col = INNER_LEFT + j;
-                sb.append(board[row][col]);
+                sb.append(board[row][INNER_LEFT + j]);
             }
-            sb.append("] → 패턴=[");
-            
             // 패턴 출력 (1=구멍)
-            for (int j = 0; j < pattern[i].length; j++) {
-                sb.append(pattern[i][j]);
-            }
-            sb.append("]");
+            sb.append("] → 패턴=[").append(pattern.rowToString(i)).append("]");
             GameLogger.debug(sb.toString());
         }
         
@@ -1070,14 +1076,15 @@ public class GameController {
      * Queue incoming attack lines for later application (on block lock).
      */
     public void queueAttackLines(int lines, int[][] blockPattern, int blockX) {
+        queueAttack(lines, AttackPattern.fromMatrix(blockPattern), blockX);
+    }
+    
+    /**
+     * 공격 대기열에 추가 (비트마스크 패턴, 불변이므로 복사 없이 보관)
+     */
+    public void queueAttack(int lines, AttackPattern holes, int blockX) {
         if (lines <= 0) return;
-        // make defensive copy of pattern
-        int[][] copy = null;
-        if (blockPattern != null) {
-            copy = new int[blockPattern.length][];
-            for (int i = 0; i < blockPattern.length; i++) copy[i] = blockPattern[i].clone();
-        }
-        pendingAttacks.addLast(new AttackItem(lines, copy, blockX));
+        pendingAttacks.addLast(new AttackItem(lines, holes, blockX));
         
         // 디버그: 큐에 추가된 공격 로그
         int totalQueued = 0;
@@ -1121,6 +1128,7 @@ public class GameController {
                 colorBoard[i][j] = colorBoard[i + totalToApply][j];
             }
         }
+        boardHash = BoardHash.NONE;  // 공격줄은 안쪽 모든 줄을 밀어 올리므로 다음에 전체 계산
         
         // 공격줄을 아래부터 차례로 추가 (역순 리스트 순서대로)
         int currentRow = INNER_BOTTOM;
@@ -1131,32 +1139,9 @@ public class GameController {
                 int row = currentRow - lineOffset;
                 if (row < INNER_TOP) break;
                 
-                // 줄 전체를 회색으로 채움
-                for (int col = INNER_LEFT; col <= INNER_RIGHT; col++) {
-                    board[row][col] = 1;
-                    colorBoard[row][col] = 8;
-                }
-                
-                // 패턴에 따라 구멍 뚫기 (패턴[i][j] == 1이면 구멍)
-                if (item.pattern != null && item.pattern.length > 0) {
-                    int patternH = item.pattern.length;
-                    int patternW = item.pattern[0].length;
-                    int patternRow = lineOffset % patternH;
-                    
-                    GameLogger.debug("    row=" + row + ", patternH=" + patternH + ", patternW=" + patternW + ", patternRow=" + patternRow);
-                    
-                    // 패턴을 INNER_LEFT부터 적용 (전체 너비)
-                    for (int j = 0; j < patternW && j < (INNER_RIGHT - INNER_LEFT + 1); j++) {
-                        int boardCol = INNER_LEFT + j;
-                        if (patternRow < item.pattern.length 
-                            && j < item.pattern[patternRow].length
-                            && item.pattern[patternRow][j] == 1) {
-                            board[row][boardCol] = 0;
-                            colorBoard[row][boardCol] = 0;
-                            GameLogger.debug("      구멍: col=" + boardCol);
-                        }
-                    }
-                }
+                // 줄 전체를 회색으로 채우고 패턴 줄의 구멍 비트만 비움 (패턴은 INNER_LEFT부터 전체 너비)
+                AttackPattern.fillGarbageRow(item.pattern, lineOffset, board[row], colorBoard[row],
+                    INNER_LEFT, INNER_LEFT, INNER_RIGHT);
             }
             
             currentRow -= item.lines;
@@ -1186,7 +1171,7 @@ public class GameController {
         // 각 공격 아이템에 대해 개별적으로 이벤트 발행
         for (AttackItem item : attackList) {
             try {
-                eventBus.publish(new game.events.AttackAppliedEvent(item.lines, item.pattern, item.blockX));
+                eventBus.publish(game.events.AttackAppliedEvent.of(item.lines, item.pattern, item.blockX));
                 System.out.println("[DEBUG GameController] AttackAppliedEvent 발행: " + item.lines + "줄");
             } catch (Throwable t) {
                 System.err.println("[DEBUG GameController] AttackAppliedEvent 발행 실패: " + t.getMessage());
@@ -1203,9 +1188,9 @@ public class GameController {
     // simple container for queued attack
     private static class AttackItem {
         final int lines;
-        final int[][] pattern;
+        final AttackPattern pattern;
         final int blockX;
-        AttackItem(int lines, int[][] pattern, int blockX) {
+        AttackItem(int lines, AttackPattern pattern, int blockX) {
             this.lines = lines;
             this.pattern = pattern;
             this.blockX = blockX;
@@ -1213,20 +1198,21 @@ public class GameController {
     }
     
     /**
-     * 공격 미리보기 패널 업데이트
+     * 공격 미리보기 패널 업데이트 (HudUpdater가 다음 프레임에 한 번만 반영)
      */
     private void updateAttackPreview() {
-        try {
-            if (view instanceof game.GameView) {
-                java.util.List<game.model.AttackPreviewItem> snapshot = new java.util.ArrayList<>();
-                for (AttackItem it : pendingAttacks) {
-                    snapshot.add(new game.model.AttackPreviewItem(it.lines, it.pattern, it.blockX));
-                }
-                ((game.GameView) view).updateAttackPreview(snapshot);
-            }
-        } catch (Throwable t) {
-            System.err.println("[DEBUG GameController] updateAttackPreview 실패: " + t.getMessage());
+        hud.attackPreviewChanged();
+    }
+    
+    /**
+     * 현재 공격 대기열의 미리보기 목록 (HudUpdater가 반영할 때 호출)
+     */
+    private java.util.List<game.model.AttackPreviewItem> buildAttackPreview() {
+        java.util.List<game.model.AttackPreviewItem> snapshot = new java.util.ArrayList<>();
+        for (AttackItem it : pendingAttacks) {
+            snapshot.add(new game.model.AttackPreviewItem(it.lines, it.pattern == null ? null : it.pattern.toMatrix(), it.blockX));
         }
+        return snapshot;
     }
     
     /**
@@ -1254,21 +1240,43 @@ public class GameController {
     
     /**
      * 애니메이션 상태가 적용된 GameState를 뷰에 렌더링
+     * (보드 패널의 렌더 버퍼에 바로 채우므로 applyAnimationState처럼 GameState를 새로 만들지 않음)
      */
     private void renderWithAnimation() {
-        GameState stateWithAnimation = animationManager.applyAnimationState(currentState);
-        
         // 디버그: 애니메이션 상태 확인
-        if (stateWithAnimation.isLineClearAnimating()) {
-            System.out.println("[ANIMATION] 라인 클리어 애니메이션 활성화! flashBlack=" + stateWithAnimation.isFlashBlack() + ", rows=" + stateWithAnimation.getFlashingRows());
+        if (animationManager.isLineClearAnimating()) {
+            System.out.println("[ANIMATION] 라인 클리어 애니메이션 활성화! flashBlack=" + animationManager.isFlashBlack() + ", rows=" + animationManager.getFlashingRows());
         }
-        if (stateWithAnimation.isAllClearAnimating()) {
-            System.out.println("[ANIMATION] AllClear 애니메이션 활성화! flashBlack=" + stateWithAnimation.isAllClearFlashBlack());
+        if (animationManager.isAllClearAnimating()) {
+            System.out.println("[ANIMATION] AllClear 애니메이션 활성화! flashBlack=" + animationManager.isAllClearFlashBlack());
         }
-        if (stateWithAnimation.isBoxClearAnimating()) {
-            System.out.println("[ANIMATION] BoxClear 애니메이션 활성화! flashBlack=" + stateWithAnimation.isBoxFlashBlack());
+        if (animationManager.isBoxClearAnimating()) {
+            System.out.println("[ANIMATION] BoxClear 애니메이션 활성화! flashBlack=" + animationManager.isBoxFlashBlack());
         }
         
-        view.render(stateWithAnimation);
+        view.render(currentState, animationManager);
+        hud.flush();  // 이번 프레임에 모인 점수/다음 블록/공격 미리보기 변경을 보드와 함께 반영
+    }
+    
+    /**
+     * 지금 보드 해시 (모르는 상태면 board로 전체 계산해 기억)
+     */
+    private long currentBoardHash(int[][] board) {
+        if (boardHash == BoardHash.NONE) boardHash = BoardHash.of(board);
+        return boardHash;
+    }
+    
+    /**
+     * 지금 보드 해시 (P2P 이벤트에 실리는 값, 테스트용)
+     */
+    public long getBoardHash() {
+        return currentBoardHash(currentState.getBoardArray());
+    }
+    
+    /**
+     * HUD 변경 반영기 (테스트/통계용)
+     */
+    public HudUpdater getHudUpdater() {
+        return hud;
     }
 }
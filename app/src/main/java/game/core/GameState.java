@@ -91,6 +91,23 @@ public class GameState implements Serializable { //Serializable이 전송을 가
         return deepCopy2D(colorBoard);
     }
     
+    // game.core 내부용 (RenderSnapshot): 복사하지 않은 내부 배열/목록, 읽기만 해야 함
+    int[][] boardArrayRef() {
+        return boardArray;
+    }
+    
+    int[][] colorBoardRef() {
+        return colorBoard;
+    }
+    
+    java.util.List<Integer> flashingRowsRef() {
+        return flashingRows;
+    }
+    
+    java.util.List<int[]> boxFlashCentersRef() {
+        return boxFlashCenters;
+    }
+    
     public Block getCurrentBlock() {
         return currentBlock;
     }
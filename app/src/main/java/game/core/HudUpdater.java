@@ -0,0 +1,148 @@
+package game.core;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.swing.SwingUtilities;
+
+import blocks.Block;
+import game.GameView;
+import game.model.AttackPreviewItem;
+import settings.HighScoreModel;
+
+/**
+ * 점수/최고 점수/다음 블록/공격 미리보기 변경을 모아 프레임당 한 번만 GameView에 반영하는 클래스
+ *
+ * 자동 낙하·소프트 드롭은 1점마다 점수를 바꾸므로, 바뀔 때마다 패널을 갱신하고
+ * HighScoreModel을 조회하는 대신 값만 기록해 두었다가 flush()에서 마지막 값만 넘깁니다.
+ * flush()는 GameController가 보드를 그릴 때 호출하고, 그 전에 그리지 않으면
+ * 처음 바뀐 시점에 예약해 둔 invokeLater가 한 번 호출합니다.
+ * 최고 점수 기준값은 처음 한 번 읽어 캐시하고 reset 때 다시 읽습니다. EDT에서만 사용합니다.
+ */
+public final class HudUpdater {
+
+    private final GameView view;
+    private final boolean itemMode;
+    private final Supplier<List<AttackPreviewItem>> attackPreviewSource;
+    private final Runnable scheduledFlush = () -> {
+        flushScheduled = false;
+        flush();
+    };
+
+    private int score;
+    private boolean scoreDirty = false;
+    private int highScoreThreshold;
+    private boolean thresholdLoaded = false;
+    private Block nextBlock;
+    private boolean nextBlockDirty = false;
+    private boolean attackPreviewDirty = false;
+    private boolean flushScheduled = false;
+
+    private int updateCount = 0;  // 요청된 변경 수
+    private int flushCount = 0;   // 실제로 뷰에 반영한 횟수
+
+    /**
+     * @param view 반영할 뷰 (null이면 값만 기록)
+     * @param itemMode 최고 점수 기준 모드
+     * @param attackPreviewSource 반영 시점에 공격 미리보기 목록을 만드는 함수 (null이면 사용 안 함)
+     */
+    public HudUpdater(GameView view, boolean itemMode, Supplier<List<AttackPreviewItem>> attackPreviewSource) {
+        this.view = view;
+        this.itemMode = itemMode;
+        this.attackPreviewSource = attackPreviewSource;
+    }
+
+    /**
+     * 점수 변경 (최고 점수 갱신 여부는 flush 때 확인)
+     */
+    public void setScore(int score) {
+        this.score = score;
+        scoreDirty = true;
+        requestFlush();
+    }
+
+    /**
+     * 다음 블록 변경
+     */
+    public void setNextBlock(Block block) {
+        this.nextBlock = block;
+        nextBlockDirty = true;
+        requestFlush();
+    }
+
+    /**
+     * 공격 대기열이 바뀌었음 (목록은 flush 때 한 번만 만듦)
+     */
+    public void attackPreviewChanged() {
+        attackPreviewDirty = true;
+        requestFlush();
+    }
+
+    /**
+     * 저장된 최고 점수를 다음 flush 때 다시 읽음 (게임 리셋 시)
+     */
+    public void refreshHighScoreThreshold() {
+        thresholdLoaded = false;
+    }
+
+    /**
+     * 기록된 변경을 뷰에 반영 (바뀐 것이 없으면 아무것도 하지 않음)
+     */
+    public void flush() {
+        if (!scoreDirty && !nextBlockDirty && !attackPreviewDirty) {
+            return;
+        }
+        flushCount++;
+        if (scoreDirty) {
+            scoreDirty = false;
+            if (view != null) {
+                view.setScore(score);
+                if (score > getHighScoreThreshold()) {
+                    view.setHighScore(score);
+                }
+            }
+        }
+        if (nextBlockDirty) {
+            nextBlockDirty = false;
+            if (view != null) {
+                view.setNextBlock(nextBlock);
+            }
+        }
+        if (attackPreviewDirty) {
+            attackPreviewDirty = false;
+            if (view != null && attackPreviewSource != null) {
+                try {
+                    view.updateAttackPreview(attackPreviewSource.get());
+                } catch (Throwable t) {
+                    System.err.println("[HudUpdater] updateAttackPreview 실패: " + t.getMessage());
+                }
+            }
+        }
+    }
+
+    private void requestFlush() {
+        updateCount++;
+        if (!flushScheduled) {
+            flushScheduled = true;
+            SwingUtilities.invokeLater(scheduledFlush);
+        }
+    }
+
+    private int getHighScoreThreshold() {
+        if (!thresholdLoaded) {
+            highScoreThreshold = HighScoreModel.getInstance().getHighScore(itemMode);
+            thresholdLoaded = true;
+        }
+        return highScoreThreshold;
+    }
+
+    /** 요청된 변경 수 (테스트/통계용) */
+    public int getUpdateCount() {
+        return updateCount;
+    }
+
+    /** 실제로 뷰에 반영한 횟수 (테스트/통계용) */
+    public int getFlushCount() {
+        return flushCount;
+    }
+}
@@ -0,0 +1,61 @@
+package game.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시뮬레이션(쓰는 쪽)과 화면 그리기(읽는 쪽) 사이의 삼중 버퍼
+ *
+ * 미리 만든 RenderSnapshot 세 개를 돌려 씁니다.
+ * - 쓰는 쪽은 beginWrite()로 받은 뒤쪽 버퍼를 채우고 publish()로 가운데 버퍼와 맞바꿉니다.
+ * - 읽는 쪽은 acquire()에서 새 내용이 있을 때만 가운데 버퍼와 자기 버퍼를 맞바꿉니다.
+ * 맞바꾸기는 AtomicInteger 하나로 하므로 잠금이 없고, 서로 같은 버퍼를 동시에 만지지 않습니다.
+ * 쓰는 쪽과 읽는 쪽은 각각 한 스레드여야 합니다 (같은 스레드여도 됨).
+ */
+public final class RenderBuffer {
+
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4;  // 가운데 버퍼에 아직 읽지 않은 새 내용이 있음
+
+    private final RenderSnapshot[] snapshots = {
+        new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()
+    };
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    private int back = 0;        // 쓰는 쪽 전용
+    private int published = -1;  // 쓰는 쪽 전용: 마지막으로 publish한 버퍼
+    private int front = 2;       // 읽는 쪽 전용
+
+    /**
+     * 채울 뒤쪽 버퍼 (publish() 전까지 쓰는 쪽만 사용)
+     */
+    public RenderSnapshot beginWrite() {
+        return snapshots[back];
+    }
+
+    /**
+     * 채운 버퍼를 읽는 쪽에 넘김
+     */
+    public void publish() {
+        int written = back;
+        back = middle.getAndSet(written | FRESH) & INDEX_MASK;
+        published = written;
+    }
+
+    /**
+     * 마지막으로 publish한 스냅샷 (쓰는 쪽에서 다음 내용의 기준으로 읽기만 할 때, 없으면 null)
+     * 다음 publish() 전까지는 쓰는 쪽이 이 버퍼를 다시 받지 않으므로 안전하게 읽을 수 있습니다.
+     */
+    public RenderSnapshot lastPublished() {
+        return published < 0 ? null : snapshots[published];
+    }
+
+    /**
+     * 읽는 쪽: 가장 최근에 publish된 스냅샷 (새 내용이 없으면 이전과 같은 버퍼)
+     */
+    public RenderSnapshot acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return snapshots[front];
+    }
+}
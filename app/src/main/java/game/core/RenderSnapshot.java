@@ -0,0 +1,296 @@
+package game.core;
+
+import java.awt.Color;
+import java.util.Arrays;
+import java.util.List;
+
+import blocks.Block;
+
+/**
+ * 게임 보드를 한 번 그리는 데 필요한 내용만 담은 고정 크기 스냅샷 (RenderBuffer의 버퍼 하나)
+ *
+ * 보이는 20x10 칸마다 int 하나로 (종류 << 24 | RGB)를 저장합니다. 색은 채울 때 이미 결정해 두므로
+ * (colorBoard 값이 없으면 종류별 기본색) 그리는 쪽은 배열만 읽으면 됩니다.
+ * 배열은 생성할 때 한 번만 만들고 fill()이 덮어쓰므로 렌더링 중에는 메모리를 할당하지 않습니다.
+ * 행 번호는 보이는 보드 기준(0 ~ 19, 보드 배열의 2 ~ 21행)입니다.
+ */
+public final class RenderSnapshot {
+
+    public static final int ROWS = 20;
+    public static final int COLS = 10;
+
+    private static final int BOARD_ROW_OFFSET = 2;  // 보드 배열의 위 2행은 숨김 영역
+    private static final int BOARD_COL_OFFSET = 1;  // 보드 배열의 왼쪽 1열은 벽
+
+    // 색 정보가 없는 셀의 블록 타입별 색
+    private static final int[] TYPE_RGB = {
+        0x808080,  // 기본 - 회색
+        0xFF0000,  // I - 빨강
+        0xFFA500,  // J - 주황
+        0xFFFF00,  // L - 노랑
+        0x00FF00,  // O - 초록
+        0x0000FF,  // S - 파랑
+        0x4B0082,  // T - 남색
+        0xEE82EE   // Z - 보라
+    };
+
+    private final int[] cells = new int[ROWS * COLS];      // 쌓인 블록 (0: 빈 칸)
+    private final int[] piece = new int[ROWS * COLS];      // 떨어지는 블록 (0: 없음)
+    private final boolean[] flashingRows = new boolean[ROWS];
+    private final int[] boxCenters = new int[ROWS * COLS * 2];  // (row, col) 쌍, 보드 배열 기준
+
+    private boolean hasBoard;
+    private boolean hasPiece;
+    private boolean pieceWeight;
+
+    private boolean lineClearAnimating;
+    private boolean flashBlack;
+    private boolean allClearAnimating;
+    private boolean allClearFlashBlack;
+    private boolean boxClearAnimating;
+    private boolean boxFlashBlack;
+    private int boxCenterCount;
+    private boolean weightAnimating;
+
+    /**
+     * GameState 내용으로 채우기 (애니메이션 상태도 GameState 것을 사용)
+     */
+    public void fill(GameState state) {
+        fillBoard(state);
+        if (state == null) {
+            setAnimation(false, false, null, false, false, false, false, null, false);
+        } else {
+            setAnimation(state.isLineClearAnimating(), state.isFlashBlack(), state.flashingRowsRef(),
+                state.isAllClearAnimating(), state.isAllClearFlashBlack(),
+                state.isBoxClearAnimating(), state.isBoxFlashBlack(), state.boxFlashCentersRef(),
+                state.isWeightAnimating());
+        }
+    }
+
+    /**
+     * GameState의 보드와 AnimationManager의 애니메이션 상태로 채우기
+     * (AnimationManager.applyAnimationState로 새 GameState를 만드는 것과 같은 결과)
+     */
+    public void fill(GameState state, AnimationManager animation) {
+        fillBoard(state);
+        animation.writeTo(this);
+    }
+
+    /**
+     * 다른 스냅샷 내용 그대로 복사
+     */
+    public void copyFrom(RenderSnapshot other) {
+        System.arraycopy(other.cells, 0, cells, 0, cells.length);
+        System.arraycopy(other.piece, 0, piece, 0, piece.length);
+        System.arraycopy(other.flashingRows, 0, flashingRows, 0, flashingRows.length);
+        System.arraycopy(other.boxCenters, 0, boxCenters, 0, other.boxCenterCount * 2);
+        hasBoard = other.hasBoard;
+        hasPiece = other.hasPiece;
+        pieceWeight = other.pieceWeight;
+        lineClearAnimating = other.lineClearAnimating;
+        flashBlack = other.flashBlack;
+        allClearAnimating = other.allClearAnimating;
+        allClearFlashBlack = other.allClearFlashBlack;
+        boxClearAnimating = other.boxClearAnimating;
+        boxFlashBlack = other.boxFlashBlack;
+        boxCenterCount = other.boxCenterCount;
+        weightAnimating = other.weightAnimating;
+    }
+
+    /**
+     * 떨어지는 블록만 바꾸기 (null이면 없음)
+     */
+    public void setPiece(Block block) {
+        Arrays.fill(piece, 0);
+        hasPiece = false;
+        pieceWeight = false;
+        if (block == null) {
+            return;
+        }
+        int[][] shape = block.getShape();
+        // Defensive: some remote/reflection-created blocks may not have shape initialized.
+        if (shape == null) {
+            try {
+                block.setShape();
+                shape = block.getShape();
+                if (shape != null) {
+                    System.out.println("[GameBoardPanel] block.setShape() 성공: " + block.getClass().getSimpleName());
+                }
+            } catch (Throwable t) {
+                System.err.println("[GameBoardPanel] block.setShape() 실패: " + t.getMessage());
+            }
+        }
+        if (shape == null) {
+            System.err.println("[GameBoardPanel] drawBlock 건너뜀: shape가 null (" + block.getClass().getName() + ")");
+            return;
+        }
+        Color color = block.getColor();
+        int rgb = color != null ? color.getRGB() & 0xFFFFFF : 0;
+        for (int row = 0; row < shape.length; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+                int value = shape[row][col];
+                if (value == 0) continue;
+                int r = block.getY() + row - BOARD_ROW_OFFSET;
+                int c = block.getX() + col - BOARD_COL_OFFSET;
+                if (r >= 0 && r < ROWS && c >= 0 && c < COLS) {
+                    piece[r * COLS + c] = (value << 24) | rgb;
+                }
+            }
+        }
+        hasPiece = true;
+        pieceWeight = block instanceof blocks.item.WeightBlock;
+    }
+
+    private void fillBoard(GameState state) {
+        Arrays.fill(cells, 0);
+        hasBoard = false;
+        if (state != null) {
+            int[][] board = state.boardArrayRef();
+            int[][] colorBoard = state.colorBoardRef();
+            if (board != null && colorBoard != null) {
+                hasBoard = true;
+                int lastRow = Math.min(ROWS + BOARD_ROW_OFFSET, board.length);
+                for (int row = BOARD_ROW_OFFSET; row < lastRow; row++) {
+                    int lastCol = Math.min(COLS + BOARD_COL_OFFSET, board[row].length);
+                    for (int col = BOARD_COL_OFFSET; col < lastCol; col++) {
+                        int value = board[row][col];
+                        if (value > 0 && value < 10) {
+                            int rgb = row < colorBoard.length && col < colorBoard[row].length ? colorBoard[row][col] : 0;
+                            if (rgb == 0) {
+                                rgb = typeRgb(value);
+                            }
+                            cells[(row - BOARD_ROW_OFFSET) * COLS + (col - BOARD_COL_OFFSET)] = (value << 24) | (rgb & 0xFFFFFF);
+                        }
+                    }
+                }
+            }
+        }
+        setPiece(state != null ? state.getCurrentBlock() : null);
+    }
+
+    void setAnimation(boolean lineClearAnimating, boolean flashBlack, List<Integer> flashingRows,
+                      boolean allClearAnimating, boolean allClearFlashBlack,
+                      boolean boxClearAnimating, boolean boxFlashBlack, List<int[]> boxFlashCenters,
+                      boolean weightAnimating) {
+        this.lineClearAnimating = lineClearAnimating;
+        this.flashBlack = flashBlack;
+        Arrays.fill(this.flashingRows, false);
+        if (flashingRows != null) {
+            for (int i = 0; i < flashingRows.size(); i++) {
+                int row = flashingRows.get(i) - BOARD_ROW_OFFSET;
+                if (row >= 0 && row < ROWS) {
+                    this.flashingRows[row] = true;
+                }
+            }
+        }
+        this.allClearAnimating = allClearAnimating;
+        this.allClearFlashBlack = allClearFlashBlack;
+        this.boxClearAnimating = boxClearAnimating;
+        this.boxFlashBlack = boxFlashBlack;
+        boxCenterCount = 0;
+        if (boxFlashCenters != null) {
+            int count = Math.min(boxFlashCenters.size(), boxCenters.length / 2);
+            for (int i = 0; i < count; i++) {
+                int[] center = boxFlashCenters.get(i);
+                boxCenters[i * 2] = center[0];
+                boxCenters[i * 2 + 1] = center[1];
+            }
+            boxCenterCount = count;
+        }
+        this.weightAnimating = weightAnimating;
+    }
+
+    /**
+     * 블록 타입별 기본 색 (RGB)
+     */
+    public static int typeRgb(int blockType) {
+        return blockType > 0 && blockType < TYPE_RGB.length ? TYPE_RGB[blockType] : TYPE_RGB[0];
+    }
+
+    /** 칸 값의 종류 (0이면 빈 칸) */
+    public static int typeOf(int cell) {
+        return cell >>> 24;
+    }
+
+    /** 칸 값의 색 (RGB) */
+    public static int rgbOf(int cell) {
+        return cell & 0xFFFFFF;
+    }
+
+    // ==================== 읽기 ====================
+
+    /** 보드 정보가 있는지 (GameState 없이 원격 블록만 있는 경우 false) */
+    public boolean hasBoard() {
+        return hasBoard;
+    }
+
+    /** 쌓인 블록 칸 값 (0: 빈 칸) */
+    public int getCell(int row, int col) {
+        return cells[row * COLS + col];
+    }
+
+    public boolean hasPiece() {
+        return hasPiece;
+    }
+
+    /** 떨어지는 블록 칸 값 (0: 없음) */
+    public int getPieceCell(int row, int col) {
+        return piece[row * COLS + col];
+    }
+
+    public boolean isPieceWeight() {
+        return pieceWeight;
+    }
+
+    public boolean isLineClearAnimating() {
+        return lineClearAnimating;
+    }
+
+    public boolean isFlashBlack() {
+        return flashBlack;
+    }
+
+    /** 보이는 보드 기준 행이 라인 클리어 플래시 대상인지 */
+    public boolean isRowFlashing(int row) {
+        return flashingRows[row];
+    }
+
+    public boolean isAllClearAnimating() {
+        return allClearAnimating;
+    }
+
+    public boolean isAllClearFlashBlack() {
+        return allClearFlashBlack;
+    }
+
+    public boolean isBoxClearAnimating() {
+        return boxClearAnimating;
+    }
+
+    public boolean isBoxFlashBlack() {
+        return boxFlashBlack;
+    }
+
+    public int getBoxCenterCount() {
+        return boxCenterCount;
+    }
+
+    /** 박스 클리어 중심 행 (보드 배열 기준) */
+    public int getBoxCenterRow(int index) {
+        return boxCenters[index * 2];
+    }
+
+    /** 박스 클리어 중심 열 (보드 배열 기준) */
+    public int getBoxCenterCol(int index) {
+        return boxCenters[index * 2 + 1];
+    }
+
+    public boolean isWeightAnimating() {
+        return weightAnimating;
+    }
+
+    /** 화면 전체가 바뀌는 애니메이션(라인/올/박스 클리어) 중인지 */
+    public boolean isAnimating() {
+        return lineClearAnimating || allClearAnimating || boxClearAnimating;
+    }
+}
@@ -1,11 +1,15 @@
 package game.events;
 
+import game.model.AttackPattern;
+import game.util.VarInt;
+
 /**
  * 로컬에서 공격 줄이 적용된 후, 그 결과를 네트워크로 전송하기 위한 이벤트
+ * 구멍 패턴은 줄마다 비트마스크 하나인 AttackPattern으로 보관합니다.
  */
 public class AttackAppliedEvent extends GameEvent {
     private int attackLines;
-    private int[][] blockPattern;
+    private AttackPattern holePattern;
     private int blockX;
 
     public AttackAppliedEvent() { super("ATTACK_APPLIED"); }
@@ -13,35 +17,40 @@ public class AttackAppliedEvent extends GameEvent {
     public AttackAppliedEvent(int attackLines, int[][] blockPattern, int blockX) {
         super("ATTACK_APPLIED");
         this.attackLines = attackLines;
-        this.blockPattern = deepCopy(blockPattern);
+        this.holePattern = AttackPattern.fromMatrix(blockPattern);
         this.blockX = blockX;
     }
 
+    /**
+     * 비트마스크 패턴으로 생성
+     */
+    public static AttackAppliedEvent of(int attackLines, AttackPattern holePattern, int blockX) {
+        AttackAppliedEvent event = new AttackAppliedEvent();
+        event.attackLines = attackLines;
+        event.holePattern = holePattern;
+        event.blockX = blockX;
+        return event;
+    }
+
     public int getAttackLines() { return attackLines; }
-    public int[][] getBlockPattern() { return blockPattern == null ? null : deepCopy(blockPattern); }
+    public AttackPattern getHolePattern() { return holePattern; }
+    public int[][] getBlockPattern() { return holePattern == null ? null : holePattern.toMatrix(); }
     public int getBlockX() { return blockX; }
 
+    /**
+     * 직렬화 형식: timestamp, attackLines, 패턴 유무(1바이트), [blockX, AttackPattern]
+     */
     @Override
     public byte[] serialize() {
-        int patternFlag = (blockPattern == null) ? 0 : 1;
-        int patternH = 0, patternW = 0;
-        if (patternFlag == 1) {
-            patternH = blockPattern.length;
-            patternW = blockPattern.length > 0 ? blockPattern[0].length : 0;
-        }
-        // Compute total size: timestamp(8) + attackLines(4) + patternFlag(4)
-        // If pattern present: patternH(4) + patternW(4) + blockX(4) + pattern cells (patternH*patternW*4)
-        int total = 8 + 4 + 4;
-        if (patternFlag == 1) total += 4 + 4 + 4 + (patternH * patternW * 4);
+        int total = 8 + 4 + 1;
+        if (holePattern != null) total += 4 + holePattern.serializedSize();
         java.nio.ByteBuffer buf = java.nio.ByteBuffer.allocate(total);
         buf.putLong(getTimestamp());
         buf.putInt(attackLines);
-        buf.putInt(patternFlag);
-        if (patternFlag == 1) {
-            buf.putInt(patternH);
-            buf.putInt(patternW);
+        buf.put((byte) (holePattern == null ? 0 : 1));
+        if (holePattern != null) {
             buf.putInt(blockX);
-            for (int r = 0; r < patternH; r++) for (int c = 0; c < patternW; c++) buf.putInt(blockPattern[r][c]);
+            holePattern.writeTo(buf);
         }
         return buf.array();
     }
@@ -51,23 +60,37 @@ public class AttackAppliedEvent extends GameEvent {
         java.nio.ByteBuffer buf = java.nio.ByteBuffer.wrap(data);
         buf.getLong(); // timestamp
         this.attackLines = buf.getInt();
-        int patternFlag = buf.getInt();
-        if (patternFlag == 1) {
-            int patternH = buf.getInt();
-            int patternW = buf.getInt();
+        if (buf.get() != 0) {
             this.blockX = buf.getInt();
-            this.blockPattern = new int[patternH][patternW];
-            for (int r = 0; r < patternH; r++) for (int c = 0; c < patternW; c++) this.blockPattern[r][c] = buf.getInt();
+            this.holePattern = AttackPattern.readFrom(buf);
         } else {
-            this.blockPattern = null;
+            this.holePattern = null;
             this.blockX = 0;
         }
     }
 
-    private int[][] deepCopy(int[][] src) {
-        if (src == null) return null;
-        int[][] out = new int[src.length][];
-        for (int i = 0; i < src.length; i++) out[i] = src[i].clone();
-        return out;
+    /**
+     * 압축 인코딩: attackLines, 패턴 유무(1바이트), [blockX(zigzag), AttackPattern] (timestamp 제외)
+     */
+    @Override
+    public void encode(java.nio.ByteBuffer buf) {
+        VarInt.putVarInt(buf, attackLines);
+        buf.put((byte) (holePattern == null ? 0 : 1));
+        if (holePattern != null) {
+            VarInt.putSignedVarInt(buf, blockX);
+            holePattern.writeTo(buf);
+        }
+    }
+
+    @Override
+    public void decode(java.nio.ByteBuffer buf) {
+        this.attackLines = VarInt.getVarInt(buf);
+        if (buf.get() != 0) {
+            this.blockX = VarInt.getSignedVarInt(buf);
+            this.holePattern = AttackPattern.readFrom(buf);
+        } else {
+            this.holePattern = null;
+            this.blockX = 0;
+        }
     }
 }
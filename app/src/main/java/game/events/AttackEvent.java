@@ -1,12 +1,15 @@
 package game.events;
 
+import game.model.AttackPattern;
+
 /**
  * 네트워크로부터 수신된 공격 정보를 이벤트로 변환하여 UI/컨트롤러가 처리하도록 함
+ * 구멍 패턴은 줄마다 비트마스크 하나인 AttackPattern으로 보관합니다.
  */
 public class AttackEvent extends GameEvent {
     private int attackLines;
     private int playerId;
-    private int[][] blockPattern;
+    private AttackPattern holePattern;
     private int blockX;
 
     public AttackEvent(int attackLines, int playerId) {
@@ -16,10 +19,8 @@ public class AttackEvent extends GameEvent {
     }
 
     public AttackEvent(int attackLines, int playerId, int[][] blockPattern, int blockX) {
-        super("ATTACK");
-        this.attackLines = attackLines;
-        this.playerId = playerId;
-        this.blockPattern = blockPattern == null ? null : deepCopy(blockPattern);
+        this(attackLines, playerId);
+        this.holePattern = AttackPattern.fromMatrix(blockPattern);
         this.blockX = blockX;
     }
 
@@ -28,35 +29,37 @@ public class AttackEvent extends GameEvent {
         super("ATTACK");
     }
 
+    /**
+     * 비트마스크 패턴으로 생성
+     */
+    public static AttackEvent of(int attackLines, int playerId, AttackPattern holePattern, int blockX) {
+        AttackEvent event = new AttackEvent(attackLines, playerId);
+        event.holePattern = holePattern;
+        event.blockX = blockX;
+        return event;
+    }
+
     public int getAttackLines() { return attackLines; }
     public int getPlayerId() { return playerId; }
-    public int[][] getBlockPattern() { return blockPattern == null ? null : deepCopy(blockPattern); }
+    public AttackPattern getHolePattern() { return holePattern; }
+    public int[][] getBlockPattern() { return holePattern == null ? null : holePattern.toMatrix(); }
     public int getBlockX() { return blockX; }
 
+    /**
+     * 직렬화 형식: timestamp, playerId, attackLines, 패턴 유무(1바이트), [blockX, AttackPattern]
+     */
     @Override
     public byte[] serialize() {
-        int patternFlag = (blockPattern == null) ? 0 : 1;
-        int patternH = 0, patternW = 0;
-        if (patternFlag == 1) {
-            patternH = blockPattern.length;
-            patternW = blockPattern.length > 0 ? blockPattern[0].length : 0;
-        }
-        // timestamp(8) + playerId(4) + attackLines(4) + patternFlag(4)
-        // if pattern: + patternH(4) + patternW(4) + blockX(4) + cells(patternH*patternW*4)
-        int bufferSize = 8 + 4 + 4 + 4;
-        if (patternFlag == 1) {
-            bufferSize += 4 + 4 + 4 + (patternH * patternW * 4);
-        }
-        java.nio.ByteBuffer buf = java.nio.ByteBuffer.allocate(bufferSize);
+        int size = 8 + 4 + 4 + 1;
+        if (holePattern != null) size += 4 + holePattern.serializedSize();
+        java.nio.ByteBuffer buf = java.nio.ByteBuffer.allocate(size);
         buf.putLong(getTimestamp());
         buf.putInt(playerId);
         buf.putInt(attackLines);
-        buf.putInt(patternFlag);
-        if (patternFlag == 1) {
-            buf.putInt(patternH);
-            buf.putInt(patternW);
+        buf.put((byte) (holePattern == null ? 0 : 1));
+        if (holePattern != null) {
             buf.putInt(blockX);
-            for (int r = 0; r < patternH; r++) for (int c = 0; c < patternW; c++) buf.putInt(blockPattern[r][c]);
+            holePattern.writeTo(buf);
         }
         return buf.array();
     }
@@ -67,28 +70,17 @@ public class AttackEvent extends GameEvent {
         buf.getLong(); // timestamp
         this.playerId = buf.getInt();
         this.attackLines = buf.getInt();
-        int patternFlag = buf.getInt();
-        if (patternFlag == 1) {
-            int patternH = buf.getInt();
-            int patternW = buf.getInt();
+        if (buf.get() != 0) {
             this.blockX = buf.getInt();
-            this.blockPattern = new int[patternH][patternW];
-            for (int r = 0; r < patternH; r++) for (int c = 0; c < patternW; c++) this.blockPattern[r][c] = buf.getInt();
+            this.holePattern = AttackPattern.readFrom(buf);
         } else {
-            this.blockPattern = null;
+            this.holePattern = null;
             this.blockX = 0;
         }
     }
 
     @Override
     public String toString() {
-        return "AttackEvent{playerId=" + playerId + ", attackLines=" + attackLines + ", blockX=" + blockX + ", pattern=" + (blockPattern!=null? (blockPattern.length+"x"+(blockPattern.length>0?blockPattern[0].length:0)) : "<none>") + "}";
-    }
-
-    private int[][] deepCopy(int[][] src) {
-        if (src == null) return null;
-        int[][] out = new int[src.length][];
-        for (int i = 0; i < src.length; i++) out[i] = src[i].clone();
-        return out;
+        return "AttackEvent{playerId=" + playerId + ", attackLines=" + attackLines + ", blockX=" + blockX + ", pattern=" + (holePattern != null ? holePattern : "<none>") + "}";
     }
 }
@@ -1,5 +1,7 @@
 package game.events;
 
+import game.util.VarInt;
+
 import java.nio.ByteBuffer;
 
 /**
@@ -50,6 +52,25 @@ public class BlockMovedEvent extends GameEvent {
         this.rotation = buffer.getInt();
     }
     
+    /**
+     * 압축 인코딩: x, y(zigzag), blockType, rotation (timestamp 제외)
+     */
+    @Override
+    public void encode(ByteBuffer buffer) {
+        VarInt.putSignedVarInt(buffer, x);
+        VarInt.putSignedVarInt(buffer, y);
+        VarInt.putVarInt(buffer, blockType);
+        VarInt.putVarInt(buffer, rotation);
+    }
+    
+    @Override
+    public void decode(ByteBuffer buffer) {
+        this.x = VarInt.getSignedVarInt(buffer);
+        this.y = VarInt.getSignedVarInt(buffer);
+        this.blockType = VarInt.getVarInt(buffer);
+        this.rotation = VarInt.getVarInt(buffer);
+    }
+    
     @Override
     public String toString() {
         return "BlockMovedEvent{" +
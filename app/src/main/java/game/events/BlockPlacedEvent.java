@@ -1,21 +1,30 @@
 package game.events;
 
+import game.util.VarInt;
+
 import java.nio.ByteBuffer;
 
 /**
  * 블록이 보드에 배치되었을 때 발생하는 이벤트
+ * boardHash: 배치 직후 보드 해시 (BoardHash, 0이면 없음 - 직렬화에서도 생략)
  */
 public class BlockPlacedEvent extends GameEvent {
     private int x, y;
     private int blockType;
     private int playerId;
+    private long boardHash;
     
     public BlockPlacedEvent(int x, int y, int blockType, int playerId) {
+        this(x, y, blockType, playerId, 0L);
+    }
+    
+    public BlockPlacedEvent(int x, int y, int blockType, int playerId, long boardHash) {
         super("BLOCK_PLACED");
         this.x = x;
         this.y = y;
         this.blockType = blockType;
         this.playerId = playerId;
+        this.boardHash = boardHash;
     }
     
     // 기본 생성자 (역직렬화용)
@@ -28,15 +37,17 @@ public class BlockPlacedEvent extends GameEvent {
     public int getY() { return y; }
     public int getBlockType() { return blockType; }
     public int getPlayerId() { return playerId; }
+    public long getBoardHash() { return boardHash; }
     
     @Override
     public byte[] serialize() {
-        ByteBuffer buffer = ByteBuffer.allocate(24);
+        ByteBuffer buffer = ByteBuffer.allocate(boardHash != 0 ? 32 : 24);
         buffer.putLong(getTimestamp());
         buffer.putInt(x);
         buffer.putInt(y);
         buffer.putInt(blockType);
         buffer.putInt(playerId);
+        if (boardHash != 0) buffer.putLong(boardHash);
         return buffer.array();
     }
     
@@ -48,6 +59,29 @@ public class BlockPlacedEvent extends GameEvent {
         this.y = buffer.getInt();
         this.blockType = buffer.getInt();
         this.playerId = buffer.getInt();
+        this.boardHash = buffer.remaining() >= 8 ? buffer.getLong() : 0L;
+    }
+    
+    /**
+     * 압축 인코딩: x, y(zigzag), blockType, playerId, 해시 유무(1바이트), [boardHash]
+     */
+    @Override
+    public void encode(ByteBuffer buffer) {
+        VarInt.putSignedVarInt(buffer, x);
+        VarInt.putSignedVarInt(buffer, y);
+        VarInt.putVarInt(buffer, blockType);
+        VarInt.putVarInt(buffer, playerId);
+        buffer.put((byte) (boardHash != 0 ? 1 : 0));
+        if (boardHash != 0) buffer.putLong(boardHash);
+    }
+    
+    @Override
+    public void decode(ByteBuffer buffer) {
+        this.x = VarInt.getSignedVarInt(buffer);
+        this.y = VarInt.getSignedVarInt(buffer);
+        this.blockType = VarInt.getVarInt(buffer);
+        this.playerId = VarInt.getVarInt(buffer);
+        this.boardHash = buffer.get() != 0 ? buffer.getLong() : 0L;
     }
     
     @Override
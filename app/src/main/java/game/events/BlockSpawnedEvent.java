@@ -1,29 +1,78 @@
 package game.events;
 
+import blocks.Block;
+import blocks.BlockTypeRegistry;
+import blocks.PieceSequence;
+import game.util.VarInt;
+
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * 새 블록이 생성되었을 때 발생하는 이벤트
  * P2P 모드에서 양쪽이 같은 블록을 보도록 동기화
+ *
+ * 양쪽이 같은 블록 순서(PieceSequence)를 쓰고 있으면 블록 종류와 위치 대신 순서 번호만 보냅니다.
+ * 순서 번호로 받은 이벤트는 resolve()로 종류와 위치를 채운 뒤 사용합니다.
+ *
+ * 블록 종류는 BlockTypeRegistry 타입 ID로 들고 있고, 클래스 이름은 getBlockClassName()을 부를 때만 만듭니다.
+ * 레지스트리에 없는 클래스(UNKNOWN)만 이름을 따로 보관합니다.
  */
 public class BlockSpawnedEvent extends GameEvent {
-    private String blockClassName;  // 블록 클래스 이름 (예: "blocks.IBlock")
-    private int x, y;               // 초기 위치
-    private String nextBlockClassName; // 다음 블록 클래스 이름 (optional)
+    private int blockTypeId = BlockTypeRegistry.NONE;      // 블록 타입 ID (BlockTypeRegistry)
+    private int x, y;                                       // 초기 위치
+    private int nextBlockTypeId = BlockTypeRegistry.NONE;  // 다음 블록 타입 ID (없으면 NONE)
+    private String unknownClassName;      // 타입이 UNKNOWN일 때만 클래스 이름
+    private String unknownNextClassName;  // 다음 블록 타입이 UNKNOWN일 때만 클래스 이름
+    private int sequenceIndex = -1;       // 공유 블록 순서 번호 (-1이면 종류/위치를 그대로 보냄)
+    
+    private static final byte FORM_FULL = 0;
+    private static final byte FORM_SEQUENCE = 1;
     
     public BlockSpawnedEvent(String blockClassName, int x, int y) {
+        this(blockClassName, x, y, null);
+    }
+
+    public BlockSpawnedEvent(String blockClassName, int x, int y, String nextBlockClassName) {
         super("BLOCK_SPAWNED");
-        this.blockClassName = blockClassName;
+        setBlockClassName(blockClassName);
         this.x = x;
         this.y = y;
+        setNextBlockClassName(nextBlockClassName);
     }
-
-    public BlockSpawnedEvent(String blockClassName, int x, int y, String nextBlockClassName) {
+    
+    /**
+     * 공유 블록 순서의 블록 생성 이벤트
+     * @param sequenceIndex 지금 블록의 순서 번호 (다음 블록은 sequenceIndex + 1번째), -1이면 순서 번호 없이 전송
+     */
+    public BlockSpawnedEvent(String blockClassName, int x, int y, String nextBlockClassName, int sequenceIndex) {
+        this(blockClassName, x, y, nextBlockClassName);
+        this.sequenceIndex = sequenceIndex;
+    }
+    
+    /**
+     * 타입 ID로 만드는 블록 생성 이벤트 (레지스트리에 있는 블록만)
+     * @param nextBlockTypeId 다음 블록 타입 ID, 없으면 BlockTypeRegistry.NONE
+     */
+    public BlockSpawnedEvent(int blockTypeId, int x, int y, int nextBlockTypeId, int sequenceIndex) {
         super("BLOCK_SPAWNED");
-        this.blockClassName = blockClassName;
+        this.blockTypeId = blockTypeId;
         this.x = x;
         this.y = y;
-        this.nextBlockClassName = nextBlockClassName;
+        this.nextBlockTypeId = nextBlockTypeId;
+        this.sequenceIndex = sequenceIndex;
+    }
+    
+    /**
+     * 블록 객체로 이벤트 생성 (클래스 비교로 타입 ID를 찾고, 레지스트리에 없으면 이름을 보관)
+     * @param next 다음 블록 (없으면 null)
+     */
+    public static BlockSpawnedEvent of(Block block, Block next, int sequenceIndex) {
+        BlockSpawnedEvent event = new BlockSpawnedEvent(
+            BlockTypeRegistry.idOf(block), block.getX(), block.getY(), BlockTypeRegistry.idOf(next), sequenceIndex);
+        if (event.blockTypeId == BlockTypeRegistry.UNKNOWN) event.unknownClassName = block.getClass().getName();
+        if (event.nextBlockTypeId == BlockTypeRegistry.UNKNOWN) event.unknownNextClassName = next.getClass().getName();
+        return event;
     }
     
     // 기본 생성자 (역직렬화용)
@@ -31,24 +80,82 @@ public class BlockSpawnedEvent extends GameEvent {
         super("BLOCK_SPAWNED");
     }
     
+    private void setBlockClassName(String className) {
+        this.blockTypeId = BlockTypeRegistry.idOf(className);
+        this.unknownClassName = blockTypeId == BlockTypeRegistry.UNKNOWN ? className : null;
+    }
+    
+    private void setNextBlockClassName(String className) {
+        this.nextBlockTypeId = BlockTypeRegistry.idOf(className);
+        this.unknownNextClassName = nextBlockTypeId == BlockTypeRegistry.UNKNOWN ? className : null;
+    }
+    
     // Getters
-    public String getBlockClassName() { return blockClassName; }
+    /** 블록 클래스 이름 (로그/기존 코드용, 타입 ID에서 만듦) */
+    public String getBlockClassName() {
+        return blockTypeId == BlockTypeRegistry.UNKNOWN ? unknownClassName : BlockTypeRegistry.classNameOf(blockTypeId);
+    }
     public int getX() { return x; }
     public int getY() { return y; }
-    public String getNextBlockClassName() { return nextBlockClassName; }
+    /** 다음 블록 클래스 이름 (없으면 null) */
+    public String getNextBlockClassName() {
+        return nextBlockTypeId == BlockTypeRegistry.UNKNOWN ? unknownNextClassName : BlockTypeRegistry.classNameOf(nextBlockTypeId);
+    }
+    /** 공유 블록 순서 번호 (없으면 -1) */
+    public int getSequenceIndex() { return sequenceIndex; }
+    /** 순서 번호로만 전송되는지 여부 */
+    public boolean isSequenced() { return sequenceIndex >= 0; }
+    /** 순서 번호로 받고 아직 resolve()하지 않은 상태인지 여부 */
+    public boolean needsResolve() { return sequenceIndex >= 0 && blockTypeId == BlockTypeRegistry.NONE; }
+    
+    /**
+     * 순서 번호로 블록 종류와 초기 위치를 채움 (순서 번호가 없으면 아무것도 하지 않음)
+     * @param sequence 양쪽이 공유하는 블록 순서
+     */
+    public void resolve(PieceSequence sequence) {
+        if (sequenceIndex < 0) return;
+        int index = sequence.indexAt(sequenceIndex);
+        int[] position = Block.spawnPosition(index);
+        this.blockTypeId = index + 1;
+        this.x = position[0];
+        this.y = position[1];
+        this.nextBlockTypeId = sequence.typeAt(sequenceIndex + 1);
+    }
+    
+    /**
+     * 순서 번호 없이 종류/위치를 그대로 담은 복사본 (블록 순서를 모르는 관전자에게 보낼 때)
+     */
+    public BlockSpawnedEvent toFullForm() {
+        BlockSpawnedEvent full = new BlockSpawnedEvent(blockTypeId, x, y, nextBlockTypeId, -1);
+        full.unknownClassName = unknownClassName;
+        full.unknownNextClassName = unknownNextClassName;
+        return full;
+    }
     
+    /** 현재 블록 타입 ID (BlockTypeRegistry) */
+    public int getBlockTypeId() { return blockTypeId; }
+    /** 다음 블록 타입 ID (없으면 BlockTypeRegistry.NONE) */
+    public int getNextBlockTypeId() { return nextBlockTypeId; }
+    
+    /**
+     * 직렬화 형식: timestamp, x, y, 현재 블록 타입(1바이트), 다음 블록 타입(1바이트)
+     * 레지스트리에 없는 클래스만 타입 UNKNOWN 뒤에 클래스 이름(UTF-8)을 붙입니다.
+     */
     @Override
     public byte[] serialize() {
-        byte[] classNameBytes = blockClassName != null ? blockClassName.getBytes() : new byte[0];
-        byte[] nextNameBytes = nextBlockClassName != null ? nextBlockClassName.getBytes() : new byte[0];
-        ByteBuffer buffer = ByteBuffer.allocate(8 + 4 + 4 + 4 + classNameBytes.length + 4 + nextNameBytes.length);
+        byte[] classNameBytes = blockTypeId == BlockTypeRegistry.UNKNOWN ? utf8(unknownClassName) : null;
+        byte[] nextNameBytes = nextBlockTypeId == BlockTypeRegistry.UNKNOWN ? utf8(unknownNextClassName) : null;
+        
+        int size = 8 + 4 + 4 + 1 + 1;
+        if (classNameBytes != null) size += 2 + classNameBytes.length;
+        if (nextNameBytes != null) size += 2 + nextNameBytes.length;
+        
+        ByteBuffer buffer = ByteBuffer.allocate(size);
         buffer.putLong(getTimestamp());
         buffer.putInt(x);
         buffer.putInt(y);
-        buffer.putInt(classNameBytes.length);
-        if (classNameBytes.length > 0) buffer.put(classNameBytes);
-        buffer.putInt(nextNameBytes.length);
-        if (nextNameBytes.length > 0) buffer.put(nextNameBytes);
+        putType(buffer, blockTypeId, classNameBytes);
+        putType(buffer, nextBlockTypeId, nextNameBytes);
         return buffer.array();
     }
     
@@ -58,31 +165,72 @@ public class BlockSpawnedEvent extends GameEvent {
         buffer.getLong(); // timestamp skip
         this.x = buffer.getInt();
         this.y = buffer.getInt();
-        int classNameLength = buffer.getInt();
-        if (classNameLength > 0) {
-            byte[] classNameBytes = new byte[classNameLength];
-            buffer.get(classNameBytes);
-            this.blockClassName = new String(classNameBytes);
-        } else {
-            this.blockClassName = null;
+        readTypes(buffer);
+    }
+    
+    /**
+     * 압축 인코딩 (timestamp 제외)
+     * - 순서 번호가 있으면: 형식 1, 순서 번호(varint)
+     * - 없으면: 형식 0, x, y(zigzag), 현재/다음 블록 타입 (serialize()와 같은 타입 표기)
+     */
+    @Override
+    public void encode(ByteBuffer buffer) {
+        if (sequenceIndex >= 0) {
+            buffer.put(FORM_SEQUENCE);
+            VarInt.putVarInt(buffer, sequenceIndex);
+            return;
         }
-        int nextNameLen = buffer.getInt();
-        if (nextNameLen > 0) {
-            byte[] nextBytes = new byte[nextNameLen];
-            buffer.get(nextBytes);
-            this.nextBlockClassName = new String(nextBytes);
-        } else {
-            this.nextBlockClassName = null;
+        buffer.put(FORM_FULL);
+        VarInt.putSignedVarInt(buffer, x);
+        VarInt.putSignedVarInt(buffer, y);
+        putType(buffer, blockTypeId, blockTypeId == BlockTypeRegistry.UNKNOWN ? utf8(unknownClassName) : null);
+        putType(buffer, nextBlockTypeId, nextBlockTypeId == BlockTypeRegistry.UNKNOWN ? utf8(unknownNextClassName) : null);
+    }
+    
+    @Override
+    public void decode(ByteBuffer buffer) {
+        if (buffer.get() == FORM_SEQUENCE) {
+            this.sequenceIndex = VarInt.getVarInt(buffer);
+            return;
         }
+        this.x = VarInt.getSignedVarInt(buffer);
+        this.y = VarInt.getSignedVarInt(buffer);
+        readTypes(buffer);
+    }
+    
+    private static void putType(ByteBuffer buffer, int typeId, byte[] nameBytes) {
+        buffer.put((byte) typeId);
+        if (nameBytes != null) {
+            buffer.putShort((short) nameBytes.length);
+            buffer.put(nameBytes);
+        }
+    }
+    
+    private void readTypes(ByteBuffer buffer) {
+        this.blockTypeId = buffer.get() & 0xFF;
+        this.unknownClassName = blockTypeId == BlockTypeRegistry.UNKNOWN ? getName(buffer) : null;
+        this.nextBlockTypeId = buffer.get() & 0xFF;
+        this.unknownNextClassName = nextBlockTypeId == BlockTypeRegistry.UNKNOWN ? getName(buffer) : null;
+    }
+    
+    private static String getName(ByteBuffer buffer) {
+        byte[] nameBytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(nameBytes);
+        return new String(nameBytes, StandardCharsets.UTF_8);
+    }
+    
+    private static byte[] utf8(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
     }
     
     @Override
     public String toString() {
         return "BlockSpawnedEvent{" +
-                "blockClassName='" + blockClassName + '\'' +
+                "blockClassName='" + getBlockClassName() + '\'' +
                 ", x=" + x +
                 ", y=" + y +
-                ", nextBlock='" + nextBlockClassName + '\'' +
+                ", nextBlock='" + getNextBlockClassName() + '\'' +
+                (sequenceIndex >= 0 ? ", sequenceIndex=" + sequenceIndex : "") +
                 ", timestamp=" + getTimestamp() +
                 '}';
     }
@@ -0,0 +1,203 @@
+package game.events;
+
+import game.core.BoardDeltaCodec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 보드 전체 상태 스냅샷 이벤트
+ * 주기적으로 키프레임(전체 보드)을 보내고, 그 사이에는 마지막 키프레임과의 XOR 차이(delta)만 보냅니다.
+ * 이벤트 유실이나 세션 재개 후에도 다음 스냅샷에서 상대방 화면이 다시 맞춰집니다.
+ *
+ * 직렬화 형식 (압축):
+ * - 행/열 수, 점수, 플레이어 ID, 키프레임 여부, 버전, 기준 키프레임 버전
+ * - 키프레임: 행마다 채워진 칸의 비트마스크(int) + 채워진 칸마다 보드 값(byte)과 색상(int)
+ * - delta: BoardDeltaCodec 0 구간 RLE
+ */
+public class BoardSnapshotEvent extends GameEvent {
+    private int[][] board;
+    private int[][] colorBoard;
+    private int score;
+    private int playerId;
+
+    private boolean keyframe = true;
+    private int version;        // 스냅샷 버전 (키프레임/delta 공통 증가)
+    private int baseVersion;    // delta가 기준으로 삼는 키프레임 버전
+    private int[] deltaWords;   // delta: BoardDeltaCodec.pack() 배열의 XOR 차이
+    private int rows;
+    private int cols;
+
+    public BoardSnapshotEvent(int[][] board, int[][] colorBoard, int score, int playerId) {
+        this(board, colorBoard, score, playerId, 0);
+    }
+
+    private BoardSnapshotEvent(int[][] board, int[][] colorBoard, int score, int playerId, int version) {
+        super("BOARD_SNAPSHOT");
+        this.board = deepCopy(board);
+        this.colorBoard = deepCopy(colorBoard);
+        this.score = score;
+        this.playerId = playerId;
+        this.version = version;
+        this.baseVersion = version;
+        this.rows = board == null ? 0 : board.length;
+        this.cols = rows == 0 ? 0 : Math.min(32, board[0].length);
+    }
+
+    /**
+     * 키프레임 (전체 보드) 생성
+     */
+    public static BoardSnapshotEvent keyframe(int[][] board, int[][] colorBoard, int score, int playerId, int version) {
+        return new BoardSnapshotEvent(board, colorBoard, score, playerId, version);
+    }
+
+    /**
+     * delta 생성
+     * @param xorWords 기준 키프레임과 현재 보드의 pack() 배열 XOR
+     */
+    public static BoardSnapshotEvent delta(int version, int baseVersion, int[] xorWords,
+                                           int rows, int cols, int score, int playerId) {
+        BoardSnapshotEvent event = new BoardSnapshotEvent();
+        event.keyframe = false;
+        event.version = version;
+        event.baseVersion = baseVersion;
+        event.deltaWords = xorWords;
+        event.rows = rows;
+        event.cols = cols;
+        event.score = score;
+        event.playerId = playerId;
+        return event;
+    }
+
+    // 기본 생성자 (역직렬화용)
+    public BoardSnapshotEvent() {
+        super("BOARD_SNAPSHOT");
+    }
+
+    // Getters
+    public int[][] getBoard() { return deepCopy(board); }
+    public int[][] getColorBoard() { return deepCopy(colorBoard); }
+    public int getScore() { return score; }
+    public int getPlayerId() { return playerId; }
+    public boolean isKeyframe() { return keyframe; }
+    public int getVersion() { return version; }
+    public int getBaseVersion() { return baseVersion; }
+    public int[] getDeltaWords() { return deltaWords; }
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+
+    /**
+     * 키프레임 보드를 BoardDeltaCodec.pack() 형태로 반환 (delta는 null)
+     */
+    public int[] getPacked() {
+        if (!keyframe) return null;
+        return BoardDeltaCodec.pack(board, colorBoard, rows, cols);
+    }
+
+    @Override
+    public byte[] serialize() {
+        if (!keyframe) {
+            byte[] rle = BoardDeltaCodec.encodeRle(deltaWords);
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + rle.length);
+            writeHeader(buffer);
+            buffer.put(rle);
+            return buffer.array();
+        }
+
+        int filled = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (board[r][c] != 0) filled++;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + rows * 4 + filled * 5);
+        writeHeader(buffer);
+
+        for (int r = 0; r < rows; r++) {
+            int mask = 0;
+            for (int c = 0; c < cols; c++) {
+                if (board[r][c] != 0) mask |= 1 << c;
+            }
+            buffer.putInt(mask);
+        }
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (board[r][c] != 0) {
+                    buffer.put((byte) board[r][c]);
+                    buffer.putInt(colorAt(r, c));
+                }
+            }
+        }
+        return buffer.array();
+    }
+
+    @Override
+    public void deserialize(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        buffer.getLong(); // timestamp skip
+        this.rows = buffer.getInt();
+        this.cols = buffer.getInt();
+        this.score = buffer.getInt();
+        this.playerId = buffer.getInt();
+        this.keyframe = buffer.get() != 0;
+        this.version = buffer.getInt();
+        this.baseVersion = buffer.getInt();
+
+        if (!keyframe) {
+            this.deltaWords = BoardDeltaCodec.decodeRle(buffer, rows * cols * 2);
+            return;
+        }
+
+        int[] masks = new int[rows];
+        for (int r = 0; r < rows; r++) masks[r] = buffer.getInt();
+
+        this.board = new int[rows][cols];
+        this.colorBoard = new int[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if ((masks[r] & (1 << c)) != 0) {
+                    board[r][c] = buffer.get();
+                    colorBoard[r][c] = buffer.getInt();
+                }
+            }
+        }
+    }
+
+    // timestamp + rows/cols/score/playerId + keyframe flag + version/baseVersion
+    private static final int HEADER_SIZE = 8 + 4 * 4 + 1 + 4 * 2;
+
+    private void writeHeader(ByteBuffer buffer) {
+        buffer.putLong(getTimestamp());
+        buffer.putInt(rows);
+        buffer.putInt(cols);
+        buffer.putInt(score);
+        buffer.putInt(playerId);
+        buffer.put((byte) (keyframe ? 1 : 0));
+        buffer.putInt(version);
+        buffer.putInt(baseVersion);
+    }
+
+    private int colorAt(int r, int c) {
+        if (colorBoard == null || r >= colorBoard.length || c >= colorBoard[r].length) return 0;
+        return colorBoard[r][c];
+    }
+
+    private static int[][] deepCopy(int[][] src) {
+        if (src == null) return null;
+        int[][] out = new int[src.length][];
+        for (int i = 0; i < src.length; i++) out[i] = src[i].clone();
+        return out;
+    }
+
+    @Override
+    public String toString() {
+        return "BoardSnapshotEvent{" +
+                (keyframe ? "keyframe" : "delta(base=" + baseVersion + ")") +
+                ", version=" + version +
+                ", rows=" + rows +
+                ", score=" + score +
+                ", playerId=" + playerId +
+                ", timestamp=" + getTimestamp() +
+                '}';
+    }
+}
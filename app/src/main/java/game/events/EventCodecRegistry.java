@@ -0,0 +1,215 @@
+package game.events;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 게임 이벤트 코덱 레지스트리
+ * - 이벤트 종류마다 1바이트 숫자 ID, 빈 인스턴스 생성자, 네트워크 동기화 여부를 한 곳에 등록합니다.
+ * - 네트워크 메시지는 이벤트 타입 문자열 대신 ID를 싣고, 본문은 각 이벤트의 encode()/decode()로
+ *   호출자가 준비한 ByteBuffer에 직접 읽고 씁니다.
+ * - 클래스 → 항목 조회는 ClassValue로 캐시되므로 송신 경로의 동기화 여부 판단은 필드 하나를 읽는 수준입니다.
+ *
+ * ID는 양쪽 피어가 같아야 하므로 한 번 정한 번호는 바꾸지 말고 새 이벤트는 뒤에 추가합니다.
+ */
+public final class EventCodecRegistry {
+
+    /** 등록되지 않은 이벤트 */
+    public static final int UNKNOWN = 0;
+    public static final int TICK = 1;
+    public static final int BLOCK_SPAWNED = 2;
+    public static final int BLOCK_MOVED = 3;
+    public static final int BLOCK_ROTATED = 4;
+    public static final int BLOCK_PLACED = 5;
+    public static final int LINE_CLEARED = 6;
+    public static final int ATTACK_APPLIED = 7;
+    public static final int SCORE_UPDATE = 8;
+    public static final int GAME_OVER = 9;
+    public static final int LEVEL_UP = 10;
+    public static final int ITEM_ACTIVATED = 11;
+    public static final int BOARD_SNAPSHOT = 12;
+
+    /** 인코딩 버퍼 초기 크기 (보드 키프레임도 한 번에 들어가는 크기) */
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+    private static final int MAX_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * 등록 항목
+     */
+    public static final class Entry {
+        private final int id;
+        private final Class<? extends GameEvent> eventClass;
+        private final String eventType;
+        private final boolean sync;
+        private final Supplier<? extends GameEvent> factory;
+
+        private Entry(int id, Class<? extends GameEvent> eventClass, boolean sync, Supplier<? extends GameEvent> factory) {
+            this.id = id;
+            this.eventClass = eventClass;
+            this.sync = sync;
+            this.factory = factory;
+            this.eventType = factory == null ? null : factory.get().getEventType();
+        }
+
+        public int getId() { return id; }
+        public Class<? extends GameEvent> getEventClass() { return eventClass; }
+        public String getEventType() { return eventType; }
+        public boolean isSync() { return sync; }
+    }
+
+    private static final Entry UNREGISTERED = new Entry(UNKNOWN, null, false, null);
+
+    private static final Entry[] BY_ID = new Entry[BOARD_SNAPSHOT + 1];
+
+    static {
+        // 동기화 대상: 상대 화면 재구성에 필요한 이벤트
+        // TICK은 너무 빈번해서 제외 (자동 낙하 위치는 BlockMoved로 전송됨)
+        // LEVEL_UP/ITEM_ACTIVATED는 상대 화면에서 쓰지 않으므로 제외
+        register(TICK, TickEvent.class, false, TickEvent::new);
+        register(BLOCK_SPAWNED, BlockSpawnedEvent.class, true, BlockSpawnedEvent::new);
+        register(BLOCK_MOVED, BlockMovedEvent.class, true, BlockMovedEvent::new);
+        register(BLOCK_ROTATED, BlockRotatedEvent.class, true, BlockRotatedEvent::new);
+        register(BLOCK_PLACED, BlockPlacedEvent.class, true, BlockPlacedEvent::new);
+        register(LINE_CLEARED, LineClearedEvent.class, true, LineClearedEvent::new);
+        register(ATTACK_APPLIED, AttackAppliedEvent.class, true, AttackAppliedEvent::new);
+        register(SCORE_UPDATE, ScoreUpdateEvent.class, true, ScoreUpdateEvent::new);
+        register(GAME_OVER, GameOverEvent.class, true, GameOverEvent::new);
+        register(LEVEL_UP, LevelUpEvent.class, false, LevelUpEvent::new);
+        register(ITEM_ACTIVATED, ItemActivatedEvent.class, false, ItemActivatedEvent::new);
+        register(BOARD_SNAPSHOT, BoardSnapshotEvent.class, true, BoardSnapshotEvent::new);
+    }
+
+    private static final ClassValue<Entry> BY_CLASS = new ClassValue<>() {
+        @Override
+        protected Entry computeValue(Class<?> type) {
+            for (Entry entry : BY_ID) {
+                if (entry != null && entry.eventClass == type) return entry;
+            }
+            return UNREGISTERED;
+        }
+    };
+
+    private static final ThreadLocal<ByteBuffer> SCRATCH =
+        ThreadLocal.withInitial(() -> ByteBuffer.allocate(INITIAL_BUFFER_SIZE));
+
+    private EventCodecRegistry() { /* util */ }
+
+    private static <T extends GameEvent> void register(int id, Class<T> eventClass, boolean sync, Supplier<T> factory) {
+        BY_ID[id] = new Entry(id, eventClass, sync, factory);
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 이벤트 클래스의 등록 항목 (등록되지 않았으면 ID가 UNKNOWN인 항목)
+     */
+    public static Entry entryOf(Class<? extends GameEvent> eventClass) {
+        return eventClass == null ? UNREGISTERED : BY_CLASS.get(eventClass);
+    }
+
+    public static int idOf(GameEvent event) {
+        return event == null ? UNKNOWN : entryOf(event.getClass()).id;
+    }
+
+    /**
+     * 네트워크 동기화 대상인지 (등록 시 정해진 값)
+     */
+    public static boolean isSync(GameEvent event) {
+        return event != null && entryOf(event.getClass()).sync;
+    }
+
+    public static boolean isSync(Class<? extends GameEvent> eventClass) {
+        return entryOf(eventClass).sync;
+    }
+
+    /**
+     * 동기화 대상 이벤트 클래스 목록 (ID 순서)
+     */
+    public static Set<Class<? extends GameEvent>> getSyncEventClasses() {
+        Set<Class<? extends GameEvent>> out = new LinkedHashSet<>();
+        for (Entry entry : BY_ID) {
+            if (entry != null && entry.sync) out.add(entry.eventClass);
+        }
+        return out;
+    }
+
+    /**
+     * ID → 이벤트 타입 문자열 (잘못된 ID면 null)
+     */
+    public static String typeOf(int id) {
+        Entry entry = entryAt(id);
+        return entry == null ? null : entry.eventType;
+    }
+
+    /**
+     * 이벤트 타입 문자열 → ID (문자열로 타입을 주고받는 이전 경로용, 없으면 UNKNOWN)
+     */
+    public static int idOfType(String eventType) {
+        if (eventType == null) return UNKNOWN;
+        for (Entry entry : BY_ID) {
+            if (entry != null && entry.eventType.equals(eventType)) return entry.id;
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * ID에 해당하는 빈 이벤트 인스턴스 (잘못된 ID면 null)
+     */
+    public static GameEvent newInstance(int id) {
+        Entry entry = entryAt(id);
+        return entry == null ? null : entry.factory.get();
+    }
+
+    private static Entry entryAt(int id) {
+        return id <= UNKNOWN || id >= BY_ID.length ? null : BY_ID[id];
+    }
+
+    // ===== 인코딩/디코딩 =====
+
+    /**
+     * 이벤트를 호출자가 준비한 버퍼에 인코딩 (ID는 쓰지 않음)
+     */
+    public static void encode(GameEvent event, ByteBuffer buffer) {
+        event.encode(buffer);
+    }
+
+    /**
+     * 이벤트를 인코딩해 정확한 길이의 배열로 반환
+     * 스레드마다 재사용 버퍼에 쓰고 결과만 복사하므로 이벤트마다 큰 버퍼를 새로 만들지 않습니다.
+     */
+    public static byte[] encode(GameEvent event) {
+        ByteBuffer buffer = SCRATCH.get();
+        while (true) {
+            buffer.clear();
+            try {
+                event.encode(buffer);
+                break;
+            } catch (BufferOverflowException e) {
+                if (buffer.capacity() >= MAX_BUFFER_SIZE) throw e;
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+                SCRATCH.set(buffer);
+            }
+        }
+        byte[] out = new byte[buffer.position()];
+        buffer.flip();
+        buffer.get(out);
+        return out;
+    }
+
+    /**
+     * 버퍼의 현재 위치부터 이벤트 하나를 디코딩
+     * @return 이벤트, 잘못된 ID면 null
+     */
+    public static GameEvent decode(int id, ByteBuffer buffer) {
+        GameEvent event = newInstance(id);
+        if (event != null) event.decode(buffer);
+        return event;
+    }
+
+    public static GameEvent decode(int id, byte[] data) {
+        return decode(id, ByteBuffer.wrap(data));
+    }
+}
@@ -1,5 +1,7 @@
 package game.events;
 
+import game.util.VarInt;
+
 import java.nio.ByteBuffer;
 
 /**
@@ -27,6 +29,32 @@ public abstract class GameEvent {
     public abstract byte[] serialize();
     public abstract void deserialize(byte[] data);
     
+    /**
+     * 네트워크 전송용 압축 인코딩 (EventCodecRegistry가 호출)
+     * 기본 구현은 serialize() 결과를 길이(varint)와 함께 그대로 씁니다.
+     * 자주 전송되는 이벤트는 timestamp를 빼고 varint 필드로 직접 쓰도록 오버라이드합니다.
+     * 
+     * @param buffer 호출자가 준비한 버퍼 (현재 위치부터 기록)
+     */
+    public void encode(ByteBuffer buffer) {
+        byte[] data = serialize();
+        VarInt.putVarInt(buffer, data.length);
+        buffer.put(data);
+    }
+    
+    /**
+     * encode()의 역변환 (버퍼의 현재 위치부터 읽음)
+     */
+    public void decode(ByteBuffer buffer) {
+        int length = VarInt.getVarInt(buffer);
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("이벤트 데이터 길이가 잘못됨: " + length);
+        }
+        byte[] data = new byte[length];
+        buffer.get(data);
+        deserialize(data);
+    }
+    
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{" +
@@ -1,5 +1,7 @@
 package game.events;
 
+import game.util.VarInt;
+
 import java.nio.ByteBuffer;
 
 /**
@@ -41,6 +43,21 @@ public class GameOverEvent extends GameEvent {
         this.playerId = buffer.getInt();
     }
     
+    /**
+     * 압축 인코딩: finalScore, playerId (timestamp 제외)
+     */
+    @Override
+    public void encode(ByteBuffer buffer) {
+        VarInt.putVarInt(buffer, finalScore);
+        VarInt.putVarInt(buffer, playerId);
+    }
+    
+    @Override
+    public void decode(ByteBuffer buffer) {
+        this.finalScore = VarInt.getVarInt(buffer);
+        this.playerId = VarInt.getVarInt(buffer);
+    }
+    
     @Override
     public String toString() {
         return "GameOverEvent{" +
@@ -1,5 +1,7 @@
 package game.events;
 
+import game.util.VarInt;
+
 import java.nio.ByteBuffer;
 
 /**
@@ -46,6 +48,21 @@ public class ItemActivatedEvent extends GameEvent {
         this.itemType = new String(itemBytes);
     }
     
+    /**
+     * 압축 인코딩: playerId, itemType(UTF-8) (timestamp 제외)
+     */
+    @Override
+    public void encode(ByteBuffer buffer) {
+        VarInt.putVarInt(buffer, playerId);
+        VarInt.putString(buffer, itemType);
+    }
+    
+    @Override
+    public void decode(ByteBuffer buffer) {
+        this.playerId = VarInt.getVarInt(buffer);
+        this.itemType = VarInt.getString(buffer);
+    }
+    
     @Override
     public String toString() {
         return "ItemActivatedEvent{" +
@@ -1,5 +1,8 @@
 package game.events;
 
+import game.model.AttackPattern;
+import game.util.VarInt;
+
 import java.nio.ByteBuffer;
 
 /**
@@ -9,29 +12,34 @@ public class LineClearedEvent extends GameEvent {
     private int[] clearedLines;
     private int score;
     private int playerId;
-    // optional last block pattern and its X position (used for attack hole reproduction)
-    private int[][] lastBlockPattern;
+    // optional hole pattern and its X position (used for attack hole reproduction)
+    // 줄마다 비트마스크 하나 (AttackPattern)
+    private AttackPattern lastBlockPattern;
     private int lastBlockX;
+    // 줄 삭제 직후 보드 해시 (BoardHash, 0이면 없음)
+    private long boardHash;
+    
+    // encode() 플래그 비트
+    private static final int FLAG_PATTERN = 1;
+    private static final int FLAG_HASH = 1 << 1;
     
     public LineClearedEvent(int[] clearedLines, int score, int playerId) {
         this(clearedLines, score, playerId, null, 0);
     }
 
     public LineClearedEvent(int[] clearedLines, int score, int playerId, int[][] lastBlockPattern, int lastBlockX) {
+        this(clearedLines, score, playerId, AttackPattern.fromMatrix(lastBlockPattern), lastBlockX, 0L);
+    }
+
+    public LineClearedEvent(int[] clearedLines, int score, int playerId, AttackPattern lastBlockPattern, int lastBlockX, long boardHash) {
         super("LINE_CLEARED");
+        this.boardHash = boardHash;
         this.clearedLines = clearedLines == null ? new int[0] : clearedLines.clone(); // defensive copy
         this.score = score;
         this.playerId = playerId;
-        this.lastBlockPattern = lastBlockPattern == null ? null : deepCopy(lastBlockPattern);
+        this.lastBlockPattern = lastBlockPattern;
         this.lastBlockX = lastBlockX;
     }
-
-    private int[][] deepCopy(int[][] src) {
-        if (src == null) return null;
-        int[][] out = new int[src.length][];
-        for (int i = 0; i < src.length; i++) out[i] = src[i].clone();
-        return out;
-    }
     
     // 기본 생성자 (역직렬화용)
     public LineClearedEvent() {
@@ -42,54 +50,35 @@ public class LineClearedEvent extends GameEvent {
     public int[] getClearedLines() { return clearedLines.clone(); }
     public int getScore() { return score; }
     public int getPlayerId() { return playerId; }
-    public int[][] getLastBlockPattern() { return lastBlockPattern == null ? null : deepCopy(lastBlockPattern); }
+    public int[][] getLastBlockPattern() { return lastBlockPattern == null ? null : lastBlockPattern.toMatrix(); }
+    public AttackPattern getHolePattern() { return lastBlockPattern; }
     public int getLastBlockX() { return lastBlockX; }
+    public long getBoardHash() { return boardHash; }
     
+    /**
+     * 직렬화 형식: timestamp, score, playerId, 줄 수, 줄 번호들, 패턴 유무(int),
+     * [lastBlockX, AttackPattern], [boardHash]
+     */
     @Override
     public byte[] serialize() {
-        try (java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
-             java.io.DataOutputStream dos = new java.io.DataOutputStream(baos)) {
-
-            // timestamp
-            dos.writeLong(getTimestamp());
-            // score, playerId
-            dos.writeInt(score);
-            dos.writeInt(playerId);
-
-            // cleared lines
-            int lineCount = clearedLines == null ? 0 : clearedLines.length;
-            dos.writeInt(lineCount);
-            if (lineCount > 0) {
-                for (int line : clearedLines) dos.writeInt(line);
-            }
-
-            // pattern flag and optional pattern data
-            int patternFlag = (lastBlockPattern == null) ? 0 : 1;
-            dos.writeInt(patternFlag);
-            if (patternFlag == 1) {
-                int patternH = lastBlockPattern.length;
-                int patternW = 0;
-                for (int r = 0; r < patternH; r++) if (lastBlockPattern[r] != null) patternW = Math.max(patternW, lastBlockPattern[r].length);
-                // ensure we serialize in rectangular form: pad missing cells with 0
-                dos.writeInt(patternH);
-                dos.writeInt(patternW);
-                dos.writeInt(lastBlockX);
-                for (int r = 0; r < patternH; r++) {
-                    int[] row = lastBlockPattern[r];
-                    for (int c = 0; c < patternW; c++) {
-                        int val = (row != null && c < row.length) ? row[c] : 0;
-                        dos.writeInt(val);
-                    }
-                }
-            }
-
-            dos.flush();
-            return baos.toByteArray();
-        } catch (java.io.IOException ioe) {
-            // should not happen with ByteArrayOutputStream
-            System.err.println("LineClearedEvent.serialize I/O error: " + ioe.getMessage());
-            return new byte[0];
+        int lineCount = clearedLines == null ? 0 : clearedLines.length;
+        int size = 8 + 4 + 4 + 4 + lineCount * 4 + 4;
+        if (lastBlockPattern != null) size += 4 + lastBlockPattern.serializedSize();
+        if (boardHash != 0) size += 8;
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putLong(getTimestamp());
+        buffer.putInt(score);
+        buffer.putInt(playerId);
+        buffer.putInt(lineCount);
+        for (int i = 0; i < lineCount; i++) buffer.putInt(clearedLines[i]);
+        buffer.putInt(lastBlockPattern == null ? 0 : 1);
+        if (lastBlockPattern != null) {
+            buffer.putInt(lastBlockX);
+            lastBlockPattern.writeTo(buffer);
         }
+        // optional board hash (trailing, 0 = none)
+        if (boardHash != 0) buffer.putLong(boardHash);
+        return buffer.array();
     }
     
     @Override
@@ -103,15 +92,57 @@ public class LineClearedEvent extends GameEvent {
         for (int i = 0; i < lineCount; i++) this.clearedLines[i] = buffer.getInt();
         int patternFlag = buffer.getInt();
         if (patternFlag == 1) {
-            int patternH = buffer.getInt();
-            int patternW = buffer.getInt();
             this.lastBlockX = buffer.getInt();
-            this.lastBlockPattern = new int[patternH][patternW];
-            for (int r = 0; r < patternH; r++) for (int c = 0; c < patternW; c++) this.lastBlockPattern[r][c] = buffer.getInt();
+            this.lastBlockPattern = AttackPattern.readFrom(buffer);
+        } else {
+            this.lastBlockPattern = null;
+            this.lastBlockX = 0;
+        }
+        this.boardHash = buffer.remaining() >= 8 ? buffer.getLong() : 0L;
+    }
+    
+    /**
+     * 압축 인코딩 (timestamp 제외)
+     * score, playerId, 줄 수, 줄 번호들, 플래그(1바이트: 패턴 유무 | 해시 유무),
+     * [lastBlockX(zigzag), AttackPattern], [boardHash]
+     */
+    @Override
+    public void encode(ByteBuffer buffer) {
+        VarInt.putVarInt(buffer, score);
+        VarInt.putVarInt(buffer, playerId);
+        int lineCount = clearedLines == null ? 0 : clearedLines.length;
+        VarInt.putVarInt(buffer, lineCount);
+        for (int i = 0; i < lineCount; i++) VarInt.putVarInt(buffer, clearedLines[i]);
+
+        int flags = (lastBlockPattern != null ? FLAG_PATTERN : 0) | (boardHash != 0 ? FLAG_HASH : 0);
+        buffer.put((byte) flags);
+        if (lastBlockPattern != null) {
+            VarInt.putSignedVarInt(buffer, lastBlockX);
+            lastBlockPattern.writeTo(buffer);
+        }
+        if (boardHash != 0) buffer.putLong(boardHash);
+    }
+    
+    @Override
+    public void decode(ByteBuffer buffer) {
+        this.score = VarInt.getVarInt(buffer);
+        this.playerId = VarInt.getVarInt(buffer);
+        int lineCount = VarInt.getVarInt(buffer);
+        if (lineCount < 0 || lineCount > buffer.remaining()) {
+            throw new IllegalArgumentException("줄 수가 잘못됨: " + lineCount);
+        }
+        this.clearedLines = new int[lineCount];
+        for (int i = 0; i < lineCount; i++) this.clearedLines[i] = VarInt.getVarInt(buffer);
+
+        int flags = buffer.get();
+        if ((flags & FLAG_PATTERN) != 0) {
+            this.lastBlockX = VarInt.getSignedVarInt(buffer);
+            this.lastBlockPattern = AttackPattern.readFrom(buffer);
         } else {
             this.lastBlockPattern = null;
             this.lastBlockX = 0;
         }
+        this.boardHash = (flags & FLAG_HASH) != 0 ? buffer.getLong() : 0L;
     }
     
     @Override
@@ -1,5 +1,7 @@
 package game.events;
 
+import game.util.VarInt;
+
 import java.nio.ByteBuffer;
 
 /**
@@ -31,4 +33,17 @@ public class ScoreUpdateEvent extends GameEvent {
     public void deserialize(byte[] data) {
         this.newScore = ByteBuffer.wrap(data).getInt();
     }
+    
+    /**
+     * 압축 인코딩: newScore (varint)
+     */
+    @Override
+    public void encode(ByteBuffer buffer) {
+        VarInt.putVarInt(buffer, newScore);
+    }
+    
+    @Override
+    public void decode(ByteBuffer buffer) {
+        this.newScore = VarInt.getVarInt(buffer);
+    }
 }
@@ -1,5 +1,7 @@
 package game.events;
 
+import game.util.VarInt;
+
 import java.nio.ByteBuffer;
 
 /**
@@ -67,6 +69,23 @@ public class TickEvent extends GameEvent {
         return new TickEvent(currentLevel, speedLevel, deltaTime);
     }
     
+    /**
+     * 압축 인코딩: currentLevel, speedLevel, deltaTime (timestamp 제외)
+     */
+    @Override
+    public void encode(ByteBuffer buffer) {
+        VarInt.putVarInt(buffer, currentLevel);
+        VarInt.putVarInt(buffer, speedLevel);
+        VarInt.putVarLong(buffer, deltaTime);
+    }
+    
+    @Override
+    public void decode(ByteBuffer buffer) {
+        this.currentLevel = VarInt.getVarInt(buffer);
+        this.speedLevel = VarInt.getVarInt(buffer);
+        this.deltaTime = VarInt.getVarLong(buffer);
+    }
+    
     @Override
     public String toString() {
         return "TickEvent{" +
@@ -64,20 +64,10 @@ public class NetworkListener implements EventListener<GameEvent> {
     }
     
     private GameEvent createEventFromType(String eventType) {
-        switch (eventType) {
-            case "BLOCK_PLACED":
-                return new BlockPlacedEvent();
-            case "LINE_CLEARED":
-                return new LineClearedEvent();
-            case "LEVEL_UP":
-                return new LevelUpEvent();
-            case "GAME_OVER":
-                return new GameOverEvent();
-            case "ITEM_ACTIVATED":
-                return new ItemActivatedEvent();
-            default:
-                System.err.println("Unknown event type: " + eventType);
-                return null;
+        GameEvent event = EventCodecRegistry.newInstance(EventCodecRegistry.idOfType(eventType));
+        if (event == null) {
+            System.err.println("Unknown event type: " + eventType);
         }
+        return event;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,246 @@
+package game.loop;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Rectangle;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.JComponent;
+import javax.swing.JLayeredPane;
+import javax.swing.SwingUtilities;
+
+/**
+ * 능동 렌더링 루프 (Canvas + BufferStrategy, 선택 사항)
+ *
+ * 기본 Swing 그리기는 repaint() 요청을 이벤트 큐에서 합쳐 처리하므로 언제 그려질지 일정하지 않습니다.
+ * -Dtetris.render=active로 켜면 게임 화면 레이어(배경, GameView 등)를 숨기고 그 자리에 Canvas를 두어,
+ * 렌더 스레드가 목표 프레임률(-Dtetris.render.fps, 기본 60)마다 레이어를 BufferStrategy에 직접 그립니다.
+ *
+ * Swing 컴포넌트는 EDT에서만 그릴 수 있으므로 렌더 스레드는 시각을 맞춘 뒤 EDT에 프레임 하나를 넘기고,
+ * 이전 프레임이 아직 그려지지 않았으면 쌓지 않고 건너뜁니다.
+ * 숨긴 레이어는 repaint()가 무시되지만 배치(setBounds/레이아웃)는 그대로 유지됩니다.
+ * 헤드리스 환경이거나 BufferStrategy를 만들 수 없으면 레이어를 다시 보이게 하고 Swing 그리기로 돌아갑니다.
+ * 일시정지/게임오버 화면처럼 위 레이어에 있는 컴포넌트는 Swing이 그대로 그립니다.
+ */
+public final class ActiveRenderLoop {
+
+    public static final String MODE_PROPERTY = "tetris.render";     // "active"면 능동 렌더링
+    public static final String FPS_PROPERTY = "tetris.render.fps";  // 목표 프레임률
+    public static final int DEFAULT_FPS = 60;
+
+    private static final long STATS_LOG_INTERVAL_NANOS = 10_000_000_000L;  // 10초마다 통계 출력
+
+    private final JLayeredPane pane;
+    private final JComponent[] layers;
+    private final FramePacer pacer;
+    private final RenderStats stats = new RenderStats();
+    private final RenderCanvas canvas = new RenderCanvas();
+    private final AtomicBoolean framePending = new AtomicBoolean(false);
+
+    private volatile boolean running = false;
+    private Thread thread;
+    private long lastStatsLog;
+
+    /**
+     * @param pane 레이어가 들어 있는 JLayeredPane (프레임의 ContentPane)
+     * @param framesPerSecond 목표 프레임률
+     * @param layers 아래부터 순서대로 그릴 레이어 (pane의 자식)
+     */
+    ActiveRenderLoop(JLayeredPane pane, int framesPerSecond, JComponent... layers) {
+        this.pane = pane;
+        this.layers = layers.clone();
+        this.pacer = new FramePacer(framesPerSecond);
+    }
+
+    /**
+     * 능동 렌더링이 요청되었는지 (-Dtetris.render=active)
+     */
+    public static boolean isRequested() {
+        return "active".equalsIgnoreCase(System.getProperty(MODE_PROPERTY));
+    }
+
+    /**
+     * 요청되었으면 능동 렌더링 시작
+     * 프레임이 화면에 표시된 뒤(setVisible(true) 이후) 호출해야 합니다.
+     *
+     * @return 실행 중인 루프, 요청되지 않았거나 사용할 수 없으면 null (Swing 그리기 유지)
+     */
+    public static ActiveRenderLoop attachIfRequested(JLayeredPane pane, JComponent... layers) {
+        if (!isRequested()) {
+            return null;
+        }
+        int fps = Integer.getInteger(FPS_PROPERTY, DEFAULT_FPS);
+        if (fps <= 0) {
+            fps = DEFAULT_FPS;
+        }
+        ActiveRenderLoop loop = new ActiveRenderLoop(pane, fps, layers);
+        if (!loop.attach()) {
+            System.out.println("⚠️ [ActiveRender] 사용할 수 없음 - Swing 그리기를 사용합니다.");
+            return null;
+        }
+        loop.start();
+        System.out.println("🎞️ [ActiveRender] 능동 렌더링 시작 (" + fps + " fps)");
+        return loop;
+    }
+
+    /**
+     * Canvas를 붙이고 BufferStrategy 생성 (실패하면 원래대로 되돌리고 false)
+     */
+    boolean attach() {
+        if (GraphicsEnvironment.isHeadless() || layers.length == 0) {
+            return false;
+        }
+        Rectangle bounds = new Rectangle(layers[0].getBounds());
+        for (JComponent layer : layers) {
+            bounds = bounds.union(layer.getBounds());
+        }
+        canvas.setBounds(bounds);
+        pane.add(canvas, JLayeredPane.DEFAULT_LAYER, 0);
+        try {
+            canvas.createBufferStrategy(2);
+        } catch (RuntimeException e) {
+            pane.remove(canvas);
+            System.out.println("⚠️ [ActiveRender] BufferStrategy 생성 실패: " + e.getMessage());
+            return false;
+        }
+        for (JComponent layer : layers) {
+            layer.setVisible(false);
+        }
+        pane.revalidate();
+        pane.repaint();
+        return true;
+    }
+
+    private void start() {
+        running = true;
+        lastStatsLog = System.nanoTime();
+        thread = new Thread(this::runLoop, "ActiveRenderLoop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 렌더링 중지 (레이어는 숨긴 채로 둠 - 프레임을 닫을 때 호출)
+     */
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        System.out.println("🎞️ [ActiveRender] 중지 - " + stats.summary());
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public RenderStats getStats() {
+        return stats;
+    }
+
+    private void runLoop() {
+        while (running) {
+            long frameTime = pacer.nextFrameTime(System.nanoTime());
+            FramePacer.sleepUntil(frameTime);
+            if (!running) {
+                break;
+            }
+            if (!framePending.compareAndSet(false, true)) {
+                stats.recordSkipped();  // EDT가 아직 이전 프레임을 그리는 중
+                continue;
+            }
+            SwingUtilities.invokeLater(this::renderFrame);
+        }
+    }
+
+    /**
+     * 프레임 하나 그리기 (EDT)
+     */
+    private void renderFrame() {
+        try {
+            if (!running) {
+                return;
+            }
+            long start = System.nanoTime();
+            BufferStrategy strategy = canvas.getBufferStrategy();
+            if (strategy == null) {
+                fallBackToSwing("BufferStrategy 없음");
+                return;
+            }
+            do {
+                do {
+                    Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+                    try {
+                        paintLayers(g);
+                    } finally {
+                        g.dispose();
+                    }
+                } while (strategy.contentsRestored());
+                strategy.show();
+            } while (strategy.contentsLost());
+            Toolkit.getDefaultToolkit().sync();
+
+            long end = System.nanoTime();
+            stats.recordFrame(start, end - start);
+            if (end - lastStatsLog >= STATS_LOG_INTERVAL_NANOS) {
+                lastStatsLog = end;
+                System.out.println("📈 [ActiveRender] " + stats.summary());
+            }
+        } catch (IllegalStateException e) {
+            fallBackToSwing(e.getMessage());
+        } finally {
+            framePending.set(false);
+        }
+    }
+
+    private void paintLayers(Graphics2D g) {
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        for (JComponent layer : layers) {
+            Graphics2D lg = (Graphics2D) g.create(layer.getX() - canvas.getX(), layer.getY() - canvas.getY(),
+                layer.getWidth(), layer.getHeight());
+            try {
+                layer.paint(lg);
+            } finally {
+                lg.dispose();
+            }
+        }
+    }
+
+    /**
+     * 렌더링을 계속할 수 없을 때 Canvas를 떼고 레이어를 다시 Swing으로 그림 (EDT)
+     */
+    private void fallBackToSwing(String reason) {
+        System.out.println("⚠️ [ActiveRender] Swing 그리기로 전환: " + reason);
+        stop();
+        pane.remove(canvas);
+        for (JComponent layer : layers) {
+            layer.setVisible(true);
+        }
+        pane.revalidate();
+        pane.repaint();
+    }
+
+    /**
+     * 그리기용 Canvas (포커스를 가져가지 않아 프레임의 키 리스너가 그대로 동작)
+     */
+    private final class RenderCanvas extends Canvas {
+        RenderCanvas() {
+            setIgnoreRepaint(true);
+            setFocusable(false);
+        }
+
+        @Override
+        public void removeNotify() {
+            stop();  // 프레임이 닫히면 렌더 스레드도 종료
+            super.removeNotify();
+        }
+    }
+}
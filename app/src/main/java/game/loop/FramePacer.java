@@ -0,0 +1,75 @@
+package game.loop;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 목표 프레임률에 맞춘 프레임 시작 시각 계산기
+ *
+ * 프레임마다 "이전 시작 시각 + 주기"를 다음 시작 시각으로 잡아, 그리는 데 걸린 시간과
+ * 상관없이 일정한 간격을 유지합니다. 한 주기 이상 밀리면 따라잡으려고 몰아 그리지 않고
+ * 지금부터 다시 맞춥니다 (건너뛴 프레임은 getMissedFrames()에 집계).
+ */
+public final class FramePacer {
+
+    private static final long SPIN_THRESHOLD_NANOS = 1_000_000L;  // 마지막 1ms는 sleep 대신 양보하며 대기
+
+    private final long periodNanos;
+    private long nextFrameTime;
+    private boolean started = false;
+    private long missedFrames = 0;
+
+    /**
+     * @param framesPerSecond 목표 프레임률 (1 이상)
+     */
+    public FramePacer(int framesPerSecond) {
+        if (framesPerSecond <= 0) {
+            throw new IllegalArgumentException("Frame rate must be positive");
+        }
+        this.periodNanos = 1_000_000_000L / framesPerSecond;
+    }
+
+    /**
+     * 다음 프레임 시작 시각 (System.nanoTime 기준)
+     * @param now 현재 시각
+     * @return 이 시각까지 기다렸다가 프레임을 그리면 됨 (이미 지났으면 바로)
+     */
+    public long nextFrameTime(long now) {
+        if (!started) {
+            started = true;
+            nextFrameTime = now;
+            return nextFrameTime;
+        }
+        nextFrameTime += periodNanos;
+        long behind = now - nextFrameTime;
+        if (behind > periodNanos) {
+            missedFrames += behind / periodNanos;
+            nextFrameTime = now;
+        }
+        return nextFrameTime;
+    }
+
+    public long getPeriodNanos() {
+        return periodNanos;
+    }
+
+    public long getMissedFrames() {
+        return missedFrames;
+    }
+
+    /**
+     * 주어진 시각까지 대기 (인터럽트되면 바로 반환)
+     */
+    public static void sleepUntil(long deadline) {
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package game.loop;
+
+import java.util.Arrays;
+
+/**
+ * 프레임 렌더링 시간 통계 (최근 WINDOW 프레임 기준)
+ *
+ * 프레임마다 그리는 데 걸린 시간과 이전 프레임과의 간격을 고정 크기 링 버퍼에 기록합니다.
+ * 렌더 스레드와 EDT에서 함께 쓰므로 모든 메서드는 synchronized입니다.
+ */
+public final class RenderStats {
+
+    public static final int WINDOW = 240;  // 60fps 기준 약 4초
+
+    private final long[] renderNanos = new long[WINDOW];
+    private final long[] intervalNanos = new long[WINDOW];
+    private int size = 0;
+    private int head = 0;
+    private long lastFrameStart = -1;
+    private long frameCount = 0;
+    private long skippedFrames = 0;
+
+    /**
+     * 그린 프레임 하나 기록
+     * @param startNanos 프레임을 그리기 시작한 시각 (System.nanoTime)
+     * @param durationNanos 그리는 데 걸린 시간
+     */
+    public synchronized void recordFrame(long startNanos, long durationNanos) {
+        renderNanos[head] = durationNanos;
+        intervalNanos[head] = lastFrameStart < 0 ? 0 : startNanos - lastFrameStart;
+        lastFrameStart = startNanos;
+        head = (head + 1) % WINDOW;
+        size = Math.min(WINDOW, size + 1);
+        frameCount++;
+    }
+
+    /**
+     * 이전 프레임이 아직 그려지지 않아 건너뛴 프레임 기록
+     */
+    public synchronized void recordSkipped() {
+        skippedFrames++;
+    }
+
+    public synchronized long getFrameCount() {
+        return frameCount;
+    }
+
+    public synchronized long getSkippedFrames() {
+        return skippedFrames;
+    }
+
+    /**
+     * 렌더링 시간 백분위 (nearest-rank, 최근 WINDOW 프레임)
+     * @param percentile 0 ~ 100
+     * @return 나노초, 기록이 없으면 0
+     */
+    public synchronized long percentile(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(renderNanos, size);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * size - 1e-9);
+        return sorted[Math.min(size, Math.max(1, rank)) - 1];
+    }
+
+    public synchronized double meanRenderNanos() {
+        if (size == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (int i = 0; i < size; i++) sum += renderNanos[i];
+        return sum / size;
+    }
+
+    public synchronized long maxRenderNanos() {
+        long max = 0;
+        for (int i = 0; i < size; i++) max = Math.max(max, renderNanos[i]);
+        return max;
+    }
+
+    /**
+     * 최근 프레임 간격으로 계산한 실제 프레임률 (간격 기록이 없으면 0)
+     */
+    public synchronized double framesPerSecond() {
+        double sum = 0;
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            if (intervalNanos[i] > 0) {
+                sum += intervalNanos[i];
+                n++;
+            }
+        }
+        return n == 0 ? 0 : 1_000_000_000.0 * n / sum;
+    }
+
+    /**
+     * 로그용 한 줄 요약
+     */
+    public synchronized String summary() {
+        return String.format("frames=%d, fps=%.1f, render avg=%.2fms p95=%.2fms max=%.2fms, skipped=%d",
+            frameCount, framesPerSecond(), meanRenderNanos() / 1e6, percentile(95) / 1e6,
+            maxRenderNanos() / 1e6, skippedFrames);
+    }
+}
@@ -0,0 +1,195 @@
+package game.model;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 공격줄 구멍 패턴 (줄마다 short 비트마스크 하나)
+ * - 비트 j가 1이면 패턴 시작 열 + j 위치가 구멍입니다.
+ * - 보드 안쪽 너비가 10칸이므로 16비트면 충분하며, 더 넓은 입력은 앞 16칸만 사용합니다.
+ *
+ * 4줄 공격도 마스크 8바이트로 표현되어 생성/대기열/전송/적용 모두 int[][] 복사 없이 처리됩니다.
+ * 불변 객체이므로 대기열이나 이벤트 사이에서 그대로 공유해도 됩니다.
+ */
+public final class AttackPattern {
+
+    public static final int MAX_WIDTH = 16;
+
+    private final short[] rows;
+    private final int width;
+
+    private AttackPattern(short[] rows, int width) {
+        this.rows = rows;
+        this.width = width;
+    }
+
+    /**
+     * 줄별 마스크로 생성 (배열은 복사됨)
+     */
+    public static AttackPattern of(short[] rowMasks, int width) {
+        if (rowMasks == null) return null;
+        return new AttackPattern(rowMasks.clone(), clampWidth(width));
+    }
+
+    /**
+     * int[][] 패턴(0이 아닌 칸 = 구멍)에서 변환, null이면 null
+     * 줄 길이가 다르면 가장 긴 줄을 너비로 삼고 모자란 칸은 채워진 칸으로 봅니다.
+     */
+    public static AttackPattern fromMatrix(int[][] matrix) {
+        if (matrix == null) return null;
+        int width = 0;
+        for (int[] row : matrix) {
+            if (row != null) width = Math.max(width, row.length);
+        }
+        width = clampWidth(width);
+        short[] masks = new short[matrix.length];
+        for (int r = 0; r < matrix.length; r++) {
+            int[] row = matrix[r];
+            if (row == null) continue;
+            int mask = 0;
+            for (int c = 0; c < width && c < row.length; c++) {
+                if (row[c] != 0) mask |= 1 << c;
+            }
+            masks[r] = (short) mask;
+        }
+        return new AttackPattern(masks, width);
+    }
+
+    /**
+     * 보드의 지정한 줄들에서 빈 칸을 구멍으로 추출 (줄 삭제 직전 보드 → 상대에게 보낼 공격 패턴)
+     * @param fromCol 추출을 시작할 열 (보드 안쪽 왼쪽 끝)
+     * @param width 추출할 칸 수
+     */
+    public static AttackPattern fromBoardRows(int[][] board, List<Integer> boardRows, int fromCol, int width) {
+        width = clampWidth(width);
+        short[] masks = new short[boardRows.size()];
+        for (int i = 0; i < masks.length; i++) {
+            int[] row = board[boardRows.get(i)];
+            int mask = 0;
+            for (int c = 0; c < width; c++) {
+                if (row[fromCol + c] == 0) mask |= 1 << c;
+            }
+            masks[i] = (short) mask;
+        }
+        return new AttackPattern(masks, width);
+    }
+
+    private static int clampWidth(int width) {
+        return Math.max(0, Math.min(width, MAX_WIDTH));
+    }
+
+    public int getHeight() { return rows.length; }
+    public int getWidth() { return width; }
+
+    /**
+     * 줄 마스크 (0 ~ 0xFFFF)
+     */
+    public int rowMask(int row) {
+        return rows[row] & 0xFFFF;
+    }
+
+    public boolean isHole(int row, int col) {
+        return col >= 0 && col < width && (rowMask(row) & (1 << col)) != 0;
+    }
+
+    public short[] toRowMasks() {
+        return rows.clone();
+    }
+
+    /**
+     * int[][] 패턴으로 변환 (1 = 구멍), UI 미리보기 등 기존 코드용
+     */
+    public int[][] toMatrix() {
+        int[][] out = new int[rows.length][width];
+        for (int r = 0; r < rows.length; r++) {
+            int mask = rowMask(r);
+            for (int c = 0; c < width; c++) {
+                out[r][c] = (mask >>> c) & 1;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 공격줄 한 줄 적용: 안쪽 전체를 회색으로 채우고 패턴 줄의 구멍 비트만 비움
+     * 공격 줄 수가 패턴 높이보다 많으면 패턴을 반복합니다 (lineOffset % 높이).
+     *
+     * @param pattern 구멍 패턴 (null이거나 비어 있으면 구멍 없음)
+     * @param lineOffset 아래에서부터 몇 번째 공격줄인지
+     * @param startCol 패턴 0번 열이 놓일 보드 열
+     * @param left 보드 안쪽 왼쪽 끝 열
+     * @param right 보드 안쪽 오른쪽 끝 열
+     */
+    public static void fillGarbageRow(AttackPattern pattern, int lineOffset, int[] boardRow, int[] colorRow,
+                                      int startCol, int left, int right) {
+        for (int c = left; c <= right; c++) {
+            boardRow[c] = 1;
+            colorRow[c] = 8;  // 회색 (공격 줄 색상)
+        }
+        if (pattern == null || pattern.rows.length == 0) return;
+        int mask = pattern.rowMask(lineOffset % pattern.rows.length);
+        while (mask != 0) {
+            int bit = Integer.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            int col = startCol + bit;
+            if (col >= left && col <= right) {
+                boardRow[col] = 0;
+                colorRow[col] = 0;
+            }
+        }
+    }
+
+    // ===== 직렬화 =====
+
+    /**
+     * 형식: 높이(1바이트), 너비(1바이트), 줄 마스크(short × 높이)
+     */
+    public void writeTo(ByteBuffer buffer) {
+        buffer.put((byte) rows.length);
+        buffer.put((byte) width);
+        for (short mask : rows) buffer.putShort(mask);
+    }
+
+    public static AttackPattern readFrom(ByteBuffer buffer) {
+        int height = buffer.get() & 0xFF;
+        int width = buffer.get() & 0xFF;
+        if (width > MAX_WIDTH || height * 2 > buffer.remaining()) {
+            throw new IllegalArgumentException("공격 패턴 크기가 잘못됨: " + height + "x" + width);
+        }
+        short[] masks = new short[height];
+        for (int r = 0; r < height; r++) masks[r] = buffer.getShort();
+        return new AttackPattern(masks, width);
+    }
+
+    public int serializedSize() {
+        return 2 + rows.length * 2;
+    }
+
+    /**
+     * 디버그용 한 줄 표시 (예: "1001000000")
+     */
+    public String rowToString(int row) {
+        StringBuilder sb = new StringBuilder(width);
+        for (int c = 0; c < width; c++) sb.append(isHole(row, c) ? '1' : '0');
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AttackPattern)) return false;
+        AttackPattern other = (AttackPattern) o;
+        return width == other.width && Arrays.equals(rows, other.rows);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * width + Arrays.hashCode(rows);
+    }
+
+    @Override
+    public String toString() {
+        return rows.length + "x" + width;
+    }
+}
@@ -4,6 +4,7 @@ import javax.swing.*;
 import java.awt.*;
 import java.util.List;
 import game.model.AttackPreviewItem;
+import settings.FontManager;
 
 /**
  * 공격줄 미리보기 패널
@@ -17,6 +18,12 @@ public class AttackPreviewPanel extends JPanel {
     private static final int PREVIEW_ROWS = 10;  // 축소된 10줄
     private static final int PREVIEW_COLS = 10;  // 10열
     
+    // 그릴 때마다 만들지 않도록 미리 만든 색
+    private static final Color EMPTY_CELL = new Color(220, 220, 220);
+    private static final Color EMPTY_CELL_BORDER = new Color(200, 200, 200);
+    private static final Color ATTACK_CELL = new Color(150, 150, 150);
+    private static final BasicStroke OUTLINE_STROKE = new BasicStroke(2);
+    
     public AttackPreviewPanel() {
         setOpaque(true);
         setBackground(new Color(240, 240, 240));
@@ -27,14 +34,29 @@ public class AttackPreviewPanel extends JPanel {
      * 공격 큐 업데이트
      */
     public void updateQueue(List<AttackPreviewItem> items) {
-        this.attackQueue = items != null ? items : java.util.Collections.emptyList();
+        List<AttackPreviewItem> queue = items != null ? items : java.util.Collections.emptyList();
+        if (sameQueue(attackQueue, queue)) return;  // 내용이 같으면 다시 그리지 않음
+        this.attackQueue = queue;
         repaint();
     }
     
+    private static boolean sameQueue(List<AttackPreviewItem> a, List<AttackPreviewItem> b) {
+        if (a.size() != b.size()) return false;
+        for (int i = 0; i < a.size(); i++) {
+            AttackPreviewItem x = a.get(i);
+            AttackPreviewItem y = b.get(i);
+            if (x.lines != y.lines || x.blockX != y.blockX || !java.util.Arrays.deepEquals(x.pattern, y.pattern)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     /**
      * 셀 크기 설정
      */
     public void setCellSize(int cellSize) {
+        if (cellSize == this.cellSize) return;
         this.cellSize = cellSize;
         repaint();
     }
@@ -43,6 +65,7 @@ public class AttackPreviewPanel extends JPanel {
      * 폰트 크기 설정
      */
     public void setFontSize(int fontSize) {
+        if (fontSize == this.fontSize) return;
         this.fontSize = fontSize;
         repaint();
     }
@@ -55,7 +78,7 @@ public class AttackPreviewPanel extends JPanel {
         
         // 제목 그리기
         g2d.setColor(Color.BLACK);
-        g2d.setFont(new Font("맑은 고딕", Font.BOLD, 11));
+        g2d.setFont(FontManager.getCachedKoreanFont(Font.BOLD, 11));
         FontMetrics fm = g2d.getFontMetrics();
         String title = "ATTACK";
         int titleWidth = fm.stringWidth(title);
@@ -64,7 +87,7 @@ public class AttackPreviewPanel extends JPanel {
         
         // 공격 큐가 비어있으면 "No Attack" 표시
         if (attackQueue.isEmpty()) {
-            g2d.setFont(new Font("맑은 고딕", Font.PLAIN, fontSize - 2));
+            g2d.setFont(FontManager.getCachedKoreanFont(Font.PLAIN, fontSize - 2));
             String noAttack = "No Attack";
             int noAttackWidth = g2d.getFontMetrics().stringWidth(noAttack);
             int noAttackX = (getWidth() - noAttackWidth) / 2;
@@ -80,7 +103,7 @@ public class AttackPreviewPanel extends JPanel {
             totalLines += item.lines;
         }
         
-        g2d.setFont(new Font("맑은 고딕", Font.PLAIN, 9));
+        g2d.setFont(FontManager.getCachedKoreanFont(Font.PLAIN, 9));
         String queueInfo = "Queue: " + totalLines + " lines";
         int queueInfoWidth = g2d.getFontMetrics().stringWidth(queueInfo);
         int queueInfoX = (getWidth() - queueInfoWidth) / 2;
@@ -108,11 +131,11 @@ public class AttackPreviewPanel extends JPanel {
                 int y = startY + row * previewCellSize;
                 
                 // 빈 셀 (밝은 회색)
-                g2d.setColor(new Color(220, 220, 220));
+                g2d.setColor(EMPTY_CELL);
                 g2d.fillRect(x, y, previewCellSize, previewCellSize);
                 
                 // 테두리
-                g2d.setColor(new Color(200, 200, 200));
+                g2d.setColor(EMPTY_CELL_BORDER);
                 g2d.drawRect(x, y, previewCellSize, previewCellSize);
             }
         }
@@ -136,7 +159,7 @@ public class AttackPreviewPanel extends JPanel {
                     int y = startY + currentRow * previewCellSize;
                     
                     // 공격 줄 (진한 회색)
-                    g2d.setColor(new Color(150, 150, 150));
+                    g2d.setColor(ATTACK_CELL);
                     g2d.fillRect(x, y, previewCellSize, previewCellSize);
                     
                     // 테두리
@@ -166,7 +189,7 @@ public class AttackPreviewPanel extends JPanel {
         
         // 외곽 테두리 (테트리스 보드처럼)
         g2d.setColor(Color.BLACK);
-        g2d.setStroke(new BasicStroke(2));
+        g2d.setStroke(OUTLINE_STROKE);
         g2d.drawRect(gridX - 1, startY - 1, gridWidth + 2, gridHeight + 2);
     }
     
@@ -0,0 +1,113 @@
+package game.panels;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+import settings.FontManager;
+
+/**
+ * 블록 셀 한 칸을 미리 그려 둔 이미지 캐시
+ *
+ * 셀마다 색 채우기와 아이템 글자(L, 2)를 매번 그리는 대신, (색, 셀 크기, 글자)별로 한 번 그려 두고
+ * drawImage 한 번으로 복사합니다. 셀 크기가 바뀌면 clear()로 비우고,
+ * 색맹 모드처럼 블록 색 구성이 바뀌면 invalidateAll()로 모든 캐시를 비웁니다.
+ * EDT에서만 사용합니다.
+ */
+public final class CellSpriteCache {
+
+    /** 글자 없음 */
+    static final int GLYPH_NONE = 0;
+    /** 한 줄 삭제 아이템 (L) */
+    static final int GLYPH_ONE_LINE = 4;
+    /** 점수 2배 아이템 (2) */
+    static final int GLYPH_SCORE_DOUBLE = 5;
+
+    private static final int MAX_ENTRIES = 256;  // 넘으면 전부 비우고 다시 채움
+
+    // 색 구성이 바뀔 때마다 증가 (캐시마다 자기가 만든 시점의 값과 비교)
+    private static volatile int paletteVersion = 0;
+
+    private final Map<Long, BufferedImage> sprites = new HashMap<>();
+    private int cellSize = -1;
+    private int version = paletteVersion;
+    private Font font;
+
+    /**
+     * 모든 셀 이미지 캐시 무효화 (블록 색 구성이 바뀌었을 때)
+     */
+    public static void invalidateAll() {
+        paletteVersion++;
+    }
+
+    /**
+     * 셀 이미지 반환 (없으면 만들어 보관)
+     *
+     * @param rgb 셀 색
+     * @param cellSize 셀 크기 (픽셀)
+     * @param glyph GLYPH_NONE, GLYPH_ONE_LINE, GLYPH_SCORE_DOUBLE
+     * @param baseFont 글자를 그릴 기본 폰트 (크기는 셀 크기에 맞춰 바꿈)
+     */
+    BufferedImage get(int rgb, int cellSize, int glyph, Font baseFont) {
+        if (cellSize != this.cellSize || version != paletteVersion
+                || sprites.size() >= MAX_ENTRIES || (baseFont != null && !baseFont.equals(font))) {
+            sprites.clear();
+            this.cellSize = cellSize;
+            this.version = paletteVersion;
+            this.font = baseFont;
+        }
+        long key = ((long) glyph << 32) | (rgb & 0xFFFFFFL);
+        BufferedImage sprite = sprites.get(key);
+        if (sprite == null) {
+            sprite = render(rgb, cellSize, glyph);
+            sprites.put(key, sprite);
+        }
+        return sprite;
+    }
+
+    /**
+     * 캐시 비우기 (셀 크기 변경 시)
+     */
+    void clear() {
+        sprites.clear();
+        cellSize = -1;
+    }
+
+    int size() {
+        return sprites.size();
+    }
+
+    private BufferedImage render(int rgb, int cellSize, int glyph) {
+        BufferedImage sprite = StaticLayer.compatibleImage(cellSize, cellSize, Transparency.OPAQUE);
+        Graphics2D g = sprite.createGraphics();
+        try {
+            Color color = new Color(rgb);
+            g.setColor(color);
+            g.fillRect(0, 0, cellSize, cellSize);
+            if (glyph == GLYPH_ONE_LINE || glyph == GLYPH_SCORE_DOUBLE) {
+                String text = glyph == GLYPH_ONE_LINE ? "L" : "2";
+                g.setColor(contrastingColor(color));
+                int fontSize = Math.max(12, cellSize * 2 / 3);
+                g.setFont(FontManager.deriveFont(font != null ? font : g.getFont(), fontSize));
+                FontMetrics fm = g.getFontMetrics();
+                int cx = (cellSize - fm.stringWidth(text)) / 2;
+                int cy = (cellSize + fm.getAscent()) / 2 - 3;
+                g.drawString(text, cx, cy);
+            }
+        } finally {
+            g.dispose();
+        }
+        return sprite;
+    }
+
+    static Color contrastingColor(Color bg) {
+        if (bg == null) return Color.BLACK;
+        double luminance = (0.2126 * bg.getRed() + 0.7152 * bg.getGreen() + 0.0722 * bg.getBlue()) / 255.0;
+        return luminance > 0.6 ? Color.BLACK : Color.WHITE;
+    }
+}
@@ -6,39 +6,94 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.util.List;
+import java.awt.Rectangle;
 
 import javax.swing.JPanel;
 
 import blocks.Block;
+import game.core.AnimationManager;
 import game.core.GameState;
+import game.core.RenderBuffer;
+import game.core.RenderSnapshot;
 
 /**
  * 메인 게임 보드 패널 (20x10)
  * - 쌓인 블록 렌더링
  * - 현재 떨어지는 블록 렌더링
  * - 애니메이션 효과 (라인 클리어, 박스 클리어 등)
+ * 
+ * render()는 GameState를 그대로 들고 있지 않고, 미리 만들어 둔 RenderSnapshot 세 개(RenderBuffer)
+ * 중 뒤쪽 버퍼에 보이는 칸만 채워 넘깁니다. paintComponent는 가장 최근 스냅샷을 받아 그리므로
+ * 그릴 때 보드를 복사하거나 메모리를 할당하지 않고, 게임 로직 쪽이 다음 상태를 쓰는 중에도 겹치지 않습니다.
+ * 
+ * 렌더링할 때마다 보드 전체를 다시 그리지 않도록, 직전에 그린 셀 내용(쌓인 블록 + 떨어지는 블록)을
+ * 기억해 두었다가 바뀐 셀들을 감싸는 영역만 repaint합니다 (블록이 한 칸 내려가면 이전/새 위치만).
+ * paintComponent는 clip 영역에 걸치는 셀만 그리고, 격자와 테두리는 미리 그려 둔 이미지를 덮습니다.
+ * 애니메이션 중이거나 셀 크기가 바뀐 경우에는 전체를 다시 그립니다.
+ * 
+ * setRasterPainting(true) 또는 -Dtetris.board.painter=raster이면 칸 색을 칸당 1픽셀 이미지에 써서
+ * 한 번에 확대해 그립니다 (RasterBoardPainter, 결과는 같음).
  */
 public class GameBoardPanel extends JPanel {
     
-    private static final int ROWS = 20;
-    private static final int COLS = 10;
+    public static final String PAINTER_PROPERTY = "tetris.board.painter";  // "raster"면 RasterBoardPainter 사용
+    
+    private static final int ROWS = RenderSnapshot.ROWS;
+    private static final int COLS = RenderSnapshot.COLS;
+    private static final Color BACKGROUND = new Color(240, 240, 255);
     private int cellSize = 30;
     private int strokeWidth = 3;
     
-    // 렌더링할 데이터
-    private GameState currentState;
-    private Block remoteBlock;  // P2P용: 원격 블록 직접 저장
+    // 렌더링할 데이터 (render/setRemoteBlock이 쓰고 paintComponent가 읽음)
+    private final RenderBuffer renderBuffer = new RenderBuffer();
+    private Block stateBlock;  // 마지막 GameState의 떨어지는 블록 (원격 블록을 지우면 다시 표시)
+    
+    // 변경 영역 추적: 셀마다 그려진 내용 (0: 빈 칸, 상위 8비트: 종류, 하위 24비트: 색)
+    private int[] shownCells;              // 마지막으로 repaint 요청한 내용 (null이면 다음엔 전체)
+    private int[] nextCells = new int[ROWS * COLS];
+    private boolean shownAnimating = false;
+    private Rectangle lastRepaintRegion;   // 마지막 repaint 요청 영역 (전체면 null)
+    
+    // 셀 한 칸 이미지 캐시 (색, 셀 크기, 아이템 글자별)
+    private final CellSpriteCache sprites = new CellSpriteCache();
+    
+    // 칸당 1픽셀 이미지로 그리는 페인터 (null이면 셀 이미지를 칸마다 그림)
+    private RasterBoardPainter rasterPainter;
+    
+    // 격자 + 테두리를 그려 둔 투명 이미지 (블록 위에 덮음, 셀 크기가 바뀌면 다시 그림)
+    private final StaticLayer gridLayer = new StaticLayer(false, (g, width, height) -> {
+        drawGrid(g);
+        drawBorder(g);
+    });
     
     public GameBoardPanel() {
         setOpaque(false); // 투명 배경
         setPreferredSize(new Dimension(COLS * cellSize, ROWS * cellSize));
+        setRasterPainting("raster".equalsIgnoreCase(System.getProperty(PAINTER_PROPERTY)));
+    }
+    
+    /**
+     * 칸 색을 작은 이미지 하나로 확대해 그릴지 설정 (관전 화면처럼 보드가 많을 때, 느린 PC용)
+     */
+    public void setRasterPainting(boolean raster) {
+        if (raster == (rasterPainter != null)) return;
+        rasterPainter = raster ? new RasterBoardPainter(BACKGROUND.getRGB()) : null;
+        repaint();
+    }
+    
+    public boolean isRasterPainting() {
+        return rasterPainter != null;
     }
     
     /**
      * 셀 크기 설정 (스케일링 지원)
      */
     public void setCellSize(int cellSize) {
+        if (cellSize != this.cellSize) {
+            shownCells = null;  // 다음 렌더링은 전체
+            sprites.clear();
+            gridLayer.invalidate();
+        }
         this.cellSize = cellSize;
         setPreferredSize(new Dimension(COLS * cellSize, ROWS * cellSize));
         revalidate();
@@ -52,137 +107,186 @@ public class GameBoardPanel extends JPanel {
      * GameState 기반 렌더링 (새로운 방식)
      */
     public void render(GameState state) {
-        this.currentState = state;
-        this.remoteBlock = null;  // GameState 사용 시 remoteBlock 초기화
-        repaint();
+        RenderSnapshot snapshot = renderBuffer.beginWrite();
+        snapshot.fill(state);
+        publish(snapshot, state);
+    }
+    
+    /**
+     * GameState 보드 + AnimationManager의 애니메이션 상태로 렌더링 (중간 GameState를 만들지 않음)
+     */
+    public void render(GameState state, AnimationManager animation) {
+        RenderSnapshot snapshot = renderBuffer.beginWrite();
+        snapshot.fill(state, animation);
+        publish(snapshot, state);
+    }
+    
+    private void publish(RenderSnapshot snapshot, GameState state) {
+        stateBlock = state != null ? state.getCurrentBlock() : null;
+        renderBuffer.publish();
+        repaintChanged(snapshot);
     }
     
     /**
-     * P2P용: 원격 블록만 직접 설정
+     * P2P용: 원격 블록만 직접 설정 (null이면 GameState의 블록으로 되돌림)
      */
     public void setRemoteBlock(Block block) {
-        this.remoteBlock = block;
-        repaint();
+        RenderSnapshot snapshot = renderBuffer.beginWrite();
+        RenderSnapshot last = renderBuffer.lastPublished();
+        if (last != null) {
+            snapshot.copyFrom(last);
+        } else {
+            snapshot.fill(null);
+        }
+        snapshot.setPiece(block != null ? block : stateBlock);
+        renderBuffer.publish();
+        repaintChanged(snapshot);
     }
     
-    @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
-        // 우선: GameState가 있을 경우 기존 루틴 사용
-        if (currentState != null) {
-            paintFromState(g2d);
+    /**
+     * 직전에 그린 내용과 비교해 바뀐 셀이 있는 영역만 repaint
+     * 여러 곳이 바뀌면(이전 위치와 새 위치 등) RepaintManager가 어차피 하나로 합치므로 감싸는 사각형 하나로 요청합니다.
+     */
+    private void repaintChanged(RenderSnapshot snapshot) {
+        boolean animating = snapshot.isAnimating();
+        captureCells(nextCells, snapshot);
+        
+        if (shownCells == null || animating || shownAnimating) {
+            swapCells();
+            shownAnimating = animating;
+            lastRepaintRegion = null;
+            repaint();
             return;
         }
-
-        // currentState가 없더라도 원격 블록(remoteBlock)이 있으면 표시해야 함
-        drawBackground(g2d);
-        if (remoteBlock != null) {
-            try {
-                drawBlock(g2d, remoteBlock);
-            } catch (Exception e) {
-                System.err.println("GameBoardPanel.drawBlock 예외: " + e.getMessage());
-                e.printStackTrace();
+        
+        int minRow = ROWS, maxRow = -1, minCol = COLS, maxCol = -1;
+        for (int i = 0; i < nextCells.length; i++) {
+            if (nextCells[i] != shownCells[i]) {
+                int row = i / COLS;
+                int col = i % COLS;
+                minRow = Math.min(minRow, row);
+                maxRow = Math.max(maxRow, row);
+                minCol = Math.min(minCol, col);
+                maxCol = Math.max(maxCol, col);
             }
         }
-        // 격자와 테두리는 항상 그림
-        drawGrid(g2d);
-        drawBorder(g2d);
+        swapCells();
+        if (maxRow < 0) {
+            lastRepaintRegion = new Rectangle();  // 화면상 바뀐 것 없음
+            return;
+        }
+        
+        // 격자/테두리 선이 셀 경계 밖으로 strokeWidth만큼 걸치므로 그만큼 넓혀서 요청
+        Rectangle region = new Rectangle(
+            minCol * cellSize - strokeWidth,
+            minRow * cellSize - strokeWidth,
+            (maxCol - minCol + 1) * cellSize + strokeWidth * 2,
+            (maxRow - minRow + 1) * cellSize + strokeWidth * 2
+        );
+        lastRepaintRegion = region;
+        repaint(region);
+    }
+    
+    private void swapCells() {
+        int[] previous = shownCells;
+        shownCells = nextCells;
+        nextCells = previous != null ? previous : new int[ROWS * COLS];
     }
     
     /**
-     * GameState 기반 렌더링
+     * 마지막 렌더링이 요청한 repaint 영역 (전체면 null, 바뀐 것이 없으면 빈 사각형)
      */
-    private void paintFromState(Graphics2D g2d) {
-        int[][] board = currentState != null ? currentState.getBoardArray() : null;
-        int[][] colorBoard = currentState != null ? currentState.getColorBoard() : null;
-        Block currentBlock = remoteBlock != null ? remoteBlock : (currentState != null ? currentState.getCurrentBlock() : null);
-        
-        // 배경 그리기
-        drawBackground(g2d);
-        
-        // 쌓인 블록 그리기
-        if (board != null && colorBoard != null) {
-            stackBlockFromState(g2d, board, colorBoard);
+    Rectangle getLastRepaintRegion() {
+        return lastRepaintRegion;
+    }
+    
+    /**
+     * 스냅샷을 그렸을 때 셀마다의 내용 기록 (paintComponent와 같은 규칙)
+     */
+    private static void captureCells(int[] cells, RenderSnapshot snapshot) {
+        for (int row = 0; row < ROWS; row++) {
+            for (int col = 0; col < COLS; col++) {
+                int piece = snapshot.getPieceCell(row, col);
+                // 떨어지는 블록은 쌓인 블록과 구분되도록 종류에 0x10을 더함
+                cells[row * COLS + col] = piece != 0
+                    ? ((RenderSnapshot.typeOf(piece) | 0x10) << 24) | RenderSnapshot.rgbOf(piece)
+                    : snapshot.getCell(row, col);
+            }
+        }
+    }
+    
+    /**
+     * clip 영역에 걸치는 셀 범위 (x=첫 열, y=첫 행, 셀 단위)
+     */
+    private Rectangle visibleCells(Graphics2D g2d) {
+        Rectangle clip = g2d.getClipBounds();
+        if (clip == null || cellSize <= 0) {
+            return new Rectangle(0, 0, COLS, ROWS);
         }
+        int firstCol = Math.max(0, clip.x / cellSize);
+        int firstRow = Math.max(0, clip.y / cellSize);
+        int lastCol = Math.min(COLS - 1, (clip.x + clip.width - 1) / cellSize);
+        int lastRow = Math.min(ROWS - 1, (clip.y + clip.height - 1) / cellSize);
+        return new Rectangle(firstCol, firstRow, Math.max(0, lastCol - firstCol + 1), Math.max(0, lastRow - firstRow + 1));
+    }
+    
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g;
+        Rectangle cells = visibleCells(g2d);
+        RenderSnapshot snapshot = renderBuffer.acquire();
         
-        // 현재 떨어지는 블록 그리기
-        if (currentBlock != null) {
-            drawBlock(g2d, currentBlock);
+        if (rasterPainter != null) {
+            // 배경 + 쌓인 블록 + 떨어지는 블록 + 플래시를 이미지 하나로
+            rasterPainter.paint(g2d, snapshot, cellSize, sprites, getFont());
+        } else {
+            // 배경 그리기
+            drawBackground(g2d);
+            
+            // 쌓인 블록 그리기 (원격 블록만 있는 경우 보드 없음)
+            if (snapshot.hasBoard()) {
+                drawStack(g2d, snapshot, cells);
+            }
+            
+            // 현재 떨어지는 블록 그리기
+            if (snapshot.hasPiece()) {
+                drawPiece(g2d, snapshot, cells);
+            }
         }
         
         // 애니메이션 효과
-        if (currentState != null) {
-            drawAnimations(g2d, currentState);
-        }
+        drawAnimations(g2d, snapshot);
         
         // 격자 및 테두리
-        drawGrid(g2d);
-        drawBorder(g2d);
+        gridLayer.draw(g2d, COLS * cellSize, ROWS * cellSize);
     }
     
     /**
      * 배경 그리기
      */
     private void drawBackground(Graphics2D g2d) {
-        g2d.setColor(new Color(240, 240, 255));
-        g2d.fillRect(0, 0, COLS * cellSize, ROWS * cellSize);
+        g2d.setColor(BACKGROUND);
+        Rectangle clip = g2d.getClipBounds();
+        Rectangle board = new Rectangle(0, 0, COLS * cellSize, ROWS * cellSize);
+        g2d.fill(clip != null ? board.intersection(clip) : board);
     }
     
     /**
-     * GameState에서 쌓인 블록 그리기
+     * 쌓인 블록 그리기
      */
-    private void stackBlockFromState(Graphics2D g2d, int[][] board, int[][] colorBoard) {
-        for (int row = 2; row < ROWS + 2; row++) {
-            for (int col = 1; col < COLS + 1; col++) {
-                // 라인 클리어 플래시: 해당 행이 플래시 대상이고 현재 블랙 단계라면 검은색으로 채우고 다음 셀로
-                if (currentState != null && currentState.isLineClearAnimating() 
-                    && currentState.isFlashBlack() && currentState.isRowFlashing(row)) {
-                    int drawX = (col - 1) * cellSize;
-                    int drawY = (row - 2) * cellSize;
-                    g2d.setColor(Color.BLACK);
-                    g2d.fillRect(drawX, drawY, cellSize, cellSize);
-                    
-                    // 첫 번째 셀에서만 로그 출력
-                    if (col == 1) {
-                        System.out.println("[RENDER] 라인 클리어 플래시 렌더링 중! row=" + row);
-                    }
-                    continue;
-                }
-                
-                if (board[row][col] > 0 && board[row][col] < 10) {
-                    Color blockColor;
-                    if (colorBoard != null && colorBoard[row][col] != 0) {
-                        blockColor = new Color(colorBoard[row][col]);
-                    } else {
-                        blockColor = getBlockColor(board[row][col]);
-                    }
-                    
-                    g2d.setColor(blockColor);
-                    g2d.fillRect(
-                        (col - 1) * cellSize,
-                        (row - 2) * cellSize,
-                        cellSize,
-                        cellSize
-                    );
-                    // Draw overlay text for special item values
-                    if (board[row][col] == 4 || board[row][col] == 5) {
-                        String text = board[row][col] == 4 ? "L" : "2";
-                        Color textColor = getContrastingColor(blockColor);
-                        g2d.setColor(textColor);
-                        int fontSize = Math.max(12, cellSize * 2 / 3);
-                        g2d.setFont(g2d.getFont().deriveFont((float)fontSize));
-                        int tx = (col - 1) * cellSize;
-                        int ty = (row - 2) * cellSize;
-                        // center text
-                        java.awt.FontMetrics fm = g2d.getFontMetrics();
-                        int textWidth = fm.stringWidth(text);
-                        int textHeight = fm.getAscent();
-                        int cx = tx + (cellSize - textWidth) / 2;
-                        int cy = ty + (cellSize + textHeight) / 2 - 3;
-                        g2d.drawString(text, cx, cy);
-                    }
-                }
+    private void drawStack(Graphics2D g2d, RenderSnapshot snapshot, Rectangle cells) {
+        boolean flashing = snapshot.isLineClearAnimating() && snapshot.isFlashBlack();
+        for (int row = cells.y; row < cells.y + cells.height; row++) {
+            // 라인 클리어 플래시: 해당 행이 플래시 대상이고 현재 블랙 단계라면 검은색으로 채움
+            if (flashing && snapshot.isRowFlashing(row)) {
+                g2d.setColor(Color.BLACK);
+                g2d.fillRect(cells.x * cellSize, row * cellSize, cells.width * cellSize, cellSize);
+                System.out.println("[RENDER] 라인 클리어 플래시 렌더링 중! row=" + (row + 2));
+                continue;
+            }
+            for (int col = cells.x; col < cells.x + cells.width; col++) {
+                drawCell(g2d, snapshot.getCell(row, col), row, col);
             }
         }
     }
@@ -190,88 +294,44 @@ public class GameBoardPanel extends JPanel {
     /**
      * 현재 떨어지는 블록 그리기
      */
-    private void drawBlock(Graphics2D g2d, Block block) {
-        int[][] shape = block.getShape();
-        // Defensive: some remote/reflection-created blocks may not have shape initialized.
-        // Try to initialize if possible, otherwise skip drawing to avoid NPEs.
-        if (shape == null) {
-            try {
-                block.setShape();
-                shape = block.getShape();
-                if (shape != null) {
-                    System.out.println("[GameBoardPanel] block.setShape() 성공: " + block.getClass().getSimpleName());
-                }
-            } catch (Throwable t) {
-                System.err.println("[GameBoardPanel] block.setShape() 실패: " + t.getMessage());
-            }
-        }
-        if (shape == null) {
-            // Nothing to draw for this block
-            System.err.println("[GameBoardPanel] drawBlock 건너뜀: shape가 null (" + block.getClass().getName() + ")");
-            return;
-        }
-        Color color = block.getColor();
+    private void drawPiece(Graphics2D g2d, RenderSnapshot snapshot, Rectangle cells) {
         // For WeightBlock, ensure the cells it passes are visually cleared
         // in real time by drawing background rectangles over the underlying
-        // board before drawing the weight. This avoids relying on board state
-        // being updated in perfect sync with the animation.
-        boolean isWeight = block instanceof blocks.item.WeightBlock;
-
-        // If it's a weight block, first paint background over the covered cells
-        if (isWeight) {
-            Color bg = new Color(240, 240, 255);
-            g2d.setColor(bg);
-            for (int row = 0; row < shape.length; row++) {
-                for (int col = 0; col < shape[row].length; col++) {
-                    if (shape[row][col] != 0) {
-                        int drawX = (block.getX() + col - 1) * cellSize;
-                        int drawY = (block.getY() + row - 2) * cellSize;
-                        g2d.fillRect(drawX, drawY, cellSize, cellSize);
-                    }
+        // board before drawing the weight.
+        boolean isWeight = snapshot.isPieceWeight();
+        for (int row = cells.y; row < cells.y + cells.height; row++) {
+            for (int col = cells.x; col < cells.x + cells.width; col++) {
+                int cell = snapshot.getPieceCell(row, col);
+                if (cell == 0) continue;
+                if (isWeight) {
+                    g2d.setColor(BACKGROUND);
+                    g2d.fillRect(col * cellSize, row * cellSize, cellSize, cellSize);
                 }
+                drawCell(g2d, cell, row, col);
             }
         }
-
-        g2d.setColor(color);
-        for (int row = 0; row < shape.length; row++) {
-            for (int col = 0; col < shape[row].length; col++) {
-                int cellVal = shape[row][col];
-                if (cellVal != 0) {
-                    int drawX = (block.getX() + col - 1) * cellSize;
-                    int drawY = (block.getY() + row - 2) * cellSize;
-                    g2d.fillRect(drawX, drawY, cellSize, cellSize);
-                    // overlay text for OneLine(4) and ScoreDouble(5)
-                    if (cellVal == 4 || cellVal == 5) {
-                        String text = cellVal == 4 ? "L" : "2";
-                        Color textColor = getContrastingColor(color);
-                        g2d.setColor(textColor);
-                        int fontSize = Math.max(12, cellSize * 2 / 3);
-                        g2d.setFont(g2d.getFont().deriveFont((float)fontSize));
-                        java.awt.FontMetrics fm = g2d.getFontMetrics();
-                        int textWidth = fm.stringWidth(text);
-                        int textHeight = fm.getAscent();
-                        int cx = drawX + (cellSize - textWidth) / 2;
-                        int cy = drawY + (cellSize + textHeight) / 2 - 3;
-                        g2d.drawString(text, cx, cy);
-                        g2d.setColor(color);
-                    }
-                }
-            }
+    }
+    
+    /**
+     * 칸 하나 그리기 (4: OneLine, 5: ScoreDouble은 글자가 포함된 이미지)
+     */
+    private void drawCell(Graphics2D g2d, int cell, int row, int col) {
+        int value = RenderSnapshot.typeOf(cell);
+        if (value <= 0 || value >= 10) {
+            return;
         }
+        int glyph = (value == 4 || value == 5) ? value : CellSpriteCache.GLYPH_NONE;
+        g2d.drawImage(sprites.get(RenderSnapshot.rgbOf(cell), cellSize, glyph, getFont()),
+            col * cellSize, row * cellSize, null);
     }
 
-    private Color getContrastingColor(Color bg) {
-        if (bg == null) return Color.BLACK;
-        double luminance = (0.2126 * bg.getRed() + 0.7152 * bg.getGreen() + 0.0722 * bg.getBlue()) / 255.0;
-        return luminance > 0.6 ? Color.BLACK : Color.WHITE;
-    }
     
     /**
      * 애니메이션 효과 그리기 (블록 위에 오버레이)
      */
-    private void drawAnimations(Graphics2D g2d, GameState state) {
+    private void drawAnimations(Graphics2D g2d, RenderSnapshot snapshot) {
         // AllClear: 보드 전체를 검게 플래시
-        if (state.isAllClearAnimating() && state.isAllClearFlashBlack()) {
+        if (snapshot.isAllClearAnimating() && snapshot.isAllClearFlashBlack()) {
             Graphics2D overlay = (Graphics2D) g2d.create();
             try {
                 overlay.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.85f));
@@ -283,26 +343,23 @@ public class GameBoardPanel extends JPanel {
         }
 
         // BoxClear: 각 5x5 폭발 영역을 검게 플래시
-        if (state.isBoxClearAnimating() && state.isBoxFlashBlack()) {
-            List<int[]> centers = state.getBoxFlashCenters();
-            if (centers != null && !centers.isEmpty()) {
-                g2d.setColor(Color.BLACK);
-                for (int[] center : centers) {
-                    int centerRow = center[0];  // row
-                    int centerCol = center[1];  // col
-                    
-                    // 5x5 영역 계산 (중심 ±2)
-                    int startRow = Math.max(2, centerRow - 2);
-                    int endRow = Math.min(ROWS + 1, centerRow + 2);
-                    int startCol = Math.max(1, centerCol - 2);
-                    int endCol = Math.min(COLS, centerCol + 2);
-                    
-                    for (int row = startRow; row <= endRow; row++) {
-                        for (int col = startCol; col <= endCol; col++) {
-                            int drawX = (col - 1) * cellSize;
-                            int drawY = (row - 2) * cellSize;
-                            g2d.fillRect(drawX, drawY, cellSize, cellSize);
-                        }
+        if (snapshot.isBoxClearAnimating() && snapshot.isBoxFlashBlack()) {
+            g2d.setColor(Color.BLACK);
+            for (int i = 0; i < snapshot.getBoxCenterCount(); i++) {
+                int centerRow = snapshot.getBoxCenterRow(i);
+                int centerCol = snapshot.getBoxCenterCol(i);
+                
+                // 5x5 영역 계산 (중심 ±2)
+                int startRow = Math.max(2, centerRow - 2);
+                int endRow = Math.min(ROWS + 1, centerRow + 2);
+                int startCol = Math.max(1, centerCol - 2);
+                int endCol = Math.min(COLS, centerCol + 2);
+                
+                for (int row = startRow; row <= endRow; row++) {
+                    for (int col = startCol; col <= endCol; col++) {
+                        int drawX = (col - 1) * cellSize;
+                        int drawY = (row - 2) * cellSize;
+                        g2d.fillRect(drawX, drawY, cellSize, cellSize);
                     }
                 }
             }
@@ -310,7 +367,7 @@ public class GameBoardPanel extends JPanel {
     }
     
     /**
-     * 격자 그리기
+     * 격자 그리기 (gridLayer 이미지에 한 번만 그림)
      */
     private void drawGrid(Graphics2D g2d) {
         float alpha = 0.3f;
@@ -328,7 +385,7 @@ public class GameBoardPanel extends JPanel {
     }
     
     /**
-     * 테두리 그리기
+     * 테두리 그리기 (gridLayer 이미지에 한 번만 그림)
      */
     private void drawBorder(Graphics2D g2d) {
         g2d.setStroke(new BasicStroke(strokeWidth));
@@ -342,20 +399,4 @@ public class GameBoardPanel extends JPanel {
         g2d.drawLine(width, 0, width, height);            // 우측
         g2d.drawLine(0, height, width, height);           // 하단
     }
-    
-    /**
-     * 블록 타입별 색상 반환
-     */
-    private Color getBlockColor(int blockType) {
-        switch (blockType) {
-            case 1: return new Color(255, 0, 0);      // I - 빨강
-            case 2: return new Color(255, 165, 0);    // J - 주황
-            case 3: return new Color(255, 255, 0);    // L - 노랑
-            case 4: return new Color(0, 255, 0);      // O - 초록
-            case 5: return new Color(0, 0, 255);      // S - 파랑
-            case 6: return new Color(75, 0, 130);     // T - 남색
-            case 7: return new Color(238, 130, 238);  // Z - 보라
-            default: return Color.GRAY;
-        }
-    }
 }
@@ -9,6 +9,8 @@ import java.awt.Graphics2D;
 
 import javax.swing.JPanel;
 
+import settings.FontManager;
+
 import blocks.Block;
 
 /**
@@ -23,6 +25,13 @@ public class NextBlockPanel extends JPanel {
     private int cellSize = 30;
     private int fontSize = 24;
     
+    // 배경, 제목, 구분선, 테두리를 그려 둔 이미지 (셀/폰트 크기가 바뀌면 다시 그림)
+    private final StaticLayer frameLayer = new StaticLayer(true, this::paintFrame);
+    
+    // 블록 셀 이미지 (아이템 글자는 Arial Bold)
+    private final CellSpriteCache sprites = new CellSpriteCache();
+    private static final Font GLYPH_FONT = FontManager.getFont("Arial", Font.BOLD, 12);
+    
     private Block nextBlock;
     
     public NextBlockPanel() {
@@ -34,7 +43,9 @@ public class NextBlockPanel extends JPanel {
      * 셀 크기 설정 (스케일링 지원)
      */
     public void setCellSize(int cellSize) {
+        if (cellSize == this.cellSize) return;
         this.cellSize = cellSize;
+        frameLayer.invalidate();
         setPreferredSize(new Dimension(COLS * cellSize, ROWS * cellSize));
         revalidate();
     }
@@ -43,7 +54,9 @@ public class NextBlockPanel extends JPanel {
      * 폰트 크기 설정
      */
     public void setFontSize(int fontSize) {
+        if (fontSize == this.fontSize) return;
         this.fontSize = fontSize;
+        frameLayer.invalidate();
         repaint();
     }
     
@@ -51,6 +64,7 @@ public class NextBlockPanel extends JPanel {
      * 다음 블록 설정
      */
     public void setNextBlock(Block block) {
+        if (block == this.nextBlock) return;  // 같은 블록이면 다시 그리지 않음
         this.nextBlock = block;
         repaint();
     }
@@ -64,21 +78,8 @@ public class NextBlockPanel extends JPanel {
         int height = ROWS * cellSize;
         int headerHeight = HEADER_ROWS * cellSize;
         
-        // 배경 그리기
-        g2d.setColor(new Color(255, 248, 235));
-        g2d.fillRect(0, 0, width, height);
-        
-        // "NEXT" 텍스트
-        g2d.setFont(new Font("Arial", Font.BOLD, fontSize));
-        g2d.setColor(Color.BLACK);
-        String text = "NEXT";
-        FontMetrics fm = g2d.getFontMetrics();
-        int textX = (width - fm.stringWidth(text)) / 2;
-        int textY = (headerHeight - fm.getHeight()) / 2 + fm.getAscent();
-        g2d.drawString(text, textX, textY);
-        
-        // 헤더 구분선
-        g2d.drawLine(0, headerHeight, width, headerHeight);
+        // 배경, 제목, 구분선, 테두리 (미리 그려 둔 이미지)
+        frameLayer.draw(g2d, width, height);
         
         // 다음 블록 그리기
         if (nextBlock != null) {
@@ -93,44 +94,45 @@ public class NextBlockPanel extends JPanel {
             int startX = (width - blockWidth * cellSize) / 2;
             int startY = headerHeight + (blockAreaHeight - blockHeight * cellSize) / 2;
             
-            g2d.setColor(color);
+            int rgb = color != null ? color.getRGB() : 0;
             for (int row = 0; row < shape.length; row++) {
                 for (int col = 0; col < shape[row].length; col++) {
-                    if (shape[row][col] != 0) {
-                        g2d.fillRect(
-                            startX + col * cellSize,
-                            startY + row * cellSize,
-                            cellSize,
-                            cellSize
-                        );
-                        // Draw overlay for special item cells: 4 -> 'L', 5 -> '2'
-                        if (shape[row][col] == 4 || shape[row][col] == 5) {
-                            String overlay = shape[row][col] == 4 ? "L" : "2";
-                            Color textColor = getContrastingColor(color);
-                            g2d.setColor(textColor);
-                            int fontSizeLocal = Math.max(12, cellSize * 2 / 3);
-                            g2d.setFont(new Font("Arial", Font.BOLD, fontSizeLocal));
-                            FontMetrics fm2 = g2d.getFontMetrics();
-                            int textW = fm2.stringWidth(overlay);
-                            int textH = fm2.getAscent();
-                            int tx = startX + col * cellSize + (cellSize - textW) / 2;
-                            int ty = startY + row * cellSize + (cellSize + textH) / 2 - 3;
-                            g2d.drawString(overlay, tx, ty);
-                            g2d.setColor(color);
-                        }
+                    int cellVal = shape[row][col];
+                    if (cellVal != 0) {
+                        // 아이템 셀(4 -> 'L', 5 -> '2')은 글자가 포함된 이미지
+                        int glyph = (cellVal == 4 || cellVal == 5) ? cellVal : CellSpriteCache.GLYPH_NONE;
+                        g2d.drawImage(sprites.get(rgb, cellSize, glyph, GLYPH_FONT),
+                            startX + col * cellSize, startY + row * cellSize, null);
                     }
                 }
             }
         }
+    }
+    
+    /**
+     * 정적인 부분 그리기 (frameLayer 이미지에 한 번만 그림)
+     */
+    private void paintFrame(Graphics2D g2d, int width, int height) {
+        int headerHeight = HEADER_ROWS * cellSize;
+        
+        // 배경 그리기
+        g2d.setColor(new Color(255, 248, 235));
+        g2d.fillRect(0, 0, width, height);
+        
+        // "NEXT" 텍스트
+        g2d.setFont(FontManager.getFont("Arial", Font.BOLD, fontSize));
+        g2d.setColor(Color.BLACK);
+        String text = "NEXT";
+        FontMetrics fm = g2d.getFontMetrics();
+        int textX = (width - fm.stringWidth(text)) / 2;
+        int textY = (headerHeight - fm.getHeight()) / 2 + fm.getAscent();
+        g2d.drawString(text, textX, textY);
+        
+        // 헤더 구분선
+        g2d.drawLine(0, headerHeight, width, headerHeight);
         
         // 테두리
         g2d.setColor(Color.BLACK);
         g2d.drawRect(0, 0, width - 1, height - 1);
     }
-
-    private Color getContrastingColor(Color bg) {
-        if (bg == null) return Color.BLACK;
-        double luminance = (0.2126 * bg.getRed() + 0.7152 * bg.getGreen() + 0.0722 * bg.getBlue()) / 255.0;
-        return luminance > 0.6 ? Color.BLACK : Color.WHITE;
-    }
 }
@@ -0,0 +1,115 @@
+package game.panels;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+import game.core.RenderSnapshot;
+
+/**
+ * 보드를 칸당 1픽셀짜리 작은 이미지에 직접 써서 확대해 그리는 GameBoardPanel용 페인터
+ *
+ * 칸마다 drawImage/fillRect를 부르는 대신 TYPE_INT_RGB 이미지의 DataBufferInt 배열에
+ * 칸 색을 200개 써 넣고, 최근접 보간으로 보드 크기만큼 한 번에 확대합니다.
+ * 칸 색 채우기 결과는 셀 이미지 방식과 픽셀 단위로 같고, 아이템 글자(L, 2)가 있는 칸만
+ * 셀 이미지로 덧그립니다. 격자와 테두리는 GameBoardPanel의 gridLayer가 덮습니다.
+ * 관전 화면처럼 보드를 여러 개 그려야 하거나 느린 PC에서 쓰기 위한 것입니다. EDT에서만 사용합니다.
+ */
+final class RasterBoardPainter {
+
+    private static final int ROWS = RenderSnapshot.ROWS;
+    private static final int COLS = RenderSnapshot.COLS;
+    private static final int BLACK = 0x000000;
+
+    private final BufferedImage image = new BufferedImage(COLS, ROWS, BufferedImage.TYPE_INT_RGB);
+    private final int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    private final boolean[] boxFlashed = new boolean[ROWS * COLS];  // 박스 클리어 플래시로 덮인 칸
+    private final int backgroundRgb;
+
+    RasterBoardPainter(int backgroundRgb) {
+        this.backgroundRgb = backgroundRgb & 0xFFFFFF;
+    }
+
+    /**
+     * 칸 색(배경, 쌓인 블록, 떨어지는 블록, 라인/박스 클리어 플래시)을 그림
+     * AllClear 오버레이와 격자/테두리는 호출하는 쪽에서 덮습니다.
+     *
+     * @param sprites 아이템 글자 칸을 덧그릴 셀 이미지 캐시
+     * @param font 아이템 글자 기본 폰트
+     */
+    void paint(Graphics2D g, RenderSnapshot snapshot, int cellSize, CellSpriteCache sprites, Font font) {
+        boolean rowFlash = snapshot.isLineClearAnimating() && snapshot.isFlashBlack();
+        for (int row = 0; row < ROWS; row++) {
+            boolean blackRow = rowFlash && snapshot.hasBoard() && snapshot.isRowFlashing(row);
+            for (int col = 0; col < COLS; col++) {
+                int rgb = blackRow ? BLACK : backgroundRgb;
+                if (!blackRow && snapshot.hasBoard()) {
+                    int cell = snapshot.getCell(row, col);
+                    if (isDrawn(cell)) {
+                        rgb = RenderSnapshot.rgbOf(cell);
+                    }
+                }
+                int piece = snapshot.getPieceCell(row, col);
+                if (isDrawn(piece)) {
+                    rgb = RenderSnapshot.rgbOf(piece);
+                }
+                pixels[row * COLS + col] = rgb;
+            }
+        }
+        Arrays.fill(boxFlashed, false);
+        if (snapshot.isBoxClearAnimating() && snapshot.isBoxFlashBlack()) {
+            for (int i = 0; i < snapshot.getBoxCenterCount(); i++) {
+                // 5x5 영역 (중심 ±2, 보드 배열 기준 → 보이는 칸 기준)
+                int startRow = Math.max(0, snapshot.getBoxCenterRow(i) - 2 - 2);
+                int endRow = Math.min(ROWS - 1, snapshot.getBoxCenterRow(i) + 2 - 2);
+                int startCol = Math.max(0, snapshot.getBoxCenterCol(i) - 2 - 1);
+                int endCol = Math.min(COLS - 1, snapshot.getBoxCenterCol(i) + 2 - 1);
+                for (int row = startRow; row <= endRow; row++) {
+                    for (int col = startCol; col <= endCol; col++) {
+                        pixels[row * COLS + col] = BLACK;
+                        boxFlashed[row * COLS + col] = true;
+                    }
+                }
+            }
+        }
+
+        Object interpolation = g.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g.drawImage(image, 0, 0, COLS * cellSize, ROWS * cellSize, null);
+        if (interpolation != null) {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+        }
+
+        // 글자가 있는 아이템 칸만 셀 이미지로 덧그림 (플래시로 덮인 칸 제외)
+        for (int row = 0; row < ROWS; row++) {
+            for (int col = 0; col < COLS; col++) {
+                int glyph = glyphAt(snapshot, row, col, rowFlash);
+                if (glyph != CellSpriteCache.GLYPH_NONE && !boxFlashed[row * COLS + col]) {
+                    g.drawImage(sprites.get(pixels[row * COLS + col], cellSize, glyph, font),
+                        col * cellSize, row * cellSize, null);
+                }
+            }
+        }
+    }
+
+    private static int glyphAt(RenderSnapshot snapshot, int row, int col, boolean rowFlash) {
+        int piece = snapshot.getPieceCell(row, col);
+        int cell = isDrawn(piece) ? piece
+            : (snapshot.hasBoard() && !(rowFlash && snapshot.isRowFlashing(row)) ? snapshot.getCell(row, col) : 0);
+        int type = RenderSnapshot.typeOf(cell);
+        return isDrawn(cell) && (type == 4 || type == 5) ? type : CellSpriteCache.GLYPH_NONE;
+    }
+
+    private static boolean isDrawn(int cell) {
+        int type = RenderSnapshot.typeOf(cell);
+        return type > 0 && type < 10;
+    }
+
+    /** 테스트용: 마지막으로 그린 칸 색 */
+    int pixelAt(int row, int col) {
+        return pixels[row * COLS + col];
+    }
+}
@@ -9,6 +9,8 @@ import java.awt.Graphics2D;
 
 import javax.swing.JPanel;
 
+import settings.FontManager;
+
 /**
  * 점수 표시 패널
  */
@@ -21,6 +23,9 @@ public class ScorePanel extends JPanel {
     private int cellSize = 30;
     private int fontSize = 24;
     
+    // 배경, 제목, 구분선, 테두리를 그려 둔 이미지 (셀/폰트 크기가 바뀌면 다시 그림)
+    private final StaticLayer frameLayer = new StaticLayer(true, this::paintFrame);
+    
     private int score = 0;
     
     public ScorePanel() {
@@ -32,7 +37,9 @@ public class ScorePanel extends JPanel {
      * 셀 크기 설정 (스케일링 지원)
      */
     public void setCellSize(int cellSize) {
+        if (cellSize == this.cellSize) return;
         this.cellSize = cellSize;
+        frameLayer.invalidate();
         setPreferredSize(new Dimension(COLS * cellSize, ROWS * cellSize));
         revalidate();
     }
@@ -41,7 +48,9 @@ public class ScorePanel extends JPanel {
      * 폰트 크기 설정
      */
     public void setFontSize(int fontSize) {
+        if (fontSize == this.fontSize) return;
         this.fontSize = fontSize;
+        frameLayer.invalidate();
         repaint();
     }
     
@@ -49,6 +58,7 @@ public class ScorePanel extends JPanel {
      * 점수 설정
      */
     public void setScore(int score) {
+        if (score == this.score) return;  // 값이 같으면 다시 그리지 않음
         this.score = score;
         repaint();
     }
@@ -69,12 +79,31 @@ public class ScorePanel extends JPanel {
         int height = ROWS * cellSize;
         int headerHeight = HEADER_ROWS * cellSize;
         
+        // 배경, 제목, 구분선, 테두리 (미리 그려 둔 이미지)
+        frameLayer.draw(g2d, width, height);
+        
+        Font font = FontManager.getFont("Arial", Font.BOLD, fontSize);
+        FontMetrics fm = FontManager.getFontMetrics(font);
+        
+        // 점수 표시
+        String scoreText = String.valueOf(score);
+        int scoreX = (width - fm.stringWidth(scoreText)) / 2;
+        int scoreY = headerHeight + (height - headerHeight) / 2 + fm.getAscent() / 2;
+        FontManager.drawCachedText(g2d, scoreText, scoreX, scoreY, font, Color.BLACK);
+    }
+    
+    /**
+     * 정적인 부분 그리기 (frameLayer 이미지에 한 번만 그림)
+     */
+    private void paintFrame(Graphics2D g2d, int width, int height) {
+        int headerHeight = HEADER_ROWS * cellSize;
+        
         // 배경 그리기
         g2d.setColor(new Color(255, 248, 235));
         g2d.fillRect(0, 0, width, height);
         
         // "SCORE" 텍스트
-        g2d.setFont(new Font("Arial", Font.BOLD, fontSize));
+        g2d.setFont(FontManager.getFont("Arial", Font.BOLD, fontSize));
         g2d.setColor(Color.BLACK);
         String text = "SCORE";
         FontMetrics fm = g2d.getFontMetrics();
@@ -85,12 +114,6 @@ public class ScorePanel extends JPanel {
         // 헤더 구분선
         g2d.drawLine(0, headerHeight, width, headerHeight);
         
-        // 점수 표시
-        String scoreText = String.valueOf(score);
-        int scoreX = (width - fm.stringWidth(scoreText)) / 2;
-        int scoreY = headerHeight + (height - headerHeight) / 2 + fm.getAscent() / 2;
-        g2d.drawString(scoreText, scoreX, scoreY);
-        
         // 테두리
         g2d.setColor(Color.BLACK);
         g2d.drawRect(0, 0, width - 1, height - 1);
@@ -0,0 +1,79 @@
+package game.panels;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * 매 프레임 똑같이 그려지는 부분(배경, 격자, 테두리, 제목 글자)을 한 번 그려 둔 이미지
+ *
+ * 크기가 같으면 이미지를 그대로 복사하고, 크기가 바뀌거나 invalidate()가 호출되면
+ * 다음 draw()에서 다시 그립니다. 셀 크기/폰트 크기가 바뀔 때(GameView의 크기 조절) invalidate()합니다.
+ * EDT에서만 사용합니다.
+ */
+final class StaticLayer {
+
+    /**
+     * 정적 내용을 그리는 함수 (이미지의 (0,0)이 패널의 (0,0))
+     */
+    interface Painter {
+        void paint(Graphics2D g, int width, int height);
+    }
+
+    private final boolean opaque;
+    private final Painter painter;
+    private BufferedImage image;
+
+    /**
+     * @param opaque 이미지 전체를 불투명하게 채우는 내용이면 true (투명 영역이 있으면 false)
+     */
+    StaticLayer(boolean opaque, Painter painter) {
+        this.opaque = opaque;
+        this.painter = painter;
+    }
+
+    /**
+     * 다음 draw()에서 다시 그리도록 표시
+     */
+    void invalidate() {
+        image = null;
+    }
+
+    boolean isValid() {
+        return image != null;
+    }
+
+    /**
+     * 그려 둔 이미지를 (0,0)에 복사 (없거나 크기가 다르면 새로 그림)
+     */
+    void draw(Graphics2D g, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            image = compatibleImage(width, height, opaque ? Transparency.OPAQUE : Transparency.TRANSLUCENT);
+            Graphics2D ig = image.createGraphics();
+            try {
+                painter.paint(ig, width, height);
+            } finally {
+                ig.dispose();
+            }
+        }
+        g.drawImage(image, 0, 0, null);
+    }
+
+    /**
+     * 화면과 같은 픽셀 형식의 이미지 (헤드리스면 일반 BufferedImage)
+     */
+    static BufferedImage compatibleImage(int width, int height, int transparency) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDefaultConfiguration();
+            return gc.createCompatibleImage(width, height, transparency);
+        }
+        return new BufferedImage(width, height,
+            transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+    }
+}
@@ -1,17 +1,27 @@
 package network;
 
+import network.transport.SocketTransport;
+import network.transport.SimulatedTransportProvider;
+import network.transport.Transport;
+import network.transport.TransportListener;
+import network.transport.TransportProvider;
+
 import java.io.*;
 import java.net.*;
 import java.util.concurrent.atomic.AtomicBoolean;  //Thread-safe한 boolean 값 제공
 
 /**
  * 네트워크 연결 관리자
- * Socket 연결을 생성하고 관리하며, 입출력 스트림을 제공합니다.
+ * 연결을 생성하고 관리하며, 입출력 스트림을 제공합니다.
+ * 
+ * 실제 연결은 TransportProvider가 만듭니다. 기본은 TCP 소켓이고
+ * (-Dtetris.netsim=프로파일 지정 시 NetworkSimulator 조건을 입힌 소켓), 테스트에서는 LoopbackNetwork를 넘겨 소켓 없이 같은 흐름을 실행할 수 있습니다.
  */
 public class ConnectionManager {
+    private final TransportProvider transportProvider;
     private NetworkRole role;                    // 현재 역할 (SERVER 또는 CLIENT)
-    private ServerSocket serverSocket;           // 서버 소켓 (서버 모드에서만 사용)
-    private Socket socket;                       // 연결된 소켓 (양방향 통신용)
+    private TransportListener listener;          // 접속 대기 포트 (서버 모드에서만 사용)
+    private Transport transport;                 // 연결된 전송 계층 (양방향 통신용)
     private ObjectOutputStream out;              // 객체 송신 스트림
     private ObjectInputStream in;                // 객체 수신 스트림
     
@@ -24,6 +34,17 @@ public class ConnectionManager {
     private String remoteAddress;                // 상대방 IP 주소
     private int remotePort;                      // 상대방 포트 번호
     
+    public ConnectionManager() {
+        this(SimulatedTransportProvider.fromSystemProperties());
+    }
+    
+    /**
+     * @param transportProvider 연결을 만들 방법 (TCP 소켓 또는 LoopbackNetwork)
+     */
+    public ConnectionManager(TransportProvider transportProvider) {
+        this.transportProvider = transportProvider;
+    }
+    
     /**
      * 서버로 시작
      * @param port 리스닝할 포트 번호
@@ -33,30 +54,27 @@ public class ConnectionManager {
         try {
             normalShutdown = false;  // 정상 종료 플래그 초기화
             
-            // 서버 소켓 생성
-            serverSocket = new ServerSocket();
-            serverSocket.setReuseAddress(true); // 포트 재사용 허용 (좀비 프로세스 방지)
-            serverSocket.bind(new InetSocketAddress(port));
-            serverSocket.setSoTimeout(NetworkConfig.CONNECTION_TIMEOUT);    // 10초 타임아웃 설정
+            // 접속 대기 포트 열기
+            listener = transportProvider.listen(port);
             
             // 서버 역할과 정보 즉시 설정 (accept 전에!)
             this.role = NetworkRole.SERVER;  // 서버 역할 할당
-            this.localPort = port;    
-            this.localAddress = getLocalIPAddress();
+            this.localPort = listener.getLocalPort();
+            this.localAddress = listener.getLocalAddress();
             
             state = ConnectionState.CONNECTING;
             System.out.println("서버 시작: " + localAddress + ":" + localPort);
             System.out.println("클라이언트 연결 대기 중...");
             
             // 클라이언트 연결 대기 (블로킹)
-            socket = serverSocket.accept();  // 여기서 최대 10초 대기 (10초 이내에 클라이언트 접속)
+            transport = listener.accept(NetworkConfig.CONNECTION_TIMEOUT);  // 타임아웃 이내에 클라이언트 접속
             
             // 스트림 초기화
             initializeStreams();
             
             // 연결 정보 저장
-            this.remoteAddress = socket.getInetAddress().getHostAddress();   // 상대 IP주소 저장
-            this.remotePort = socket.getPort();   // 상대 포트 번호 저장 (OS가 무작위로 포트 번호 할당)
+            this.remoteAddress = transport.getRemoteAddress();   // 상대 IP주소 저장
+            this.remotePort = transport.getRemotePort();   // 상대 포트 번호 저장 (OS가 무작위로 포트 번호 할당)
             
             isConnected.set(true);    // 연결됨
             state = ConnectionState.CONNECTED;  // 연결됨 상태로 저장
@@ -95,17 +113,16 @@ public class ConnectionManager {
             System.out.println("서버에 연결 중: " + host + ":" + port);
             
             // 서버에 연결
-            socket = new Socket();
-            socket.connect(                          // 실제 TCP 연결을 수립
-                new InetSocketAddress(host, port),   // 서버 주소 & 포트번호 <- 여기로 연결, 
-                 NetworkConfig.CONNECTION_TIMEOUT);  // 타임아웃 시간 적용
+            transport = transportProvider.connect(
+                host, port,                          // 서버 주소 & 포트번호 <- 여기로 연결, 
+                NetworkConfig.CONNECTION_TIMEOUT);   // 타임아웃 시간 적용
             
             // 스트림 초기화
             initializeStreams();
             
             // 로컬 연결 정보
-            this.localAddress = socket.getLocalAddress().getHostAddress();
-            this.localPort = socket.getLocalPort();
+            this.localAddress = transport.getLocalAddress();
+            this.localPort = transport.getLocalPort();
             
             isConnected.set(true);
             state = ConnectionState.CONNECTED;
@@ -121,18 +138,93 @@ public class ConnectionManager {
         }
     }
     
+    /**
+     * 끊어진 클라이언트의 재접속 대기 (서버 소켓은 유지된 상태여야 함)
+     * @param timeoutMs 최대 대기 시간
+     * @throws ConnectionException 시간 초과 또는 서버 소켓이 닫힌 경우
+     */
+    public void acceptReconnect(int timeoutMs) throws ConnectionException {
+        if (!isServerRunning()) {
+            throw new ConnectionException("서버 소켓이 닫혀 재접속을 받을 수 없습니다.");
+        }
+        try {
+            state = ConnectionState.CONNECTING;
+            System.out.println("🔁 클라이언트 재접속 대기 중... (최대 " + timeoutMs + "ms)");
+
+            transport = listener.accept(timeoutMs);
+            initializeStreams();
+
+            this.remoteAddress = transport.getRemoteAddress();
+            this.remotePort = transport.getRemotePort();
+
+            isConnected.set(true);
+            state = ConnectionState.CONNECTED;
+            System.out.println("🔁 클라이언트 재접속: " + remoteAddress + ":" + remotePort);
+
+        } catch (SocketTimeoutException e) {
+            state = ConnectionState.TIMEOUT;
+            throw new ConnectionException("재접속 대기 시간 초과", e);
+        } catch (IOException e) {
+            state = ConnectionState.DISCONNECTED;
+            throw new ConnectionException("재접속 수락 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 마지막으로 접속했던 서버에 다시 연결
+     * @param timeoutMs 연결 시도 타임아웃
+     * @throws ConnectionException 연결 실패 시
+     */
+    public void reconnectToServer(int timeoutMs) throws ConnectionException {
+        if (remoteAddress == null) {
+            throw new ConnectionException("재연결할 서버 정보가 없습니다.");
+        }
+        try {
+            state = ConnectionState.CONNECTING;
+            System.out.println("🔁 서버 재연결 시도: " + remoteAddress + ":" + remotePort);
+
+            transport = transportProvider.connect(remoteAddress, remotePort, timeoutMs);
+            // 서버가 아직 accept하지 않았으면 스트림 헤더 대기에서 멈추지 않도록 먼저 타임아웃 설정
+            transport.setReadTimeout(NetworkConfig.READ_TIMEOUT);
+            initializeStreams();
+
+            this.localAddress = transport.getLocalAddress();
+            this.localPort = transport.getLocalPort();
+
+            isConnected.set(true);
+            state = ConnectionState.CONNECTED;
+            System.out.println("🔁 서버 재연결 완료");
+
+        } catch (IOException e) {
+            closeQuietly(transport);
+            state = ConnectionState.DISCONNECTED;
+            throw new ConnectionException("서버 재연결 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 현재 소켓과 스트림만 닫기 (서버 소켓은 재접속을 위해 유지)
+     */
+    public void closeTransport() {
+        isConnected.set(false);
+        state = ConnectionState.DISCONNECTED;
+        closeQuietly(out);
+        closeQuietly(in);
+        closeQuietly(transport);
+    }
+
     /**
      * 입출력 스트림 초기화
      */
     private void initializeStreams() throws IOException {
         // OutputStream을 먼저 생성해야 deadlock 방지 (데이터 보내기용)
-        out = new ObjectOutputStream(socket.getOutputStream());
+        out = new ObjectOutputStream(transport.getOutputStream());
         out.flush();   // 버퍼에 쌓여있는 데이터 즉시 전송
         
-        in = new ObjectInputStream(socket.getInputStream());  // InputStream 생성 (데이터 받기용)
+        in = new ObjectInputStream(transport.getInputStream());  // InputStream 생성 (데이터 받기용)
         
         // 타임아웃 설정 (5초)
-        socket.setSoTimeout(NetworkConfig.READ_TIMEOUT);
+        transport.setReadTimeout(NetworkConfig.READ_TIMEOUT);
     }
     
     /**
@@ -149,9 +241,9 @@ public class ConnectionManager {
         closeQuietly(out);
         closeQuietly(in);
         
-        // 소켓 닫기
-        closeQuietly(socket);
-        closeQuietly(serverSocket);
+        // 연결 및 대기 포트 닫기
+        closeQuietly(transport);
+        closeQuietly(listener);
         
         System.out.println("연결 종료 완료");
     }
@@ -169,56 +261,6 @@ public class ConnectionManager {
         }
     }
     
-    /**
-     * 로컬 IP 주소 가져오기
-     */
-    private String getLocalIPAddress() {
-        try {
-            // 네트워크 인터페이스 순회
-            var interfaces = NetworkInterface.getNetworkInterfaces();
-            String fallbackIP = null;
-            
-            while (interfaces.hasMoreElements()) {
-                NetworkInterface iface = interfaces.nextElement();
-                
-                // 루프백과 비활성 인터페이스 제외
-                if (iface.isLoopback() || !iface.isUp()) {
-                    continue;
-                }
-                
-                // IP 주소 순회
-                var addresses = iface.getInetAddresses();
-                while (addresses.hasMoreElements()) {
-                    InetAddress addr = addresses.nextElement();
-                    
-                    // IPv4만 사용
-                    if (addr instanceof Inet4Address && !addr.isLoopbackAddress()) {
-                        String ip = addr.getHostAddress();
-                        
-                        // 사설 네트워크 대역이면 바로 반환
-                        if (ip.startsWith("192.168.") || ip.startsWith("10.") || ip.startsWith("172.")) {
-                            return ip;
-                        }
-                        
-                        // 공인 IP는 fallback으로 저장
-                        if (fallbackIP == null) {
-                            fallbackIP = ip;
-                        }
-                    }
-                }
-            }
-            
-            // 사설 IP 못 찾으면 fallback 또는 localhost
-            if (fallbackIP != null) {
-                return fallbackIP;
-            }
-            return InetAddress.getLocalHost().getHostAddress();
-            
-        } catch (Exception e) {
-            return "127.0.0.1";
-        }
-    }
-    
     // ===== Getter 메서드 =====
     
     public boolean isConnected() {
@@ -269,15 +311,22 @@ public class ConnectionManager {
         return in;
     }
     
+    /**
+     * 연결된 TCP 소켓 (소켓이 아닌 전송 계층이면 null)
+     */
     public Socket getSocket() {
-        return socket;
+        return transport instanceof SocketTransport ? ((SocketTransport) transport).getSocket() : null;
+    }
+    
+    public Transport getTransport() {
+        return transport;
     }
     
     /**
      * 서버 소켓이 실행 중인지 확인
      */
     public boolean isServerRunning() {
-        return serverSocket != null && !serverSocket.isClosed();
+        return listener != null && !listener.isClosed();
     }
     
     /**
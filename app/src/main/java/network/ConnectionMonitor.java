@@ -44,6 +44,12 @@ public class ConnectionMonitor extends Thread {
         long rtt = receivedTime - lastHeartbeatSent;
         latencyMonitor.recordLatency(rtt);
         
+        // 송신 속도 조절기에 RTT 추세 전달
+        SendRateController rateController = sender.getRateController();
+        if (rateController != null) {
+            rateController.onRttSample(rtt);
+        }
+        
         // 랙 상태 확인
         if (latencyMonitor.isLagging()) {
             updateState(ConnectionState.LAGGING);
@@ -83,8 +89,14 @@ public class ConnectionMonitor extends Thread {
      */
     private void sendHeartbeat() {
         lastHeartbeatSent = System.currentTimeMillis();
-        HeartbeatMessage heartbeat = new HeartbeatMessage();
-        sender.sendMessage(heartbeat);
+        sender.sendMessage(createHeartbeat());
+    }
+    
+    /**
+     * 새 Heartbeat 메시지 (릴레이 서버가 대기 중인 클라이언트에 응답할 때도 사용)
+     */
+    public static NetworkMessage createHeartbeat() {
+        return new HeartbeatMessage();
     }
     
     /**
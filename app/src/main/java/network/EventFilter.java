@@ -1,6 +1,7 @@
 package network;
 
 import game.events.*;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -15,44 +16,19 @@ public class EventFilter {
     /**
      * 네트워크 동기화가 필요한 이벤트 타입 목록
      * 
-     * 포함된 이벤트만 네트워크로 전송됩니다:
+     * 동기화 여부는 EventCodecRegistry에 이벤트별로 등록되어 있으며, 포함된 이벤트만 네트워크로 전송됩니다:
      * - BlockSpawnedEvent: 새 블록 생성 (상대방 화면에 표시 필요)
      * - BlockMovedEvent: 블록 이동 (실시간 동기화 필요)
      * - BlockRotatedEvent: 블록 회전 (실시간 동기화 필요)
      * - BlockPlacedEvent: 블록 배치 (상대방 화면 업데이트 필요)
      * - LineClearedEvent: 라인 삭제 (공격 판정 필요)
+     * - AttackAppliedEvent: 공격 줄 적용 (상대방 화면에 시각적 표시용)
      * - ScoreUpdateEvent: 점수 업데이트 (상대방 화면에 표시 필요)
      * - GameOverEvent: 게임 오버 (승패 판정 필요)
+     * - BoardSnapshotEvent: 세션 재개 후 전체 보드 재동기화
      */
-    private static final Set<Class<? extends GameEvent>> SYNC_EVENTS = new HashSet<>();
-    
-    static {
-        // 블록 관련 이벤트 (필수 동기화)
-        SYNC_EVENTS.add(BlockSpawnedEvent.class);
-        SYNC_EVENTS.add(BlockMovedEvent.class);
-        SYNC_EVENTS.add(BlockRotatedEvent.class);
-        SYNC_EVENTS.add(BlockPlacedEvent.class);
-        
-        // 게임 진행 이벤트 (필수 동기화)
-        SYNC_EVENTS.add(LineClearedEvent.class);
-        SYNC_EVENTS.add(ScoreUpdateEvent.class);
-        SYNC_EVENTS.add(GameOverEvent.class);
-        
-        // 공격 관련 이벤트: AttackAppliedEvent는 상대방 화면에 시각적 표시용
-        SYNC_EVENTS.add(AttackAppliedEvent.class);
-        
-        // 아이템 관련 이벤트 (있는 경우)
-        try {
-            Class<?> itemEventClass = Class.forName("game.events.ItemUsedEvent");
-            if (GameEvent.class.isAssignableFrom(itemEventClass)) {
-                @SuppressWarnings("unchecked")
-                Class<? extends GameEvent> itemEvent = (Class<? extends GameEvent>) itemEventClass;
-                SYNC_EVENTS.add(itemEvent);
-            }
-        } catch (ClassNotFoundException e) {
-            // ItemUsedEvent가 없으면 무시
-        }
-    }
+    private static final Set<Class<? extends GameEvent>> SYNC_EVENTS =
+        Collections.unmodifiableSet(EventCodecRegistry.getSyncEventClasses());
     
     /**
      * 이벤트가 네트워크 동기화가 필요한지 확인
@@ -65,8 +41,8 @@ public class EventFilter {
             return false;
         }
         
-        // 이벤트 클래스가 SYNC_EVENTS에 포함되어 있는지 확인
-        boolean shouldSync = SYNC_EVENTS.contains(event.getClass());
+        // 클래스별로 미리 계산된 동기화 여부 확인
+        boolean shouldSync = EventCodecRegistry.isSync(event);
         
         // 디버그 로깅 (필터링된 이벤트는 로그 출력 안 함)
         if (!shouldSync) {
@@ -96,7 +72,7 @@ public class EventFilter {
      * @return 동기화 대상이면 true
      */
     public static boolean isSyncEvent(Class<? extends GameEvent> eventClass) {
-        return SYNC_EVENTS.contains(eventClass);
+        return EventCodecRegistry.isSync(eventClass);
     }
     
     /**
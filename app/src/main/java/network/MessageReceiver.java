@@ -12,10 +12,21 @@ import java.util.List;
 public class MessageReceiver extends Thread {
     private final ObjectInputStream in;
     private final List<MessageListener> listeners;
+    private final SequenceTracker sequenceTracker;
     private volatile boolean running = true;
     
     public MessageReceiver(ObjectInputStream in) {
+        this(in, new SequenceTracker());
+    }
+    
+    /**
+     * 기존 수신 기록을 이어서 사용 (재연결 시 사용)
+     * @param in 새 연결의 입력 스트림
+     * @param sequenceTracker 이전 연결의 수신 시퀀스 추적기
+     */
+    public MessageReceiver(ObjectInputStream in, SequenceTracker sequenceTracker) {
         this.in = in;
+        this.sequenceTracker = sequenceTracker;
         this.listeners = new ArrayList<>();
         setDaemon(true);
         setName("MessageReceiver-Thread");
@@ -51,6 +62,12 @@ public class MessageReceiver extends Thread {
                 System.out.println("메시지 수신: " + message + 
                                  " (지연: " + message.getElapsedTime() + "ms)");
                 
+                // 시퀀스 검사 - 이미 받은 메시지는 다시 전달하지 않음
+                if (sequenceTracker.track(message) == SequenceTracker.Result.DUPLICATE) {
+                    System.out.println("🚫 [MessageReceiver] 중복 메시지 무시: " + message.getMessageId());
+                    continue;
+                }
+                
                 // 모든 리스너에게 메시지 전달
                 notifyListeners(message);
                 
@@ -106,6 +123,13 @@ public class MessageReceiver extends Thread {
         }
     }
     
+    /**
+     * 수신 시퀀스 추적기 (누락/중복/순서 통계)
+     */
+    public SequenceTracker getSequenceTracker() {
+        return sequenceTracker;
+    }
+    
     /**
      * 수신 스레드 중지
      */
@@ -2,8 +2,12 @@ package network;
 
 import network.messages.NetworkMessage;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 메시지 송신 스레드
@@ -13,9 +17,34 @@ public class MessageSender extends Thread {
     private final ObjectOutputStream out;
     private final BlockingQueue<NetworkMessage> messageQueue;
     private volatile boolean running = true;
+    private final AtomicInteger unsentCount = new AtomicInteger();  // 큐 대기 + 쓰는 중인 메시지 수
+    
+    // 세션 ID, 시퀀스 번호, 최근 전송 메시지 (재연결 후에도 이어서 사용)
+    private final RetransmitBuffer retransmitBuffer;
+    
+    // 큐 깊이/쓰기 시간 관측값을 받는 송신 속도 조절기 (없으면 null)
+    private volatile SendRateController rateController;
     
     public MessageSender(ObjectOutputStream out) {
+        this(out, newSessionId());
+    }
+    
+    /**
+     * @param out 출력 스트림
+     * @param sessionId 이 연결에서 사용할 세션 ID
+     */
+    public MessageSender(ObjectOutputStream out, int sessionId) {
+        this(out, new RetransmitBuffer(sessionId));
+    }
+    
+    /**
+     * 기존 세션을 이어서 전송 (재연결 시 사용)
+     * @param out 새 연결의 출력 스트림
+     * @param retransmitBuffer 이전 연결에서 사용하던 세션 상태
+     */
+    public MessageSender(ObjectOutputStream out, RetransmitBuffer retransmitBuffer) {
         this.out = out;
+        this.retransmitBuffer = retransmitBuffer;
         this.messageQueue = new LinkedBlockingQueue<>(NetworkConfig.MESSAGE_QUEUE_SIZE);
         setDaemon(true);  // 메인 스레드 종료 시 자동 종료
         setName("MessageSender-Thread");
@@ -32,7 +61,15 @@ public class MessageSender extends Thread {
         }
         
         try {
+            unsentCount.incrementAndGet();
             boolean offered = messageQueue.offer(message);  // 큐가 가득 차면 false 반환
+            if (!offered) {
+                unsentCount.decrementAndGet();
+            }
+            SendRateController rc = rateController;
+            if (rc != null) {
+                rc.onQueueDepth(messageQueue.size());
+            }
             System.out.println("[DEBUG MessageSender] offer result=" + offered + ", queueSize=" + messageQueue.size());
             return offered;
         } catch (Exception e) {
@@ -50,11 +87,23 @@ public class MessageSender extends Thread {
                 // 큐에서 메시지 가져오기 (메시지가 없으면 대기)
                 NetworkMessage message = messageQueue.take();
                 
+                // 실제 전송 순서대로 시퀀스 번호 부여 (큐 오버플로로 버려진 메시지는 번호를 소모하지 않음)
+                retransmitBuffer.stamp(message);
+                
                 // 메시지 전송
                 System.out.println("[DEBUG MessageSender] writeObject 시작: " + message);
-                out.writeObject(message);
-                out.flush();
-                out.reset();  // 객체 캐시 초기화 (메모리 누수 방지)
+                long writeStart = System.nanoTime();
+                try {
+                    out.writeObject(message);
+                    out.flush();
+                    out.reset();  // 객체 캐시 초기화 (메모리 누수 방지)
+                } finally {
+                    unsentCount.decrementAndGet();
+                }
+                SendRateController rc = rateController;
+                if (rc != null) {
+                    rc.onWrite((System.nanoTime() - writeStart) / 1_000_000, messageQueue.size());
+                }
                 System.out.println("[DEBUG MessageSender] writeObject 완료: " + message + ", queueSize(after take)=" + messageQueue.size());
                 
             } catch (InterruptedException e) {
@@ -79,6 +128,76 @@ public class MessageSender extends Thread {
         interrupt();  // 대기 중인 스레드 깨우기
     }
     
+    /**
+     * 이 연결의 세션 ID
+     */
+    public int getSessionId() {
+        return retransmitBuffer.getSessionId();
+    }
+    
+    /**
+     * 마지막으로 부여한 시퀀스 번호
+     */
+    public long getLastSequence() {
+        return retransmitBuffer.getLastSequence();
+    }
+    
+    /**
+     * 세션 상태 및 재전송 버퍼
+     */
+    public RetransmitBuffer getRetransmitBuffer() {
+        return retransmitBuffer;
+    }
+    
+    /**
+     * 송신 속도 조절기 연결 (큐 깊이와 메시지별 쓰기 시간을 전달)
+     */
+    public void setRateController(SendRateController rateController) {
+        this.rateController = rateController;
+    }
+    
+    public SendRateController getRateController() {
+        return rateController;
+    }
+    
+    /**
+     * 아직 전송하지 못한 메시지를 큐에서 꺼내 반환 (재연결 시 새 송신 스레드로 옮기기 위함)
+     */
+    public List<NetworkMessage> drainPending() {
+        List<NetworkMessage> pending = new ArrayList<>();
+        messageQueue.drainTo(pending);
+        unsentCount.addAndGet(-pending.size());
+        return pending;
+    }
+    
+    /**
+     * 큐에 있던 메시지가 모두 스트림에 쓰일 때까지 최대 timeoutMs 동안 대기
+     * @return 모두 전송되었으면 true
+     */
+    public boolean awaitFlushed(long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (unsentCount.get() > 0 && isAlive() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return unsentCount.get() <= 0;
+    }
+    
+    /**
+     * 새 세션 ID 생성 (SecureRandom 대신 가벼운 난수 사용, 0 제외)
+     */
+    static int newSessionId() {
+        int id;
+        do {
+            id = ThreadLocalRandom.current().nextInt();
+        } while (id == 0);
+        return id;
+    }
+    
     /**
      * 큐에 남은 메시지 개수
      */
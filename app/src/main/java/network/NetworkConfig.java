@@ -19,10 +19,38 @@ public class NetworkConfig {
     // 재연결 설정
     public static final int MAX_RECONNECT_ATTEMPTS = 3;   // 최대 재연결 시도 횟수
     public static final int RECONNECT_DELAY = 2000;      // 2초 (재연결 대기 시간)
+    public static final int RESUME_TIMEOUT = MAX_RECONNECT_ATTEMPTS * RECONNECT_DELAY * 2;  // 서버측 재접속 대기 시간
+    
+    // 세션 재개용 재전송 버퍼 크기 (이보다 많이 놓치면 전체 상태 재동기화)
+    public static final int RETRANSMIT_BUFFER_SIZE = 64;
     
     // 메시지 큐 크기
     public static final int MESSAGE_QUEUE_SIZE = 100;  // 최대 메시지 큐 크기
+
+    // 관전 설정 (호스트가 SpectatorHub로 양쪽 이벤트를 중계)
+    public static final int SPECTATOR_PORT = 12346;        // 관전자 접속 포트
+    public static final int SPECTATOR_QUEUE_SIZE = 256;    // 관전자별 대기 프레임 수 (넘치면 최신 상태로 따라잡기)
+    public static final int MAX_SPECTATORS = 16;           // 최대 관전자 수
+    
+    // 메모리 루프백 전송 (LoopbackNetwork, 테스트/시뮬레이션용)
+    public static final int LOOPBACK_BUFFER_SIZE = 64 * 1024;     // 방향별 링 버퍼 크기 (bytes)
+    public static final int LOOPBACK_RETRANSMIT_TIMEOUT = 200;    // 손실 패킷의 첫 재전송 지연 (ms, 재시도마다 두 배)
     
+    // 실험용 네트워크 조건 (예: -Dtetris.netsim=3g, SimulatedTransportProvider)
+    public static final String SIMULATOR_PROPERTY = "tetris.netsim";            // 프로파일/스크립트 이름
+    public static final String SIMULATOR_SEED_PROPERTY = "tetris.netsim.seed";  // 난수 시드 (재현용, 선택)
+    public static final int SIMULATOR_QUEUE_SIZE = 256 * 1024;                  // 전송 대기열 크기 (bytes, 넘치면 쓰기 대기)
+    
+    // 외형 업데이트(블록 위치, 점수) 송신 속도 조절 (SendRateController)
+    public static final int RATE_EVAL_INTERVAL = 200;      // 혼잡 판단 주기 (ms)
+    public static final int RATE_QUEUE_HIGH_WATER = 20;    // 이 이상 쌓이면 혼잡
+    public static final int RATE_QUEUE_LOW_WATER = 4;      // 이 이하면 여유
+    public static final int RATE_WRITE_STALL_MS = 50;      // 메시지 하나 쓰는 데 이보다 오래 걸리면 쓰기 지연
+    public static final int RATE_RTT_RISE_MS = 30;         // 단기 RTT가 기준선보다 이만큼(그리고 1.5배) 높으면 상승 추세
+    public static final int RATE_MIN_INTERVAL = 50;        // 제한 시 최소 간격 (초당 20회)
+    public static final int RATE_MAX_INTERVAL = 500;       // 최저 속도 (초당 2회)
+    public static final int RATE_RECOVERY_STEP = 25;       // 여유가 있을 때 판단마다 줄이는 간격
+
     private NetworkConfig() {
         // 인스턴스화 방지
     }
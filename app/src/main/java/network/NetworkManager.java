@@ -3,28 +3,67 @@ package network;
 import network.messages.NetworkMessage;
 import network.messages.MessageType;
 import network.messages.GameControlMessage;
+import network.messages.SessionMessage;
+import network.transport.TransportProvider;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 네트워크 총괄 관리자
  * ConnectionManager, MessageSender, MessageReceiver, ConnectionMonitor를 통합 관리합니다.
+ * 
+ * 일시적인 연결 끊김(수신 오류, Heartbeat 타임아웃) 시 바로 종료하지 않고 세션 재개를 시도합니다.
+ * - 클라이언트는 RECONNECT_DELAY 간격으로 최대 MAX_RECONNECT_ATTEMPTS번 재접속
+ * - 서버는 유지 중인 서버 소켓으로 재접속을 기다림
+ * - 양쪽이 (세션 ID, 마지막 수신 번호)를 교환한 뒤 놓친 메시지를 재전송 버퍼에서 다시 보냄
+ * - 재전송 버퍼에서 이미 밀려난 경우 SessionListener에 전체 상태 재동기화를 요청
  */
 public class NetworkManager {
     private ConnectionManager connectionManager;
-    private MessageSender messageSender;
-    private MessageReceiver messageReceiver;
-    private ConnectionMonitor connectionMonitor;
+    private volatile MessageSender messageSender;
+    private volatile MessageReceiver messageReceiver;
+    private volatile ConnectionMonitor connectionMonitor;
     private DisconnectionHandler disconnectionHandler;
     
     private NetworkRole role;
-    private ConnectionState state;
+    private volatile ConnectionState state;
     // GameControlMessage 리스너 목록
     private final List<GameControlListener> gameControlListeners = new ArrayList<>();
+    // 외부 메시지 리스너 목록 (재연결로 MessageReceiver가 바뀌어도 유지)
+    private final List<MessageReceiver.MessageListener> messageListeners = new ArrayList<>();
+    
+    // 세션 재개 상태 (연결이 바뀌어도 유지)
+    private RetransmitBuffer retransmitBuffer;
+    private SequenceTracker sequenceTracker;
+    private final AtomicBoolean resuming = new AtomicBoolean(false);
+    private final Object pendingLock = new Object();
+    private final List<NetworkMessage> pendingWhileResuming = new ArrayList<>();
+    private volatile boolean closing = false;       // 로컬에서 정상 종료 중
+    private volatile boolean peerClosed = false;    // 상대방이 정상 종료를 알림
+    private volatile int resumeCount = 0;
+    private SessionListener sessionListener;
+    
+    // 외형 업데이트 송신 속도 조절 (연결이 바뀌어도 유지)
+    private final SendRateController rateController = new SendRateController();
     
     public NetworkManager() {
-        this.connectionManager = new ConnectionManager();
+        this(new ConnectionManager());
+    }
+    
+    /**
+     * 지정한 전송 계층으로 연결 (예: 테스트용 LoopbackNetwork)
+     */
+    public NetworkManager(TransportProvider transportProvider) {
+        this(new ConnectionManager(transportProvider));
+    }
+    
+    private NetworkManager(ConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
         this.state = ConnectionState.DISCONNECTED;
     }
     
@@ -69,16 +108,47 @@ public class NetworkManager {
     }
     
     /**
-     * 송수신 스레드 및 모니터 초기화
+     * 세션 재개 결과 리스너 설정
+     */
+    public void setSessionListener(SessionListener listener) {
+        this.sessionListener = listener;
+    }
+    
+    /**
+     * 송수신 스레드 및 모니터 초기화 (새 세션)
      */
     private void initializeThreads() {
-        // MessageSender 시작
-        messageSender = new MessageSender(connectionManager.getOutputStream());
+        closing = false;
+        peerClosed = false;
+        resumeCount = 0;
+        retransmitBuffer = new RetransmitBuffer(MessageSender.newSessionId());
+        sequenceTracker = new SequenceTracker();
+        rateController.reset();
+        startThreads(new ArrayList<>());
+    }
+    
+    /**
+     * 현재 연결의 스트림으로 송수신 스레드 및 모니터 시작
+     * @param preload 송신 스레드 시작 전에 큐에 넣을 메시지 (재전송분 등)
+     */
+    private void startThreads(List<NetworkMessage> preload) {
+        // MessageSender 시작 (세션 상태는 이어서 사용)
+        MessageSender sender = new MessageSender(connectionManager.getOutputStream(), retransmitBuffer);
+        sender.setRateController(rateController);
+        for (NetworkMessage message : preload) {
+            sender.sendMessage(message);
+        }
+        messageSender = sender;
         messageSender.start();
         
         // MessageReceiver 시작
-        messageReceiver = new MessageReceiver(connectionManager.getInputStream());
+        messageReceiver = new MessageReceiver(connectionManager.getInputStream(), sequenceTracker);
         messageReceiver.addMessageListener(new InternalMessageListener());
+        synchronized (messageListeners) {
+            for (MessageReceiver.MessageListener listener : messageListeners) {
+                messageReceiver.addMessageListener(listener);
+            }
+        }
         messageReceiver.start();
         
         // ConnectionMonitor 시작
@@ -87,8 +157,11 @@ public class NetworkManager {
             state = newState;
             System.out.println("네트워크 상태: " + newState);
             
-            // 타임아웃 시 연결 종료 및 핸들러 호출
+            // 타임아웃 시 세션 재개 시도, 불가능하면 연결 종료 및 핸들러 호출
             if (newState == ConnectionState.TIMEOUT) {
+                if (tryBeginResume("Heartbeat 타임아웃")) {
+                    return;
+                }
                 System.err.println("연결 타임아웃! 연결을 종료합니다.");
                 disconnect();
                 
@@ -105,6 +178,18 @@ public class NetworkManager {
      * 메시지 전송
      */
     public boolean sendMessage(NetworkMessage message) {
+        // 재연결 중에는 보관했다가 세션 재개 후 전송
+        if (resuming.get()) {
+            synchronized (pendingLock) {
+                if (resuming.get()) {
+                    if (pendingWhileResuming.size() >= NetworkConfig.MESSAGE_QUEUE_SIZE) {
+                        return false;
+                    }
+                    pendingWhileResuming.add(message);
+                    return true;
+                }
+            }
+        }
         if (messageSender == null) {
             System.err.println("MessageSender가 초기화되지 않았습니다.");
             return false;
@@ -116,6 +201,9 @@ public class NetworkManager {
      * 메시지 리스너 등록
      */
     public void addMessageListener(MessageReceiver.MessageListener listener) {
+        synchronized (messageListeners) {
+            messageListeners.add(listener);
+        }
         if (messageReceiver != null) {
             messageReceiver.addMessageListener(listener);
         }
@@ -125,6 +213,9 @@ public class NetworkManager {
      * 메시지 리스너 제거
      */
     public void removeMessageListener(MessageReceiver.MessageListener listener) {
+        synchronized (messageListeners) {
+            messageListeners.remove(listener);
+        }
         if (messageReceiver != null) {
             messageReceiver.removeMessageListener(listener);
         }
@@ -136,6 +227,13 @@ public class NetworkManager {
     public void disconnect() {
         System.out.println("네트워크 연결 종료 중...");
         
+        // 정상 종료를 상대방에게 알려 재연결을 시도하지 않도록 함
+        if (!closing && !resuming.get() && messageSender != null && connectionManager.isConnected()) {
+            closing = true;
+            messageSender.sendMessage(SessionMessage.close(messageSender.getSessionId()));
+            messageSender.awaitFlushed(200);
+        }
+        closing = true;
         state = ConnectionState.DISCONNECTED;
         
         // 모든 스레드 종료
@@ -189,6 +287,235 @@ public class NetworkManager {
         return connectionMonitor;
     }
     
+    /**
+     * 외형 업데이트 송신 속도 조절기 (EventSynchronizer가 블록 이동/점수 전송 전에 확인)
+     */
+    public SendRateController getSendRateController() {
+        return rateController;
+    }
+    
+    /**
+     * 세션 재개(재연결) 진행 중 여부
+     */
+    public boolean isResuming() {
+        return resuming.get();
+    }
+    
+    /**
+     * 세션 재개에 성공한 횟수
+     */
+    public int getResumeCount() {
+        return resumeCount;
+    }
+
+    /**
+     * 아직 보내지 못한 메시지 수 (송신 큐 + 재연결 중 보관분)
+     */
+    public int getPendingMessageCount() {
+        MessageSender sender = messageSender;
+        int queued = sender != null ? sender.getQueueSize() : 0;
+        synchronized (pendingLock) {
+            return queued + pendingWhileResuming.size();
+        }
+    }
+
+    /**
+     * 등록된 메시지 리스너 + 게임 제어 리스너 수 (화면을 닫을 때 해제했는지 확인용)
+     */
+    public int getListenerCount() {
+        int count;
+        synchronized (messageListeners) {
+            count = messageListeners.size();
+        }
+        synchronized (gameControlListeners) {
+            return count + gameControlListeners.size();
+        }
+    }
+
+    // ===== 세션 재개 =====
+    
+    /**
+     * 연결 끊김 시 세션 재개 시작
+     * @return 재개를 시작했거나 이미 진행 중이면 true, 재개 대상이 아니면 false
+     */
+    private boolean tryBeginResume(String reason) {
+        if (closing || peerClosed || role == null || retransmitBuffer == null
+                || sequenceTracker == null || sequenceTracker.getReceivedCount() == 0) {
+            return false;
+        }
+        if (!resuming.compareAndSet(false, true)) {
+            return true;
+        }
+        state = ConnectionState.CONNECTING;
+        System.out.println("🔁 [NetworkManager] 연결 끊김 감지 (" + reason + ") - 세션 재개 시도");
+        
+        Thread resumeThread = new Thread(this::runResume, "SessionResume-Thread");
+        resumeThread.setDaemon(true);
+        resumeThread.start();
+        return true;
+    }
+    
+    /**
+     * 재접속 → 핸드셰이크 → 재전송 순서로 세션 재개 (별도 스레드)
+     */
+    private void runResume() {
+        // 1. 기존 스레드 정리 (아직 보내지 못한 메시지는 새 연결로 옮김)
+        List<NetworkMessage> carried = new ArrayList<>();
+        if (connectionMonitor != null) {
+            connectionMonitor.shutdown();
+        }
+        if (messageSender != null) {
+            messageSender.shutdown();
+            carried.addAll(messageSender.drainPending());
+        }
+        if (messageReceiver != null) {
+            messageReceiver.shutdown();
+        }
+        connectionManager.closeTransport();
+        
+        // 2. 재접속 및 핸드셰이크
+        List<NetworkMessage> replay = null;
+        boolean resumed = false;
+        for (int attempt = 1; attempt <= NetworkConfig.MAX_RECONNECT_ATTEMPTS && !closing; attempt++) {
+            try {
+                if (role == NetworkRole.CLIENT) {
+                    Thread.sleep(NetworkConfig.RECONNECT_DELAY);
+                    connectionManager.reconnectToServer(NetworkConfig.RECONNECT_DELAY);
+                } else {
+                    connectionManager.acceptReconnect(NetworkConfig.RESUME_TIMEOUT / NetworkConfig.MAX_RECONNECT_ATTEMPTS);
+                }
+                long peerLastReceived = performResumeHandshake();
+                replay = retransmitBuffer.collectAfter(peerLastReceived);
+                resumed = true;
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ResumeRejectedException e) {
+                System.err.println("🔁 [NetworkManager] 세션 재개 거절: " + e.getMessage());
+                connectionManager.closeTransport();
+                break;
+            } catch (Exception e) {
+                System.err.println("🔁 [NetworkManager] 재연결 시도 " + attempt + "/" +
+                    NetworkConfig.MAX_RECONNECT_ATTEMPTS + " 실패: " + e.getMessage());
+                connectionManager.closeTransport();
+            }
+        }
+        
+        if (!resumed || closing) {
+            resuming.set(false);
+            failResume();
+            return;
+        }
+        
+        // 3. 재전송분 → 끊기기 전 미전송분 → 재연결 중 보관분 순서로 새 송신 스레드에 적재
+        boolean resyncRequired = (replay == null);
+        int replayed = resyncRequired ? 0 : replay.size();
+        synchronized (pendingLock) {
+            List<NetworkMessage> preload = new ArrayList<>();
+            if (replay != null) {
+                preload.addAll(replay);
+            }
+            preload.addAll(carried);
+            preload.addAll(pendingWhileResuming);
+            pendingWhileResuming.clear();
+            startThreads(preload);
+            state = ConnectionState.CONNECTED;
+            resuming.set(false);
+        }
+        resumeCount++;
+        
+        System.out.println("✅ [NetworkManager] 세션 재개 완료 (재전송 " + replayed + "개" +
+            (resyncRequired ? ", 전체 상태 재동기화 필요" : "") + ")");
+        
+        SessionListener listener = sessionListener;
+        if (listener != null) {
+            try {
+                if (resyncRequired) {
+                    listener.onResyncRequired();
+                } else {
+                    listener.onSessionResumed(replayed);
+                }
+            } catch (Exception e) {
+                System.err.println("SessionListener 처리 중 오류: " + e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * 재연결 직후 세션 확인 및 마지막 수신 번호 교환
+     * 클라이언트가 먼저 요청하고 서버가 응답합니다.
+     * 
+     * @return 상대방이 마지막으로 받은 내 메시지의 시퀀스 번호
+     */
+    private long performResumeHandshake() throws IOException, ClassNotFoundException, ConnectionException {
+        ObjectOutputStream out = connectionManager.getOutputStream();
+        ObjectInputStream in = connectionManager.getInputStream();
+        
+        int mySession = retransmitBuffer.getSessionId();
+        int peerSession = sequenceTracker.getSessionId();
+        long lastReceived = sequenceTracker.getHighestSequence();
+        
+        if (role == NetworkRole.CLIENT) {
+            writeSessionMessage(out, new SessionMessage(
+                SessionMessage.Kind.RESUME_REQUEST, mySession, peerSession, lastReceived));
+            SessionMessage reply = readSessionMessage(in);
+            if (reply.getKind() != SessionMessage.Kind.RESUME_ACCEPT) {
+                throw new ResumeRejectedException("서버가 세션을 인식하지 못했습니다.");
+            }
+            return reply.getLastReceivedSequence();
+        }
+        
+        SessionMessage request = readSessionMessage(in);
+        boolean known = request.getKind() == SessionMessage.Kind.RESUME_REQUEST
+            && request.getSenderSessionId() == peerSession
+            && request.getPeerSessionId() == mySession;
+        if (!known) {
+            writeSessionMessage(out, new SessionMessage(
+                SessionMessage.Kind.RESUME_REJECT, mySession, peerSession, lastReceived));
+            throw new ConnectionException("알 수 없는 세션의 재접속: " + request);
+        }
+        writeSessionMessage(out, new SessionMessage(
+            SessionMessage.Kind.RESUME_ACCEPT, mySession, peerSession, lastReceived));
+        return request.getLastReceivedSequence();
+    }
+    
+    private void writeSessionMessage(ObjectOutputStream out, SessionMessage message) throws IOException {
+        out.writeObject(message);
+        out.flush();
+        out.reset();
+    }
+    
+    private SessionMessage readSessionMessage(ObjectInputStream in)
+            throws IOException, ClassNotFoundException, ConnectionException {
+        Object received = in.readObject();
+        if (!(received instanceof SessionMessage)) {
+            throw new ConnectionException("세션 재개 응답이 아닌 메시지 수신: " + received);
+        }
+        return (SessionMessage) received;
+    }
+    
+    /**
+     * 세션 재개 실패 - 기존과 동일하게 연결 종료 후 핸들러 호출
+     */
+    private void failResume() {
+        System.err.println("❌ [NetworkManager] 세션 재개 실패 - 연결을 종료합니다.");
+        state = ConnectionState.DISCONNECTED;
+        boolean wasClosing = closing;
+        disconnect();
+        
+        if (!wasClosing && disconnectionHandler != null && !disconnectionHandler.isHandled()) {
+            disconnectionHandler.handleDisconnection("상대방과의 연결이 끊어졌습니다.", null);
+        }
+    }
+    
+    /**
+     * 수신 시퀀스 추적기 (연결 전이면 null)
+     */
+    public SequenceTracker getSequenceTracker() {
+        return messageReceiver != null ? messageReceiver.getSequenceTracker() : null;
+    }
+    
     /**
      * 내부 메시지 리스너 (Heartbeat 처리)
      */
@@ -201,6 +528,14 @@ public class NetworkManager {
                 return;
             }
 
+            // 상대방의 정상 종료 알림 (이후 끊김은 재연결하지 않음)
+            if (message instanceof SessionMessage
+                    && ((SessionMessage) message).getKind() == SessionMessage.Kind.CLOSE) {
+                System.out.println("상대방이 연결을 정상 종료했습니다.");
+                peerClosed = true;
+                return;
+            }
+
             // 게임 제어 메시지 처리 (MODE_SELECT, READY, START_GAME 등)
             if (message.getType() == MessageType.GAME_CONTROL) {
                 try {
@@ -216,6 +551,9 @@ public class NetworkManager {
         
         @Override
         public void onConnectionLost() {
+            if (tryBeginResume("수신 오류")) {
+                return;
+            }
             System.err.println("연결이 끊어졌습니다!");
             state = ConnectionState.DISCONNECTED;
             disconnect();
@@ -269,4 +607,31 @@ public class NetworkManager {
     public interface GameControlListener {
         void onControlMessage(GameControlMessage message);
     }
+    
+    /**
+     * 세션 재개 결과 리스너 인터페이스
+     */
+    public interface SessionListener {
+        /**
+         * 놓친 메시지를 재전송하여 세션을 이어감
+         * @param replayedCount 재전송한 메시지 수
+         */
+        void onSessionResumed(int replayedCount);
+        
+        /**
+         * 재전송 버퍼로 복구할 수 없어 내 전체 상태를 상대방에게 다시 보내야 함
+         */
+        void onResyncRequired();
+    }
+    
+    /**
+     * 상대방이 세션을 인식하지 못함 (재시도해도 소용없음)
+     */
+    private static class ResumeRejectedException extends ConnectionException {
+        private static final long serialVersionUID = 1L;
+        
+        ResumeRejectedException(String message) {
+            super(message);
+        }
+    }
 }
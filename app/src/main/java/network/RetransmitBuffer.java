@@ -0,0 +1,96 @@
+package network;
+
+import network.messages.MessageType;
+import network.messages.NetworkMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 송신 세션 상태와 재전송 버퍼
+ * 세션 ID와 다음 시퀀스 번호를 보관하고, 최근에 전송한 메시지를 고정 크기 링 버퍼에 저장합니다.
+ * 재연결 시 상대방이 마지막으로 받은 번호 이후의 메시지를 다시 보내는 데 사용합니다.
+ *
+ * 연결이 다시 맺어져도 같은 인스턴스를 새 MessageSender에 넘겨 시퀀스를 이어갑니다.
+ */
+public class RetransmitBuffer {
+
+    private final int sessionId;
+    private final NetworkMessage[] ring;
+    private long nextSequence = 1;
+
+    public RetransmitBuffer(int sessionId) {
+        this(sessionId, NetworkConfig.RETRANSMIT_BUFFER_SIZE);
+    }
+
+    public RetransmitBuffer(int sessionId, int capacity) {
+        this.sessionId = sessionId;
+        this.ring = new NetworkMessage[Math.max(1, capacity)];
+    }
+
+    /**
+     * 메시지에 다음 시퀀스 번호를 부여하고 버퍼에 기록
+     * 이미 번호가 있는 메시지(재전송)는 다시 기록하지 않습니다.
+     *
+     * @return 새로 번호가 부여되었으면 true
+     */
+    public synchronized boolean stamp(NetworkMessage message) {
+        if (!message.assignSequence(sessionId, nextSequence)) {
+            return false;
+        }
+        ring[(int) (nextSequence % ring.length)] = message;
+        nextSequence++;
+        return true;
+    }
+
+    /**
+     * 상대방이 마지막으로 받은 번호 이후의 메시지 목록
+     * Heartbeat는 RTT 계산을 어지럽히므로 다시 보내지 않습니다.
+     *
+     * @param lastReceived 상대방이 마지막으로 받은 시퀀스 번호
+     * @return 재전송할 메시지 목록, 버퍼에서 이미 밀려나 재전송이 불가능하면 null
+     */
+    public synchronized List<NetworkMessage> collectAfter(long lastReceived) {
+        long last = nextSequence - 1;
+        List<NetworkMessage> replay = new ArrayList<>();
+        if (lastReceived >= last) {
+            return replay;
+        }
+        if (lastReceived < getOldestSequenceLocked() - 1) {
+            return null;
+        }
+        for (long seq = lastReceived + 1; seq <= last; seq++) {
+            NetworkMessage message = ring[(int) (seq % ring.length)];
+            if (message != null && message.getType() != MessageType.HEARTBEAT) {
+                replay.add(message);
+            }
+        }
+        return replay;
+    }
+
+    /**
+     * 버퍼에 남아 있는 가장 오래된 시퀀스 번호
+     */
+    public synchronized long getOldestSequence() {
+        return getOldestSequenceLocked();
+    }
+
+    private long getOldestSequenceLocked() {
+        return Math.max(1, nextSequence - ring.length);
+    }
+
+    public int getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * 마지막으로 부여한 시퀀스 번호 (없으면 0)
+     */
+    public synchronized long getLastSequence() {
+        return nextSequence - 1;
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+}
@@ -0,0 +1,169 @@
+package network;
+
+/**
+ * 혼잡도에 따른 외형 업데이트 송신 속도 조절기
+ * - 송신 큐 깊이, RTT 추세, 쓰기 지연(stall)을 관찰해 주기적으로 혼잡 여부를 판단합니다.
+ * - 혼잡하면 외형 업데이트(블록 위치, 점수) 최소 송신 간격을 두 배씩 늘리고 (최대 RATE_MAX_INTERVAL),
+ *   상태가 좋아지면 RATE_RECOVERY_STEP씩 줄여 원래 속도(간격 0 = 제한 없음)로 돌아갑니다.
+ * - 블록 생성/고정, 줄 삭제, 공격, 게임 오버 같은 필수 메시지는 이 조절기를 거치지 않습니다.
+ *
+ * 연결이 다시 맺어져도 같은 인스턴스를 유지하므로 재연결 직후에도 측정값이 이어집니다.
+ */
+public class SendRateController {
+
+    /**
+     * 속도를 따로 관리하는 외형 업데이트 종류
+     */
+    public enum Channel {
+        PIECE,  // 블록 이동 (BlockMovedEvent)
+        SCORE   // 점수 갱신 (ScoreUpdateEvent)
+    }
+
+    // RTT 지수 이동 평균 가중치 (짧은 쪽은 최근 변화, 긴 쪽은 기준선)
+    private static final double SHORT_ALPHA = 0.5;
+    private static final double LONG_ALPHA = 0.1;
+
+    private final long[] lastSent = new long[Channel.values().length];
+    private volatile long intervalMs = 0;
+
+    // 다음 판단 전까지 누적되는 관측값
+    private int maxQueueDepth = 0;
+    private int stallCount = 0;
+    private double rttShort = -1;
+    private double rttLong = -1;
+    private long lastEvaluation = 0;
+
+    // 통계
+    private long throttledCount = 0;
+
+    /**
+     * 송신 큐 깊이 관측 (메시지를 큐에 넣거나 꺼낼 때)
+     */
+    public void onQueueDepth(int depth) {
+        onQueueDepth(depth, System.currentTimeMillis());
+    }
+
+    public synchronized void onQueueDepth(int depth, long nowMs) {
+        maxQueueDepth = Math.max(maxQueueDepth, depth);
+        evaluateIfDue(nowMs);
+    }
+
+    /**
+     * 메시지 한 개를 스트림에 쓰는 데 걸린 시간 관측
+     */
+    public void onWrite(long writeMs, int queueDepth) {
+        onWrite(writeMs, queueDepth, System.currentTimeMillis());
+    }
+
+    public synchronized void onWrite(long writeMs, int queueDepth, long nowMs) {
+        if (writeMs >= NetworkConfig.RATE_WRITE_STALL_MS) {
+            stallCount++;
+        }
+        maxQueueDepth = Math.max(maxQueueDepth, queueDepth);
+        evaluateIfDue(nowMs);
+    }
+
+    /**
+     * Heartbeat RTT 관측
+     */
+    public void onRttSample(long rttMs) {
+        onRttSample(rttMs, System.currentTimeMillis());
+    }
+
+    public synchronized void onRttSample(long rttMs, long nowMs) {
+        if (rttShort < 0) {
+            rttShort = rttMs;
+            rttLong = rttMs;
+        } else {
+            rttShort += SHORT_ALPHA * (rttMs - rttShort);
+            rttLong += LONG_ALPHA * (rttMs - rttLong);
+        }
+        evaluateIfDue(nowMs);
+    }
+
+    /**
+     * 외형 업데이트를 지금 보내도 되는지 확인하고, 된다면 송신 시각을 기록
+     * @return 보내도 되면 true (false면 호출자가 최신 값만 보관했다가 나중에 보냄)
+     */
+    public boolean tryAcquire(Channel channel) {
+        return tryAcquire(channel, System.currentTimeMillis());
+    }
+
+    public synchronized boolean tryAcquire(Channel channel, long nowMs) {
+        int index = channel.ordinal();
+        if (intervalMs > 0 && nowMs - lastSent[index] < intervalMs) {
+            throttledCount++;
+            return false;
+        }
+        lastSent[index] = nowMs;
+        return true;
+    }
+
+    /**
+     * 다음 판단 시점이 되었으면 혼잡 여부를 판단해 간격 조정
+     */
+    private void evaluateIfDue(long nowMs) {
+        long elapsed = nowMs - lastEvaluation;
+        if (elapsed < NetworkConfig.RATE_EVAL_INTERVAL) {
+            return;
+        }
+        lastEvaluation = nowMs;
+        // 한동안 관측이 없었으면 (송신이 뜸했으면) 그만큼 여러 단계를 한 번에 회복
+        long periods = Math.min(elapsed / NetworkConfig.RATE_EVAL_INTERVAL, NetworkConfig.RATE_MAX_INTERVAL);
+
+        boolean rttHigh = rttShort > NetworkConfig.LAG_THRESHOLD;
+        boolean rttRising = rttShort > rttLong * 1.5 && rttShort - rttLong > NetworkConfig.RATE_RTT_RISE_MS;
+        boolean congested = maxQueueDepth >= NetworkConfig.RATE_QUEUE_HIGH_WATER || stallCount > 0 || rttHigh || rttRising;
+        boolean healthy = maxQueueDepth <= NetworkConfig.RATE_QUEUE_LOW_WATER && stallCount == 0 && !rttHigh && !rttRising;
+
+        long oldInterval = intervalMs;
+        if (congested) {
+            intervalMs = Math.min(NetworkConfig.RATE_MAX_INTERVAL,
+                Math.max(NetworkConfig.RATE_MIN_INTERVAL, oldInterval * 2));
+        } else if (healthy && oldInterval > 0) {
+            long next = oldInterval - NetworkConfig.RATE_RECOVERY_STEP * periods;
+            intervalMs = next < NetworkConfig.RATE_MIN_INTERVAL ? 0 : next;
+        }
+
+        if (intervalMs != oldInterval) {
+            System.out.println((intervalMs > oldInterval ? "📉" : "📈") + " [RateControl] 외형 업데이트 간격 "
+                + oldInterval + "ms → " + intervalMs + "ms (큐: " + maxQueueDepth + ", 지연: " + stallCount
+                + ", RTT: " + Math.round(Math.max(rttShort, 0)) + "ms)");
+        }
+
+        maxQueueDepth = 0;
+        stallCount = 0;
+    }
+
+    /**
+     * 현재 외형 업데이트 최소 간격 (0이면 제한 없음)
+     */
+    public long getIntervalMs() {
+        return intervalMs;
+    }
+
+    public boolean isThrottling() {
+        return intervalMs > 0;
+    }
+
+    /**
+     * 지금까지 제한으로 보류된 외형 업데이트 수
+     */
+    public synchronized long getThrottledCount() {
+        return throttledCount;
+    }
+
+    /**
+     * 새 세션 시작 시 초기화
+     */
+    public synchronized void reset() {
+        intervalMs = 0;
+        maxQueueDepth = 0;
+        stallCount = 0;
+        rttShort = -1;
+        rttLong = -1;
+        lastEvaluation = 0;
+        throttledCount = 0;
+        java.util.Arrays.fill(lastSent, 0L);
+    }
+}
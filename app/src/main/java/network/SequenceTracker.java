@@ -0,0 +1,146 @@
+package network;
+
+import network.messages.NetworkMessage;
+
+/**
+ * 수신 시퀀스 추적기
+ * 송신측 MessageSender가 부여한 (세션 ID, 시퀀스 번호)를 검사하여
+ * 누락(gap), 중복(duplicate), 순서 뒤바뀜(reorder)을 감지하고 카운트합니다.
+ *
+ * 가장 높은 시퀀스 기준으로 최근 64개의 수신 여부를 비트마스크로 기억합니다.
+ */
+public class SequenceTracker {
+
+    /** 중복/순서 판정에 사용하는 수신 윈도우 크기 */
+    public static final int WINDOW_SIZE = 64;
+
+    /**
+     * 메시지 판정 결과
+     */
+    public enum Result {
+        IN_ORDER,     // 기대한 다음 번호
+        GAP,          // 중간 번호가 빠진 채 도착
+        REORDERED,    // 이전에 빠졌던 번호가 늦게 도착
+        DUPLICATE,    // 이미 받은 번호 (또는 윈도우 밖의 오래된 번호)
+        NEW_SESSION,  // 새 송신 세션의 첫 메시지
+        UNSEQUENCED   // 번호가 없는 메시지 (로컬 생성 등)
+    }
+
+    private int sessionId;
+    private boolean hasSession = false;
+    private long highestSequence = 0;
+    private long receivedMask = 0;  // bit i = (highestSequence - i) 수신 여부
+
+    // 통계
+    private long receivedCount = 0;
+    private long gapCount = 0;
+    private long missingCount = 0;
+    private long duplicateCount = 0;
+    private long reorderCount = 0;
+    private long sessionChangeCount = 0;
+
+    /**
+     * 수신한 메시지 판정 및 통계 갱신
+     */
+    public synchronized Result track(NetworkMessage message) {
+        if (message == null || !message.isSequenced()) {
+            return Result.UNSEQUENCED;
+        }
+        return track(message.getSessionId(), message.getSequence());
+    }
+
+    /**
+     * (세션 ID, 시퀀스 번호) 판정 및 통계 갱신
+     */
+    public synchronized Result track(int session, long sequence) {
+        if (sequence <= 0) {
+            return Result.UNSEQUENCED;
+        }
+
+        // 새 세션 (최초 연결 또는 상대방 재시작)
+        if (!hasSession || session != sessionId) {
+            if (hasSession) {
+                sessionChangeCount++;
+            }
+            hasSession = true;
+            sessionId = session;
+            highestSequence = sequence;
+            receivedMask = 1L;
+            receivedCount++;
+            return Result.NEW_SESSION;
+        }
+
+        if (sequence > highestSequence) {
+            long advance = sequence - highestSequence;
+            receivedMask = advance >= WINDOW_SIZE ? 0L : receivedMask << advance;
+            receivedMask |= 1L;
+            highestSequence = sequence;
+            receivedCount++;
+
+            if (advance == 1) {
+                return Result.IN_ORDER;
+            }
+            gapCount++;
+            missingCount += advance - 1;
+            System.out.println("⚠️ [SequenceTracker] 시퀀스 누락 감지: " + (advance - 1) +
+                "개 (수신=" + sequence + ")");
+            return Result.GAP;
+        }
+
+        long offset = highestSequence - sequence;
+        if (offset >= WINDOW_SIZE || (receivedMask & (1L << offset)) != 0) {
+            duplicateCount++;
+            return Result.DUPLICATE;
+        }
+
+        // 빠졌던 번호가 늦게 도착
+        receivedMask |= 1L << offset;
+        receivedCount++;
+        reorderCount++;
+        missingCount = Math.max(0, missingCount - 1);
+        return Result.REORDERED;
+    }
+
+    /**
+     * 추적 상태 및 통계 초기화
+     */
+    public synchronized void reset() {
+        hasSession = false;
+        sessionId = 0;
+        highestSequence = 0;
+        receivedMask = 0;
+        receivedCount = 0;
+        gapCount = 0;
+        missingCount = 0;
+        duplicateCount = 0;
+        reorderCount = 0;
+        sessionChangeCount = 0;
+    }
+
+    // ===== Getter 메서드 =====
+
+    public synchronized int getSessionId() { return sessionId; }
+    public synchronized long getHighestSequence() { return highestSequence; }
+    public synchronized long getReceivedCount() { return receivedCount; }
+    public synchronized long getGapCount() { return gapCount; }
+    public synchronized long getMissingCount() { return missingCount; }
+    public synchronized long getDuplicateCount() { return duplicateCount; }
+    public synchronized long getReorderCount() { return reorderCount; }
+    public synchronized long getSessionChangeCount() { return sessionChangeCount; }
+
+    /**
+     * 통계 출력
+     */
+    public synchronized void printStats() {
+        System.out.println("📊 [SequenceTracker] 수신: " + receivedCount +
+            ", 누락 구간: " + gapCount + " (미수신 " + missingCount + "개)" +
+            ", 중복: " + duplicateCount +
+            ", 순서 뒤바뀜: " + reorderCount);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("SequenceTracker{session=%s, highest=%d, received=%d, gaps=%d, dup=%d, reorder=%d}",
+            Integer.toHexString(sessionId), highestSequence, receivedCount, gapCount, duplicateCount, reorderCount);
+    }
+}
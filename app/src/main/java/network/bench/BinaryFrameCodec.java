@@ -0,0 +1,150 @@
+package network.bench;
+
+import game.events.EventCodecRegistry;
+import game.model.AttackPattern;
+import game.util.VarInt;
+import network.NetworkConfig;
+import network.messages.AttackMessage;
+import network.messages.GameEventMessage;
+import network.messages.NetworkMessage;
+import network.transport.Transport;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 비교용 경로: Java 직렬화 없이 EventCodecRegistry 바이트를 그대로 프레임으로 전송
+ *
+ * 프레임 형식은 관전 스트림과 같습니다: 이벤트 ID(1바이트), 본문 길이(varint), 본문.
+ * 공격은 레지스트리에 없으므로 ATTACK_FRAME ID로 (줄 수, 플레이어, 위치, 구멍 패턴)을 씁니다.
+ * 송신 큐 크기와 메시지마다 flush하는 것은 MessageSender와 같게 맞췄습니다.
+ */
+class BinaryFrameCodec extends WireCodec {
+
+    static final int ATTACK_FRAME = 0x80;
+
+    private final BlockingQueue<NetworkMessage> queue = new ArrayBlockingQueue<>(NetworkConfig.MESSAGE_QUEUE_SIZE);
+    private volatile boolean running = false;
+    private Thread writerThread;
+    private Thread readerThread;
+
+    @Override
+    String name() {
+        return "binary-frame";
+    }
+
+    @Override
+    void open(Transport sendSide, Transport receiveSide, Receiver callback) throws IOException {
+        OutputStream out = new BufferedOutputStream(counting(sendSide.getOutputStream()));
+        DataInputStream in = new DataInputStream(new BufferedInputStream(receiveSide.getInputStream()));
+        running = true;
+        writerThread = new Thread(() -> writeLoop(out), "Bench-BinaryWriter");
+        readerThread = new Thread(() -> readLoop(in, callback), "Bench-BinaryReader");
+        writerThread.setDaemon(true);
+        readerThread.setDaemon(true);
+        writerThread.start();
+        readerThread.start();
+    }
+
+    @Override
+    boolean offer(NetworkMessage message) {
+        return running && queue.offer(message);
+    }
+
+    private void writeLoop(OutputStream out) {
+        ByteBuffer frame = ByteBuffer.allocate(64 * 1024);
+        try {
+            while (running) {
+                NetworkMessage message = queue.take();
+                frame.clear();
+                encode(message, frame);
+                out.write(frame.array(), 0, frame.position());
+                out.flush();
+            }
+        } catch (InterruptedException e) {
+            // 종료
+        } catch (IOException e) {
+            if (running) {
+                System.err.println("[NetBench] 바이너리 송신 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    static void encode(NetworkMessage message, ByteBuffer frame) {
+        if (message instanceof GameEventMessage) {
+            GameEventMessage event = (GameEventMessage) message;
+            frame.put((byte) event.getEventId());
+            VarInt.putVarInt(frame, event.getEventData().length);
+            frame.put(event.getEventData());
+        } else if (message instanceof AttackMessage) {
+            AttackMessage attack = (AttackMessage) message;
+            AttackPattern pattern = attack.getHolePattern();
+            frame.put((byte) ATTACK_FRAME);
+            int lengthPos = frame.position();
+            frame.put((byte) 0);  // 본문은 항상 127바이트 미만
+            VarInt.putVarInt(frame, attack.getAttackLines());
+            frame.put((byte) attack.getPlayerId());
+            VarInt.putSignedVarInt(frame, attack.getBlockX());
+            pattern.writeTo(frame);
+            frame.put(lengthPos, (byte) (frame.position() - lengthPos - 1));
+        } else {
+            throw new IllegalArgumentException("바이너리 프레임으로 보낼 수 없는 메시지: " + message);
+        }
+    }
+
+    private void readLoop(DataInputStream in, Receiver callback) {
+        byte[] body = new byte[256];
+        try {
+            while (running) {
+                int id = in.readUnsignedByte();
+                int length = readVarInt(in);
+                if (body.length < length) {
+                    body = new byte[Math.max(length, body.length * 2)];
+                }
+                in.readFully(body, 0, length);
+                callback.onReceived(decode(id, ByteBuffer.wrap(body, 0, length)));
+            }
+        } catch (EOFException e) {
+            // 종료
+        } catch (IOException e) {
+            if (running) {
+                System.err.println("[NetBench] 바이너리 수신 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    static Object decode(int id, ByteBuffer body) {
+        if (id == ATTACK_FRAME) {
+            int lines = VarInt.getVarInt(body);
+            int playerId = body.get();
+            int blockX = VarInt.getSignedVarInt(body);
+            return new AttackMessage(lines, playerId, AttackPattern.readFrom(body), blockX);
+        }
+        return EventCodecRegistry.decode(id, body);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift <= 28; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("varint가 너무 김");
+    }
+
+    @Override
+    void close() {
+        running = false;
+        if (writerThread != null) writerThread.interrupt();
+    }
+}
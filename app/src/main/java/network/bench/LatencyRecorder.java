@@ -0,0 +1,58 @@
+package network.bench;
+
+import java.util.Arrays;
+
+/**
+ * 지연 시간 표본 기록기 (백분위 계산용)
+ * 표본을 전부 보관했다가 정렬하므로 벤치마크처럼 개수가 정해진 측정에만 사용합니다.
+ */
+public final class LatencyRecorder {
+
+    private long[] samples;
+    private int count = 0;
+
+    public LatencyRecorder(int expected) {
+        this.samples = new long[Math.max(16, expected)];
+    }
+
+    public synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * 백분위 값 (nearest-rank)
+     * @param percentile 0 ~ 100 (예: 99.9)
+     * @return 나노초, 표본이 없으면 0
+     */
+    public synchronized long percentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * count - 1e-9);  // 99.9% × 1000 같은 부동소수 오차 보정
+        return sorted[Math.min(count, Math.max(1, rank)) - 1];
+    }
+
+    public synchronized long max() {
+        long max = 0;
+        for (int i = 0; i < count; i++) max = Math.max(max, samples[i]);
+        return max;
+    }
+
+    public synchronized double mean() {
+        if (count == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (int i = 0; i < count; i++) sum += samples[i];
+        return sum / count;
+    }
+}
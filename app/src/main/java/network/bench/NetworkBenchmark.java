@@ -0,0 +1,351 @@
+package network.bench;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import network.messages.NetworkMessage;
+import network.transport.LoopbackNetwork;
+import network.transport.SimulatedTransportProvider;
+import network.transport.SocketTransportProvider;
+import network.transport.Transport;
+import network.transport.TransportListener;
+import network.transport.TransportProvider;
+import utils.NetworkSimulator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 네트워크 처리량/지연 벤치마크
+ *
+ * 실제 대전 비율의 합성 트래픽(TrafficMix)을 한 방향으로 보내고 전송 방식별로 측정합니다.
+ * - serialization: MessageSender/MessageReceiver + Java 직렬화 (현재 경로)
+ * - binary-frame: EventCodecRegistry 바이트를 길이 프레임으로 직접 전송 (비교용)
+ *
+ * 전송 방식마다 예열 → 처리량(속도 제한 없이 전송) → 지연(대전과 비슷한 속도로 전송) 순서로 측정하고,
+ * 결과를 JSON 파일로 남겨 추세를 비교할 수 있게 합니다. 지연은 보내는 쪽 큐에 넣은 시점부터
+ * 받는 쪽에서 GameEvent로 복원한 시점까지의 단방향 시간입니다 (같은 JVM이라 시계가 같음).
+ *
+ * 측정 중에는 송수신 스레드의 메시지별 로그를 끕니다 (--keep-logs로 유지).
+ *
+ * 실행: ./gradlew runNetBench --args="--messages 100000 --transport tcp --profile congested-wifi"
+ */
+public class NetworkBenchmark {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /**
+     * 실행 옵션
+     */
+    public static final class Options {
+        int messages = 50_000;          // 처리량 측정 메시지 수
+        int warmup = 5_000;             // 예열 메시지 수 (JIT)
+        int latencyMessages = 5_000;    // 지연 측정 메시지 수
+        int rate = 500;                 // 지연 측정 시 초당 메시지 수
+        long seed = 42;
+        String transport = "loopback";  // loopback 또는 tcp
+        String profile = null;          // NetworkSimulator 프로파일/스크립트 이름
+        List<String> codecs = new ArrayList<>(List.of("serialization", "binary-frame"));
+        String out = null;              // 결과 파일 (null이면 build/netbench/netbench-시각.json)
+        transient boolean keepLogs = false;
+
+        public static Options parse(String... args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String value = i + 1 < args.length ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "--messages": options.messages = Integer.parseInt(value); i++; break;
+                    case "--warmup": options.warmup = Integer.parseInt(value); i++; break;
+                    case "--latency-messages": options.latencyMessages = Integer.parseInt(value); i++; break;
+                    case "--rate": options.rate = Integer.parseInt(value); i++; break;
+                    case "--seed": options.seed = Long.parseLong(value); i++; break;
+                    case "--transport": options.transport = value; i++; break;
+                    case "--profile": options.profile = value; i++; break;
+                    case "--codecs": options.codecs = new ArrayList<>(Arrays.asList(value.split(","))); i++; break;
+                    case "--out": options.out = value; i++; break;
+                    case "--keep-logs": options.keepLogs = true; break;
+                    default:
+                        throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+                }
+            }
+            return options;
+        }
+    }
+
+    /**
+     * 전체 결과 (JSON으로 저장)
+     */
+    public static final class Report {
+        String timestamp;
+        String javaVersion;
+        String os;
+        int processors;
+        Options config;
+        Map<String, Long> mix;
+        List<CodecResult> results = new ArrayList<>();
+
+        public List<CodecResult> getResults() { return results; }
+    }
+
+    /**
+     * 전송 방식 하나의 결과
+     */
+    public static final class CodecResult {
+        String codec;
+        long messages;
+        double seconds;
+        double messagesPerSecond;
+        double bytesPerMessage;
+        long latencyMessages;
+        int latencyRate;
+        double p50Us;
+        double p99Us;
+        double p999Us;
+        double maxUs;
+        double meanUs;
+
+        public String getCodec() { return codec; }
+        public double getMessagesPerSecond() { return messagesPerSecond; }
+        public double getBytesPerMessage() { return bytesPerMessage; }
+        public double getP50Us() { return p50Us; }
+        public double getP99Us() { return p99Us; }
+        public double getP999Us() { return p999Us; }
+    }
+
+    /**
+     * 측정 구간 하나 (보낸 시각과 도착 순서를 맞춰 지연 계산)
+     */
+    private static final class Phase {
+        final AtomicLongArray sentAt;
+        final LatencyRecorder latency;
+        final CountDownLatch done;
+        final AtomicInteger received = new AtomicInteger();
+        long startedAt;
+        volatile long lastReceivedAt;
+
+        Phase(int count) {
+            this.sentAt = new AtomicLongArray(count);
+            this.latency = new LatencyRecorder(count);
+            this.done = new CountDownLatch(count);
+        }
+
+        /**
+         * 메시지는 보낸 순서대로 도착하므로 i번째 도착 = i번째 전송
+         */
+        void onReceived() {
+            int i = received.getAndIncrement();
+            if (i >= sentAt.length()) {
+                return;
+            }
+            long now = System.nanoTime();
+            latency.record(now - sentAt.get(i));
+            lastReceivedAt = now;
+            done.countDown();
+        }
+    }
+
+    private static volatile Phase currentPhase;
+
+    /**
+     * 벤치마크 실행 후 결과 파일 저장
+     * @return 결과 (저장한 파일 경로는 콘솔에 출력)
+     */
+    public static Report run(Options options) throws Exception {
+        PrintStream console = System.out;
+        Report report = new Report();
+        report.timestamp = OffsetDateTime.now().toString();
+        report.javaVersion = System.getProperty("java.version");
+        report.os = System.getProperty("os.name") + " " + System.getProperty("os.arch");
+        report.processors = Runtime.getRuntime().availableProcessors();
+        report.config = options;
+
+        console.println("📈 [NetBench] 전송: " + options.transport
+            + (options.profile != null ? " (" + options.profile + ")" : "")
+            + ", 처리량 " + options.messages + "개, 지연 " + options.latencyMessages + "개 @ " + options.rate + "/s");
+
+        for (String name : options.codecs) {
+            WireCodec codec = createCodec(name);
+            TrafficMix mix = new TrafficMix(options.seed, 1);
+            if (!options.keepLogs) {
+                System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            }
+            CodecResult result;
+            try {
+                result = runCodec(codec, mix, options);
+            } finally {
+                System.setOut(console);
+            }
+            report.results.add(result);
+            report.mix = mix.getCounts();   // 같은 시드라 모든 방식이 같은 순서로 생성
+            console.println(String.format("📈 [NetBench] %-14s %10.0f msg/s %8.1f B/msg  p50 %7.1fus  p99 %8.1fus  p99.9 %8.1fus",
+                result.codec, result.messagesPerSecond, result.bytesPerMessage, result.p50Us, result.p99Us, result.p999Us));
+        }
+
+        Path path = options.out != null ? Paths.get(options.out)
+            : Paths.get("build", "netbench", "netbench-" + LocalDateTime.now().format(FILE_TIME) + ".json");
+        writeJson(report, path);
+        console.println("📈 [NetBench] 결과 저장: " + path.toAbsolutePath());
+        return report;
+    }
+
+    private static CodecResult runCodec(WireCodec codec, TrafficMix mix, Options options) throws Exception {
+        TransportProvider provider = createProvider(options);
+        String host = "tcp".equals(options.transport) ? "127.0.0.1" : LoopbackNetwork.ADDRESS;
+        Transport sendSide;
+        Transport receiveSide;
+        try (TransportListener listener = provider.listen(0)) {
+            sendSide = provider.connect(host, listener.getLocalPort(), 5000);
+            receiveSide = listener.accept(5000);
+        }
+
+        try {
+            codec.open(sendSide, receiveSide, decoded -> {
+                Phase phase = currentPhase;
+                if (phase != null) {
+                    phase.onReceived();
+                }
+            });
+
+            runPhase(codec, mix, options.warmup, 0);
+
+            long bytesBefore = codec.getBytesWritten();
+            Phase throughput = runPhase(codec, mix, options.messages, 0);
+            long bytes = codec.getBytesWritten() - bytesBefore;
+            Phase latency = runPhase(codec, mix, options.latencyMessages, options.rate);
+
+            CodecResult result = new CodecResult();
+            result.codec = codec.name();
+            result.messages = options.messages;
+            result.seconds = (throughput.lastReceivedAt - throughput.startedAt) / 1e9;
+            result.messagesPerSecond = options.messages / Math.max(result.seconds, 1e-9);
+            result.bytesPerMessage = options.messages == 0 ? 0 : (double) bytes / options.messages;
+            result.latencyMessages = options.latencyMessages;
+            result.latencyRate = options.rate;
+            result.p50Us = latency.latency.percentile(50) / 1000.0;
+            result.p99Us = latency.latency.percentile(99) / 1000.0;
+            result.p999Us = latency.latency.percentile(99.9) / 1000.0;
+            result.maxUs = latency.latency.max() / 1000.0;
+            result.meanUs = latency.latency.mean() / 1000.0;
+            return result;
+        } finally {
+            currentPhase = null;
+            codec.close();
+            closeQuietly(sendSide);
+            closeQuietly(receiveSide);
+        }
+    }
+
+    /**
+     * count개를 보내고 모두 도착할 때까지 대기
+     * @param rate 초당 메시지 수 (0이면 최대한 빠르게)
+     */
+    private static Phase runPhase(WireCodec codec, TrafficMix mix, int count, int rate) throws InterruptedException {
+        Phase phase = new Phase(count);
+        if (count == 0) {
+            return phase;
+        }
+        currentPhase = phase;
+        long interval = rate > 0 ? 1_000_000_000L / rate : 0;
+        long start = System.nanoTime();
+        phase.startedAt = start;
+        for (int i = 0; i < count; i++) {
+            NetworkMessage message = mix.next();
+            if (interval > 0) {
+                long wait;
+                while ((wait = start + i * interval - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            while (true) {
+                phase.sentAt.set(i, System.nanoTime());
+                if (codec.offer(message)) {
+                    break;
+                }
+                Thread.yield();  // 송신 큐가 가득 참
+            }
+        }
+        long timeoutMs = 30_000 + count;  // 시뮬레이션된 느린 링크도 고려
+        if (!phase.done.await(timeoutMs, TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException(codec.name() + " 수신 시간 초과: " + phase.received.get() + "/" + count);
+        }
+        return phase;
+    }
+
+    private static WireCodec createCodec(String name) {
+        switch (name) {
+            case "serialization": return new SerializationCodec();
+            case "binary-frame": return new BinaryFrameCodec();
+            default: throw new IllegalArgumentException("알 수 없는 전송 방식: " + name);
+        }
+    }
+
+    private static TransportProvider createProvider(Options options) {
+        NetworkSimulator simulator = null;
+        if (options.profile != null) {
+            simulator = NetworkSimulator.forProfileName(options.profile, options.seed);
+            if (simulator == null) {
+                throw new IllegalArgumentException("알 수 없는 프로파일: " + options.profile);
+            }
+        }
+        switch (options.transport) {
+            case "loopback":
+                return new LoopbackNetwork(simulator);
+            case "tcp":
+                return simulator == null ? new SocketTransportProvider()
+                    : new SimulatedTransportProvider(new SocketTransportProvider(), simulator);
+            default:
+                throw new IllegalArgumentException("알 수 없는 전송: " + options.transport);
+        }
+    }
+
+    private static void writeJson(Report report, Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Gson gson = new GsonBuilder().setPrettyPrinting().serializeNulls().create();
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            gson.toJson(report, writer);
+        }
+    }
+
+    private static void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (IOException ignored) {
+            // 이미 닫힘
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage());
+            System.err.println("사용법: NetworkBenchmark [--messages N] [--warmup N] [--latency-messages N] [--rate 초당]"
+                + " [--transport loopback|tcp] [--profile 이름] [--codecs serialization,binary-frame]"
+                + " [--seed N] [--out 파일] [--keep-logs]");
+            System.exit(1);
+            return;
+        }
+        run(options);
+    }
+}
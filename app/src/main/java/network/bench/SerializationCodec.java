@@ -0,0 +1,62 @@
+package network.bench;
+
+import network.MessageReceiver;
+import network.MessageSender;
+import network.messages.GameEventMessage;
+import network.messages.NetworkMessage;
+import network.transport.Transport;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * 현재 대전에서 쓰는 경로: MessageSender/MessageReceiver + Java 직렬화
+ * 받는 쪽은 EventSynchronizer처럼 GameEvent까지 복원한 뒤 도착으로 칩니다.
+ */
+class SerializationCodec extends WireCodec {
+
+    private MessageSender sender;
+    private MessageReceiver receiver;
+
+    @Override
+    String name() {
+        return "serialization";
+    }
+
+    @Override
+    void open(Transport sendSide, Transport receiveSide, Receiver callback) throws IOException {
+        ObjectOutputStream out = new ObjectOutputStream(counting(sendSide.getOutputStream()));
+        out.flush();
+        ObjectInputStream in = new ObjectInputStream(receiveSide.getInputStream());
+
+        sender = new MessageSender(out);
+        receiver = new MessageReceiver(in);
+        receiver.addMessageListener(new MessageReceiver.MessageListener() {
+            @Override
+            public void onMessageReceived(NetworkMessage message) {
+                callback.onReceived(message instanceof GameEventMessage
+                    ? ((GameEventMessage) message).toGameEvent()
+                    : message);
+            }
+
+            @Override
+            public void onConnectionLost() {
+                // 벤치마크 종료 시 정상적으로 발생
+            }
+        });
+        sender.start();
+        receiver.start();
+    }
+
+    @Override
+    boolean offer(NetworkMessage message) {
+        return sender.sendMessage(message);
+    }
+
+    @Override
+    void close() {
+        if (sender != null) sender.shutdown();
+        if (receiver != null) receiver.shutdown();
+    }
+}
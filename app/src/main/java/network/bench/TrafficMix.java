@@ -0,0 +1,134 @@
+package network.bench;
+
+import game.events.BlockMovedEvent;
+import game.events.BlockPlacedEvent;
+import game.events.BlockRotatedEvent;
+import game.events.BlockSpawnedEvent;
+import game.events.BoardSnapshotEvent;
+import game.events.LineClearedEvent;
+import game.events.ScoreUpdateEvent;
+import game.model.AttackPattern;
+import network.messages.AttackMessage;
+import network.messages.GameEventMessage;
+import network.messages.NetworkMessage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 실제 대전과 비슷한 비율의 합성 트래픽 생성기
+ *
+ * 비율은 P2P 대전 한 판의 송신 로그를 기준으로 잡았습니다. 블록 이동/회전이 대부분이고,
+ * 블록 하나마다 생성/고정이 한 번씩, 줄 삭제와 공격은 가끔, 키프레임은 드물게 나옵니다.
+ * 같은 시드면 같은 순서로 생성합니다.
+ */
+public final class TrafficMix {
+
+    public enum Kind {
+        MOVE(55), ROTATE(12), SPAWN(10), PLACE(10), SCORE(6), LINE_CLEAR(4), ATTACK(2), KEYFRAME(1);
+
+        final int weight;
+
+        Kind(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final String[] BLOCKS = {
+        "blocks.IBlock", "blocks.JBlock", "blocks.LBlock", "blocks.OBlock",
+        "blocks.SBlock", "blocks.TBlock", "blocks.ZBlock"
+    };
+    private static final int TOTAL_WEIGHT;
+    static {
+        int total = 0;
+        for (Kind kind : Kind.values()) total += kind.weight;
+        TOTAL_WEIGHT = total;
+    }
+
+    private final Random random;
+    private final int playerId;
+    private final long[] counts = new long[Kind.values().length];
+    private final int[][] board = new int[23][12];
+    private int version = 0;
+    private int score = 0;
+
+    public TrafficMix(long seed, int playerId) {
+        this.random = new Random(seed);
+        this.playerId = playerId;
+        // 바닥 몇 줄을 채워 키프레임이 빈 보드보다 현실적인 크기가 되도록
+        for (int r = 16; r < 22; r++) {
+            for (int c = 1; c < 11; c++) {
+                board[r][c] = random.nextInt(3) == 0 ? 0 : 1 + random.nextInt(7);
+            }
+        }
+    }
+
+    /**
+     * 다음 메시지 (매번 새 객체, 전송 직전 상태와 같도록 인코딩까지 마친 상태)
+     */
+    public NetworkMessage next() {
+        Kind kind = pick();
+        counts[kind.ordinal()]++;
+        int x = random.nextInt(10);
+        int y = random.nextInt(20);
+        int type = random.nextInt(7);
+        switch (kind) {
+            case MOVE:
+                return new GameEventMessage(new BlockMovedEvent(x, y, type, random.nextInt(4)), playerId);
+            case ROTATE:
+                return new GameEventMessage(new BlockRotatedEvent(x, y, type, random.nextInt(4)), playerId);
+            case SPAWN:
+                return new GameEventMessage(new BlockSpawnedEvent(BLOCKS[type], 4, 0, BLOCKS[random.nextInt(7)]), playerId);
+            case PLACE:
+                return new GameEventMessage(new BlockPlacedEvent(x, y, type, playerId, random.nextLong()), playerId);
+            case SCORE:
+                score += 10 + random.nextInt(300);
+                return new GameEventMessage(new ScoreUpdateEvent(score), playerId);
+            case LINE_CLEAR: {
+                int[] lines = random.nextBoolean() ? new int[] { 21 } : new int[] { 20, 21 };
+                AttackPattern pattern = randomPattern(lines.length);
+                return new GameEventMessage(
+                    new LineClearedEvent(lines, 100 * lines.length, playerId, pattern, x, random.nextLong()), playerId);
+            }
+            case ATTACK: {
+                int lines = 2 + random.nextInt(3);
+                return new AttackMessage(lines, playerId, randomPattern(lines), x);
+            }
+            case KEYFRAME:
+            default:
+                return new GameEventMessage(
+                    BoardSnapshotEvent.keyframe(board, board, score, playerId, ++version), playerId);
+        }
+    }
+
+    private Kind pick() {
+        int roll = random.nextInt(TOTAL_WEIGHT);
+        for (Kind kind : Kind.values()) {
+            roll -= kind.weight;
+            if (roll < 0) {
+                return kind;
+            }
+        }
+        return Kind.MOVE;
+    }
+
+    private AttackPattern randomPattern(int height) {
+        short[] masks = new short[height];
+        for (int r = 0; r < height; r++) {
+            masks[r] = (short) (1 << random.nextInt(10));
+        }
+        return AttackPattern.of(masks, 10);
+    }
+
+    /**
+     * 지금까지 생성한 종류별 개수
+     */
+    public Map<String, Long> getCounts() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Kind kind : Kind.values()) {
+            result.put(kind.name(), counts[kind.ordinal()]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+package network.bench;
+
+import network.messages.NetworkMessage;
+import network.transport.Transport;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크할 전송 방식 하나 (한 방향: sender → receiver)
+ * 보내는 쪽은 큐에 넣기만 하고, 받는 쪽은 메시지를 복원할 때마다 콜백을 호출합니다.
+ */
+abstract class WireCodec {
+
+    /**
+     * 수신 콜백 (수신 스레드에서 도착 순서대로 호출)
+     */
+    interface Receiver {
+        void onReceived(Object decoded);
+    }
+
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    abstract String name();
+
+    /**
+     * 송수신 시작
+     * @param sendSide 보내는 쪽 연결
+     * @param receiveSide 받는 쪽 연결
+     */
+    abstract void open(Transport sendSide, Transport receiveSide, Receiver receiver) throws IOException;
+
+    /**
+     * 전송 큐에 추가 (가득 차면 false, 호출자가 다시 시도)
+     */
+    abstract boolean offer(NetworkMessage message);
+
+    abstract void close();
+
+    long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    /**
+     * 실제로 연결에 쓴 바이트 수를 세는 스트림
+     */
+    OutputStream counting(OutputStream out) {
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                bytesWritten.incrementAndGet();
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                bytesWritten.addAndGet(len);
+            }
+        };
+    }
+}
@@ -1,39 +1,42 @@
 package network.messages;
 
+import game.model.AttackPattern;
+
 /**
  * 공격(attack) 정보를 담아 전송하는 메시지
+ * 구멍 패턴은 줄마다 short 비트마스크 하나로 실어 보냅니다 (4줄 공격 = 8바이트).
  */
 public class AttackMessage extends NetworkMessage {
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
     private final int attackLines;
     private final int playerId;
-    // optional hole pattern and its x offset (may be null)
-    private final int[][] blockPattern;
+    // optional hole pattern (row bitmasks) and its x offset (may be null)
+    private final short[] holeRows;
+    private final byte patternWidth;
     private final int blockX;
 
     public AttackMessage(int attackLines, int playerId) {
-        this(attackLines, playerId, null, 0);
+        this(attackLines, playerId, (AttackPattern) null, 0);
     }
 
     public AttackMessage(int attackLines, int playerId, int[][] blockPattern, int blockX) {
+        this(attackLines, playerId, AttackPattern.fromMatrix(blockPattern), blockX);
+    }
+
+    public AttackMessage(int attackLines, int playerId, AttackPattern holePattern, int blockX) {
         super(MessageType.ATTACK);
         this.attackLines = attackLines;
         this.playerId = playerId;
-        this.blockPattern = blockPattern == null ? null : deepCopy(blockPattern);
+        this.holeRows = holePattern == null ? null : holePattern.toRowMasks();
+        this.patternWidth = (byte) (holePattern == null ? 0 : holePattern.getWidth());
         this.blockX = blockX;
     }
 
-    private int[][] deepCopy(int[][] src) {
-        if (src == null) return null;
-        int[][] out = new int[src.length][];
-        for (int i = 0; i < src.length; i++) out[i] = src[i].clone();
-        return out;
-    }
-
     public int getAttackLines() { return attackLines; }
     public int getPlayerId() { return playerId; }
-    public int[][] getBlockPattern() { return blockPattern; }
+    public AttackPattern getHolePattern() { return holeRows == null ? null : AttackPattern.of(holeRows, patternWidth); }
+    public int[][] getBlockPattern() { return holeRows == null ? null : getHolePattern().toMatrix(); }
     public int getBlockX() { return blockX; }
 
     @Override
@@ -42,7 +45,7 @@ public class AttackMessage extends NetworkMessage {
                 "attackLines=" + attackLines +
                 ", playerId=" + playerId +
                 ", blockX=" + blockX +
-                ", pattern=" + (blockPattern != null ? (blockPattern.length + "x" + (blockPattern.length>0?blockPattern[0].length:0)) : "<none>") +
+                ", pattern=" + (holeRows != null ? (holeRows.length + "x" + patternWidth) : "<none>") +
                 ", id=" + getMessageId() +
                 '}';
     }
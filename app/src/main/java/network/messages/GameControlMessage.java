@@ -19,7 +19,9 @@ public class GameControlMessage extends NetworkMessage {
         MODE_CHANGED,    // 서버가 모드를 변경했을 때 클라이언트에 알림
         VERSION_CHECK,   // 클라이언트가 버전 확인 완료 응답
         START_REQUEST,   // 서버가 게임 시작 요청 (모든 조건 충족 후)
-        READY_CANCEL     // 클라이언트가 준비 취소
+        READY_CANCEL,    // 클라이언트가 준비 취소
+        RESYNC_REQUEST,  // 상대 보드 해시 불일치 → 상대방에게 전체 보드(키프레임) 재전송 요청
+        ROOM_JOIN        // 릴레이 서버의 방 참가 (playerId 1: 호스트, 2: 게스트, info: 방 코드)
     }
 
     private final ControlType controlType;
@@ -29,6 +31,10 @@ public class GameControlMessage extends NetworkMessage {
     private final Integer playerId;
     // 추가 정보(디버깅/메시지 설명 등, nullable)
     private final String info;
+    // START_REQUEST/START_GAME 시 양쪽이 공유하는 블록 순서 시드 (nullable)
+    private final Long pieceSeed;
+    // START_REQUEST/START_GAME 시 호스트 난이도 (0: normal, 1: hard, 2: easy, nullable - 없으면 normal)
+    private final Integer difficulty;
 
     public GameControlMessage(ControlType controlType) {
         this(controlType, null, null, null);
@@ -43,11 +49,22 @@ public class GameControlMessage extends NetworkMessage {
     }
 
     public GameControlMessage(ControlType controlType, VersusMode mode, Integer playerId, String info) {
+        this(controlType, mode, playerId, info, null);
+    }
+
+    public GameControlMessage(ControlType controlType, VersusMode mode, Integer playerId, String info, Long pieceSeed) {
+        this(controlType, mode, playerId, info, pieceSeed, null);
+    }
+
+    public GameControlMessage(ControlType controlType, VersusMode mode, Integer playerId, String info, Long pieceSeed,
+                              Integer difficulty) {
         super(MessageType.GAME_CONTROL);
         this.controlType = controlType;
         this.mode = mode;
         this.playerId = playerId;
         this.info = info;
+        this.pieceSeed = pieceSeed;
+        this.difficulty = difficulty;
     }
 
     public ControlType getControlType() {
@@ -66,6 +83,14 @@ public class GameControlMessage extends NetworkMessage {
         return info;
     }
 
+    public Long getPieceSeed() {
+        return pieceSeed;
+    }
+
+    public Integer getDifficulty() {
+        return difficulty;
+    }
+
     @Override
     public String toString() {
         return "GameControlMessage{" +
@@ -73,6 +98,8 @@ public class GameControlMessage extends NetworkMessage {
                 ", mode=" + mode +
                 ", playerId=" + playerId +
                 ", info='" + info + '\'' +
+                (pieceSeed != null ? ", pieceSeed=" + pieceSeed : "") +
+                (difficulty != null ? ", difficulty=" + difficulty : "") +
                 ", id=" + getMessageId() +
                 '}';
     }
@@ -4,29 +4,38 @@ import game.events.*;
 
 /**
  * GameEvent를 네트워크로 전송하기 위한 래퍼 클래스
- * 기존 GameEvent의 serialize/deserialize 기능을 활용합니다.
+ * 이벤트 종류는 EventCodecRegistry의 1바이트 ID로, 본문은 각 이벤트의 encode()/decode()로 주고받습니다.
  */
 public class GameEventMessage extends NetworkMessage {
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
     
-    private final String eventType;  // 이벤트 타입 
-    private final byte[] eventData;  // 직렬화된 이벤트 데이터
+    private final byte eventId;      // 이벤트 ID (EventCodecRegistry)
+    private final byte[] eventData;  // 인코딩된 이벤트 데이터
     private final int playerId;
     
     /**
      * GameEvent를 NetworkMessage로 변환
      * @param event 전송할 게임 이벤트
      * @param playerId 이벤트를 발생시킨 플레이어 ID (1 or 2)
+     * @throws IllegalArgumentException 레지스트리에 등록되지 않은 이벤트
      */
     public GameEventMessage(GameEvent event, int playerId) {
         super(MessageType.GAME_EVENT);
-        this.eventType = event.getEventType();
-        this.eventData = event.serialize();  // GameEvent -> byte[] 보내기
+        int id = EventCodecRegistry.idOf(event);
+        if (id == EventCodecRegistry.UNKNOWN) {
+            throw new IllegalArgumentException("등록되지 않은 이벤트: " + (event == null ? null : event.getClass().getName()));
+        }
+        this.eventId = (byte) id;
+        this.eventData = EventCodecRegistry.encode(event);
         this.playerId = playerId;
     }
     
+    public int getEventId() {
+        return eventId & 0xFF;
+    }
+    
     public String getEventType() { 
-        return eventType; 
+        return EventCodecRegistry.typeOf(getEventId()); 
     }
     
     public byte[] getEventData() { 
@@ -38,60 +47,27 @@ public class GameEventMessage extends NetworkMessage {
     }
     
     /**
-     * byte[] 데이터를 GameEvent 객체로 역직렬화
-     * @return 역직렬화된 GameEvent 객체, 실패 시 null
+     * 인코딩된 데이터를 GameEvent 객체로 복원
+     * @return 복원된 GameEvent 객체, 실패 시 null
      */
     public GameEvent toGameEvent() {
-        GameEvent event = createEventInstance(eventType);   
-        if (event != null) {
-            try {
-                event.deserialize(eventData);
-            } catch (Exception e) {
-                System.err.println("이벤트 역직렬화 실패: " + eventType);
-                e.printStackTrace();
-                return null;
+        try {
+            GameEvent event = EventCodecRegistry.decode(getEventId(), eventData);
+            if (event == null) {
+                System.err.println("알 수 없는 이벤트 ID: " + getEventId());
             }
-        }
-        return event;
-    }
-    
-    /**
-     * eventType에 따라 적절한 GameEvent 인스턴스 생성 (Factory Pattern)
-     */
-    private GameEvent createEventInstance(String type) {
-        switch (type) {
-            case "TICK":
-                return new TickEvent();
-            case "BLOCK_SPAWNED":
-                return new BlockSpawnedEvent();
-            case "BLOCK_MOVED":
-                return new BlockMovedEvent();
-            case "BLOCK_ROTATED":
-                return new BlockRotatedEvent();
-            case "BLOCK_PLACED":
-                return new BlockPlacedEvent();
-            case "LINE_CLEARED":
-                return new LineClearedEvent();
-            case "ATTACK_APPLIED":
-                return new game.events.AttackAppliedEvent();
-            case "SCORE_UPDATE":
-                return new ScoreUpdateEvent();
-            case "GAME_OVER":
-                return new GameOverEvent();
-            case "LEVEL_UP":
-                return new LevelUpEvent();
-            case "ITEM_ACTIVATED":
-                return new ItemActivatedEvent();
-            default:
-                System.err.println("알 수 없는 이벤트 타입: " + type);
-                return null;
+            return event;
+        } catch (Exception e) {
+            System.err.println("이벤트 역직렬화 실패: " + getEventType());
+            e.printStackTrace();
+            return null;
         }
     }
     
     @Override
     public String toString() {
         return "GameEventMessage{" +
-                "eventType='" + eventType + '\'' +
+                "eventType='" + getEventType() + '\'' +
                 ", playerId=" + playerId +
                 ", dataSize=" + eventData.length +
                 ", messageId=" + getMessageId() +
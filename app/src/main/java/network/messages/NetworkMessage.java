@@ -1,7 +1,6 @@
 package network.messages;
 
 import java.io.Serializable;
-import java.util.UUID;
 
 /**
  * 네트워크로 전송될 모든 메시지의 기본 추상 클래스
@@ -11,8 +10,9 @@ public abstract class NetworkMessage implements Serializable {
     private static final long serialVersionUID = 1L;
     
     private final long timestamp;        // 메시지 생성 시간
-    private final String messageId;      // 고유 메시지 ID
     private final MessageType type;      // 메시지 타입
+    private int sessionId;               // 송신 세션 ID (MessageSender가 전송 시 부여)
+    private long sequence;               // 세션 내 단조 증가 시퀀스 번호 (0 = 아직 전송 안 됨)
     
     /**
      * NetworkMessage 생성자
@@ -20,18 +20,54 @@ public abstract class NetworkMessage implements Serializable {
      */
     protected NetworkMessage(MessageType type) {
         this.timestamp = System.currentTimeMillis();
-        this.messageId = UUID.randomUUID().toString();
         this.type = type;
     }
     
+    /**
+     * 송신 세션 ID와 시퀀스 번호 부여
+     * MessageSender가 실제로 스트림에 쓰기 직전에 호출합니다.
+     * 이미 번호가 부여된 메시지(재전송)는 그대로 유지합니다.
+     * 
+     * @param sessionId 송신 세션 ID
+     * @param sequence 세션 내 시퀀스 번호 (1부터 시작)
+     * @return 새로 번호가 부여되었으면 true
+     */
+    public boolean assignSequence(int sessionId, long sequence) {
+        if (this.sequence != 0) {
+            return false;
+        }
+        this.sessionId = sessionId;
+        this.sequence = sequence;
+        return true;
+    }
+    
     // ===== Getter 메서드 =====
     
     public long getTimestamp() {
         return timestamp;
     }
     
+    /**
+     * 메시지 ID ("세션ID-시퀀스" 형식)
+     * 매 메시지마다 UUID를 만들지 않고 전송 시 부여된 번호로 구성합니다.
+     */
     public String getMessageId() {
-        return messageId;
+        return Integer.toHexString(sessionId) + "-" + sequence;
+    }
+    
+    public int getSessionId() {
+        return sessionId;
+    }
+    
+    public long getSequence() {
+        return sequence;
+    }
+    
+    /**
+     * 시퀀스 번호가 부여되었는지 여부
+     */
+    public boolean isSequenced() {
+        return sequence != 0;
     }
     
     public MessageType getType() {
@@ -50,7 +86,7 @@ public abstract class NetworkMessage implements Serializable {
     public String toString() {
         return String.format("%s{id='%s', type=%s, timestamp=%d}", 
             getClass().getSimpleName(), 
-            messageId.substring(0, 8), 
+            getMessageId(), 
             type, 
             timestamp);
     }
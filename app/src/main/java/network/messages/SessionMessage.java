@@ -0,0 +1,62 @@
+package network.messages;
+
+/**
+ * 세션 계층 메시지 (재연결 핸드셰이크 및 정상 종료 알림)
+ * 재연결 핸드셰이크 메시지는 시퀀스 번호 없이 스트림에 직접 기록합니다.
+ */
+public class SessionMessage extends NetworkMessage {
+    private static final long serialVersionUID = 1L;
+
+    public enum Kind {
+        RESUME_REQUEST,   // 클라이언트 → 서버: 세션 재개 요청
+        RESUME_ACCEPT,    // 서버 → 클라이언트: 세션 재개 수락
+        RESUME_REJECT,    // 서버 → 클라이언트: 알 수 없는 세션 (재개 불가)
+        CLOSE             // 정상 종료 알림 (재연결 시도 안 함)
+    }
+
+    private final Kind kind;
+    private final int senderSessionId;      // 보내는 쪽의 송신 세션 ID
+    private final int peerSessionId;        // 보내는 쪽이 알고 있는 상대방 송신 세션 ID
+    private final long lastReceivedSequence; // 보내는 쪽이 상대방으로부터 마지막으로 받은 번호
+
+    public SessionMessage(Kind kind, int senderSessionId, int peerSessionId, long lastReceivedSequence) {
+        super(MessageType.CONNECTION);
+        this.kind = kind;
+        this.senderSessionId = senderSessionId;
+        this.peerSessionId = peerSessionId;
+        this.lastReceivedSequence = lastReceivedSequence;
+    }
+
+    /**
+     * 정상 종료 알림 생성
+     */
+    public static SessionMessage close(int senderSessionId) {
+        return new SessionMessage(Kind.CLOSE, senderSessionId, 0, 0);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int getSenderSessionId() {
+        return senderSessionId;
+    }
+
+    public int getPeerSessionId() {
+        return peerSessionId;
+    }
+
+    public long getLastReceivedSequence() {
+        return lastReceivedSequence;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionMessage{" +
+                "kind=" + kind +
+                ", session=" + Integer.toHexString(senderSessionId) +
+                ", peerSession=" + Integer.toHexString(peerSessionId) +
+                ", lastReceived=" + lastReceivedSequence +
+                '}';
+    }
+}
@@ -0,0 +1,132 @@
+package network.relay;
+
+import network.messages.GameControlMessage;
+import network.messages.NetworkMessage;
+import versus.VersusMode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 릴레이 서버에 접속한 클라이언트 하나
+ *
+ * 로비 단계에서는 ObjectInputStream/ObjectOutputStream으로 메시지를 직접 읽고 씁니다.
+ * 짝이 정해진 뒤에는 소켓 바이트를 그대로 상대에게 넘기며 (rawMode), 이후 객체 쓰기는 하지 않습니다.
+ *
+ * MessageSender는 메시지마다 reset()을 호출하므로 메시지 사이에 남는 핸들 상태가 없고,
+ * ObjectInputStream은 소켓에서 필요한 만큼만 읽으므로 로비에서 읽다 만 바이트가 남지 않습니다.
+ * 덕분에 릴레이가 쓴 로비 메시지 뒤에 상대 스트림의 바이트를 이어 붙여도 받는 쪽에서는 하나의 스트림으로 보입니다.
+ */
+class RelayConnection {
+
+    private final int id;
+    private final Socket socket;
+    private final InputStream rawIn;
+    private final OutputStream rawOut;
+    private final ObjectOutputStream objectOut;
+    private ObjectInputStream objectIn;
+
+    // 출력 순서 보장용 (로비 응답, 상대의 로비 메시지, 중계 바이트가 섞이지 않도록)
+    private final Object outLock = new Object();
+    private boolean rawMode = false;
+
+    // 로비 상태 (join/held는 RelayServer의 lobbyLock 안에서만 변경)
+    private volatile GameControlMessage join;   // 받은 ROOM_JOIN (참가 전이면 null)
+    private final List<NetworkMessage> held = new ArrayList<>();  // 짝이 정해지기 전에 받은 메시지 (도착 순서)
+    private volatile VersusMode mode;           // 대기 중 받은 마지막 MODE_SELECT/MODE_CHANGED의 모드
+    private volatile RelayRoom room;
+
+    RelayConnection(int id, Socket socket) throws IOException {
+        this.id = id;
+        this.socket = socket;
+        this.rawIn = socket.getInputStream();
+        this.rawOut = socket.getOutputStream();
+        // 클라이언트와 같은 순서: 출력 스트림 헤더를 먼저 보내야 상대의 ObjectInputStream 생성이 풀림
+        this.objectOut = new ObjectOutputStream(rawOut);
+        this.objectOut.flush();
+    }
+
+    /**
+     * 클라이언트 스트림 헤더 읽기 (클라이언트가 헤더를 보낼 때까지 대기)
+     */
+    void openInput() throws IOException {
+        this.objectIn = new ObjectInputStream(rawIn);
+    }
+
+    NetworkMessage readMessage() throws IOException, ClassNotFoundException {
+        Object received = objectIn.readObject();
+        if (!(received instanceof NetworkMessage)) {
+            throw new IOException("NetworkMessage가 아닌 객체 수신: " + received);
+        }
+        return (NetworkMessage) received;
+    }
+
+    /**
+     * 로비 단계 메시지 쓰기
+     * @return 이미 중계 모드로 바뀌어 쓰지 않았으면 false
+     */
+    boolean writeMessage(NetworkMessage message) throws IOException {
+        synchronized (outLock) {
+            if (rawMode) {
+                return false;
+            }
+            objectOut.writeObject(message);
+            objectOut.flush();
+            objectOut.reset();
+            return true;
+        }
+    }
+
+    /**
+     * 상대에게서 받은 바이트를 그대로 쓰기 (이후로는 로비 메시지를 쓰지 않음)
+     */
+    void writeRaw(byte[] buffer, int length) throws IOException {
+        synchronized (outLock) {
+            if (!rawMode) {
+                objectOut.flush();
+                rawMode = true;
+            }
+            rawOut.write(buffer, 0, length);
+            rawOut.flush();
+        }
+    }
+
+    int readRaw(byte[] buffer) throws IOException {
+        return rawIn.read(buffer);
+    }
+
+    void close() {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // 이미 닫힘
+        }
+    }
+
+    int getId() { return id; }
+    Socket getSocket() { return socket; }
+    String getRemoteAddress() {
+        return socket.getInetAddress().getHostAddress() + ":" + socket.getPort();
+    }
+
+    GameControlMessage getJoin() { return join; }
+    void setJoin(GameControlMessage join) { this.join = join; }
+
+    List<NetworkMessage> getHeld() { return held; }
+    VersusMode getMode() { return mode; }
+    void setMode(VersusMode mode) { this.mode = mode; }
+
+    RelayRoom getRoom() { return room; }
+    void setRoom(RelayRoom room) { this.room = room; }
+
+    @Override
+    public String toString() {
+        return "#" + id + "(" + getRemoteAddress() + ")";
+    }
+}
@@ -0,0 +1,122 @@
+package network.relay;
+
+import versus.VersusMode;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 릴레이 서버의 대전 방 하나 (호스트 1명 + 게스트 1명)
+ * 양방향 중계 바이트/청크 수와 마지막 활동 시각을 기록합니다.
+ */
+public class RelayRoom {
+
+    /** 중계 방향 */
+    public enum Direction {
+        HOST_TO_GUEST,
+        GUEST_TO_HOST
+    }
+
+    private final int id;
+    private final String key;
+    private final VersusMode mode;
+    private final RelayConnection host;
+    private final RelayConnection guest;
+    private final long createdAt;
+
+    private final AtomicLong[] bytes = { new AtomicLong(), new AtomicLong() };
+    private final AtomicLong[] chunks = { new AtomicLong(), new AtomicLong() };
+    private volatile long lastActivity;
+    private volatile long closedAt = 0;
+    private volatile String closeReason;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    RelayRoom(int id, String key, VersusMode mode, RelayConnection host, RelayConnection guest) {
+        this.id = id;
+        this.key = key;
+        this.mode = mode;
+        this.host = host;
+        this.guest = guest;
+        this.createdAt = System.currentTimeMillis();
+        this.lastActivity = createdAt;
+    }
+
+    /**
+     * 연결의 상대편 (방에 없는 연결이면 null)
+     */
+    RelayConnection peerOf(RelayConnection connection) {
+        if (connection == host) return guest;
+        if (connection == guest) return host;
+        return null;
+    }
+
+    Direction directionFrom(RelayConnection connection) {
+        return connection == host ? Direction.HOST_TO_GUEST : Direction.GUEST_TO_HOST;
+    }
+
+    void recordForward(Direction direction, int length) {
+        bytes[direction.ordinal()].addAndGet(length);
+        chunks[direction.ordinal()].incrementAndGet();
+        lastActivity = System.currentTimeMillis();
+    }
+
+    /**
+     * 방 종료 (양쪽 소켓을 닫아 반대 방향 중계 스레드도 끝나게 함)
+     * @return 이번 호출로 종료되었으면 true
+     */
+    boolean close(String reason) {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        closeReason = reason;
+        closedAt = System.currentTimeMillis();
+        host.close();
+        guest.close();
+        return true;
+    }
+
+    // ===== Getter 메서드 =====
+
+    public int getId() { return id; }
+    public String getKey() { return key; }
+    public VersusMode getMode() { return mode; }
+    public String getHostAddress() { return host.getRemoteAddress(); }
+    public String getGuestAddress() { return guest.getRemoteAddress(); }
+    public long getCreatedAt() { return createdAt; }
+    public long getLastActivity() { return lastActivity; }
+    public boolean isClosed() { return closed.get(); }
+    public String getCloseReason() { return closeReason; }
+
+    public long getBytes(Direction direction) { return bytes[direction.ordinal()].get(); }
+    public long getChunks(Direction direction) { return chunks[direction.ordinal()].get(); }
+
+    public long getTotalBytes() {
+        return bytes[0].get() + bytes[1].get();
+    }
+
+    /**
+     * 방이 유지된 시간 (종료되었으면 종료 시각까지)
+     */
+    public long getDurationMs() {
+        long end = closedAt != 0 ? closedAt : System.currentTimeMillis();
+        return end - createdAt;
+    }
+
+    /**
+     * 통계 한 줄 요약
+     */
+    public String summary() {
+        long seconds = Math.max(1, getDurationMs() / 1000);
+        return "방 " + id + " [" + (key.isEmpty() ? "빠른 매칭" : key) + ", " + (mode != null ? mode : "모드 미정") + "] "
+            + getHostAddress() + " ⇄ " + getGuestAddress()
+            + " | 호스트→게스트 " + getBytes(Direction.HOST_TO_GUEST) + "B/" + getChunks(Direction.HOST_TO_GUEST)
+            + ", 게스트→호스트 " + getBytes(Direction.GUEST_TO_HOST) + "B/" + getChunks(Direction.GUEST_TO_HOST)
+            + " | " + seconds + "초, 평균 " + (getTotalBytes() / seconds) + "B/s"
+            + (closeReason != null ? " | 종료: " + closeReason : "");
+    }
+
+    @Override
+    public String toString() {
+        return "RelayRoom{" + summary() + "}";
+    }
+}
@@ -0,0 +1,481 @@
+package network.relay;
+
+import network.ConnectionMonitor;
+import network.NetworkConfig;
+import network.messages.GameControlMessage;
+import network.messages.GameControlMessage.ControlType;
+import network.messages.MessageType;
+import network.messages.NetworkMessage;
+import network.messages.SessionMessage;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 대전을 한 프로세스에서 중계하는 릴레이/로비 서버
+ *
+ * 호스트와 게스트 모두 NetworkManager.connectAsClient()로 릴레이에 접속한 뒤 ROOM_JOIN을 보내 방에 참가합니다.
+ * (P2PWaitingRoom의 릴레이 모드가 대기실을 열면서 보냄)
+ * - ROOM_JOIN의 playerId가 1이면 호스트, 2면 게스트이고, info(방 코드)가 같은 호스트/게스트끼리 짝을 짓습니다.
+ *   방 코드가 없으면 빠른 매칭으로 아무나 짝을 짓습니다.
+ * - 짝이 정해지기 전에 받은 메시지(호스트의 MODE_SELECT/MODE_CHANGED 등)는 보관했다가,
+ *   짝이 정해지면 상대의 ROOM_JOIN 뒤에 받은 순서 그대로 전달합니다.
+ * - 이후 VERSION_CHECK, READY, START_REQUEST를 포함한 모든 메시지는 역직렬화 없이 바이트 그대로 중계하므로
+ *   대기실은 직접 연결할 때와 같은 순서(MODE_SELECT → VERSION_CHECK → READY → START_REQUEST)로 진행합니다.
+ * - 대기 중에는 릴레이가 Heartbeat에 응답해 클라이언트가 타임아웃되지 않게 합니다.
+ *
+ * 연결마다 작업 스레드 하나를 쓰므로 동시 접속 수는 스레드 수로 제한되며, 넘치는 접속은 바로 닫습니다.
+ * 세션 재개(RESUME_REQUEST)는 지원하지 않으므로 재접속 시도는 거절되고 클라이언트는 기존 끊김 처리로 넘어갑니다.
+ *
+ * 실행: ./gradlew runRelay --args="--port 12345 --threads 128 --stats 10"
+ */
+public class RelayServer {
+
+    public static final int DEFAULT_THREADS = 128;          // 동시 접속 64쌍
+    public static final int DEFAULT_STATS_INTERVAL = 10;    // 통계 출력 주기 (초, 0이면 출력 안 함)
+    /** ROOM_JOIN의 playerId: 호스트 (그 외는 게스트) */
+    public static final int HOST_PLAYER_ID = 1;
+    private static final int FORWARD_BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_HELD_MESSAGES = 64;  // 짝이 정해지기 전에 보관할 최대 메시지 수
+
+    private final int port;
+    private final int threads;
+    private final int statsIntervalSec;
+
+    private ServerSocket serverSocket;
+    private ExecutorService workers;
+    private Thread acceptThread;
+    private Thread statsThread;
+    private volatile boolean running = false;
+
+    private final AtomicInteger nextConnectionId = new AtomicInteger(1);
+    private final AtomicInteger nextRoomId = new AtomicInteger(1);
+    private final AtomicInteger activeConnections = new AtomicInteger();
+
+    // 로비 대기열 (info 문자열별, 먼저 온 순서)
+    private final Object lobbyLock = new Object();
+    private final Map<String, Deque<RelayConnection>> waitingHosts = new HashMap<>();
+    private final Map<String, Deque<RelayConnection>> waitingGuests = new HashMap<>();
+
+    private final Map<Integer, RelayRoom> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong totalRooms = new AtomicLong();
+    private final AtomicLong totalRejected = new AtomicLong();
+    private final AtomicLong closedRoomBytes = new AtomicLong();
+
+    public RelayServer(int port, int threads) {
+        this(port, threads, DEFAULT_STATS_INTERVAL);
+    }
+
+    /**
+     * @param port 수신 포트 (0이면 임의 포트)
+     * @param threads 작업 스레드 수 (= 최대 동시 접속 수)
+     * @param statsIntervalSec 방별 통계 출력 주기 (초, 0이면 출력 안 함)
+     */
+    public RelayServer(int port, int threads, int statsIntervalSec) {
+        if (threads < 2) {
+            throw new IllegalArgumentException("스레드 수는 2 이상이어야 합니다: " + threads);
+        }
+        this.port = port;
+        this.threads = threads;
+        this.statsIntervalSec = statsIntervalSec;
+    }
+
+    /**
+     * 서버 시작 (접속 대기는 별도 스레드)
+     */
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        serverSocket = new ServerSocket(port);
+        AtomicInteger workerId = new AtomicInteger(1);
+        workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "Relay-Worker-" + workerId.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+        running = true;
+
+        acceptThread = new Thread(this::acceptLoop, "Relay-Accept-Thread");
+        acceptThread.start();
+
+        if (statsIntervalSec > 0) {
+            statsThread = new Thread(this::statsLoop, "Relay-Stats-Thread");
+            statsThread.setDaemon(true);
+            statsThread.start();
+        }
+
+        System.out.println("🛰️ [Relay] 서버 시작: 포트 " + getLocalPort() + ", 작업 스레드 " + threads);
+    }
+
+    /**
+     * 서버 중지 (대기 중인 연결과 진행 중인 방 모두 종료)
+     */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+            // 이미 닫힘
+        }
+        synchronized (lobbyLock) {
+            waitingHosts.values().forEach(queue -> queue.forEach(RelayConnection::close));
+            waitingGuests.values().forEach(queue -> queue.forEach(RelayConnection::close));
+            waitingHosts.clear();
+            waitingGuests.clear();
+        }
+        for (RelayRoom room : new ArrayList<>(rooms.values())) {
+            closeRoom(room, "서버 종료");
+        }
+        workers.shutdownNow();
+        if (statsThread != null) {
+            statsThread.interrupt();
+        }
+        System.out.println("🛰️ [Relay] 서버 종료");
+    }
+
+    // ===== 접속 처리 =====
+
+    private void acceptLoop() {
+        while (running) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                if (running) {
+                    System.err.println("[Relay] 접속 수락 실패: " + e.getMessage());
+                }
+                continue;
+            }
+
+            if (activeConnections.incrementAndGet() > threads) {
+                activeConnections.decrementAndGet();
+                totalRejected.incrementAndGet();
+                System.err.println("⚠️ [Relay] 정원 초과로 접속 거절: " + socket.getRemoteSocketAddress());
+                closeQuietly(socket);
+                continue;
+            }
+
+            try {
+                socket.setTcpNoDelay(true);
+                RelayConnection connection = new RelayConnection(nextConnectionId.getAndIncrement(), socket);
+                workers.execute(() -> handleConnection(connection));
+            } catch (Exception e) {
+                activeConnections.decrementAndGet();
+                System.err.println("[Relay] 연결 준비 실패: " + e.getMessage());
+                closeQuietly(socket);
+            }
+        }
+    }
+
+    /**
+     * 연결 하나의 전체 수명 (작업 스레드에서 실행)
+     * 로비에서 짝이 정해질 때까지 메시지를 읽고, 이후에는 상대에게 바이트를 중계합니다.
+     */
+    private void handleConnection(RelayConnection connection) {
+        String endReason = "연결 종료 (" + connection + ")";
+        try {
+            connection.getSocket().setSoTimeout(NetworkConfig.HEARTBEAT_TIMEOUT);
+            connection.openInput();
+            System.out.println("🛰️ [Relay] 접속: " + connection);
+
+            if (runLobby(connection)) {
+                forward(connection);
+            }
+        } catch (SocketTimeoutException e) {
+            endReason = "응답 없음 (" + connection + ")";
+        } catch (Exception e) {
+            if (running) {
+                endReason = "오류 (" + connection + "): " + e.getMessage();
+            }
+        } finally {
+            leaveLobby(connection);
+            RelayRoom room = connection.getRoom();
+            if (room != null) {
+                closeRoom(room, endReason);
+            } else {
+                connection.close();
+                System.out.println("🛰️ [Relay] 대기 중 접속 종료: " + endReason);
+            }
+            activeConnections.decrementAndGet();
+        }
+    }
+
+    /**
+     * 로비 단계: 짝이 정해질 때까지 메시지 처리
+     * @return 짝이 정해져 중계를 시작해야 하면 true
+     */
+    private boolean runLobby(RelayConnection connection) throws IOException, ClassNotFoundException {
+        while (running) {
+            NetworkMessage message = connection.readMessage();
+
+            // 다른 스레드에서 짝이 정해졌으면 방금 읽은 메시지부터 상대에게 넘기고 중계 시작
+            RelayRoom room = connection.getRoom();
+            if (room != null) {
+                room.peerOf(connection).writeMessage(message);
+                return true;
+            }
+
+            if (message.getType() == MessageType.HEARTBEAT) {
+                connection.writeMessage(ConnectionMonitor.createHeartbeat());
+                continue;
+            }
+            if (message instanceof SessionMessage) {
+                System.out.println("🛰️ [Relay] 세션 재개는 지원하지 않음: " + connection);
+                return false;
+            }
+            if (message instanceof GameControlMessage
+                    && ((GameControlMessage) message).getControlType() == ControlType.ROOM_JOIN) {
+                join(connection, (GameControlMessage) message);
+            } else {
+                hold(connection, message);
+            }
+            if (connection.getRoom() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 짝이 정해지기 전에 받은 메시지 보관 (그 사이 짝이 정해졌으면 바로 상대에게 전달)
+     */
+    private void hold(RelayConnection connection, NetworkMessage message) throws IOException {
+        RelayConnection peer;
+        synchronized (lobbyLock) {
+            RelayRoom room = connection.getRoom();
+            if (room == null) {
+                List<NetworkMessage> held = connection.getHeld();
+                if (held.size() >= MAX_HELD_MESSAGES) {
+                    throw new IOException("대기 중 메시지가 너무 많음 (" + MAX_HELD_MESSAGES + "개)");
+                }
+                held.add(message);
+                if (message instanceof GameControlMessage) {
+                    GameControlMessage control = (GameControlMessage) message;
+                    if (control.getControlType() == ControlType.MODE_SELECT
+                            || control.getControlType() == ControlType.MODE_CHANGED) {
+                        connection.setMode(control.getMode());
+                    }
+                }
+                return;
+            }
+            peer = room.peerOf(connection);
+        }
+        peer.writeMessage(message);
+    }
+
+    /**
+     * 방 참가: 대기열에 들어가거나, 반대편 대기자가 있으면 바로 방 생성
+     */
+    private void join(RelayConnection connection, GameControlMessage join) throws IOException {
+        boolean asHost = Integer.valueOf(HOST_PLAYER_ID).equals(join.getPlayerId());
+        String key = join.getInfo() == null ? "" : join.getInfo();
+        synchronized (lobbyLock) {
+            if (connection.getJoin() != null) {
+                System.out.println("🛰️ [Relay] 이미 방 참가 대기 중: " + connection);
+                return;
+            }
+            connection.setJoin(join);
+            Map<String, Deque<RelayConnection>> opposite = asHost ? waitingGuests : waitingHosts;
+            Deque<RelayConnection> queue = opposite.get(key);
+            RelayConnection other = queue == null ? null : queue.pollFirst();
+            if (queue != null && queue.isEmpty()) {
+                opposite.remove(key);
+            }
+            if (other == null) {
+                Map<String, Deque<RelayConnection>> own = asHost ? waitingHosts : waitingGuests;
+                own.computeIfAbsent(key, k -> new ArrayDeque<>()).addLast(connection);
+                System.out.println("🛰️ [Relay] " + (asHost ? "호스트" : "게스트") + " 대기: " + connection
+                    + " (" + (key.isEmpty() ? "빠른 매칭" : key) + ")");
+                return;
+            }
+            if (asHost) {
+                pair(key, connection, other);
+            } else {
+                pair(key, other, connection);
+            }
+        }
+    }
+
+    /**
+     * 방 생성 (lobbyLock 안에서 호출)
+     * 서로의 ROOM_JOIN과 보관한 메시지를 먼저 전달한 뒤에 방을 공개해야, 이후 메시지가 그 뒤에 중계됩니다.
+     */
+    private void pair(String key, RelayConnection host, RelayConnection guest) throws IOException {
+        RelayRoom room = new RelayRoom(nextRoomId.getAndIncrement(), key, host.getMode(), host, guest);
+        deliverHeld(host, guest);
+        deliverHeld(guest, host);
+
+        rooms.put(room.getId(), room);
+        totalRooms.incrementAndGet();
+        host.setRoom(room);
+        guest.setRoom(room);
+        System.out.println("🎮 [Relay] 방 " + room.getId() + " 생성: " + host + " ⇄ " + guest
+            + " (" + (key.isEmpty() ? "빠른 매칭" : key) + ", " + room.getMode() + ")");
+    }
+
+    private static void deliverHeld(RelayConnection from, RelayConnection to) throws IOException {
+        to.writeMessage(from.getJoin());
+        for (NetworkMessage message : from.getHeld()) {
+            to.writeMessage(message);
+        }
+        from.getHeld().clear();
+    }
+
+    private void leaveLobby(RelayConnection connection) {
+        synchronized (lobbyLock) {
+            if (connection.getRoom() == null) {
+                removeWaiting(connection);
+                connection.setJoin(null);
+                connection.getHeld().clear();
+            }
+        }
+    }
+
+    private void removeWaiting(RelayConnection connection) {
+        waitingHosts.values().removeIf(queue -> queue.remove(connection) && queue.isEmpty());
+        waitingGuests.values().removeIf(queue -> queue.remove(connection) && queue.isEmpty());
+    }
+
+    /**
+     * 중계 단계: 읽은 바이트를 그대로 상대에게 씀 (연결마다 버퍼 하나를 재사용)
+     */
+    private void forward(RelayConnection connection) throws IOException {
+        RelayRoom room = connection.getRoom();
+        RelayConnection peer = room.peerOf(connection);
+        RelayRoom.Direction direction = room.directionFrom(connection);
+        byte[] buffer = new byte[FORWARD_BUFFER_SIZE];
+        int read;
+        while ((read = connection.readRaw(buffer)) > 0) {
+            peer.writeRaw(buffer, read);
+            room.recordForward(direction, read);
+        }
+    }
+
+    private void closeRoom(RelayRoom room, String reason) {
+        if (room.close(reason)) {
+            rooms.remove(room.getId());
+            closedRoomBytes.addAndGet(room.getTotalBytes());
+            System.out.println("🏁 [Relay] " + room.summary());
+        }
+    }
+
+    // ===== 통계 =====
+
+    private void statsLoop() {
+        while (running) {
+            try {
+                Thread.sleep(statsIntervalSec * 1000L);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (!rooms.isEmpty() || getWaitingCount() > 0) {
+                printStats();
+            }
+        }
+    }
+
+    /**
+     * 서버 및 방별 통계 출력
+     */
+    public void printStats() {
+        System.out.println("📊 [Relay] 접속 " + activeConnections.get() + "/" + threads
+            + ", 대기 " + getWaitingCount() + ", 진행 중인 방 " + rooms.size()
+            + ", 누적 방 " + totalRooms.get() + ", 거절 " + totalRejected.get()
+            + ", 누적 중계 " + getTotalBytes() + "B");
+        for (RelayRoom room : getRooms()) {
+            System.out.println("   " + room.summary());
+        }
+    }
+
+    // ===== Getter 메서드 =====
+
+    public int getLocalPort() {
+        return serverSocket == null ? port : serverSocket.getLocalPort();
+    }
+
+    public int getThreadCount() { return threads; }
+    public boolean isRunning() { return running; }
+    public int getActiveConnections() { return activeConnections.get(); }
+    public long getTotalRoomsCreated() { return totalRooms.get(); }
+    public long getTotalRejected() { return totalRejected.get(); }
+
+    public int getWaitingCount() {
+        synchronized (lobbyLock) {
+            int count = 0;
+            for (Deque<RelayConnection> queue : waitingHosts.values()) count += queue.size();
+            for (Deque<RelayConnection> queue : waitingGuests.values()) count += queue.size();
+            return count;
+        }
+    }
+
+    /**
+     * 진행 중인 방 목록 (방 번호 순)
+     */
+    public List<RelayRoom> getRooms() {
+        List<RelayRoom> out = new ArrayList<>(rooms.values());
+        out.sort((a, b) -> Integer.compare(a.getId(), b.getId()));
+        return out;
+    }
+
+    /**
+     * 종료된 방을 포함한 누적 중계 바이트
+     */
+    public long getTotalBytes() {
+        long total = closedRoomBytes.get();
+        for (RelayRoom room : rooms.values()) total += room.getTotalBytes();
+        return total;
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // 이미 닫힘
+        }
+    }
+
+    // ===== 실행 진입점 =====
+
+    /**
+     * 사용법: RelayServer [--port 포트] [--threads 스레드 수] [--stats 통계 주기(초)]
+     */
+    public static void main(String[] args) throws Exception {
+        int port = NetworkConfig.DEFAULT_PORT;
+        int threads = DEFAULT_THREADS;
+        int stats = DEFAULT_STATS_INTERVAL;
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--port": port = Integer.parseInt(value); i++; break;
+                case "--threads": threads = Integer.parseInt(value); i++; break;
+                case "--stats": stats = Integer.parseInt(value); i++; break;
+                default:
+                    System.err.println("알 수 없는 옵션: " + args[i]);
+                    System.err.println("사용법: RelayServer [--port 포트] [--threads 스레드 수] [--stats 통계 주기(초)]");
+                    System.exit(1);
+            }
+        }
+
+        RelayServer server = new RelayServer(port, threads, stats);
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "Relay-Shutdown"));
+        server.acceptThread.join();
+    }
+}
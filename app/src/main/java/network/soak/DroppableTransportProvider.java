@@ -0,0 +1,65 @@
+package network.soak;
+
+import network.transport.Transport;
+import network.transport.TransportListener;
+import network.transport.TransportProvider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 만든 연결을 기억해 두었다가 한꺼번에 끊을 수 있는 provider (소크 테스트의 강제 끊김용)
+ *
+ * 연결을 닫으면 양쪽 수신 스레드가 오류를 받아 NetworkManager가 세션 재개를 시작합니다.
+ * 재접속도 이 provider로 하므로 새 연결 역시 다음 끊김 대상이 됩니다.
+ */
+final class DroppableTransportProvider implements TransportProvider {
+
+    private final TransportProvider delegate;
+    private final List<Transport> transports = new ArrayList<>();
+
+    DroppableTransportProvider(TransportProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public TransportListener listen(int port) throws IOException {
+        return delegate.listen(port);
+    }
+
+    @Override
+    public Transport connect(String host, int port, int timeoutMs) throws IOException {
+        Transport transport = delegate.connect(host, port, timeoutMs);
+        synchronized (transports) {
+            transports.removeIf(Transport::isClosed);
+            transports.add(transport);
+        }
+        return transport;
+    }
+
+    /**
+     * 열려 있는 연결을 모두 닫음
+     * @return 닫은 연결 수
+     */
+    int dropAll() {
+        List<Transport> open;
+        synchronized (transports) {
+            open = new ArrayList<>(transports);
+            transports.clear();
+        }
+        int dropped = 0;
+        for (Transport transport : open) {
+            if (transport.isClosed()) {
+                continue;
+            }
+            try {
+                transport.close();
+                dropped++;
+            } catch (IOException ignored) {
+                // 이미 닫힘
+            }
+        }
+        return dropped;
+    }
+}
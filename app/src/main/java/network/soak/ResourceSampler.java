@@ -0,0 +1,119 @@
+package network.soak;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 소크 테스트용 자원 측정
+ *
+ * - 힙: System.gc() 직후 힙 풀의 GC 후 사용량 합계 (GC 직후 값이라 쓰레기는 빠짐)
+ * - 스레드: JVM 전체 살아 있는 스레드 수
+ * - Swing Timer: 실행 중인 javax.swing.Timer 수. 공개 API가 없어 TimerQueue 내부 큐 크기를 읽으므로
+ *   --add-opens java.desktop/javax.swing=ALL-UNNAMED 가 있어야 하고, 없으면 -1 (판정 제외)
+ * - 경기 객체: 끝난 경기의 EventBus/GameController 등을 약한 참조로 추적해, GC 후에도 남은 개수
+ */
+final class ResourceSampler {
+
+    private static final int GC_ROUNDS = 3;
+
+    private final List<WeakReference<Object>> tracked = new ArrayList<>();
+    private boolean timerQueueResolved = false;
+    private Collection<?> timerQueue;
+
+    /**
+     * 다음 측정부터 수거되어야 하는 객체 등록 (끝난 경기의 객체)
+     */
+    synchronized void track(Object object) {
+        if (object != null) {
+            tracked.add(new WeakReference<>(object));
+        }
+    }
+
+    /**
+     * 측정 (GC를 먼저 수행하므로 수백 ms 걸릴 수 있음)
+     */
+    SoakHarness.Sample sample(double elapsedSeconds, int pendingMessages, int networkListeners) {
+        collectGarbage();
+        SoakHarness.Sample sample = new SoakHarness.Sample();
+        sample.seconds = elapsedSeconds;
+        sample.heapMb = heapAfterGc() / (1024.0 * 1024.0);
+        sample.threads = ManagementFactory.getThreadMXBean().getThreadCount();
+        sample.swingTimers = swingTimerCount();
+        sample.pendingMessages = pendingMessages;
+        sample.networkListeners = networkListeners;
+        sample.retainedObjects = liveTrackedCount();
+        return sample;
+    }
+
+    /**
+     * 등록한 객체 중 아직 수거되지 않은 수
+     */
+    synchronized int liveTrackedCount() {
+        int live = 0;
+        for (Iterator<WeakReference<Object>> it = tracked.iterator(); it.hasNext(); ) {
+            if (it.next().get() == null) {
+                it.remove();
+            } else {
+                live++;
+            }
+        }
+        return live;
+    }
+
+    private static void collectGarbage() {
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static long heapAfterGc() {
+        long used = 0;
+        boolean measured = false;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() != MemoryType.HEAP) {
+                continue;
+            }
+            MemoryUsage usage = pool.getCollectionUsage();
+            if (usage != null) {
+                used += usage.getUsed();
+                measured = true;
+            }
+        }
+        return measured ? used : ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * 실행 중인 Swing Timer 수 (읽을 수 없으면 -1)
+     */
+    synchronized int swingTimerCount() {
+        if (!timerQueueResolved) {
+            timerQueueResolved = true;
+            try {
+                Class<?> type = Class.forName("javax.swing.TimerQueue");
+                Method shared = type.getDeclaredMethod("sharedInstance");
+                shared.setAccessible(true);
+                Field queue = type.getDeclaredField("queue");
+                queue.setAccessible(true);
+                timerQueue = (Collection<?>) queue.get(shared.invoke(null));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                System.err.println("[Soak] Swing Timer 수를 읽을 수 없습니다 (--add-opens java.desktop/javax.swing=ALL-UNNAMED 필요): " + e);
+            }
+        }
+        return timerQueue != null ? timerQueue.size() : -1;
+    }
+}
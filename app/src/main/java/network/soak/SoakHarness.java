@@ -0,0 +1,479 @@
+package network.soak;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import network.NetworkConfig;
+import network.NetworkManager;
+import network.transport.LoopbackNetwork;
+import network.transport.SimulatedTransportProvider;
+import network.transport.SocketTransportProvider;
+import network.transport.TransportProvider;
+import utils.NetworkSimulator;
+
+import javax.swing.SwingUtilities;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * P2P 장시간 소크 테스트 (힙/스레드/타이머 누수 검출)
+ *
+ * 호스트와 클라이언트 NetworkManager를 한 프로세스에서 연결하고, 봇이 조작하는 경기를 끝없이 반복합니다.
+ * - 경기마다 P2PVersusFrameBoard와 같은 구성(GameController, EventBus, EventSynchronizer)을 새로 만들고 정리
+ * - 경기 중 주기적으로 일시정지/재개 (PAUSE_GAME/RESUME_GAME)
+ * - 몇 경기마다 연결을 강제로 끊어 세션 재개(재연결) 경로를 실행
+ * - 몇 경기마다 양쪽 NetworkManager를 닫고 새로 연결 (메뉴로 돌아가 다시 방을 만드는 것과 같음)
+ *
+ * 경기가 끝날 때마다(경기 객체가 모두 정리된 같은 시점) GC 후 힙, 스레드 수, 실행 중인 Swing Timer 수,
+ * 전송 대기 메시지 수, NetworkManager 리스너 수, 수거되지 않은 지난 경기 객체 수를 측정합니다.
+ * 예열 경기 이후 표본의 추세(TrendDetector)가 허용치보다 오르면 실패로 판정하고 종료 코드 1을 반환합니다.
+ *
+ * 측정 중에는 게임/네트워크의 메시지별 로그를 끕니다 (--keep-logs로 유지).
+ *
+ * 실행: ./gradlew runSoak --args="--duration 4h --transport tcp"
+ */
+public class SoakHarness {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final long PAUSE_HOLD_MS = 500;          // 일시정지 유지 시간
+    private static final long RESUME_WAIT_MS = 30_000;      // 강제 끊김 후 세션 재개 대기 한도
+    private static final long CONNECT_WAIT_MS = 10_000;
+
+    // 지표별 허용 증가량 (측정 구간 전체 기준, 힙은 옵션)
+    private static final double THREAD_ALLOWANCE = 2;
+    private static final double TIMER_ALLOWANCE = 1;
+    private static final double PENDING_ALLOWANCE = 16;
+    private static final double LISTENER_ALLOWANCE = 0.5;
+    private static final double RETAINED_ALLOWANCE = 2;
+
+    /**
+     * 실행 옵션 (시간은 "500ms", "90s", "30m", "4h" 또는 초 단위 숫자)
+     */
+    public static final class Options {
+        long durationMs = TimeUnit.HOURS.toMillis(4);
+        long matchMs = TimeUnit.SECONDS.toMillis(30);    // 경기 한 판 길이
+        long pauseEveryMs = TimeUnit.SECONDS.toMillis(10); // 경기 중 일시정지 주기 (0이면 안 함)
+        int disconnectEvery = 3;        // N경기마다 경기 도중 강제 끊김 (0이면 안 함)
+        int sessionMatches = 10;        // N경기마다 연결을 새로 만듦 (0이면 계속 유지)
+        int warmupMatches = 5;          // 추세 판정에서 제외할 처음 경기 수 (JIT, 클래스 로딩, 캐시)
+        double heapAllowanceMb = 16;    // 측정 구간 전체에서 허용하는 힙 증가량
+        String transport = "loopback";  // loopback 또는 tcp
+        int port = NetworkConfig.DEFAULT_PORT;
+        String profile = null;          // NetworkSimulator 프로파일/스크립트 이름
+        long seed = 42;
+        String out = null;              // 결과 파일 (null이면 build/soak/soak-시각.json)
+        transient boolean keepLogs = false;
+
+        public static Options parse(String... args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String value = i + 1 < args.length ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "--duration": options.durationMs = parseDuration(value); i++; break;
+                    case "--match": options.matchMs = parseDuration(value); i++; break;
+                    case "--pause-every": options.pauseEveryMs = parseDuration(value); i++; break;
+                    case "--disconnect-every": options.disconnectEvery = Integer.parseInt(value); i++; break;
+                    case "--session-matches": options.sessionMatches = Integer.parseInt(value); i++; break;
+                    case "--warmup": options.warmupMatches = Integer.parseInt(value); i++; break;
+                    case "--heap-allowance-mb": options.heapAllowanceMb = Double.parseDouble(value); i++; break;
+                    case "--transport": options.transport = value; i++; break;
+                    case "--port": options.port = Integer.parseInt(value); i++; break;
+                    case "--profile": options.profile = value; i++; break;
+                    case "--seed": options.seed = Long.parseLong(value); i++; break;
+                    case "--out": options.out = value; i++; break;
+                    case "--keep-logs": options.keepLogs = true; break;
+                    default:
+                        throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+                }
+            }
+            return options;
+        }
+
+        static long parseDuration(String value) {
+            if (value == null || value.isEmpty()) {
+                throw new IllegalArgumentException("시간 값이 없습니다");
+            }
+            if (value.endsWith("ms")) {
+                return Long.parseLong(value.substring(0, value.length() - 2));
+            }
+            char unit = value.charAt(value.length() - 1);
+            String number = Character.isDigit(unit) ? value : value.substring(0, value.length() - 1);
+            double amount = Double.parseDouble(number);
+            switch (unit) {
+                case 'h': return (long) (amount * 3_600_000);
+                case 'm': return (long) (amount * 60_000);
+                case 's': return (long) (amount * 1000);
+                default:
+                    if (Character.isDigit(unit)) {
+                        return (long) (amount * 1000);
+                    }
+                    throw new IllegalArgumentException("알 수 없는 시간 단위: " + value);
+            }
+        }
+    }
+
+    /**
+     * 경기 종료 시점의 측정값 하나
+     */
+    public static final class Sample {
+        int match;
+        boolean warmup;
+        double seconds;
+        double heapMb;
+        int threads;
+        int swingTimers;        // -1이면 측정 불가
+        int pendingMessages;
+        int networkListeners;
+        int retainedObjects;
+
+        public double getHeapMb() { return heapMb; }
+        public int getThreads() { return threads; }
+        public int getSwingTimers() { return swingTimers; }
+        public int getPendingMessages() { return pendingMessages; }
+        public int getNetworkListeners() { return networkListeners; }
+        public int getRetainedObjects() { return retainedObjects; }
+    }
+
+    /**
+     * 전체 결과 (JSON으로 저장)
+     */
+    public static final class Report {
+        String timestamp;
+        String javaVersion;
+        String os;
+        Options config;
+        double elapsedSeconds;
+        int matches;
+        int sessions;
+        int pauses;
+        int reconnects;
+        int failedReconnects;
+        long botActions;
+        int botRestarts;
+        List<Sample> samples = new ArrayList<>();
+        List<TrendDetector.Verdict> verdicts = new ArrayList<>();
+        boolean passed;
+
+        public int getMatches() { return matches; }
+        public int getSessions() { return sessions; }
+        public int getPauses() { return pauses; }
+        public int getReconnects() { return reconnects; }
+        public int getFailedReconnects() { return failedReconnects; }
+        public long getBotActions() { return botActions; }
+        public List<Sample> getSamples() { return samples; }
+        public List<TrendDetector.Verdict> getVerdicts() { return verdicts; }
+        public boolean isPassed() { return passed; }
+    }
+
+    /**
+     * 연결된 호스트/클라이언트 한 쌍
+     */
+    private static final class Session {
+        final NetworkManager host;
+        final NetworkManager guest;
+        final DroppableTransportProvider guestProvider;
+
+        Session(NetworkManager host, NetworkManager guest, DroppableTransportProvider guestProvider) {
+            this.host = host;
+            this.guest = guest;
+            this.guestProvider = guestProvider;
+        }
+    }
+
+    private final Options options;
+    private final PrintStream console;
+    private final ResourceSampler sampler = new ResourceSampler();
+    private final Report report = new Report();
+    private TransportProvider provider;
+    private Session session;
+    private int sessionMatchCount = 0;
+
+    private SoakHarness(Options options, PrintStream console) {
+        this.options = options;
+        this.console = console;
+    }
+
+    /**
+     * 소크 테스트 실행 후 결과 파일 저장
+     * @return 결과 (isPassed()가 false면 누수 의심 또는 재연결 실패)
+     */
+    public static Report run(Options options) throws Exception {
+        PrintStream console = System.out;
+        SoakHarness harness = new SoakHarness(options, console);
+        console.println("🧪 [Soak] 전송: " + options.transport
+            + (options.profile != null ? " (" + options.profile + ")" : "")
+            + ", 시간 " + options.durationMs / 1000 + "초, 경기 " + options.matchMs / 1000.0 + "초"
+            + ", 끊김 " + options.disconnectEvery + "경기마다, 재접속 " + options.sessionMatches + "경기마다");
+
+        if (!options.keepLogs) {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+        try {
+            harness.loop();
+        } finally {
+            System.setOut(console);
+            harness.closeSession();
+        }
+
+        Report report = harness.evaluate();
+        Path path = options.out != null ? Paths.get(options.out)
+            : Paths.get("build", "soak", "soak-" + LocalDateTime.now().format(FILE_TIME) + ".json");
+        writeJson(report, path);
+        console.println("🧪 [Soak] 결과 저장: " + path.toAbsolutePath());
+        return report;
+    }
+
+    private void loop() throws Exception {
+        report.timestamp = OffsetDateTime.now().toString();
+        report.javaVersion = System.getProperty("java.version");
+        report.os = System.getProperty("os.name") + " " + System.getProperty("os.arch");
+        report.config = options;
+        provider = createProvider(options);
+
+        long start = System.currentTimeMillis();
+        long end = start + options.durationMs;
+        while (System.currentTimeMillis() < end) {
+            if (session == null || (options.sessionMatches > 0 && sessionMatchCount >= options.sessionMatches)) {
+                closeSession();
+                openSession();
+            }
+            runMatch();
+
+            Sample sample = sampler.sample((System.currentTimeMillis() - start) / 1000.0,
+                session.host.getPendingMessageCount() + session.guest.getPendingMessageCount(),
+                session.host.getListenerCount() + session.guest.getListenerCount());
+            sample.match = report.matches;
+            sample.warmup = report.matches <= options.warmupMatches;
+            report.samples.add(sample);
+            console.println(String.format("🧪 [Soak] 경기 %d (%.0fs)%s 힙 %.1fMB  스레드 %d  타이머 %d  대기 %d  리스너 %d  잔존 %d",
+                sample.match, sample.seconds, sample.warmup ? " [예열]" : "", sample.heapMb, sample.threads,
+                sample.swingTimers, sample.pendingMessages, sample.networkListeners, sample.retainedObjects));
+        }
+        report.elapsedSeconds = (System.currentTimeMillis() - start) / 1000.0;
+    }
+
+    /**
+     * 경기 한 판 (일시정지/강제 끊김 포함)
+     */
+    private void runMatch() throws Exception {
+        int index = report.matches++;
+        sessionMatchCount++;
+        SoakMatch hostSide = new SoakMatch(session.host, 1, options.seed * 31 + index * 2L);
+        SoakMatch guestSide = new SoakMatch(session.guest, 2, options.seed * 31 + index * 2L + 1);
+        onEdt(() -> {
+            hostSide.start();
+            guestSide.start();
+        });
+
+        boolean dropThisMatch = options.disconnectEvery > 0 && index % options.disconnectEvery == options.disconnectEvery - 1;
+        long matchStart = System.currentTimeMillis();
+        long nextPause = options.pauseEveryMs > 0 ? matchStart + options.pauseEveryMs : Long.MAX_VALUE;
+        try {
+            // 일시정지 유지가 경기 길이보다 길어도 예정된 끊김은 실행
+            while (System.currentTimeMillis() - matchStart < options.matchMs || dropThisMatch) {
+                long now = System.currentTimeMillis();
+                if (dropThisMatch && now - matchStart >= options.matchMs / 2) {
+                    dropThisMatch = false;
+                    dropAndAwaitResume();
+                    continue;
+                }
+                if (now >= nextPause) {
+                    SoakMatch pauser = report.pauses % 2 == 0 ? hostSide : guestSide;
+                    onEdt(pauser::requestPause);
+                    Thread.sleep(PAUSE_HOLD_MS);
+                    onEdt(pauser::requestResume);
+                    report.pauses++;
+                    nextPause = System.currentTimeMillis() + options.pauseEveryMs;
+                    continue;
+                }
+                Thread.sleep(Math.min(50, Math.max(1, options.matchMs - (now - matchStart))));
+            }
+        } finally {
+            onEdt(() -> {
+                hostSide.stop(sampler);
+                guestSide.stop(sampler);
+            });
+            report.botActions += hostSide.getActions() + guestSide.getActions();
+            report.botRestarts += hostSide.getRestarts() + guestSide.getRestarts();
+        }
+    }
+
+    /**
+     * 클라이언트 쪽 연결을 강제로 끊고 양쪽 세션 재개를 기다림 (실패하면 연결을 새로 만듦)
+     */
+    private void dropAndAwaitResume() throws Exception {
+        int hostBefore = session.host.getResumeCount();
+        int guestBefore = session.guest.getResumeCount();
+        session.guestProvider.dropAll();
+
+        long deadline = System.currentTimeMillis() + RESUME_WAIT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            if (session.host.getResumeCount() > hostBefore && session.guest.getResumeCount() > guestBefore
+                    && !session.host.isResuming() && !session.guest.isResuming()) {
+                report.reconnects++;
+                return;
+            }
+            Thread.sleep(20);
+        }
+        report.failedReconnects++;
+        console.println("🧪 [Soak] ❌ 세션 재개 실패 - 연결을 새로 만듭니다.");
+        closeSession();
+        openSession();
+    }
+
+    private void openSession() throws Exception {
+        NetworkManager host = new NetworkManager(provider);
+        DroppableTransportProvider guestProvider = new DroppableTransportProvider(provider);
+        NetworkManager guest = new NetworkManager(guestProvider);
+        String address = "tcp".equals(options.transport) ? "127.0.0.1" : LoopbackNetwork.ADDRESS;
+
+        CompletableFuture<Void> hostStart = CompletableFuture.runAsync(() -> {
+            try {
+                host.startAsServer(options.port);
+            } catch (Exception e) {
+                throw new IllegalStateException("호스트 시작 실패: " + e.getMessage(), e);
+            }
+        });
+        long deadline = System.currentTimeMillis() + CONNECT_WAIT_MS;
+        while (true) {
+            try {
+                guest.connectAsClient(address, options.port);
+                break;
+            } catch (Exception e) {
+                if (System.currentTimeMillis() > deadline || hostStart.isCompletedExceptionally()) {
+                    host.disconnect();
+                    throw e;
+                }
+                Thread.sleep(20);
+            }
+        }
+        hostStart.get(CONNECT_WAIT_MS, TimeUnit.MILLISECONDS);
+        session = new Session(host, guest, guestProvider);
+        sessionMatchCount = 0;
+        report.sessions++;
+    }
+
+    private void closeSession() {
+        if (session == null) {
+            return;
+        }
+        session.guest.disconnect();
+        session.host.disconnect();
+        sampler.track(session.host);
+        sampler.track(session.guest);
+        sampler.track(session.guestProvider);
+        session = null;
+    }
+
+    /**
+     * 예열 이후 표본으로 지표별 추세 판정
+     */
+    private Report evaluate() {
+        List<Sample> measured = new ArrayList<>();
+        for (Sample sample : report.samples) {
+            if (!sample.warmup) {
+                measured.add(sample);
+            }
+        }
+        report.verdicts.add(verdict("heapMb", measured, s -> s.heapMb, options.heapAllowanceMb));
+        report.verdicts.add(verdict("threads", measured, s -> s.threads, THREAD_ALLOWANCE));
+        report.verdicts.add(verdict("swingTimers", measured, s -> s.swingTimers, TIMER_ALLOWANCE));
+        report.verdicts.add(verdict("pendingMessages", measured, s -> s.pendingMessages, PENDING_ALLOWANCE));
+        report.verdicts.add(verdict("networkListeners", measured, s -> s.networkListeners, LISTENER_ALLOWANCE));
+        report.verdicts.add(verdict("retainedObjects", measured, s -> s.retainedObjects, RETAINED_ALLOWANCE));
+
+        boolean leaking = false;
+        for (TrendDetector.Verdict verdict : report.verdicts) {
+            leaking |= verdict.isLeaking();
+            console.println("🧪 [Soak] " + verdict);
+        }
+        if (measured.size() < TrendDetector.MIN_SAMPLES) {
+            console.println("🧪 [Soak] ⚠️ 예열 이후 표본이 " + measured.size() + "개뿐이라 추세를 판정하지 않았습니다.");
+        }
+        report.passed = !leaking && report.failedReconnects == 0;
+        console.println(String.format("🧪 [Soak] %s - 경기 %d, 연결 %d, 일시정지 %d, 재연결 %d (실패 %d), 봇 입력 %d",
+            report.passed ? "✅ 통과" : "❌ 실패", report.matches, report.sessions, report.pauses,
+            report.reconnects, report.failedReconnects, report.botActions));
+        return report;
+    }
+
+    private static TrendDetector.Verdict verdict(String metric, List<Sample> samples,
+                                                 ToDoubleFunction<Sample> value, double allowance) {
+        double[] seconds = new double[samples.size()];
+        double[] values = new double[samples.size()];
+        for (int i = 0; i < samples.size(); i++) {
+            seconds[i] = samples.get(i).seconds;
+            values[i] = value.applyAsDouble(samples.get(i));
+        }
+        return TrendDetector.evaluate(metric, seconds, values, allowance);
+    }
+
+    private static void onEdt(Runnable task) throws InterruptedException {
+        try {
+            SwingUtilities.invokeAndWait(task);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("EDT 작업 실패", e.getCause());
+        }
+    }
+
+    private static TransportProvider createProvider(Options options) {
+        NetworkSimulator simulator = null;
+        if (options.profile != null) {
+            simulator = NetworkSimulator.forProfileName(options.profile, options.seed);
+            if (simulator == null) {
+                throw new IllegalArgumentException("알 수 없는 프로파일: " + options.profile);
+            }
+        }
+        switch (options.transport) {
+            case "loopback":
+                return new LoopbackNetwork(simulator);
+            case "tcp":
+                return simulator == null ? new SocketTransportProvider()
+                    : new SimulatedTransportProvider(new SocketTransportProvider(), simulator);
+            default:
+                throw new IllegalArgumentException("알 수 없는 전송: " + options.transport);
+        }
+    }
+
+    private static void writeJson(Report report, Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Gson gson = new GsonBuilder().setPrettyPrinting().serializeNulls().serializeSpecialFloatingPointValues().create();
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            gson.toJson(report, writer);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage());
+            System.err.println("사용법: SoakHarness [--duration 4h] [--match 30s] [--pause-every 10s]"
+                + " [--disconnect-every N] [--session-matches N] [--warmup N] [--heap-allowance-mb MB]"
+                + " [--transport loopback|tcp] [--port N] [--profile 이름] [--seed N] [--out 파일] [--keep-logs]");
+            System.exit(1);
+            return;
+        }
+        Report report = run(options);
+        // 경기용 Swing 컴포넌트가 EDT를 살려 두므로 명시적으로 종료
+        System.exit(report.isPassed() ? 0 : 1);
+    }
+}
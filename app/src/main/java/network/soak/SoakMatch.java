@@ -0,0 +1,176 @@
+package network.soak;
+
+import game.GameView;
+import game.core.GameController;
+import game.events.EventBus;
+import network.MessageSender;
+import network.NetworkManager;
+import network.messages.GameControlMessage;
+import network.messages.GameControlMessage.ControlType;
+import network.messages.NetworkMessage;
+import p2p.EventSynchronizer;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import java.util.Random;
+
+/**
+ * 소크 테스트에서 한 플레이어의 경기 한 판
+ *
+ * P2PVersusFrameBoard와 같은 방식으로 연결합니다 (창만 없음).
+ * - 내 GameController + 상대용 EventBus + EventSynchronizer
+ * - NetworkManager에 메시지/게임 제어 리스너 등록, 끝나면 해제
+ * 입력은 Swing Timer로 도는 봇이 넣고, 게임 오버가 되면 바로 다시 시작합니다.
+ * start/stop/requestPause/requestResume은 EDT에서 호출해야 합니다.
+ */
+final class SoakMatch {
+
+    static final int BOT_INTERVAL_MS = 50;     // 봇 입력 간격 (초당 20회)
+
+    private final NetworkManager networkManager;
+    private final int playerId;
+    private final Random random;
+
+    private GameView view;
+    private GameController controller;
+    private EventBus remoteEventBus;
+    private EventSynchronizer synchronizer;
+    private NetworkManager.GameControlListener controlListener;
+    private Timer botTimer;
+    private boolean paused = false;
+
+    private long actions = 0;
+    private int restarts = 0;
+
+    SoakMatch(NetworkManager networkManager, int playerId, long seed) {
+        this.networkManager = networkManager;
+        this.playerId = playerId;
+        this.random = new Random(seed);
+    }
+
+    void start() {
+        view = new GameView(false, false, true);
+        controller = new GameController(view, false, 0);
+        remoteEventBus = new EventBus();
+
+        MessageSender senderWrapper = new MessageSender(null) {
+            @Override
+            public boolean sendMessage(NetworkMessage message) {
+                return networkManager.sendMessage(message);
+            }
+        };
+        synchronizer = new EventSynchronizer(
+            controller.getEventBus(),
+            remoteEventBus,
+            senderWrapper,
+            playerId,
+            networkManager.getSendRateController()
+        );
+        networkManager.addMessageListener(synchronizer);
+
+        controlListener = message -> {
+            if (message.getControlType() == ControlType.PAUSE_GAME) {
+                SwingUtilities.invokeLater(this::pauseLocal);
+            } else if (message.getControlType() == ControlType.RESUME_GAME) {
+                SwingUtilities.invokeLater(this::resumeLocal);
+            }
+        };
+        networkManager.addGameControlListener(controlListener);
+
+        botTimer = new Timer(BOT_INTERVAL_MS, e -> botStep());
+        controller.start();
+        botTimer.start();
+    }
+
+    /**
+     * 내가 일시정지 (상대에게 PAUSE_GAME 전송)
+     */
+    void requestPause() {
+        pauseLocal();
+        networkManager.sendMessage(new GameControlMessage(ControlType.PAUSE_GAME));
+    }
+
+    /**
+     * 내가 재개 (상대에게 RESUME_GAME 전송)
+     */
+    void requestResume() {
+        resumeLocal();
+        networkManager.sendMessage(new GameControlMessage(ControlType.RESUME_GAME));
+    }
+
+    /**
+     * 경기 종료 - P2PVersusFrameBoard.cleanupResources와 같은 순서로 정리하고,
+     * 이후 수거되어야 할 객체를 sampler에 등록
+     */
+    void stop(ResourceSampler sampler) {
+        if (controller == null) {
+            return;
+        }
+        botTimer.stop();
+        controller.stop();
+        networkManager.removeMessageListener(synchronizer);
+        networkManager.removeGameControlListener(controlListener);
+        synchronizer.shutdown();
+
+        sampler.track(view);
+        sampler.track(controller);
+        sampler.track(controller.getEventBus());
+        sampler.track(remoteEventBus);
+        sampler.track(synchronizer);
+        sampler.track(botTimer);
+
+        view = null;
+        controller = null;
+        remoteEventBus = null;
+        synchronizer = null;
+        controlListener = null;
+        botTimer = null;
+    }
+
+    long getActions() {
+        return actions;
+    }
+
+    int getRestarts() {
+        return restarts;
+    }
+
+    private void pauseLocal() {
+        if (controller != null && !paused) {
+            paused = true;
+            controller.pause();
+        }
+    }
+
+    private void resumeLocal() {
+        if (controller != null && paused) {
+            paused = false;
+            controller.resume();
+        }
+    }
+
+    private void botStep() {
+        if (controller == null || paused) {
+            return;
+        }
+        if (!controller.isRunning()) {
+            controller.reset();
+            controller.start();
+            restarts++;
+            return;
+        }
+        int roll = random.nextInt(100);
+        if (roll < 30) {
+            controller.moveLeft();
+        } else if (roll < 60) {
+            controller.moveRight();
+        } else if (roll < 80) {
+            controller.rotate();
+        } else if (roll < 95) {
+            controller.moveDown();
+        } else {
+            controller.hardDrop();
+        }
+        actions++;
+    }
+}
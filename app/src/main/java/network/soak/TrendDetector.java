@@ -0,0 +1,111 @@
+package network.soak;
+
+import java.util.Arrays;
+
+/**
+ * 장시간 측정값의 증가 추세 판정
+ *
+ * 힙이나 스레드 수는 GC 시점, 재연결 중인 스레드 등으로 표본마다 흔들리므로 최소제곱 대신
+ * Theil-Sen 기울기(모든 표본 쌍 기울기의 중앙값)를 사용합니다. 튀는 표본이 몇 개 있어도
+ * 기울기가 거의 변하지 않아, 한두 번의 순간 증가가 아니라 꾸준히 쌓이는 것만 누수로 봅니다.
+ *
+ * 측정 구간 전체에 걸친 증가량(기울기 × 구간 길이)이 허용치를 넘으면 누수로 판정합니다.
+ */
+public final class TrendDetector {
+
+    static final int MIN_SAMPLES = 5;           // 이보다 적으면 판정하지 않음
+    private static final int MAX_SAMPLES = 2000; // 표본 쌍이 너무 많으면 균등하게 줄여서 계산
+
+    /**
+     * 지표 하나의 판정 결과
+     */
+    public static final class Verdict {
+        String metric;
+        int samples;
+        double first;
+        double last;
+        double slopePerHour;
+        double growth;          // 측정 구간 전체에 걸친 추세 증가량
+        double allowance;
+        boolean leaking;
+
+        public String getMetric() { return metric; }
+        public int getSamples() { return samples; }
+        public double getGrowth() { return growth; }
+        public double getAllowance() { return allowance; }
+        public boolean isLeaking() { return leaking; }
+
+        @Override
+        public String toString() {
+            return String.format("%-16s %s (증가 %.1f / 허용 %.1f, 시간당 %.1f, %d개 표본)",
+                metric, leaking ? "누수 의심" : "정상", growth, allowance, slopePerHour, samples);
+        }
+    }
+
+    private TrendDetector() {
+    }
+
+    /**
+     * Theil-Sen 기울기 (x가 같은 쌍은 제외)
+     *
+     * @param xs 표본 시각
+     * @param ys 측정값
+     * @return x 단위당 증가량 (표본이 2개 미만이면 0)
+     */
+    static double slope(double[] xs, double[] ys) {
+        int n = xs.length;
+        if (n > MAX_SAMPLES) {
+            double[] sx = new double[MAX_SAMPLES];
+            double[] sy = new double[MAX_SAMPLES];
+            for (int i = 0; i < MAX_SAMPLES; i++) {
+                int j = (int) ((long) i * (n - 1) / (MAX_SAMPLES - 1));
+                sx[i] = xs[j];
+                sy[i] = ys[j];
+            }
+            return slope(sx, sy);
+        }
+        double[] slopes = new double[n * (n - 1) / 2];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double dx = xs[j] - xs[i];
+                if (dx != 0) {
+                    slopes[count++] = (ys[j] - ys[i]) / dx;
+                }
+            }
+        }
+        if (count == 0) {
+            return 0;
+        }
+        Arrays.sort(slopes, 0, count);
+        return count % 2 == 1 ? slopes[count / 2] : (slopes[count / 2 - 1] + slopes[count / 2]) / 2;
+    }
+
+    /**
+     * 증가 추세 판정
+     *
+     * @param metric 지표 이름
+     * @param seconds 표본 시각 (초)
+     * @param values 측정값 (측정하지 못한 지표는 음수 → 판정 제외)
+     * @param allowance 측정 구간 전체에서 허용하는 증가량
+     */
+    public static Verdict evaluate(String metric, double[] seconds, double[] values, double allowance) {
+        Verdict verdict = new Verdict();
+        verdict.metric = metric;
+        verdict.allowance = allowance;
+        verdict.samples = values.length;
+        if (values.length == 0) {
+            return verdict;
+        }
+        verdict.first = values[0];
+        verdict.last = values[values.length - 1];
+        if (values.length < MIN_SAMPLES || verdict.first < 0) {
+            return verdict;
+        }
+        double slope = slope(seconds, values);
+        verdict.slopePerHour = slope * 3600;
+        verdict.growth = slope * (seconds[seconds.length - 1] - seconds[0]);
+        verdict.leaking = verdict.growth > allowance;
+        return verdict;
+    }
+}
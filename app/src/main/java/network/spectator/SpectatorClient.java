@@ -0,0 +1,144 @@
+package network.spectator;
+
+import game.events.EventBus;
+import game.events.EventCodecRegistry;
+import game.events.GameEvent;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Arrays;
+
+/**
+ * 관전자 클라이언트
+ * SpectatorHub에 접속해 양쪽 플레이어의 이벤트를 받아 플레이어별 EventBus에 발행합니다.
+ *
+ * 수신 스레드에서 발행하므로 화면을 갱신하는 구독자는 SwingUtilities.invokeLater로 넘겨야 합니다.
+ */
+public class SpectatorClient {
+
+    private final EventBus[] eventBuses = { null, new EventBus(), new EventBus() };
+    private Socket socket;
+    private Thread readerThread;
+    private volatile boolean running = false;
+    private volatile Runnable disconnectListener;
+
+    // 통계
+    private volatile long framesReceived = 0;
+    private volatile long unknownFrames = 0;
+
+    /**
+     * 플레이어별 EventBus (1 = 호스트, 2 = 클라이언트)
+     */
+    public EventBus getEventBus(int playerId) {
+        if (playerId < 1 || playerId > 2) {
+            throw new IllegalArgumentException("플레이어 ID는 1 또는 2: " + playerId);
+        }
+        return eventBuses[playerId];
+    }
+
+    /**
+     * 연결이 끊겼을 때 (수신 스레드에서) 호출될 콜백
+     */
+    public void setDisconnectListener(Runnable listener) {
+        this.disconnectListener = listener;
+    }
+
+    /**
+     * 허브에 접속하고 수신 시작
+     */
+    public synchronized void connect(String host, int port, int timeoutMs) throws IOException {
+        if (running) {
+            return;
+        }
+        socket = new Socket();
+        socket.connect(new InetSocketAddress(host, port), timeoutMs);
+        socket.setTcpNoDelay(true);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        readHeader(in);
+
+        running = true;
+        readerThread = new Thread(() -> readLoop(in), "SpectatorClient-Thread");
+        readerThread.setDaemon(true);
+        readerThread.start();
+        System.out.println("👀 [Spectator] 관전 시작: " + host + ":" + port);
+    }
+
+    public synchronized void disconnect() {
+        running = false;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // 이미 닫힘
+            }
+        }
+    }
+
+    private static void readHeader(DataInputStream in) throws IOException {
+        byte[] magic = new byte[SpectatorHub.MAGIC.length];
+        in.readFully(magic);
+        int version = in.readUnsignedByte();
+        if (!Arrays.equals(magic, SpectatorHub.MAGIC) || version != SpectatorHub.VERSION) {
+            throw new IOException("관전 스트림이 아님 (version=" + version + ")");
+        }
+    }
+
+    private void readLoop(DataInputStream in) {
+        byte[] body = new byte[256];
+        try {
+            while (running) {
+                int playerId = in.readUnsignedByte();
+                int eventId = in.readUnsignedByte();
+                int length = readVarInt(in);
+                if (body.length < length) {
+                    body = new byte[Math.max(length, body.length * 2)];
+                }
+                in.readFully(body, 0, length);
+                framesReceived++;
+
+                GameEvent event = playerId >= 1 && playerId <= 2
+                    ? EventCodecRegistry.decode(eventId, java.nio.ByteBuffer.wrap(body, 0, length))
+                    : null;
+                if (event == null) {
+                    unknownFrames++;
+                    continue;
+                }
+                eventBuses[playerId].publish(event);
+            }
+        } catch (EOFException e) {
+            System.out.println("👀 [Spectator] 관전 스트림 종료");
+        } catch (Exception e) {
+            if (running) {
+                System.err.println("[Spectator] 관전 스트림 수신 실패: " + e.getMessage());
+            }
+        } finally {
+            running = false;
+            Runnable listener = disconnectListener;
+            if (listener != null) {
+                listener.run();
+            }
+        }
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift <= 28; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("varint가 너무 김");
+    }
+
+    // ===== Getter 메서드 =====
+
+    public boolean isConnected() { return running; }
+    public long getFramesReceived() { return framesReceived; }
+    public long getUnknownFrames() { return unknownFrames; }
+}
@@ -0,0 +1,117 @@
+package network.spectator;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관전자 연결 하나 (전용 송신 스레드 + 고정 크기 큐)
+ *
+ * 경기 스레드는 offer()로 프레임을 큐에 넣기만 하고 기다리지 않습니다.
+ * 큐가 가득 차면 (관전자가 느리면) 밀린 프레임을 버리고, 송신 스레드가 다음 차례에
+ * 허브의 최신 상태(키프레임 등)를 먼저 보낸 뒤 실시간 프레임으로 돌아옵니다.
+ */
+class SpectatorConnection extends Thread {
+
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final SpectatorHub hub;
+    private final Socket socket;
+    private final OutputStream out;
+    private final BlockingQueue<byte[]> queue;
+    private volatile boolean catchUp = true;  // 처음 접속 시에도 최신 상태부터 보냄
+    private volatile boolean running = true;
+
+    // 통계
+    private volatile long framesSent = 0;
+    private volatile long catchUpCount = 0;
+    private volatile long dropCount = 0;     // 큐가 넘쳐 따라잡기로 전환된 횟수
+
+    SpectatorConnection(SpectatorHub hub, Socket socket, int queueSize) throws IOException {
+        this.hub = hub;
+        this.socket = socket;
+        this.out = new BufferedOutputStream(socket.getOutputStream());
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        setDaemon(true);
+        setName("Spectator-" + socket.getPort());
+    }
+
+    /**
+     * 프레임 추가 (경기 스레드에서 호출, 허브 잠금 안에서만 호출됨)
+     * 큐가 가득 차면 따라잡기 모드로 전환합니다 - 버려진 프레임은 따라잡기 상태에 포함됩니다.
+     */
+    void offer(byte[] frame) {
+        if (!catchUp && !queue.offer(frame)) {
+            catchUp = true;
+            dropCount++;
+        }
+    }
+
+    @Override
+    public void run() {
+        List<byte[]> pending = new ArrayList<>();
+        try {
+            SpectatorHub.writeHeader(out);
+            out.flush();
+            while (running) {
+                if (catchUp) {
+                    // 허브 잠금 안에서 상태를 복사하고 큐를 비워야 이후 프레임이 모두 더 최신임
+                    pending.clear();
+                    synchronized (hub.lock()) {
+                        queue.clear();
+                        hub.collectCatchUpFrames(pending);
+                        catchUp = false;
+                    }
+                    catchUpCount++;
+                    for (byte[] frame : pending) {
+                        out.write(frame);
+                    }
+                    framesSent += pending.size();
+                    out.flush();
+                }
+
+                byte[] frame = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (frame == null) {
+                    continue;
+                }
+                out.write(frame);
+                framesSent++;
+                // 밀린 프레임은 한 번에 쓰고 마지막에만 flush
+                while ((frame = queue.poll()) != null) {
+                    out.write(frame);
+                    framesSent++;
+                }
+                out.flush();
+            }
+        } catch (InterruptedException e) {
+            // 종료
+        } catch (IOException e) {
+            if (running) {
+                System.out.println("👀 [Spectator] 관전자 연결 끊김: " + socket.getRemoteSocketAddress());
+            }
+        } finally {
+            close();
+            hub.remove(this);
+        }
+    }
+
+    void close() {
+        running = false;
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+            // 이미 닫힘
+        }
+    }
+
+    long getFramesSent() { return framesSent; }
+    long getCatchUpCount() { return catchUpCount; }
+    long getDropCount() { return dropCount; }
+    int getQueueSize() { return queue.size(); }
+}
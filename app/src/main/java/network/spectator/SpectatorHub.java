@@ -0,0 +1,241 @@
+package network.spectator;
+
+import game.events.BlockMovedEvent;
+import game.events.BlockRotatedEvent;
+import game.events.BlockSpawnedEvent;
+import game.events.BoardSnapshotEvent;
+import game.events.GameEvent;
+import game.events.GameOverEvent;
+import game.events.ScoreUpdateEvent;
+import game.util.VarInt;
+import network.NetworkConfig;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 관전자 허브 (호스트 측)
+ * 진행 중인 P2P 대전의 양쪽 플레이어 이벤트를 접속한 관전자 모두에게 보냅니다.
+ *
+ * - 이벤트마다 프레임을 한 번만 만들고, 같은 byte[]를 모든 관전자 큐에 공유합니다 (프레임은 만든 뒤 수정하지 않음).
+ *   본문은 GameEventMessage에 이미 인코딩된 바이트를 그대로 쓰므로 상대방 이벤트도 다시 인코딩하지 않습니다.
+ * - 경기 스레드는 큐에 넣기만 하고, 실제 전송은 관전자마다 별도 스레드가 합니다.
+ * - 큐가 넘치는 느린 관전자는 밀린 프레임을 버리고 플레이어별 최신 상태(키프레임, delta, 현재 블록, 점수)부터 다시 받습니다.
+ *
+ * 프레임 형식: 플레이어 ID(1바이트), 이벤트 ID(1바이트, EventCodecRegistry), 본문 길이(varint), 본문
+ * 스트림은 MAGIC(4바이트) + VERSION(1바이트) 헤더로 시작합니다.
+ */
+public class SpectatorHub {
+
+    static final byte[] MAGIC = { 'T', 'S', 'P', 'C' };
+    static final int VERSION = 1;
+
+    // 플레이어별 따라잡기 상태 (인덱스 = 플레이어 ID, 1 또는 2)
+    private static final int SLOT_KEYFRAME = 0;
+    private static final int SLOT_DELTA = 1;
+    private static final int SLOT_SPAWN = 2;
+    private static final int SLOT_PIECE = 3;
+    private static final int SLOT_SCORE = 4;
+    private static final int SLOT_GAME_OVER = 5;
+    private static final int SLOT_COUNT = 6;
+
+    private final int port;
+    private final int queueSize;
+    private final int maxSpectators;
+    private final Object lock = new Object();
+    private final byte[][][] catchUpState = new byte[3][SLOT_COUNT][];
+    private final List<SpectatorConnection> spectators = new CopyOnWriteArrayList<>();
+
+    private ServerSocket serverSocket;
+    private Thread acceptThread;
+    private volatile boolean running = false;
+
+    // 통계
+    private volatile long framesPublished = 0;
+    private volatile long bytesPublished = 0;
+
+    public SpectatorHub() {
+        this(NetworkConfig.SPECTATOR_PORT, NetworkConfig.SPECTATOR_QUEUE_SIZE, NetworkConfig.MAX_SPECTATORS);
+    }
+
+    /**
+     * @param port 관전자 접속 포트 (0이면 임의 포트)
+     * @param queueSize 관전자별 대기 프레임 수 (넘치면 따라잡기)
+     * @param maxSpectators 최대 관전자 수
+     */
+    public SpectatorHub(int port, int queueSize, int maxSpectators) {
+        this.port = port;
+        this.queueSize = queueSize;
+        this.maxSpectators = maxSpectators;
+    }
+
+    /**
+     * 관전자 접속 대기 시작
+     */
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        serverSocket = new ServerSocket(port);
+        running = true;
+        acceptThread = new Thread(this::acceptLoop, "SpectatorHub-Accept-Thread");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+        System.out.println("👀 [Spectator] 관전 허브 시작: 포트 " + getLocalPort());
+    }
+
+    /**
+     * 허브 종료 (모든 관전자 연결 종료)
+     */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException ignored) {
+            // 이미 닫힘
+        }
+        for (SpectatorConnection spectator : spectators) {
+            spectator.close();
+        }
+        spectators.clear();
+        System.out.println("👀 [Spectator] 관전 허브 종료 (프레임 " + framesPublished + "개, " + bytesPublished + "B)");
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                if (spectators.size() >= maxSpectators) {
+                    System.out.println("👀 [Spectator] 관전자 정원 초과로 거절: " + socket.getRemoteSocketAddress());
+                    socket.close();
+                    continue;
+                }
+                socket.setTcpNoDelay(true);
+                SpectatorConnection spectator = new SpectatorConnection(this, socket, queueSize);
+                spectators.add(spectator);
+                spectator.start();
+                System.out.println("👀 [Spectator] 관전자 접속: " + socket.getRemoteSocketAddress()
+                    + " (총 " + spectators.size() + "명)");
+            } catch (IOException e) {
+                if (running) {
+                    System.err.println("[Spectator] 관전자 접속 수락 실패: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 플레이어 이벤트 하나를 모든 관전자에게 보냄 (경기 스레드에서 호출, 대기하지 않음)
+     *
+     * @param playerId 이벤트를 만든 플레이어 (1 또는 2)
+     * @param event 이벤트 (따라잡기 상태 분류용)
+     * @param eventId EventCodecRegistry ID
+     * @param encoded EventCodecRegistry로 인코딩된 본문
+     */
+    public void publish(int playerId, GameEvent event, int eventId, byte[] encoded) {
+        if (!running || playerId < 1 || playerId > 2) {
+            return;
+        }
+        byte[] frame = encodeFrame(playerId, eventId, encoded);
+        synchronized (lock) {
+            remember(catchUpState[playerId], event, frame);
+            for (SpectatorConnection spectator : spectators) {
+                spectator.offer(frame);
+            }
+            framesPublished++;
+            bytesPublished += frame.length;
+        }
+    }
+
+    /**
+     * 따라잡기에 필요한 최신 프레임 기억
+     */
+    private static void remember(byte[][] slots, GameEvent event, byte[] frame) {
+        if (event instanceof BoardSnapshotEvent) {
+            if (((BoardSnapshotEvent) event).isKeyframe()) {
+                slots[SLOT_KEYFRAME] = frame;
+                slots[SLOT_DELTA] = null;  // delta는 항상 마지막 키프레임 기준
+            } else {
+                slots[SLOT_DELTA] = frame;
+            }
+        } else if (event instanceof BlockSpawnedEvent) {
+            slots[SLOT_SPAWN] = frame;
+            slots[SLOT_PIECE] = null;
+        } else if (event instanceof BlockMovedEvent || event instanceof BlockRotatedEvent) {
+            slots[SLOT_PIECE] = frame;
+        } else if (event instanceof ScoreUpdateEvent) {
+            slots[SLOT_SCORE] = frame;
+        } else if (event instanceof GameOverEvent) {
+            slots[SLOT_GAME_OVER] = frame;
+        }
+    }
+
+    /**
+     * 양쪽 플레이어의 따라잡기 프레임을 순서대로 추가 (lock() 안에서 호출)
+     */
+    void collectCatchUpFrames(List<byte[]> out) {
+        for (int playerId = 1; playerId <= 2; playerId++) {
+            for (byte[] frame : catchUpState[playerId]) {
+                if (frame != null) {
+                    out.add(frame);
+                }
+            }
+        }
+    }
+
+    Object lock() {
+        return lock;
+    }
+
+    void remove(SpectatorConnection spectator) {
+        if (spectators.remove(spectator)) {
+            System.out.println("👀 [Spectator] 관전자 퇴장 (전송 " + spectator.getFramesSent()
+                + "프레임, 따라잡기 " + spectator.getDropCount() + "회, 남은 " + spectators.size() + "명)");
+        }
+    }
+
+    // ===== 프레임 형식 =====
+
+    static byte[] encodeFrame(int playerId, int eventId, byte[] encoded) {
+        byte[] frame = new byte[2 + VarInt.sizeOfVarInt(encoded.length) + encoded.length];
+        ByteBuffer buffer = ByteBuffer.wrap(frame);
+        buffer.put((byte) playerId);
+        buffer.put((byte) eventId);
+        VarInt.putVarInt(buffer, encoded.length);
+        buffer.put(encoded);
+        return frame;
+    }
+
+    static void writeHeader(OutputStream out) throws IOException {
+        out.write(MAGIC);
+        out.write(VERSION);
+    }
+
+    // ===== Getter 메서드 =====
+
+    public boolean isRunning() { return running; }
+    public int getSpectatorCount() { return spectators.size(); }
+    public long getFramesPublished() { return framesPublished; }
+    public long getBytesPublished() { return bytesPublished; }
+
+    public int getLocalPort() {
+        return serverSocket == null ? port : serverSocket.getLocalPort();
+    }
+
+    /**
+     * 관전자 큐가 넘쳐 따라잡기로 전환된 총 횟수
+     */
+    public long getTotalDrops() {
+        long total = 0;
+        for (SpectatorConnection spectator : spectators) total += spectator.getDropCount();
+        return total;
+    }
+}
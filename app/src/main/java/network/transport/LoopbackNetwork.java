@@ -0,0 +1,190 @@
+package network.transport;
+
+import network.NetworkConfig;
+import utils.NetworkSimulator;
+
+import java.io.IOException;
+import java.net.BindException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 메모리 안의 가상 네트워크 (소켓 없이 같은 JVM에서 연결)
+ *
+ * 포트 번호로 리스너를 찾아 연결하고, 연결마다 방향별 LoopbackPipe 두 개를 만듭니다.
+ * NetworkSimulator를 넘기면 모든 패킷에 지연/지터/손실이 적용됩니다 (양방향이 같은 설정을 공유).
+ * 네트워크 인스턴스마다 포트 공간이 따로라서 테스트끼리 포트가 충돌하지 않습니다.
+ *
+ * 사용 예:
+ *   LoopbackNetwork network = new LoopbackNetwork(new NetworkSimulator(30, 5, 0.01));
+ *   NetworkManager host = new NetworkManager(network);
+ *   NetworkManager guest = new NetworkManager(network);
+ */
+public class LoopbackNetwork implements TransportProvider {
+
+    public static final String ADDRESS = "loopback";
+    private static final int FIRST_EPHEMERAL_PORT = 49152;
+
+    private final NetworkSimulator simulator;
+    private final int bufferSize;
+    private final Map<Integer, LoopbackListener> listeners = new HashMap<>();
+    private int nextEphemeralPort = FIRST_EPHEMERAL_PORT;
+
+    // 통계
+    private volatile long connectionCount = 0;
+
+    /**
+     * 지연 없는 가상 네트워크
+     */
+    public LoopbackNetwork() {
+        this(null);
+    }
+
+    /**
+     * @param simulator 패킷마다 적용할 지연/손실 (null이면 즉시 전달)
+     */
+    public LoopbackNetwork(NetworkSimulator simulator) {
+        this(simulator, NetworkConfig.LOOPBACK_BUFFER_SIZE);
+    }
+
+    /**
+     * @param simulator 패킷마다 적용할 지연/손실 (null이면 즉시 전달)
+     * @param bufferSize 방향별 링 버퍼 크기 (가득 차면 쓰기가 대기)
+     */
+    public LoopbackNetwork(NetworkSimulator simulator, int bufferSize) {
+        this.simulator = simulator;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public synchronized TransportListener listen(int port) throws IOException {
+        if (port == 0) {
+            port = nextPort();
+        }
+        if (listeners.containsKey(port)) {
+            throw new BindException("이미 사용 중인 포트: " + port);
+        }
+        LoopbackListener listener = new LoopbackListener(port);
+        listeners.put(port, listener);
+        return listener;
+    }
+
+    @Override
+    public Transport connect(String host, int port, int timeoutMs) throws IOException {
+        LoopbackListener listener;
+        int localPort;
+        synchronized (this) {
+            listener = listeners.get(port);
+            localPort = nextPort();
+        }
+        if (listener == null) {
+            throw new ConnectException("연결 거부됨: " + host + ":" + port);
+        }
+
+        LoopbackPipe toServer = new LoopbackPipe(bufferSize, simulator, NetworkConfig.LOOPBACK_RETRANSMIT_TIMEOUT);
+        LoopbackPipe toClient = new LoopbackPipe(bufferSize, simulator, NetworkConfig.LOOPBACK_RETRANSMIT_TIMEOUT);
+        LoopbackTransport client = new LoopbackTransport(toClient, toServer, localPort, port);
+        LoopbackTransport server = new LoopbackTransport(toServer, toClient, port, localPort);
+        if (!listener.enqueue(server)) {
+            throw new ConnectException("연결 거부됨: " + host + ":" + port);
+        }
+        connectionCount++;
+        return client;
+    }
+
+    private int nextPort() {
+        while (listeners.containsKey(nextEphemeralPort)) {
+            nextEphemeralPort++;
+        }
+        return nextEphemeralPort++;
+    }
+
+    private synchronized void unbind(int port, LoopbackListener listener) {
+        listeners.remove(port, listener);
+    }
+
+    // ===== Getter 메서드 =====
+
+    public NetworkSimulator getSimulator() { return simulator; }
+    public long getConnectionCount() { return connectionCount; }
+
+    /**
+     * 가상 포트 하나의 접속 대기열
+     */
+    private class LoopbackListener implements TransportListener {
+        private final int port;
+        private final Deque<LoopbackTransport> backlog = new ArrayDeque<>();
+        private boolean closed = false;
+
+        LoopbackListener(int port) {
+            this.port = port;
+        }
+
+        synchronized boolean enqueue(LoopbackTransport transport) {
+            if (closed) {
+                return false;
+            }
+            backlog.addLast(transport);
+            notifyAll();
+            return true;
+        }
+
+        @Override
+        public synchronized Transport accept(int timeoutMs) throws IOException {
+            long deadline = timeoutMs > 0 ? System.currentTimeMillis() + timeoutMs : 0;
+            while (backlog.isEmpty()) {
+                if (closed) {
+                    throw new SocketException("리스너가 닫혔습니다");
+                }
+                long waitMs = deadline == 0 ? 0 : deadline - System.currentTimeMillis();
+                if (deadline != 0 && waitMs <= 0) {
+                    throw new SocketTimeoutException("Accept timed out");
+                }
+                try {
+                    wait(waitMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SocketException("접속 대기 중 인터럽트");
+                }
+            }
+            return backlog.pollFirst();
+        }
+
+        @Override
+        public String getLocalAddress() {
+            return ADDRESS;
+        }
+
+        @Override
+        public int getLocalPort() {
+            return port;
+        }
+
+        @Override
+        public synchronized boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                // 수락되지 않은 연결은 상대방 쪽에서 EOF가 되도록 닫음
+                for (LoopbackTransport pending : backlog) {
+                    pending.close();
+                }
+                backlog.clear();
+                notifyAll();
+            }
+            unbind(port, this);
+        }
+    }
+}
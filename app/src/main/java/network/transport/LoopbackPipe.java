@@ -0,0 +1,229 @@
+package network.transport;
+
+import utils.NetworkSimulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 한 방향 메모리 파이프 (고정 크기 링 버퍼)
+ *
+ * write() 한 번이 패킷 하나입니다. 시뮬레이터가 있으면 패킷마다 도착 시각을 정하고,
+ * 읽는 쪽은 도착 시각이 지난 바이트만 읽습니다. TCP처럼 순서는 항상 유지되므로
+ * 늦게 보낸 패킷이 먼저 도착하지 않습니다 (지터가 있어도 앞 패킷 뒤에 도착).
+ *
+ * 바이트 스트림이라 패킷을 실제로 버리면 직렬화 스트림이 깨지므로, 손실은 TCP 재전송처럼
+ * 재전송 타임아웃만큼 도착을 늦추는 것으로 표현합니다 (타임아웃은 재시도마다 두 배).
+ * MAX_RETRANSMITS번 연속으로 잃으면 링크가 끊긴 것으로 보고 이후 데이터는 도착하지 않습니다.
+ */
+final class LoopbackPipe {
+
+    static final int MAX_RETRANSMITS = 6;
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private final byte[] buffer;
+    private final NetworkSimulator simulator;   // null이면 지연 없음
+    private final long retransmitTimeout;
+    private final Deque<long[]> packets = new ArrayDeque<>();   // {끝 위치, 도착 시각}
+
+    // 누적 위치 (링 버퍼 인덱스 = 위치 % 크기)
+    private long writePos = 0;
+    private long deliveredPos = 0;
+    private long readPos = 0;
+    private long lastDeliverAt = 0;
+
+    private boolean writerClosed = false;
+    private boolean readerClosed = false;
+    private volatile int readTimeout = 0;
+
+    final InputStream input = new PipeInputStream();
+    final OutputStream output = new PipeOutputStream();
+
+    LoopbackPipe(int capacity, NetworkSimulator simulator, long retransmitTimeout) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("버퍼 크기는 1 이상: " + capacity);
+        }
+        this.buffer = new byte[capacity];
+        this.simulator = simulator;
+        this.retransmitTimeout = retransmitTimeout;
+    }
+
+    void setReadTimeout(int timeoutMs) {
+        this.readTimeout = Math.max(0, timeoutMs);
+    }
+
+    // ===== 쓰기 =====
+
+    private synchronized void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (writerClosed || readerClosed) {
+                throw new IOException("파이프가 닫혔습니다");
+            }
+            int free = (int) (buffer.length - (writePos - readPos));
+            if (free == 0) {
+                waitQuietly(0);
+                continue;
+            }
+            int n = Math.min(len, free);
+            int index = (int) (writePos % buffer.length);
+            int first = Math.min(n, buffer.length - index);
+            System.arraycopy(b, off, buffer, index, first);
+            System.arraycopy(b, off + first, buffer, 0, n - first);
+            writePos += n;
+            off += n;
+            len -= n;
+            schedule(n);
+        }
+    }
+
+    /**
+     * 방금 쓴 n바이트를 패킷 하나로 예약
+     */
+    private void schedule(int n) {
+        long now = System.currentTimeMillis();
+        long deliverAt = simulator == null ? now : saturatedAdd(now, sampleDelay(n));
+        lastDeliverAt = Math.max(lastDeliverAt, deliverAt);
+        packets.addLast(new long[] { writePos, lastDeliverAt });
+        notifyAll();
+    }
+
+    private long sampleDelay(int bytes) {
+        long penalty = 0;
+        long rto = retransmitTimeout;
+        for (int attempt = 0; attempt <= MAX_RETRANSMITS; attempt++) {
+            long delay = simulator.samplePacket(bytes);
+            if (delay >= 0) {
+                return penalty + delay;
+            }
+            penalty += rto;
+            rto *= 2;
+        }
+        return NEVER;
+    }
+
+    synchronized void closeWriter() {
+        writerClosed = true;
+        notifyAll();
+    }
+
+    // ===== 읽기 =====
+
+    private synchronized int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int timeout = readTimeout;
+        long deadline = timeout > 0 ? System.currentTimeMillis() + timeout : 0;
+        while (true) {
+            if (readerClosed) {
+                throw new IOException("파이프가 닫혔습니다");
+            }
+            long now = System.currentTimeMillis();
+            advance(now);
+            int available = (int) (deliveredPos - readPos);
+            if (available > 0) {
+                int n = Math.min(len, available);
+                int index = (int) (readPos % buffer.length);
+                int first = Math.min(n, buffer.length - index);
+                System.arraycopy(buffer, index, b, off, first);
+                System.arraycopy(buffer, 0, b, off + first, n - first);
+                readPos += n;
+                notifyAll();    // 버퍼가 가득 차서 기다리던 쓰기 쪽 깨우기
+                return n;
+            }
+            if (writerClosed && packets.isEmpty()) {
+                return -1;
+            }
+
+            long waitMs = deadline == 0 ? NEVER : deadline - now;
+            if (waitMs <= 0) {
+                throw new SocketTimeoutException("Read timed out");
+            }
+            if (!packets.isEmpty()) {
+                waitMs = Math.min(waitMs, packets.peekFirst()[1] - now);
+            }
+            waitQuietly(waitMs == NEVER ? 0 : Math.max(1, waitMs));
+        }
+    }
+
+    /**
+     * 도착 시각이 지난 패킷을 읽을 수 있는 범위로 옮김
+     */
+    private void advance(long now) {
+        while (!packets.isEmpty() && packets.peekFirst()[1] <= now) {
+            deliveredPos = packets.pollFirst()[0];
+        }
+    }
+
+    private synchronized int available() {
+        advance(System.currentTimeMillis());
+        return (int) (deliveredPos - readPos);
+    }
+
+    synchronized void closeReader() {
+        readerClosed = true;
+        notifyAll();
+    }
+
+    private void waitQuietly(long ms) throws IOException {
+        try {
+            wait(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("파이프 대기 중 인터럽트");
+        }
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < a ? NEVER : sum;
+    }
+
+    // ===== 스트림 =====
+
+    private class PipeInputStream extends InputStream {
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            int n = LoopbackPipe.this.read(one, 0, 1);
+            return n < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return LoopbackPipe.this.read(b, off, len);
+        }
+
+        @Override
+        public int available() {
+            return LoopbackPipe.this.available();
+        }
+
+        @Override
+        public void close() {
+            closeReader();
+        }
+    }
+
+    private class PipeOutputStream extends OutputStream {
+        @Override
+        public void write(int b) throws IOException {
+            LoopbackPipe.this.write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            LoopbackPipe.this.write(b, off, len);
+        }
+
+        @Override
+        public void close() {
+            closeWriter();
+        }
+    }
+}
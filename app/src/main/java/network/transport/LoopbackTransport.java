@@ -0,0 +1,71 @@
+package network.transport;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 메모리 파이프 두 개(받는 쪽, 보내는 쪽)로 만든 Transport
+ * 닫으면 상대방은 남은 데이터를 다 읽은 뒤 EOF를 받고, 이후 상대방의 쓰기는 실패합니다.
+ */
+final class LoopbackTransport implements Transport {
+
+    private final LoopbackPipe inbound;
+    private final LoopbackPipe outbound;
+    private final int localPort;
+    private final int remotePort;
+    private volatile boolean closed = false;
+
+    LoopbackTransport(LoopbackPipe inbound, LoopbackPipe outbound, int localPort, int remotePort) {
+        this.inbound = inbound;
+        this.outbound = outbound;
+        this.localPort = localPort;
+        this.remotePort = remotePort;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return inbound.input;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return outbound.output;
+    }
+
+    @Override
+    public void setReadTimeout(int timeoutMs) {
+        inbound.setReadTimeout(timeoutMs);
+    }
+
+    @Override
+    public String getLocalAddress() {
+        return LoopbackNetwork.ADDRESS;
+    }
+
+    @Override
+    public int getLocalPort() {
+        return localPort;
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return LoopbackNetwork.ADDRESS;
+    }
+
+    @Override
+    public int getRemotePort() {
+        return remotePort;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        outbound.closeWriter();
+        inbound.closeReader();
+    }
+}
@@ -0,0 +1,115 @@
+package network.transport;
+
+import utils.NetworkSimulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 보내는 방향에 NetworkSimulator 조건을 입히는 Transport 데코레이터
+ *
+ * 쓰기는 LoopbackPipe(시간순 전달 대기열)에 들어가고, 전송 스레드가 도착 시각이 된 바이트만
+ * 실제 스트림에 씁니다. 읽기와 타임아웃은 감싼 Transport를 그대로 사용합니다.
+ */
+final class SimulatedTransport implements Transport {
+
+    private final Transport delegate;
+    private final LoopbackPipe outbound;
+    private final Thread pumpThread;
+    private volatile boolean closed = false;
+
+    SimulatedTransport(Transport delegate, NetworkSimulator simulator, int queueSize, long retransmitTimeout) {
+        this.delegate = delegate;
+        this.outbound = new LoopbackPipe(queueSize, simulator, retransmitTimeout);
+        this.pumpThread = new Thread(this::pump, "NetSim-Pump-" + delegate.getLocalPort());
+        this.pumpThread.setDaemon(true);
+        this.pumpThread.start();
+    }
+
+    /**
+     * 도착 시각이 된 바이트를 실제 스트림으로 전달 (대기열이 비면 flush)
+     */
+    private void pump() {
+        byte[] buffer = new byte[8192];
+        try {
+            OutputStream out = delegate.getOutputStream();
+            InputStream pending = outbound.input;
+            int n;
+            while ((n = pending.read(buffer, 0, buffer.length)) >= 0) {
+                out.write(buffer, 0, n);
+                if (pending.available() == 0) {
+                    out.flush();
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            if (!closed) {
+                System.err.println("[NetworkSimulator] 전송 중단: " + e.getMessage());
+            }
+        } finally {
+            // 실제 연결이 끊기면 쓰는 쪽도 실패하도록
+            outbound.closeReader();
+            closeQuietly();
+        }
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return delegate.getInputStream();
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return outbound.output;
+    }
+
+    @Override
+    public void setReadTimeout(int timeoutMs) throws IOException {
+        delegate.setReadTimeout(timeoutMs);
+    }
+
+    @Override
+    public String getLocalAddress() {
+        return delegate.getLocalAddress();
+    }
+
+    @Override
+    public int getLocalPort() {
+        return delegate.getLocalPort();
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return delegate.getRemoteAddress();
+    }
+
+    @Override
+    public int getRemotePort() {
+        return delegate.getRemotePort();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed || delegate.isClosed();
+    }
+
+    /**
+     * 연결 종료 (대기열에 남은 지연 데이터는 버림, 소켓을 끊는 것과 같음)
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        outbound.closeWriter();
+        outbound.closeReader();
+        delegate.close();
+    }
+
+    private void closeQuietly() {
+        try {
+            delegate.close();
+        } catch (IOException ignored) {
+            // 이미 닫힘
+        }
+    }
+}
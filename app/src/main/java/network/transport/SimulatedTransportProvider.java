@@ -0,0 +1,113 @@
+package network.transport;
+
+import network.NetworkConfig;
+import utils.NetworkSimulator;
+
+import java.io.IOException;
+
+/**
+ * 다른 TransportProvider가 만든 연결에 NetworkSimulator 조건을 입히는 데코레이터
+ *
+ * 각 연결이 보내는 방향에 지연/지터/손실(재전송 지연)/대역폭(토큰 버킷)을 적용합니다.
+ * 한쪽만 켜면 그쪽이 보내는 방향에만, 양쪽 모두 켜면 왕복 모두 적용됩니다.
+ *
+ * 실행 시 시스템 속성으로 켤 수 있습니다 (fromSystemProperties):
+ *   ./gradlew run -Dtetris.netsim=3g
+ *   java -Dtetris.netsim=burst-loss -Dtetris.netsim.seed=42 -jar app.jar
+ */
+public class SimulatedTransportProvider implements TransportProvider {
+
+    private final TransportProvider delegate;
+    private final NetworkSimulator simulator;
+    private final int queueSize;
+
+    public SimulatedTransportProvider(TransportProvider delegate, NetworkSimulator simulator) {
+        this(delegate, simulator, NetworkConfig.SIMULATOR_QUEUE_SIZE);
+    }
+
+    /**
+     * @param delegate 실제 연결을 만들 provider
+     * @param simulator 적용할 조건 (모든 연결이 공유)
+     * @param queueSize 연결별 전송 대기열 크기 (bytes)
+     */
+    public SimulatedTransportProvider(TransportProvider delegate, NetworkSimulator simulator, int queueSize) {
+        this.delegate = delegate;
+        this.simulator = simulator;
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * 시스템 속성(tetris.netsim)에 맞는 기본 provider
+     * 속성이 없거나 알 수 없는 이름이면 일반 TCP 소켓을 사용합니다.
+     */
+    public static TransportProvider fromSystemProperties() {
+        TransportProvider sockets = new SocketTransportProvider();
+        String name = System.getProperty(NetworkConfig.SIMULATOR_PROPERTY);
+        if (name == null || name.isBlank()) {
+            return sockets;
+        }
+        Long seed = Long.getLong(NetworkConfig.SIMULATOR_SEED_PROPERTY);
+        NetworkSimulator simulator = NetworkSimulator.forProfileName(name, seed);
+        if (simulator == null) {
+            System.err.println("[NetworkSimulator] 알 수 없는 프로파일 '" + name + "' - 시뮬레이션 없이 연결합니다.");
+            return sockets;
+        }
+        System.out.println("🌐 [NetworkSimulator] 실험용 네트워크 조건 적용: " + name
+            + (seed != null ? " (seed=" + seed + ")" : ""));
+        return new SimulatedTransportProvider(sockets, simulator);
+    }
+
+    @Override
+    public TransportListener listen(int port) throws IOException {
+        return new SimulatedListener(delegate.listen(port));
+    }
+
+    @Override
+    public Transport connect(String host, int port, int timeoutMs) throws IOException {
+        return wrap(delegate.connect(host, port, timeoutMs));
+    }
+
+    private Transport wrap(Transport transport) {
+        return new SimulatedTransport(transport, simulator, queueSize, NetworkConfig.LOOPBACK_RETRANSMIT_TIMEOUT);
+    }
+
+    public NetworkSimulator getSimulator() {
+        return simulator;
+    }
+
+    /**
+     * 수락한 연결도 같은 조건으로 감싸는 리스너
+     */
+    private class SimulatedListener implements TransportListener {
+        private final TransportListener listener;
+
+        SimulatedListener(TransportListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public Transport accept(int timeoutMs) throws IOException {
+            return wrap(listener.accept(timeoutMs));
+        }
+
+        @Override
+        public String getLocalAddress() {
+            return listener.getLocalAddress();
+        }
+
+        @Override
+        public int getLocalPort() {
+            return listener.getLocalPort();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return listener.isClosed();
+        }
+
+        @Override
+        public void close() throws IOException {
+            listener.close();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package network.transport;
+
+import java.io.IOException;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+/**
+ * 실제 TCP 소켓으로 연결을 만드는 기본 TransportProvider
+ */
+public class SocketTransportProvider implements TransportProvider {
+
+    @Override
+    public TransportListener listen(int port) throws IOException {
+        ServerSocket serverSocket = new ServerSocket();
+        try {
+            serverSocket.setReuseAddress(true); // 포트 재사용 허용 (좀비 프로세스 방지)
+            serverSocket.bind(new InetSocketAddress(port));
+        } catch (IOException e) {
+            serverSocket.close();
+            throw e;
+        }
+        return new SocketListener(serverSocket);
+    }
+
+    @Override
+    public Transport connect(String host, int port, int timeoutMs) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(host, port), timeoutMs);   // 실제 TCP 연결을 수립
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+        return new SocketTransport(socket);
+    }
+
+    /**
+     * ServerSocket 기반 리스너
+     */
+    private static class SocketListener implements TransportListener {
+        private final ServerSocket serverSocket;
+
+        SocketListener(ServerSocket serverSocket) {
+            this.serverSocket = serverSocket;
+        }
+
+        @Override
+        public Transport accept(int timeoutMs) throws IOException {
+            serverSocket.setSoTimeout(timeoutMs);
+            return new SocketTransport(serverSocket.accept());
+        }
+
+        @Override
+        public String getLocalAddress() {
+            return getLocalIPAddress();
+        }
+
+        @Override
+        public int getLocalPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return serverSocket.isClosed();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+
+    /**
+     * 로컬 IP 주소 가져오기
+     */
+    static String getLocalIPAddress() {
+        try {
+            // 네트워크 인터페이스 순회
+            var interfaces = NetworkInterface.getNetworkInterfaces();
+            String fallbackIP = null;
+            
+            while (interfaces.hasMoreElements()) {
+                NetworkInterface iface = interfaces.nextElement();
+                
+                // 루프백과 비활성 인터페이스 제외
+                if (iface.isLoopback() || !iface.isUp()) {
+                    continue;
+                }
+                
+                // IP 주소 순회
+                var addresses = iface.getInetAddresses();
+                while (addresses.hasMoreElements()) {
+                    InetAddress addr = addresses.nextElement();
+                    
+                    // IPv4만 사용
+                    if (addr instanceof Inet4Address && !addr.isLoopbackAddress()) {
+                        String ip = addr.getHostAddress();
+                        
+                        // 사설 네트워크 대역이면 바로 반환
+                        if (ip.startsWith("192.168.") || ip.startsWith("10.") || ip.startsWith("172.")) {
+                            return ip;
+                        }
+                        
+                        // 공인 IP는 fallback으로 저장
+                        if (fallbackIP == null) {
+                            fallbackIP = ip;
+                        }
+                    }
+                }
+            }
+            
+            // 사설 IP 못 찾으면 fallback 또는 localhost
+            if (fallbackIP != null) {
+                return fallbackIP;
+            }
+            return InetAddress.getLocalHost().getHostAddress();
+            
+        } catch (Exception e) {
+            return "127.0.0.1";
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package network.transport;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 연결된 양방향 바이트 스트림 하나 (TCP 소켓 또는 메모리 안의 루프백 파이프)
+ * ConnectionManager는 이 위에 Object 스트림을 얹어서 사용합니다.
+ */
+public interface Transport extends Closeable {
+
+    InputStream getInputStream() throws IOException;
+
+    OutputStream getOutputStream() throws IOException;
+
+    /**
+     * 읽기 타임아웃 설정 (0 = 무한 대기)
+     * 시간 안에 데이터가 없으면 read()가 SocketTimeoutException을 던집니다.
+     */
+    void setReadTimeout(int timeoutMs) throws IOException;
+
+    String getLocalAddress();
+
+    int getLocalPort();
+
+    String getRemoteAddress();
+
+    int getRemotePort();
+
+    boolean isClosed();
+}
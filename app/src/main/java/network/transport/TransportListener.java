@@ -0,0 +1,28 @@
+package network.transport;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 접속 대기 중인 포트 (ServerSocket에 해당)
+ * 닫기 전까지 유지되므로 끊어진 상대의 재접속도 같은 리스너로 받습니다.
+ */
+public interface TransportListener extends Closeable {
+
+    /**
+     * 다음 접속 수락 (블로킹)
+     * @param timeoutMs 최대 대기 시간 (0 = 무한 대기)
+     * @throws java.net.SocketTimeoutException 시간 초과 시
+     * @throws IOException 리스너가 닫힌 경우
+     */
+    Transport accept(int timeoutMs) throws IOException;
+
+    /**
+     * 상대방에게 알려줄 내 주소
+     */
+    String getLocalAddress();
+
+    int getLocalPort();
+
+    boolean isClosed();
+}
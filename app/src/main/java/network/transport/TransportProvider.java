@@ -0,0 +1,23 @@
+package network.transport;
+
+import java.io.IOException;
+
+/**
+ * 연결을 만드는 방법 (실제 TCP 또는 메모리 안의 루프백)
+ * ConnectionManager에 주입해서 소켓 없이도 같은 접속/재접속 흐름을 실행할 수 있습니다.
+ */
+public interface TransportProvider {
+
+    /**
+     * 포트에서 접속 대기 시작
+     * @param port 포트 번호 (0이면 임의 포트)
+     */
+    TransportListener listen(int port) throws IOException;
+
+    /**
+     * 상대방에 연결
+     * @throws java.net.SocketTimeoutException 시간 초과 시
+     * @throws java.net.ConnectException 대기 중인 상대가 없을 때
+     */
+    Transport connect(String host, int port, int timeoutMs) throws IOException;
+}
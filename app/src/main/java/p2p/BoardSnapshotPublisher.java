@@ -0,0 +1,92 @@
+package p2p;
+
+import game.core.BoardDeltaCodec;
+import game.core.GameController;
+import game.core.GameState;
+import game.events.BoardSnapshotEvent;
+
+/**
+ * 내 보드 스냅샷 생성기 (송신 측)
+ * - 스냅샷 주기 KEYFRAME_INTERVAL번에 한 번은 전체 보드(키프레임)를 보내고
+ * - 그 사이에는 마지막 키프레임과의 XOR 차이(delta)만 보냅니다.
+ *
+ * delta는 항상 "마지막 키프레임" 기준이므로 중간 delta 하나를 놓쳐도 다음 delta로 복구됩니다.
+ */
+public class BoardSnapshotPublisher {
+
+    public static final int KEYFRAME_INTERVAL = 10;   // 스냅샷 10번마다 키프레임
+
+    private final GameController controller;
+    private final int playerId;
+
+    private int[] keyframePacked;     // 마지막 키프레임 보드
+    private int[] lastSentPacked;     // 마지막으로 보낸 보드 (변경 없음 판정용)
+    private int keyframeVersion;
+    private int version;
+    private int sinceKeyframe;
+
+    public BoardSnapshotPublisher(GameController controller, int playerId) {
+        this.controller = controller;
+        this.playerId = playerId;
+    }
+
+    /**
+     * 다음 스냅샷 생성
+     * @param forceKeyframe true면 주기와 상관없이 키프레임 생성 (재동기화 요청 시)
+     * @return 보낼 이벤트, 보드가 마지막 전송 이후 바뀌지 않았으면 null
+     */
+    public synchronized BoardSnapshotEvent next(boolean forceKeyframe) {
+        if (controller == null) return null;
+        GameState state = controller.getCurrentState();
+        if (state == null) return null;
+        // 줄 삭제 등 애니메이션 중에는 보드가 중간 상태이므로 주기 스냅샷은 건너뜀
+        if (!forceKeyframe && (state.isAnimating() || state.isLineClearAnimating()
+                || state.isAllClearAnimating() || state.isBoxClearAnimating() || state.isWeightAnimating())) {
+            return null;
+        }
+
+        int[][] board = state.getBoardArray();
+        int[][] color = state.getColorBoard();
+        int rows = board.length;
+        int cols = rows == 0 ? 0 : board[0].length;
+        int[] packed = BoardDeltaCodec.pack(board, color, rows, cols);
+
+        // 보드가 그대로여도 주기마다 키프레임을 보내 늦게 붙은 쪽도 따라올 수 있게 함
+        sinceKeyframe++;
+        boolean needKeyframe = forceKeyframe
+            || keyframePacked == null
+            || keyframePacked.length != packed.length
+            || sinceKeyframe >= KEYFRAME_INTERVAL;
+
+        if (!needKeyframe && java.util.Arrays.equals(packed, lastSentPacked)) {
+            return null;
+        }
+
+        version++;
+        lastSentPacked = packed;
+        int score = controller.getScore();
+
+        if (needKeyframe) {
+            keyframePacked = packed;
+            keyframeVersion = version;
+            sinceKeyframe = 0;
+            return BoardSnapshotEvent.keyframe(board, color, score, playerId, version);
+        }
+
+        int[] delta = BoardDeltaCodec.xor(keyframePacked, packed);
+        return BoardSnapshotEvent.delta(version, keyframeVersion, delta, rows, cols, score, playerId);
+    }
+
+    /**
+     * 다음 스냅샷을 키프레임으로 만들기 (세션 재개 등)
+     */
+    public synchronized void reset() {
+        keyframePacked = null;
+        lastSentPacked = null;
+        sinceKeyframe = 0;
+    }
+
+    public synchronized int getVersion() {
+        return version;
+    }
+}
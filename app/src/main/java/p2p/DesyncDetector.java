@@ -0,0 +1,83 @@
+package p2p;
+
+import game.core.BoardHash;
+
+/**
+ * 상대 보드 재구성 검증기
+ * 상대방이 보낸 보드 해시(BlockPlacedEvent/LineClearedEvent)와
+ * RemoteGamePanel이 재구성한 보드의 해시를 비교하고 불일치 횟수를 집계합니다.
+ *
+ * 불일치가 나면 재동기화(키프레임)를 요청하되, 응답이 올 때까지 같은 요청을 반복하지 않도록
+ * RESYNC_COOLDOWN_MS 동안은 한 번만 요청합니다.
+ */
+public class DesyncDetector {
+
+    public enum Result {
+        MATCH,      // 일치
+        MISMATCH,   // 불일치 (재동기화 필요)
+        SKIPPED     // 비교 불가 (해시 없음 또는 재구성이 아직 따라오지 못함)
+    }
+
+    public static final long RESYNC_COOLDOWN_MS = 2000;
+
+    private long checks;
+    private long mismatches;
+    private long skipped;
+    private long resyncRequests;
+    private long lastResyncRequestAt;
+    private String lastMismatch;
+
+    /**
+     * 해시 비교
+     * @param expected 상대방이 보낸 해시 (0이면 해시 없음)
+     * @param actual 내가 재구성한 보드 해시
+     * @param pending 재구성 쪽에 아직 적용되지 않은 이벤트가 있으면 true
+     */
+    public synchronized Result check(String source, long expected, long actual, boolean pending) {
+        if (expected == BoardHash.NONE || pending) {
+            skipped++;
+            return Result.SKIPPED;
+        }
+        checks++;
+        if (expected == actual) {
+            return Result.MATCH;
+        }
+        mismatches++;
+        lastMismatch = source + " expected=" + BoardHash.toHex(expected) + " actual=" + BoardHash.toHex(actual);
+        return Result.MISMATCH;
+    }
+
+    /**
+     * 지금 재동기화를 요청해야 하는지 (쿨다운 적용, true면 요청한 것으로 기록)
+     */
+    public synchronized boolean shouldRequestResync(long now) {
+        if (resyncRequests > 0 && now - lastResyncRequestAt < RESYNC_COOLDOWN_MS) {
+            return false;
+        }
+        resyncRequests++;
+        lastResyncRequestAt = now;
+        return true;
+    }
+
+    /**
+     * 네트워크 상태 표시에 붙일 요약 (불일치가 없으면 빈 문자열)
+     */
+    public synchronized String getStatusSuffix() {
+        if (mismatches == 0) return "";
+        return " · 불일치 " + mismatches + "/" + checks + " (재동기화 " + resyncRequests + ")";
+    }
+
+    public synchronized long getChecks() { return checks; }
+    public synchronized long getMismatches() { return mismatches; }
+    public synchronized long getSkipped() { return skipped; }
+    public synchronized long getResyncRequests() { return resyncRequests; }
+    public synchronized String getLastMismatch() { return lastMismatch; }
+
+    @Override
+    public synchronized String toString() {
+        return "DesyncDetector{checks=" + checks +
+                ", mismatches=" + mismatches +
+                ", skipped=" + skipped +
+                ", resyncRequests=" + resyncRequests + '}';
+    }
+}
@@ -7,16 +7,30 @@ import network.messages.GameEventMessage;
 import network.messages.NetworkMessage;
 import network.messages.MessageType;
 import network.EventFilter;
+import network.SendRateController;
+import network.spectator.SpectatorHub;
+import blocks.PieceSequence;
 
-import java.util.Set;
 import network.messages.AttackMessage;
 import game.events.AttackEvent;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * P2P 네트워크 대전에서 로컬/원격 게임 이벤트를 동기화하는 클래스
  * 로컬 이벤트를 네트워크로 전송하고, 수신한 이벤트를 원격 EventBus에 발행합니다.
  * 
  * Phase 6: EventFilter를 사용하여 불필요한 이벤트 전송을 차단하고 성능을 최적화합니다.
+ *
+ * 연결이 혼잡하면 SendRateController가 정한 간격보다 자주 나오는 블록 이동/점수 이벤트는 바로 보내지 않고
+ * 종류별로 가장 최근 것 하나만 보관했다가, 간격이 지난 뒤(다음 이벤트나 게임 틱 때) 보냅니다.
+ * 그 사이 같은 블록의 회전/고정이 나가면 보관 중인 이동을 그 앞에 먼저 보내고, 새 블록 생성이 나가면 보관 중인 이동은 버립니다.
+ * 게임 오버가 나가기 전에는 보관 중인 점수를 먼저 보냅니다.
+ * 모든 처리는 게임 루프(EDT)에서 이루어지므로 보관 슬롯에 별도 동기화는 없습니다.
+ *
+ * 양쪽이 같은 블록 순서(PieceSequence)를 쓰면 블록 생성 이벤트는 순서 번호만 오가므로,
+ * 수신 시 순서에서 종류와 위치를 채운 뒤 상대 EventBus에 발행하고 상대의 다음 블록들을 미리 뽑아 둡니다.
  */
 public class EventSynchronizer implements MessageReceiver.MessageListener {
     
@@ -24,28 +38,26 @@ public class EventSynchronizer implements MessageReceiver.MessageListener {
     private final EventBus remoteEventBus;     // 상대방 게임의 EventBus (화면만 표시)
     private final MessageSender sender;
     private final int myPlayerId;              // 1 (서버) 또는 2 (클라이언트)
+    private final SendRateController rateController;  // null이면 속도 제한 없음
+    private volatile SpectatorHub spectatorHub;         // 관전자 중계 (호스트만, null이면 없음)
+    private volatile PieceSequence pieceSequence;       // 공유 블록 순서 (null이면 순서 번호 이벤트를 해석할 수 없음)
+    private volatile boolean sequencedSpawns = true;    // false면 내 블록 생성 이벤트를 종류/위치 그대로 보냄
+    
+    // 순서 번호 수신 시 상대 블록을 이만큼 앞까지 미리 뽑아 둠
+    private static final int PIECE_LOOKAHEAD = 16;
+    
+    // 속도 제한으로 보류 중인 최신 외형 업데이트 (Channel 순서)
+    private final GameEvent[] pendingCosmetic = new GameEvent[SendRateController.Channel.values().length];
+    
+    // 로컬 EventBus 구독 해제 작업 (shutdown에서 실행)
+    private final List<Runnable> subscriptions = new ArrayList<>();
     
     // 성능 통계
     private long totalEventsSent = 0;          // 전송한 이벤트 수
     private long totalEventsFiltered = 0;      // 필터링된 이벤트 수
+    private long totalEventsCoalesced = 0;     // 속도 제한으로 더 최신 값에 덮어써진 이벤트 수
     private long lastStatsTime = System.currentTimeMillis();
     
-    // 네트워크로 전송할 이벤트 타입 (실시간 동기화)
-    // TICK 제외: 너무 빈번하여 네트워크 부하 발생
-    // 대신 BlockMoved 이벤트로 자동 낙하 위치도 전송됨
-    private static final Set<String> SYNC_EVENTS = Set.of(
-        "BLOCK_SPAWNED",    // 블록 생성 (중요!)
-        "BLOCK_MOVED",      // 블록 이동 (실시간) - TICK 낙하 포함
-        "BLOCK_ROTATED",    // 블록 회전 (실시간)
-        "BLOCK_PLACED",     // 블록 고정
-        "LINE_CLEARED",     // 줄 삭제
-            "ATTACK_APPLIED",
-        "SCORE_UPDATE",     // 점수 업데이트 (실시간)
-        "GAME_OVER",        // 게임 오버
-        "LEVEL_UP",         // 레벨 업
-        "ITEM_ACTIVATED"    // 아이템 사용
-    );
-    
     /**
      * EventSynchronizer 생성자
      * 
@@ -59,11 +71,27 @@ public class EventSynchronizer implements MessageReceiver.MessageListener {
         EventBus remoteEventBus,
         MessageSender sender,
         int myPlayerId
+    ) {
+        this(localEventBus, remoteEventBus, sender, myPlayerId, null);
+    }
+    
+    /**
+     * 송신 속도 조절기를 사용하는 생성자
+     * 
+     * @param rateController 블록 이동/점수 전송 간격을 정하는 조절기 (null이면 제한 없음)
+     */
+    public EventSynchronizer(
+        EventBus localEventBus,
+        EventBus remoteEventBus,
+        MessageSender sender,
+        int myPlayerId,
+        SendRateController rateController
     ) {
         this.localEventBus = localEventBus;
         this.remoteEventBus = remoteEventBus;
         this.sender = sender;
         this.myPlayerId = myPlayerId;
+        this.rateController = rateController;
         
         // 내 게임의 모든 이벤트 구독
         subscribeToLocalEvents();
@@ -85,16 +113,30 @@ public class EventSynchronizer implements MessageReceiver.MessageListener {
         // 전송해야 할 각 이벤트 타입에 대해 리스너 등록
         // 우선순위 999: 다른 리스너보다 먼저 실행되어 네트워크로 즉시 전송
         // TICK은 제외 - BlockMoved로 자동 낙하 위치 전송
-        localEventBus.subscribe(BlockSpawnedEvent.class, this::sendEvent, 999);    // 블록 생성
-        localEventBus.subscribe(BlockMovedEvent.class, this::sendEvent, 999);      // 실시간 이동
-        localEventBus.subscribe(BlockRotatedEvent.class, this::sendEvent, 999);    // 실시간 회전
-        localEventBus.subscribe(BlockPlacedEvent.class, this::sendEvent, 999);     // 블록 고정
-        localEventBus.subscribe(LineClearedEvent.class, this::sendEvent, 999);     // 줄 삭제
-        localEventBus.subscribe(ScoreUpdateEvent.class, this::sendEvent, 999);     // 점수 업데이트
-        localEventBus.subscribe(GameOverEvent.class, this::sendEvent, 999);        // 게임 오버
-        localEventBus.subscribe(LevelUpEvent.class, this::sendEvent, 999);         // 레벨 업
-        localEventBus.subscribe(ItemActivatedEvent.class, this::sendEvent, 999);   // 아이템
-        localEventBus.subscribe(game.events.AttackAppliedEvent.class, this::sendEvent, 999); // 공격 적용 (시각적 동기화용)
+        subscribeLocal(BlockSpawnedEvent.class, this::sendEvent);    // 블록 생성
+        subscribeLocal(BlockMovedEvent.class, this::sendEvent);      // 실시간 이동
+        subscribeLocal(BlockRotatedEvent.class, this::sendEvent);    // 실시간 회전
+        subscribeLocal(BlockPlacedEvent.class, this::sendEvent);     // 블록 고정
+        subscribeLocal(LineClearedEvent.class, this::sendEvent);     // 줄 삭제
+        subscribeLocal(ScoreUpdateEvent.class, this::sendEvent);     // 점수 업데이트
+        subscribeLocal(GameOverEvent.class, this::sendEvent);        // 게임 오버
+        subscribeLocal(LevelUpEvent.class, this::sendEvent);         // 레벨 업
+        subscribeLocal(ItemActivatedEvent.class, this::sendEvent);   // 아이템
+        subscribeLocal(game.events.AttackAppliedEvent.class, this::sendEvent); // 공격 적용 (시각적 동기화용)
+        subscribeLocal(BoardSnapshotEvent.class, this::sendEvent);   // 전체 보드 재동기화
+        
+        // 틱은 전송하지 않고, 속도 제한으로 보류된 이벤트를 내보낼 시점으로만 사용
+        if (rateController != null) {
+            subscribeLocal(TickEvent.class, e -> flushPending());
+        }
+    }
+    
+    /**
+     * 로컬 EventBus에 우선순위 999로 구독하고 해제 작업을 기록
+     */
+    private <T extends GameEvent> void subscribeLocal(Class<T> eventType, EventListener<T> listener) {
+        localEventBus.subscribe(eventType, listener, 999);
+        subscriptions.add(() -> localEventBus.unsubscribe(eventType, listener));
     }
     
     /**
@@ -104,24 +146,97 @@ public class EventSynchronizer implements MessageReceiver.MessageListener {
      * @param event 전송할 게임 이벤트
      */
     private void sendEvent(GameEvent event) {
-        String eventType = event.getEventType();
-        
-        // Phase 6: EventFilter로 1차 필터링
+        if (event instanceof BlockSpawnedEvent && ((BlockSpawnedEvent) event).isSequenced()
+                && (!sequencedSpawns || pieceSequence == null)) {
+            event = ((BlockSpawnedEvent) event).toFullForm();  // 상대가 순서 번호를 해석할 수 없음
+        }
+        // Phase 6: EventFilter로 필터링 (동기화 여부는 EventCodecRegistry에 이벤트별로 미리 계산됨)
+        // TICK은 너무 빈번하여 제외 - BlockMoved로 자동 낙하 위치 전송
         if (!EventFilter.shouldSync(event)) {
             totalEventsFiltered++;
             // 디버그 로그 (필터링된 이벤트는 조용히 차단)
             return;
         }
         
-        // 2차 필터링: SYNC_EVENTS 체크 (기존 로직 유지)
-        if (!SYNC_EVENTS.contains(eventType)) {
-            totalEventsFiltered++;
-            return;
+        if (rateController != null) {
+            SendRateController.Channel channel = cosmeticChannel(event);
+            if (channel != null) {
+                // 외형 업데이트: 간격이 안 지났으면 최신 값만 보관
+                if (!rateController.tryAcquire(channel)) {
+                    if (pendingCosmetic[channel.ordinal()] != null) {
+                        totalEventsCoalesced++;
+                    }
+                    pendingCosmetic[channel.ordinal()] = event;
+                    return;
+                }
+                pendingCosmetic[channel.ordinal()] = null;
+            } else {
+                supersedePending(event);
+            }
+            flushPending();
         }
         
+        transmit(event);
+    }
+    
+    /**
+     * 속도 제한 대상인 외형 업데이트 종류 (필수 이벤트면 null)
+     */
+    private static SendRateController.Channel cosmeticChannel(GameEvent event) {
+        if (event instanceof BlockMovedEvent) return SendRateController.Channel.PIECE;
+        if (event instanceof ScoreUpdateEvent) return SendRateController.Channel.SCORE;
+        return null;
+    }
+    
+    /**
+     * 필수 이벤트 전송 전에 보류 중인 외형 업데이트 정리
+     * - 회전/고정: 받는 쪽은 마지막으로 받은 위치에서 회전/고정하므로 보류 중인 이동을 먼저 보냄
+     * - 새 블록: 블록이 바뀌어 이전 블록의 이동은 의미가 없으므로 버림
+     * - 게임 오버: 마지막 점수가 먼저 도착하도록 보류 중인 점수를 바로 보냄
+     */
+    private void supersedePending(GameEvent event) {
+        int piece = SendRateController.Channel.PIECE.ordinal();
+        int score = SendRateController.Channel.SCORE.ordinal();
+        if (event instanceof BlockRotatedEvent || event instanceof BlockPlacedEvent) {
+            GameEvent pending = pendingCosmetic[piece];
+            if (pending != null) {
+                pendingCosmetic[piece] = null;
+                transmit(pending);
+            }
+        } else if (event instanceof BlockSpawnedEvent) {
+            if (pendingCosmetic[piece] != null) {
+                totalEventsCoalesced++;
+                pendingCosmetic[piece] = null;
+            }
+        } else if (event instanceof GameOverEvent && pendingCosmetic[score] != null) {
+            GameEvent pending = pendingCosmetic[score];
+            pendingCosmetic[score] = null;
+            transmit(pending);
+        }
+    }
+    
+    /**
+     * 보류 중인 외형 업데이트 중 간격이 지난 것을 전송
+     */
+    private void flushPending() {
+        for (SendRateController.Channel channel : SendRateController.Channel.values()) {
+            GameEvent pending = pendingCosmetic[channel.ordinal()];
+            if (pending != null && rateController.tryAcquire(channel)) {
+                pendingCosmetic[channel.ordinal()] = null;
+                transmit(pending);
+            }
+        }
+    }
+    
+    /**
+     * 이벤트를 메시지로 만들어 전송 (줄 삭제면 공격 메시지도 함께 전송)
+     */
+    private void transmit(GameEvent event) {
+        String eventType = event.getEventType();
         try {
             GameEventMessage message = new GameEventMessage(event, myPlayerId);
             boolean sent = sender.sendMessage(message);
+            publishToSpectators(event, message);
             
             if (sent) {
                 totalEventsSent++;
@@ -146,25 +261,20 @@ public class EventSynchronizer implements MessageReceiver.MessageListener {
                 if (lines >= 2) attackLines = lines; // 간단 규칙: 2줄 이상이면 같은 수만큼 공격
                 if (attackLines > 0) {
                     // include cleared line pattern so opponent can reproduce holes
-                    int[][] pattern = le.getLastBlockPattern();
+                    game.model.AttackPattern pattern = le.getHolePattern();
                     int blockX = le.getLastBlockX();
                     
                     // 패턴 디버그 로그
-                    game.util.GameLogger.debug("EventSynchronizer 전송 전: pattern=" + 
-                        (pattern!=null?(pattern.length+"x"+(pattern.length>0?pattern[0].length:0)):"null"));
-                    if (pattern != null && pattern.length > 0 && pattern[0].length > 0) {
-                        StringBuilder sb = new StringBuilder("  pattern[0]=");
-                        for (int j = 0; j < Math.min(pattern[0].length, 10); j++) {
-                            sb.append(pattern[0][j]);
-                        }
-                        game.util.GameLogger.debug(sb.toString());
+                    game.util.GameLogger.debug("EventSynchronizer 전송 전: pattern=" + (pattern != null ? pattern : "null"));
+                    if (pattern != null && pattern.getHeight() > 0) {
+                        game.util.GameLogger.debug("  pattern[0]=" + pattern.rowToString(0));
                     }
                     
                     AttackMessage am = new AttackMessage(attackLines, myPlayerId, pattern, blockX);
                     boolean asent = sender.sendMessage(am);
                     if (asent) {
                         totalEventsSent++;
-                        System.out.println("📤 [SEND] AttackMessage attackLines=" + attackLines + " (Player " + myPlayerId + ") pattern=" + (pattern!=null?(pattern.length+"x"+(pattern.length>0?pattern[0].length:0)):"<none>"));
+                        System.out.println("📤 [SEND] AttackMessage attackLines=" + attackLines + " (Player " + myPlayerId + ") pattern=" + (pattern != null ? pattern : "<none>"));
                     } else {
                         System.err.println("❌ [SEND] AttackMessage 전송 실패");
                     }
@@ -176,6 +286,63 @@ public class EventSynchronizer implements MessageReceiver.MessageListener {
         }
     }
     
+    /**
+     * 관전자 중계 설정 (호스트 측에서 양쪽 플레이어 이벤트를 관전자에게 보냄)
+     */
+    public void setSpectatorHub(SpectatorHub spectatorHub) {
+        this.spectatorHub = spectatorHub;
+    }
+    
+    /**
+     * 공유 블록 순서 설정 (경기 시작 때 합의한 시드로 만든 것, 내 GameController와 같은 인스턴스)
+     */
+    public void setPieceSequence(PieceSequence pieceSequence) {
+        this.pieceSequence = pieceSequence;
+    }
+    
+    /**
+     * 내 블록 생성 이벤트를 순서 번호로 보낼지 여부 (시드가 어긋나 상대가 내 순서를 재현할 수 없으면 false)
+     * 블록 순서가 없을 때(setPieceSequence(null))도 항상 종류/위치를 그대로 보냅니다.
+     */
+    public void setSequencedSpawns(boolean sequencedSpawns) {
+        this.sequencedSpawns = sequencedSpawns;
+    }
+    
+    /**
+     * 이미 인코딩된 메시지 본문을 그대로 관전자에게 전달 (상대 전송 뒤에 호출해 경기 지연에 영향 없음)
+     * 관전자는 블록 순서를 모르므로 순서 번호로 된 블록 생성 이벤트만 종류/위치를 담아 다시 인코딩합니다.
+     */
+    private void publishToSpectators(GameEvent event, GameEventMessage message) {
+        SpectatorHub hub = spectatorHub;
+        if (hub == null) {
+            return;
+        }
+        if (event instanceof BlockSpawnedEvent && ((BlockSpawnedEvent) event).isSequenced()) {
+            BlockSpawnedEvent full = ((BlockSpawnedEvent) event).toFullForm();
+            hub.publish(message.getPlayerId(), full, message.getEventId(), EventCodecRegistry.encode(full));
+            return;
+        }
+        hub.publish(message.getPlayerId(), event, message.getEventId(), message.getEventData());
+    }
+    
+    /**
+     * 순서 번호로 받은 블록 생성 이벤트의 종류/위치를 채움
+     * @return 사용할 수 있으면 true (블록 순서가 없어 해석할 수 없으면 false)
+     */
+    private boolean resolveSpawn(BlockSpawnedEvent event) {
+        if (!event.needsResolve()) {
+            return true;
+        }
+        PieceSequence sequence = pieceSequence;
+        if (sequence == null) {
+            System.err.println("❌ [NETWORK] 블록 순서 없이 순서 번호 이벤트 수신: " + event.getSequenceIndex());
+            return false;
+        }
+        event.resolve(sequence);
+        sequence.ensureGenerated(event.getSequenceIndex() + PIECE_LOOKAHEAD);
+        return true;
+    }
+    
     /**
      * 성능 통계 출력 (10초마다)
      */
@@ -191,12 +358,16 @@ public class EventSynchronizer implements MessageReceiver.MessageListener {
             System.out.println("📊 [성능 통계] Player " + myPlayerId);
             System.out.println("   전송: " + totalEventsSent + " 이벤트");
             System.out.println("   필터링: " + totalEventsFiltered + " 이벤트");
+            if (rateController != null) {
+                System.out.println("   속도 제한: 간격 " + rateController.getIntervalMs() + "ms, 병합 " + totalEventsCoalesced + " 이벤트");
+            }
             System.out.println("   필터율: " + String.format("%.1f", filterRate) + "%");
             System.out.println("   기간: " + (elapsed / 1000) + "초");
             
             // 통계 리셋
             totalEventsSent = 0;
             totalEventsFiltered = 0;
+            totalEventsCoalesced = 0;
             lastStatsTime = now;
         }
     }
@@ -215,6 +386,10 @@ public class EventSynchronizer implements MessageReceiver.MessageListener {
                 GameEventMessage eventMsg = (GameEventMessage) message;
                 GameEvent event = eventMsg.toGameEvent();
 
+                if (event instanceof BlockSpawnedEvent && !resolveSpawn((BlockSpawnedEvent) event)) {
+                    return;
+                }
+
                 if (event != null) {
                     System.out.println("📥 [NETWORK] 이벤트 수신: " + event.getEventType() + 
                                      " (Player " + eventMsg.getPlayerId() + ")");
@@ -222,6 +397,7 @@ public class EventSynchronizer implements MessageReceiver.MessageListener {
                     // 상대방 EventBus에 발행 (상대방 화면 업데이트)
                     System.out.println("   🔄 remoteEventBus.publish() 호출...");
                     remoteEventBus.publish(event);
+                    publishToSpectators(event, eventMsg);
 
                     System.out.println("✅ [NETWORK] remoteEventBus에 발행 완료: " + event.getEventType());
 
@@ -243,9 +419,9 @@ public class EventSynchronizer implements MessageReceiver.MessageListener {
             try {
                 AttackMessage am = (AttackMessage) message;
                 System.out.println("📥 [NETWORK] AttackMessage 수신: lines=" + am.getAttackLines() + " from=" + am.getPlayerId()
-                    + " pattern=" + (am.getBlockPattern()!=null?(am.getBlockPattern().length+"x"+(am.getBlockPattern().length>0?am.getBlockPattern()[0].length:0)) : "<none>"));
+                    + " pattern=" + (am.getHolePattern() != null ? am.getHolePattern() : "<none>"));
                 // 원격 EventBus에 AttackEvent로 발행 (include pattern)
-                AttackEvent ae = new AttackEvent(am.getAttackLines(), am.getPlayerId(), am.getBlockPattern(), am.getBlockX());
+                AttackEvent ae = AttackEvent.of(am.getAttackLines(), am.getPlayerId(), am.getHolePattern(), am.getBlockX());
                 System.out.println("   🔄 remoteEventBus.publish() 호출... (AttackEvent)");
                 remoteEventBus.publish(ae);
                 System.out.println("✅ [NETWORK] remoteEventBus에 AttackEvent 발행 완료");
@@ -283,8 +459,11 @@ public class EventSynchronizer implements MessageReceiver.MessageListener {
      * 동기화 종료 (리스너 해제)
      */
     public void shutdown() {
-        // EventBus에서 리스너를 자동으로 관리하므로 별도 해제 불필요
-        // 필요 시 명시적으로 해제 가능
+        // 로컬 EventBus가 이 객체(와 원격 EventBus)를 계속 잡고 있지 않도록 구독 해제
+        for (Runnable unsubscribe : subscriptions) {
+            unsubscribe.run();
+        }
+        subscriptions.clear();
         System.out.println("EventSynchronizer 종료");
     }
 }
@@ -21,7 +21,7 @@ public class P2PMenuFrame extends JFrame {
         
         // 창 설정
         setTitle("P2P 대전 모드");
-        setSize((int)(500 * screenRatio), (int)(400 * screenRatio));
+        setSize((int)(500 * screenRatio), (int)(460 * screenRatio));
         setDefaultCloseOperation(DISPOSE_ON_CLOSE);
         setLocationRelativeTo(null);
         setLayout(new BorderLayout());
@@ -41,14 +41,14 @@ public class P2PMenuFrame extends JFrame {
         centerPanel.add(Box.createVerticalGlue());
         
         // 설명 라벨
-        JLabel descLabel = new JLabel("<html><center>P2P 네트워크로 1:1 대전을 시작합니다.<br>서버로 호스트하거나 클라이언트로 참가하세요.</center></html>");
+        JLabel descLabel = new JLabel("<html><center>P2P 네트워크로 1:1 대전을 시작합니다.<br>서버로 호스트하거나 클라이언트로 참가하세요.<br>릴레이 서버를 거쳐 대전할 수도 있습니다.</center></html>");
         descLabel.setFont(settings.FontManager.getKoreanFont(Font.PLAIN, (int)(12 * screenRatio)));
         descLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         descLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, (int)(30 * screenRatio), 0));
         centerPanel.add(descLabel);
         
         // 메뉴 버튼들
-        String[] menuNames = {"서버로 호스트", "클라이언트로 참가", "뒤로 가기"};
+        String[] menuNames = {"서버로 호스트", "클라이언트로 참가", "릴레이 서버로 대전", "뒤로 가기"};
         menuButtons = new JButton[menuNames.length];
         
         for (int i = 0; i < menuNames.length; i++) {
@@ -108,6 +108,10 @@ public class P2PMenuFrame extends JFrame {
             new P2PClientSetupFrame();
             dispose();
         } else if (index == 2) {
+            // 릴레이 서버를 거쳐 호스트/게스트로 입장
+            new P2PRelaySetupFrame();
+            dispose();
+        } else if (index == 3) {
             // 뒤로 가기
             new StartFrame();
             dispose();
@@ -0,0 +1,189 @@
+package p2p;
+
+import javax.swing.*;
+import start.StartFrame;
+import network.*;
+import java.awt.*;
+import java.util.prefs.Preferences;
+
+/**
+ * 릴레이 서버 접속 화면
+ * 릴레이 서버 주소와 방 코드를 입력하고 호스트 또는 게스트로 대기실에 입장하는 화면
+ * (릴레이 서버 실행: ./gradlew runRelay)
+ */
+public class P2PRelaySetupFrame extends JFrame {
+    private double screenRatio;
+    private JTextField ipField;
+    private JTextField portField;
+    private JTextField roomField;
+    private JRadioButton hostButton;
+    private JRadioButton guestButton;
+    private JButton connectButton;
+    private JButton cancelButton;
+    private JLabel statusLabel;
+
+    private static final String PREF_KEY_LAST_RELAY_IP = "lastRelayIP";
+    private static final String PREF_KEY_LAST_ROOM = "lastRelayRoom";
+    private Preferences prefs;
+
+    public P2PRelaySetupFrame() {
+        screenRatio = StartFrame.screenRatio;
+        prefs = Preferences.userNodeForPackage(P2PRelaySetupFrame.class);
+
+        // 창 설정
+        setTitle("릴레이 서버로 대전");
+        setSize((int)(500 * screenRatio), (int)(520 * screenRatio));
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+        setLocationRelativeTo(null);
+        setLayout(new BorderLayout());
+
+        // 모든 창이 닫히면 프로세스 종료
+        util.WindowManager.addAutoExitListener(this);
+
+        // 제목
+        JLabel titleLabel = new JLabel("릴레이 서버로 대전", SwingConstants.CENTER);
+        titleLabel.setFont(settings.FontManager.getKoreanFont(Font.BOLD, (int)(28 * screenRatio)));
+        titleLabel.setBorder(BorderFactory.createEmptyBorder((int)(20 * screenRatio), 0, (int)(20 * screenRatio), 0));
+        add(titleLabel, BorderLayout.NORTH);
+
+        // 중앙 패널
+        JPanel centerPanel = new JPanel();
+        centerPanel.setLayout(new BoxLayout(centerPanel, BoxLayout.Y_AXIS));
+        centerPanel.setBorder(BorderFactory.createEmptyBorder((int)(10 * screenRatio), (int)(40 * screenRatio), (int)(10 * screenRatio), (int)(40 * screenRatio)));
+
+        ipField = addField(centerPanel, "릴레이 서버 IP 주소:", prefs.get(PREF_KEY_LAST_RELAY_IP, "127.0.0.1"));
+        portField = addField(centerPanel, "포트 번호:", String.valueOf(NetworkConfig.DEFAULT_PORT));
+        roomField = addField(centerPanel, "방 코드 (비우면 빠른 매칭):", prefs.get(PREF_KEY_LAST_ROOM, ""));
+
+        // 역할 선택
+        hostButton = new JRadioButton("호스트 (모드 선택/게임 시작)", true);
+        guestButton = new JRadioButton("게스트");
+        ButtonGroup roleGroup = new ButtonGroup();
+        roleGroup.add(hostButton);
+        roleGroup.add(guestButton);
+        JPanel rolePanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
+        rolePanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        for (JRadioButton button : new JRadioButton[] { hostButton, guestButton }) {
+            button.setFont(settings.FontManager.getKoreanFont(Font.PLAIN, (int)(13 * screenRatio)));
+            rolePanel.add(button);
+        }
+        centerPanel.add(rolePanel);
+        centerPanel.add(Box.createRigidArea(new Dimension(0, (int)(15 * screenRatio))));
+
+        // 상태 표시
+        statusLabel = new JLabel("릴레이 정보와 방 코드를 입력하고 '입장' 버튼을 누르세요.", SwingConstants.CENTER);
+        statusLabel.setFont(settings.FontManager.getKoreanFont(Font.PLAIN, (int)(12 * screenRatio)));
+        statusLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        centerPanel.add(statusLabel);
+        centerPanel.add(Box.createRigidArea(new Dimension(0, (int)(10 * screenRatio))));
+
+        // 안내 문구
+        JLabel infoLabel = new JLabel("<html><center>상대와 같은 방 코드를 입력하고<br>한 명은 호스트, 한 명은 게스트로 입장하세요.</center></html>");
+        infoLabel.setFont(settings.FontManager.getKoreanFont(Font.PLAIN, (int)(11 * screenRatio)));
+        infoLabel.setForeground(Color.GRAY);
+        infoLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
+        centerPanel.add(infoLabel);
+
+        add(centerPanel, BorderLayout.CENTER);
+
+        // 하단 버튼 패널
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, (int)(10 * screenRatio), (int)(10 * screenRatio)));
+
+        connectButton = new JButton("입장");
+        connectButton.setFont(settings.FontManager.getKoreanFont(Font.PLAIN, (int)(14 * screenRatio)));
+        connectButton.setPreferredSize(new Dimension((int)(120 * screenRatio), (int)(40 * screenRatio)));
+        connectButton.addActionListener(e -> connectToRelay());
+        buttonPanel.add(connectButton);
+
+        cancelButton = new JButton("취소");
+        cancelButton.setFont(settings.FontManager.getKoreanFont(Font.PLAIN, (int)(14 * screenRatio)));
+        cancelButton.setPreferredSize(new Dimension((int)(120 * screenRatio), (int)(40 * screenRatio)));
+        cancelButton.addActionListener(e -> {
+            new P2PMenuFrame();
+            dispose();
+        });
+        buttonPanel.add(cancelButton);
+
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        setVisible(true);
+        ipField.requestFocus();
+    }
+
+    private JTextField addField(JPanel panel, String label, String value) {
+        JLabel fieldLabel = new JLabel(label, SwingConstants.LEFT);
+        fieldLabel.setFont(settings.FontManager.getKoreanFont(Font.PLAIN, (int)(14 * screenRatio)));
+        fieldLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        panel.add(fieldLabel);
+        panel.add(Box.createRigidArea(new Dimension(0, (int)(5 * screenRatio))));
+
+        JTextField field = new JTextField(value);
+        field.setFont(new Font("Monospaced", Font.PLAIN, (int)(14 * screenRatio)));
+        field.setMaximumSize(new Dimension(Integer.MAX_VALUE, (int)(40 * screenRatio)));
+        field.setAlignmentX(Component.LEFT_ALIGNMENT);
+        panel.add(field);
+        panel.add(Box.createRigidArea(new Dimension(0, (int)(15 * screenRatio))));
+        return field;
+    }
+
+    /**
+     * 릴레이 서버에 접속하고 대기실 입장
+     */
+    private void connectToRelay() {
+        String ip = ipField.getText().trim();
+        String portStr = portField.getText().trim();
+        String roomKey = roomField.getText().trim();
+        boolean asHost = hostButton.isSelected();
+
+        // 입력 검증
+        if (ip.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "IP 주소를 입력하세요.", "입력 오류", JOptionPane.WARNING_MESSAGE);
+            ipField.requestFocus();
+            return;
+        }
+
+        int port;
+        try {
+            port = Integer.parseInt(portStr);
+            if (port < 1 || port > 65535) {
+                throw new NumberFormatException();
+            }
+        } catch (NumberFormatException e) {
+            JOptionPane.showMessageDialog(this, "올바른 포트 번호를 입력하세요. (1-65535)", "입력 오류", JOptionPane.WARNING_MESSAGE);
+            portField.requestFocus();
+            return;
+        }
+
+        // 버튼 비활성화
+        connectButton.setEnabled(false);
+        statusLabel.setText("릴레이 서버에 연결 중...");
+        statusLabel.setForeground(Color.BLUE);
+
+        // 백그라운드 스레드에서 연결 (연결되면 대기실이 열림)
+        new Thread(() -> {
+            try {
+                P2PWaitingRoom.connectViaRelay(ip, port, roomKey, asHost);
+
+                // 최근 입력 저장
+                prefs.put(PREF_KEY_LAST_RELAY_IP, ip);
+                prefs.put(PREF_KEY_LAST_ROOM, roomKey);
+
+                SwingUtilities.invokeLater(this::dispose);
+
+            } catch (ConnectionException e) {
+                SwingUtilities.invokeLater(() -> {
+                    statusLabel.setText("연결 실패: " + e.getMessage());
+                    statusLabel.setForeground(Color.RED);
+                    connectButton.setEnabled(true);
+
+                    JOptionPane.showMessageDialog(
+                        this,
+                        "릴레이 서버에 연결할 수 없습니다.\n" + e.getMessage(),
+                        "연결 오류",
+                        JOptionPane.ERROR_MESSAGE
+                    );
+                });
+            }
+        }).start();
+    }
+}
@@ -2,8 +2,10 @@ package p2p;
 
 import javax.swing.*;
 import java.awt.*;
+import blocks.PieceSequence;
 import game.GameView;
 import game.core.GameController;
+import game.loop.ActiveRenderLoop;
 import game.events.*;
 import network.NetworkManager;
 import network.DisconnectionHandler;
@@ -35,7 +37,15 @@ public class P2PVersusFrameBoard extends JFrame {
     
     // 게임 상태
     private final VersusMode mode;
+    // 호스트 설정 난이도 - 블록 순서(PieceSequence) 가중치에만 사용
     private final int difficulty;
+    // 낙하 속도/엔진 난이도는 P2P에서 항상 기본값(0)으로 고정
+    private static final int GAME_DIFFICULTY = 0;
+    // 양쪽이 공유하는 블록 순서 (대기실에서 시드를 받지 못했으면 null → 각자 무작위 블록)
+    private final PieceSequence pieceSequence;
+    // START_GAME의 시드/난이도가 내 것과 다를 때 상대 블록 해석에 쓸 호스트 순서 (불일치가 없으면 사용 안 함)
+    private boolean pieceSeedMismatch = false;
+    private PieceSequence hostPieceSequence;
     
     // 시간제한 모드 관련
     private javax.swing.Timer gameTimer;
@@ -53,9 +63,24 @@ public class P2PVersusFrameBoard extends JFrame {
     private GameController remoteGameController;
     private JLabel remoteScoreLabel;
     private RemoteGamePanel remoteGamePanel;
+    private RemoteEventQueue remoteEvents;  // 상대 화면 이벤트를 모아 프레임마다 한 번 적용
+    private JPanel gameLayer;  // 게임 화면 레이어 (능동 렌더링 대상)
+    private ActiveRenderLoop activeRenderLoop;  // -Dtetris.render=active일 때만 사용 (null이면 Swing 그리기)
     
     // 네트워크 상태 표시
     private JLabel networkStatusLabel;
+    private Timer statusTimer;
+    
+    // 주기적 보드 스냅샷 (키프레임 + delta)
+    private BoardSnapshotPublisher snapshotPublisher;
+    private javax.swing.Timer snapshotTimer;
+    private static final int SNAPSHOT_INTERVAL_MS = 1000;
+    
+    // 관전자 중계 (호스트만)
+    private network.spectator.SpectatorHub spectatorHub;
+    
+    // 상대 보드 재구성 검증 (보드 해시 비교)
+    private final DesyncDetector desyncDetector = new DesyncDetector();
     
     private int myScore = 0;
     private int remoteScore = 0;
@@ -65,16 +90,35 @@ public class P2PVersusFrameBoard extends JFrame {
     private volatile boolean gameEndedNormally = false;
     
     public P2PVersusFrameBoard(NetworkManager networkManager, VersusMode mode, int difficulty) {
+        this(networkManager, mode, difficulty, null);
+    }
+    
+    /**
+     * @param difficulty 블록 순서 가중치에 쓸 호스트 난이도 (낙하 속도는 바뀌지 않음)
+     * @param pieceSeed 대기실에서 합의한 블록 순서 시드 (null이면 각자 무작위 블록)
+     */
+    public P2PVersusFrameBoard(NetworkManager networkManager, VersusMode mode, int difficulty, Long pieceSeed) {
+        this(networkManager, mode, difficulty, pieceSeed, networkManager.getRole() == NetworkRole.SERVER);
+    }
+    
+    /**
+     * @param host 호스트(Player 1)인지 여부 - 릴레이를 거치면 양쪽 모두 클라이언트로 접속하므로 대기실에서 정해 줌
+     */
+    public P2PVersusFrameBoard(NetworkManager networkManager, VersusMode mode, int difficulty, Long pieceSeed, boolean host) {
         this.networkManager = networkManager;
         this.mode = mode;
         this.difficulty = difficulty;
-        this.myPlayerId = (networkManager.getRole() == NetworkRole.SERVER) ? 1 : 2;
+        this.pieceSequence = pieceSeed != null ? new PieceSequence(pieceSeed, difficulty) : null;
+        this.myPlayerId = host ? 1 : 2;
         
         // 연결 끊김 핸들러 등록
         networkManager.setDisconnectionHandler(new DisconnectionHandler(() -> {
             handleOpponentDisconnected();
         }));
         
+        // 상대 블록 생성용 프로토타입 미리 준비 (수신 스레드에서 설정 파일을 읽지 않도록)
+        blocks.BlockTypeRegistry.preload();
+        
         // 로그 파일로 출력
         try {
             String logFile = "p2p_debug_player" + myPlayerId + ".log";
@@ -123,6 +167,9 @@ public class P2PVersusFrameBoard extends JFrame {
         setLocationRelativeTo(null);
         setVisible(true);
 
+        // 선택: 능동 렌더링 (사용할 수 없으면 Swing 그리기 유지)
+        activeRenderLoop = ActiveRenderLoop.attachIfRequested(layeredPane, backgroundPanel, gameLayer);
+
         // 게임 시작은 START_GAME 메시지 수신 또는 서버의 직접 요청으로만 시작합니다.
     }
 
@@ -145,7 +192,10 @@ public class P2PVersusFrameBoard extends JFrame {
         
         // 내 게임 생성 (HighScore 숨김, AttackPreview 표시)
         myGameView = new GameView(itemMode, false, true);
-        myGameController = new GameController(myGameView, itemMode, difficulty);
+        myGameController = new GameController(myGameView, itemMode, GAME_DIFFICULTY);
+        if (pieceSequence != null) {
+            myGameController.usePieceSequence(pieceSequence);
+        }
         try {
             System.out.println("[DEBUG P2PVersusFrameBoard] myGameController instance=" + System.identityHashCode(myGameController)
                 + ", myEventBus=" + System.identityHashCode(myGameController.getEventBus()));
@@ -156,7 +206,7 @@ public class P2PVersusFrameBoard extends JFrame {
         
         // 상대방 게임 생성 (HighScore 숨김, AttackPreview 표시)
         remoteGameView = new GameView(itemMode, false, true);
-        remoteGameController = new GameController(remoteGameView, itemMode, difficulty);
+        remoteGameController = new GameController(remoteGameView, itemMode, GAME_DIFFICULTY);
         try {
             System.out.println("[DEBUG P2PVersusFrameBoard] remoteGameController instance=" + System.identityHashCode(remoteGameController)
                 + ", remoteEventBus=" + System.identityHashCode(remoteGameController.getEventBus()));
@@ -165,6 +215,7 @@ public class P2PVersusFrameBoard extends JFrame {
         }
         remoteGamePanel = new RemoteGamePanel();
         remoteGamePanel.setRemoteComponents(remoteGameView, remoteGameController);
+        remoteEvents = new RemoteEventQueue(remoteGamePanel);
         JPanel remotePanel = createRemotePanel();
         
         // 레이아웃
@@ -206,6 +257,7 @@ public class P2PVersusFrameBoard extends JFrame {
         
         centerContainer.add(mainPanel, BorderLayout.CENTER);
         layeredPane.add(centerContainer, JLayeredPane.DEFAULT_LAYER);
+        gameLayer = centerContainer;
         
         // 하단에 네트워크 상태 표시
         JPanel statusPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
@@ -280,7 +332,7 @@ public class P2PVersusFrameBoard extends JFrame {
                 SwingUtilities.invokeLater(() -> {
                     try {
                         // remoteGameController의 큐에 추가하여 AttackPreviewPanel 업데이트
-                        remoteGameController.queueAttackLines(attackLines, e.getLastBlockPattern(), e.getLastBlockX());
+                        remoteGameController.queueAttack(attackLines, e.getHolePattern(), e.getLastBlockX());
                         remoteGameView.repaint();
                     } catch (Exception ex) {
                         System.err.println("[P2P] remoteGameController.queueAttackLines 예외: " + ex.getMessage());
@@ -328,6 +380,7 @@ public class P2PVersusFrameBoard extends JFrame {
             
             if (type == ControlType.START_GAME) {
                 System.out.println("[P2PVersusFrameBoard] START_GAME 수신, 게임 시작 요청");
+                checkPieceSeed(message.getPieceSeed(), message.getDifficulty());
                 requestStart();
             } else if (type == ControlType.PAUSE_GAME) {
                 System.out.println("[P2PVersusFrameBoard] PAUSE_GAME 수신, 상대방이 일시정지함");
@@ -335,12 +388,42 @@ public class P2PVersusFrameBoard extends JFrame {
             } else if (type == ControlType.RESUME_GAME) {
                 System.out.println("[P2PVersusFrameBoard] RESUME_GAME 수신, 상대방이 재개함");
                 handleRemoteResume();
+            } else if (type == ControlType.RESYNC_REQUEST) {
+                System.out.println("[P2PVersusFrameBoard] RESYNC_REQUEST 수신 (" + message.getInfo() + ")");
+                SwingUtilities.invokeLater(this::sendBoardSnapshot);
             }
         };
         networkManager.addGameControlListener(gameControlListener);
         System.out.println("[P2PVersusFrameBoard] Game control listener registered");
     }
     
+    /**
+     * START_GAME에 실린 블록 순서 시드/난이도가 대기실에서 받은 것과 같은지 확인
+     * 다르면 내 블록 순서를 상대가 재현할 수 없으므로 블록 생성 이벤트를 종류/위치 그대로 보내고,
+     * 상대(호스트)가 보내는 순서 번호는 호스트 시드로 만든 순서로 해석합니다.
+     */
+    private synchronized void checkPieceSeed(Long pieceSeed, Integer hostDifficulty) {
+        Long mySeed = pieceSequence != null ? Long.valueOf(pieceSequence.getSeed()) : null;
+        int hostLevel = hostDifficulty != null ? hostDifficulty.intValue() : difficulty;
+        if (java.util.Objects.equals(mySeed, pieceSeed) && (pieceSeed == null || hostLevel == difficulty)) {
+            return;
+        }
+        System.err.println("[P2PVersusFrameBoard] ⚠️ 블록 순서 불일치: mine=" + mySeed + "/" + difficulty
+            + ", host=" + pieceSeed + "/" + hostLevel + " → 블록 생성 이벤트를 전체 형식으로 전송");
+        pieceSeedMismatch = true;
+        hostPieceSequence = pieceSeed != null ? new PieceSequence(pieceSeed, hostLevel) : null;
+        applyPieceSeedMismatch();
+    }
+    
+    /**
+     * 시드 불일치를 EventSynchronizer에 반영 (START_GAME이 동기화 설정보다 먼저 오면 설정 때 다시 호출)
+     */
+    private synchronized void applyPieceSeedMismatch() {
+        if (!pieceSeedMismatch || eventSynchronizer == null) return;
+        eventSynchronizer.setPieceSequence(hostPieceSequence);
+        eventSynchronizer.setSequencedSpawns(false);
+    }
+    
     private void setupNetworkSync() {
         // EventBus 생성 (원격용)
         EventBus remoteEventBus = new EventBus();
@@ -357,8 +440,11 @@ public class P2PVersusFrameBoard extends JFrame {
             myGameController.getEventBus(),
             remoteEventBus,
             senderWrapper,
-            myPlayerId
+            myPlayerId,
+            networkManager.getSendRateController()
         );
+        eventSynchronizer.setPieceSequence(pieceSequence);
+        applyPieceSeedMismatch();
 
         // Debug: print listener counts for verification
         try {
@@ -376,6 +462,24 @@ public class P2PVersusFrameBoard extends JFrame {
         // 네트워크 메시지 수신
         networkManager.addMessageListener(eventSynchronizer);
         
+        // 세션 재개 처리 (재전송으로 복구할 수 없으면 내 보드 전체를 다시 보냄)
+        networkManager.setSessionListener(new NetworkManager.SessionListener() {
+            @Override
+            public void onSessionResumed(int replayedCount) {
+                System.out.println("[P2P] 🔁 세션 재개 완료 (재전송 " + replayedCount + "개)");
+            }
+            
+            @Override
+            public void onResyncRequired() {
+                sendBoardSnapshot();
+            }
+        });
+        
+        // 관전자 중계 (호스트만 - 포트를 열지 못해도 대전은 계속)
+        if (myPlayerId == 1) {
+            startSpectatorHub();
+        }
+        
         // 원격 이벤트 처리
         setupRemoteEventHandlers(remoteEventBus);
         
@@ -385,6 +489,73 @@ public class P2PVersusFrameBoard extends JFrame {
         System.out.println("✅ P2P 네트워크 동기화 설정 완료");
     }
 
+    /**
+     * 관전 허브 시작 - 관전자에게 양쪽 이벤트를 보냄
+     */
+    private void startSpectatorHub() {
+        try {
+            spectatorHub = new network.spectator.SpectatorHub();
+            spectatorHub.start();
+            eventSynchronizer.setSpectatorHub(spectatorHub);
+        } catch (java.io.IOException e) {
+            System.err.println("[P2P] 관전 허브를 시작하지 못함 (관전 없이 진행): " + e.getMessage());
+            spectatorHub = null;
+        }
+    }
+    
+    /**
+     * 내 보드 전체 상태를 상대방에게 전송 (세션 재개 후 재동기화용)
+     */
+    private void sendBoardSnapshot() {
+        publishSnapshot(true);
+    }
+    
+    /**
+     * 보드 스냅샷 전송 (키프레임 또는 마지막 키프레임과의 delta)
+     * @param forceKeyframe true면 전체 보드를 보냄
+     */
+    private void publishSnapshot(boolean forceKeyframe) {
+        if (myGameController == null || isGameOver) return;
+        if (snapshotPublisher == null) {
+            snapshotPublisher = new BoardSnapshotPublisher(myGameController, myPlayerId);
+        }
+        if (!forceKeyframe && networkManager.isResuming()) return;
+        
+        BoardSnapshotEvent snapshot = snapshotPublisher.next(forceKeyframe);
+        if (snapshot == null) return;
+        if (forceKeyframe) {
+            System.out.println("[P2P] 🔄 전체 보드 재동기화 전송");
+        }
+        myGameController.getEventBus().publish(snapshot);
+    }
+    
+    /**
+     * 상대방이 보낸 보드 해시와 내가 재구성한 상대 보드 비교 (EDT에서 호출)
+     * 불일치하면 상대방에게 키프레임 재전송을 요청합니다.
+     */
+    private void verifyRemoteBoard(String source, long expectedHash) {
+        DesyncDetector.Result result = desyncDetector.check(
+            source, expectedHash, remoteGamePanel.getBoardHash(), remoteGamePanel.hasPendingEvents());
+        if (result != DesyncDetector.Result.MISMATCH) return;
+        
+        System.err.println("[P2P] ⚠️ 상대 보드 불일치 감지: " + desyncDetector.getLastMismatch());
+        if (desyncDetector.shouldRequestResync(System.currentTimeMillis())) {
+            GameControlMessage resync = new GameControlMessage(
+                ControlType.RESYNC_REQUEST, null, Integer.valueOf(myPlayerId), source);
+            boolean ok = networkManager.sendMessage(resync);
+            System.out.println("[P2P] 🔄 재동기화 요청 전송: success=" + ok + " " + desyncDetector);
+        }
+    }
+    
+    /**
+     * 주기적 스냅샷 타이머 시작 (놓친 이벤트로 어긋난 상대 화면을 일정 시간 안에 복구)
+     */
+    private void startSnapshotTimer() {
+        if (snapshotTimer != null) snapshotTimer.stop();
+        snapshotTimer = new javax.swing.Timer(SNAPSHOT_INTERVAL_MS, e -> publishSnapshot(false));
+        snapshotTimer.start();
+    }
+
     @Override
     public void dispose() {
         System.out.println("🔄 P2PVersusFrameBoard dispose() 호출됨");
@@ -422,6 +593,28 @@ public class P2PVersusFrameBoard extends JFrame {
     private void cleanupResources() {
         System.out.println("🧹 리소스 정리 시작...");
         
+        // 창을 닫아도 실행 중인 Swing Timer는 TimerQueue가 계속 참조하므로 모두 정지
+        if (snapshotTimer != null) {
+            snapshotTimer.stop();
+        }
+        if (statusTimer != null) {
+            statusTimer.stop();
+        }
+        if (gameTimer != null) {
+            gameTimer.stop();
+        }
+        if (activeRenderLoop != null) {
+            activeRenderLoop.stop();
+        }
+        if (remoteEvents != null) {
+            remoteEvents.close();
+            System.out.println("  ✓ 원격 이벤트 큐 종료 " + remoteEvents);
+        }
+        
+        if (spectatorHub != null) {
+            spectatorHub.stop();
+        }
+        
         // 1. 게임 컨트롤러 중지
         try {
             if (myGameController != null) {
@@ -447,6 +640,7 @@ public class P2PVersusFrameBoard extends JFrame {
                 System.out.println("  - 네트워크 리스너 제거");
                 if (eventSynchronizer != null) {
                     networkManager.removeMessageListener(eventSynchronizer);
+                    eventSynchronizer.shutdown();
                 }
                 if (gameControlListener != null) {
                     networkManager.removeGameControlListener(gameControlListener);
@@ -474,16 +668,11 @@ public class P2PVersusFrameBoard extends JFrame {
         remoteEventBus.subscribe(BlockSpawnedEvent.class, e -> {
             System.out.println("[P2P] 🎯 BlockSpawnedEvent 받음: " + e.getBlockClassName());
             try {
-                Class<?> blockClass = Class.forName(e.getBlockClassName());
-                blocks.Block block = (blocks.Block) blockClass.getDeclaredConstructor().newInstance();
-                // 새로 생성된 블록 인스턴스의 shape가 초기화되지 않았을 수 있으므로 setShape() 호출
-                try {
-                    if (block.getShape() == null) {
-                        block.setShape();
-                        System.out.println("[P2P] block.setShape() 호출로 shape 초기화됨: " + block.getClass().getSimpleName());
-                    }
-                } catch (Throwable t) {
-                    System.err.println("[P2P] 블록 shape 초기화 실패: " + t.getMessage());
+                // 미리 만들어 둔 프로토타입 복사 (리플렉션/설정 파일 읽기 없음, shape 초기화됨)
+                blocks.Block block = blocks.BlockTypeRegistry.create(e.getBlockTypeId());
+                if (block == null) {
+                    System.err.println("[P2P] ❌ 알 수 없는 블록 타입: " + e.getBlockClassName());
+                    return;
                 }
                 
                 System.out.println("[P2P]   블록 생성됨: " + block.getClass().getSimpleName());
@@ -496,8 +685,8 @@ public class P2PVersusFrameBoard extends JFrame {
                 System.out.println("[P2P]   위치 설정: (" + block.getX() + ", " + block.getY() + ")");
                 System.out.println("[P2P]   remoteGamePanel.spawnBlock() 호출 (EDT 안전 처리)...");
 
-                // UI 업데이트는 EDT에서 실행
-                SwingUtilities.invokeLater(() -> {
+                // UI 업데이트는 EDT에서 프레임 단위로 실행
+                remoteEvents.post(() -> {
                     if (block.getShape() == null) {
                         System.err.println("[P2P] ❌ 블록의 shape가 null이라 spawn을 건너뜁니다: " + block.getClass().getName());
                         return;
@@ -511,19 +700,16 @@ public class P2PVersusFrameBoard extends JFrame {
                 });
                 
                 // Next block 처리: 있으면 remote view에 표시
-                String nextClassName = e.getNextBlockClassName();
-                if (nextClassName != null && !nextClassName.isEmpty()) {
+                int nextTypeId = e.getNextBlockTypeId();
+                if (nextTypeId != blocks.BlockTypeRegistry.NONE) {
                     try {
-                        Class<?> nextClass = Class.forName(nextClassName);
-                        blocks.Block nb = (blocks.Block) nextClass.getDeclaredConstructor().newInstance();
-                        try {
-                            if (nb.getShape() == null) nb.setShape();
-                        } catch (Throwable tt) {
-                            System.err.println("[P2P] next block setShape 실패: " + tt.getMessage());
+                        blocks.Block nb = blocks.BlockTypeRegistry.create(nextTypeId);
+                        if (nb == null) {
+                            throw new IllegalArgumentException("알 수 없는 블록 타입: " + e.getNextBlockClassName());
                         }
                         nb.bind(remoteGameView);
                         // EDT에서 실제로 NEXT 패널에 반영
-                        SwingUtilities.invokeLater(() -> {
+                        remoteEvents.post(() -> {
                             try {
                                 remoteGameView.setNextBlock(nb);
                             } catch (Exception ex) {
@@ -548,7 +734,7 @@ public class P2PVersusFrameBoard extends JFrame {
         // 블록 이동
         remoteEventBus.subscribe(BlockMovedEvent.class, e -> {
             System.out.println("[P2P] 📍 BlockMovedEvent: (" + e.getX() + ", " + e.getY() + ")");
-            SwingUtilities.invokeLater(() -> {
+            remoteEvents.postMove(() -> {
                 try {
                     remoteGamePanel.moveBlock(e.getX(), e.getY());
                 } catch (Exception ex) {
@@ -561,9 +747,10 @@ public class P2PVersusFrameBoard extends JFrame {
         // 라인 클리어
         remoteEventBus.subscribe(LineClearedEvent.class, e -> {
             System.out.println("[P2P] 🧹 LineClearedEvent: " + java.util.Arrays.toString(e.getClearedLines()));
-            SwingUtilities.invokeLater(() -> {
+            remoteEvents.post(() -> {
                 try {
                     remoteGamePanel.clearLines(e.getClearedLines());
+                    verifyRemoteBoard("LINE_CLEARED", e.getBoardHash());
                 } catch (Exception ex) {
                     System.err.println("[P2P] clearLines 예외: " + ex.getMessage());
                     ex.printStackTrace();
@@ -574,7 +761,7 @@ public class P2PVersusFrameBoard extends JFrame {
         // 블록 회전
         remoteEventBus.subscribe(BlockRotatedEvent.class, e -> {
             System.out.println("[P2P] 🔄 BlockRotatedEvent");
-            SwingUtilities.invokeLater(() -> {
+            remoteEvents.post(() -> {
                 try {
                     remoteGamePanel.rotateBlock();
                 } catch (Exception ex) {
@@ -587,9 +774,10 @@ public class P2PVersusFrameBoard extends JFrame {
         // 블록 고정
         remoteEventBus.subscribe(BlockPlacedEvent.class, e -> {
             System.out.println("[P2P] 🔻 BlockPlacedEvent");
-            SwingUtilities.invokeLater(() -> {
+            remoteEvents.post(() -> {
                 try {
                     remoteGamePanel.placeBlock();
+                    verifyRemoteBoard("BLOCK_PLACED", e.getBoardHash());
                 } catch (Exception ex) {
                     System.err.println("[P2P] placeBlock 예외: " + ex.getMessage());
                     ex.printStackTrace();
@@ -600,7 +788,7 @@ public class P2PVersusFrameBoard extends JFrame {
         // 점수 업데이트
         remoteEventBus.subscribe(ScoreUpdateEvent.class, e -> {
             remoteScore = e.getNewScore();
-            SwingUtilities.invokeLater(() -> {
+            remoteEvents.post(() -> {
                 // 상단 점수 레이블 업데이트
                 remoteScoreLabel.setText("Score: " + remoteScore);
                 
@@ -612,6 +800,23 @@ public class P2PVersusFrameBoard extends JFrame {
             });
         }, 0);
         
+        // 보드 스냅샷 (주기적 키프레임/delta, 세션 재개 후 재동기화)
+        remoteEventBus.subscribe(BoardSnapshotEvent.class, e -> {
+            remoteScore = e.getScore();
+            remoteEvents.post(() -> {
+                try {
+                    remoteGamePanel.applySnapshot(e);
+                    remoteScoreLabel.setText("Score: " + remoteScore);
+                    if (remoteGameView != null) {
+                        remoteGameView.setScore(remoteScore);
+                    }
+                } catch (Exception ex) {
+                    System.err.println("[P2P] applySnapshot 예외: " + ex.getMessage());
+                    ex.printStackTrace();
+                }
+            });
+        }, 0);
+        
         // 게임 오버
         remoteEventBus.subscribe(GameOverEvent.class, e -> {
             handleGameOver(false, e.getFinalScore());
@@ -620,7 +825,7 @@ public class P2PVersusFrameBoard extends JFrame {
         // 아이템 활성화 수신: 원격 보드에 효과 적용
         remoteEventBus.subscribe(ItemActivatedEvent.class, e -> {
             System.out.println("[P2P] 🧩 ItemActivatedEvent: " + e.getItemType());
-            SwingUtilities.invokeLater(() -> {
+            remoteEvents.post(() -> {
                 try {
                     remoteGamePanel.applyItemEffect(e.getItemType());
                 } catch (Exception ex) {
@@ -634,10 +839,10 @@ public class P2PVersusFrameBoard extends JFrame {
         remoteEventBus.subscribe(game.events.AttackAppliedEvent.class, e -> {
             System.out.println("[P2P] 🛡️ AttackAppliedEvent 수신: lines=" + e.getAttackLines());
             // 내가 보낸 공격이 상대방에게 적용된 것 - remoteGamePanel에 시각적으로만 표시
-            SwingUtilities.invokeLater(() -> {
+            remoteEvents.post(() -> {
                 try {
                     // 상대방 패널에 공격 줄 시각적 표시 (syncFromController를 호출하지 않음)
-                    remoteGamePanel.applyAttackVisual(e.getAttackLines(), e.getBlockPattern(), e.getBlockX());
+                    remoteGamePanel.applyAttackRows(e.getAttackLines(), e.getHolePattern(), e.getBlockX());
                     
                     // 상대방이 공격을 적용했으므로 remoteGameController의 공격 큐 초기화
                     remoteGameController.clearAttackQueue();
@@ -653,26 +858,22 @@ public class P2PVersusFrameBoard extends JFrame {
 
         // 공격 수신: 원격 플레이어의 공격은 내 로컬 보드에 큐에 추가 (대전 모드와 동일)
         remoteEventBus.subscribe(game.events.AttackEvent.class, e -> {
-            int[][] pattern = e.getBlockPattern();
+            game.model.AttackPattern pattern = e.getHolePattern();
             game.util.GameLogger.debug("P2PVersusFrameBoard AttackEvent 수신: lines=" + e.getAttackLines() + 
-                " pattern=" + (pattern!=null?(pattern.length+"x"+(pattern.length>0?pattern[0].length:0)) : "null"));
-            if (pattern != null && pattern.length > 0 && pattern[0].length > 0) {
-                StringBuilder sb = new StringBuilder("  받은 pattern[0]=");
-                for (int j = 0; j < Math.min(pattern[0].length, 10); j++) {
-                    sb.append(pattern[0][j]);
-                }
-                game.util.GameLogger.debug(sb.toString());
+                " pattern=" + (pattern != null ? pattern : "null"));
+            if (pattern != null && pattern.getHeight() > 0) {
+                game.util.GameLogger.debug("  받은 pattern[0]=" + pattern.rowToString(0));
             }
             
             System.out.println("[P2P] ⚔️ AttackEvent 수신: lines=" + e.getAttackLines() + " from=" + e.getPlayerId()
-                + " pattern=" + (e.getBlockPattern()!=null?(e.getBlockPattern().length+"x"+(e.getBlockPattern().length>0?e.getBlockPattern()[0].length:0)) : "<none>"));
+                + " pattern=" + (pattern != null ? pattern : "<none>"));
             SwingUtilities.invokeLater(() -> {
                 try {
                     System.out.println("[DEBUG P2PVersusFrameBoard] invoking queueAttackLines: lines=" + e.getAttackLines()
                         + ", controllerId=" + System.identityHashCode(myGameController)
                         + ", thread=" + Thread.currentThread().getName());
                     // 원격의 공격은 내 로컬 컨트롤러의 큐에 추가 (블럭 착지 시 적용됨)
-                    myGameController.queueAttackLines(e.getAttackLines(), e.getBlockPattern(), e.getBlockX());
+                    myGameController.queueAttack(e.getAttackLines(), pattern, e.getBlockX());
                     // 즉시 뷰 갱신을 보장하기 위해 myGameView를 리페인트
                     try {
                         myGameView.repaint();
@@ -692,7 +893,9 @@ public class P2PVersusFrameBoard extends JFrame {
         // 서버라면 START_GAME 메시지를 클라이언트에 전송하여 함께 시작을 알립니다.
         if (myPlayerId == 1 && !startGameMessageSent) {
             try {
-                GameControlMessage startMsg = new GameControlMessage(ControlType.START_GAME, mode, Integer.valueOf(myPlayerId), null);
+                Long pieceSeed = pieceSequence != null ? Long.valueOf(pieceSequence.getSeed()) : null;
+                GameControlMessage startMsg = new GameControlMessage(ControlType.START_GAME, mode, Integer.valueOf(myPlayerId), null,
+                    pieceSeed, Integer.valueOf(difficulty));
                 boolean ok = networkManager.sendMessage(startMsg);
                 System.out.println("[P2PVersusFrameBoard] START_GAME 전송 시도: success=" + ok);
                 if (ok) startGameMessageSent = true;
@@ -702,6 +905,7 @@ public class P2PVersusFrameBoard extends JFrame {
         }
 
         myGameController.start();
+        startSnapshotTimer();
         
         // 원격 게임 컨트롤러는 시작하지 않음 - 네트워크 이벤트로만 화면 업데이트
         // remoteGameController.start()를 호출하면 독립적으로 블럭이 생성되어 동기화 문제 발생
@@ -843,11 +1047,23 @@ public class P2PVersusFrameBoard extends JFrame {
      * 1초마다 ConnectionMonitor의 상태를 확인하여 UI 업데이트
      */
     private void startNetworkStatusMonitoring() {
-        Timer statusTimer = new Timer(1000, e -> {
+        if (statusTimer != null) statusTimer.stop();
+        statusTimer = new Timer(1000, e -> {
             if (networkManager == null || networkManager.getConnectionMonitor() == null) {
                 return;
             }
             
+            // 세션 재개 중에는 끊김 처리를 보류 (실패 시 DisconnectionHandler가 처리)
+            if (networkManager.isResuming()) {
+                SwingUtilities.invokeLater(() -> {
+                    if (networkStatusLabel != null) {
+                        networkStatusLabel.setText("🟠 재연결 중...");
+                        networkStatusLabel.setForeground(Color.ORANGE);
+                    }
+                });
+                return;
+            }
+            
             network.ConnectionMonitor monitor = networkManager.getConnectionMonitor();
             network.LatencyMonitor latencyMonitor = monitor.getLatencyMonitor();
             network.ConnectionState state = monitor.getCurrentState();
@@ -892,7 +1108,7 @@ public class P2PVersusFrameBoard extends JFrame {
             
             SwingUtilities.invokeLater(() -> {
                 if (networkStatusLabel != null) {
-                    networkStatusLabel.setText(statusText);
+                    networkStatusLabel.setText(statusText + desyncDetector.getStatusSuffix());
                     networkStatusLabel.setForeground(statusColor);
                 }
             });
@@ -1,5 +1,7 @@
 package p2p;
 
+import blocks.PieceSequence;
+import network.ConnectionException;
 import network.NetworkManager;
 import network.messages.GameControlMessage;
 import network.messages.GameControlMessage.ControlType;
@@ -22,6 +24,10 @@ import java.awt.*;
  * - 서버는 언제든지 모드 변경 가능 (MODE_CHANGED 전송)
  * - 클라이언트는 MODE_CHANGED 수신 시 자동 준비 해제
  * - 클라이언트는 언제든지 준비/취소 토글 가능
+ *
+ * 릴레이 서버를 거칠 때(connectViaRelay)는 양쪽 모두 릴레이에 클라이언트로 접속하고,
+ * 대기실을 열면서 ROOM_JOIN(방 코드)을 먼저 보냅니다. 이후 순서는 직접 연결과 같습니다.
+ * (상대가 아직 없으면 릴레이가 서버의 MODE_SELECT를 보관했다가 클라이언트가 들어오면 전달)
  */
 public class P2PWaitingRoom extends JFrame implements NetworkManager.GameControlListener {
     private static final String GAME_VERSION = "1.0.0";
@@ -29,6 +35,7 @@ public class P2PWaitingRoom extends JFrame implements NetworkManager.GameControl
     private final NetworkManager networkManager;
     private final boolean isServer;
     private final int myPlayerId;
+    private final String relayRoomKey;  // 릴레이 방 코드 (직접 연결이면 null)
 
     // UI Components
     private JComboBox<VersusMode> modeSelector;
@@ -49,9 +56,17 @@ public class P2PWaitingRoom extends JFrame implements NetworkManager.GameControl
     private int remainingSeconds = 0;
 
     public P2PWaitingRoom(NetworkManager networkManager, boolean isServer) {
+        this(networkManager, isServer, null);
+    }
+
+    /**
+     * @param relayRoomKey 릴레이 방 코드 (null이면 직접 연결, 빈 문자열이면 빠른 매칭)
+     */
+    public P2PWaitingRoom(NetworkManager networkManager, boolean isServer, String relayRoomKey) {
         this.networkManager = networkManager;
         this.isServer = isServer;
         this.myPlayerId = isServer ? 1 : 2;
+        this.relayRoomKey = relayRoomKey;
 
         setTitle("P2P 대기실");
         setSize(450, 350);
@@ -64,6 +79,11 @@ public class P2PWaitingRoom extends JFrame implements NetworkManager.GameControl
         // 네트워크 제어 메시지 리스너 등록
         networkManager.addGameControlListener(this);
 
+        // 릴레이: 리스너를 등록한 뒤에 방 참가 (짝이 정해지자마자 오는 MODE_SELECT를 놓치지 않도록)
+        if (relayRoomKey != null) {
+            sendRoomJoin();
+        }
+
         // 서버는 연결 즉시 초기 모드 전송
         if (isServer) {
             SwingUtilities.invokeLater(() -> {
@@ -227,12 +247,16 @@ public class P2PWaitingRoom extends JFrame implements NetworkManager.GameControl
         
         statusLabel.setText("START_REQUEST 전송 중...");
         
-        // START_REQUEST 전송
+        // START_REQUEST 전송 (양쪽이 같은 블록 순서를 쓰도록 시드와 호스트 난이도 포함)
+        long pieceSeed = PieceSequence.newSeed();
+        int difficulty = localDifficulty();
         GameControlMessage msg = new GameControlMessage(
             ControlType.START_REQUEST, 
             currentMode, 
             myPlayerId, 
-            null
+            null,
+            pieceSeed,
+            difficulty
         );
         
         boolean ok = networkManager.sendMessage(msg);
@@ -245,7 +269,7 @@ public class P2PWaitingRoom extends JFrame implements NetworkManager.GameControl
         }
         
         // 서버도 즉시 게임 시작
-        startP2PGame(currentMode);
+        startP2PGame(currentMode, pieceSeed, difficulty);
     }
     
     // ==================== 클라이언트 액션 ====================
@@ -349,12 +373,30 @@ public class P2PWaitingRoom extends JFrame implements NetworkManager.GameControl
                     handleStartRequest(message);
                     break;
                     
+                case ROOM_JOIN:
+                    handleRoomJoin(message);
+                    break;
+                    
                 default:
                     System.out.println("[P2PWaitingRoom] Unhandled control type: " + type);
             }
         });
     }
     
+    /**
+     * ROOM_JOIN 수신 처리 (릴레이가 짝을 지으면 상대의 참가 메시지를 전달해 줌)
+     */
+    private void handleRoomJoin(GameControlMessage message) {
+        System.out.println("[P2PWaitingRoom] 릴레이 방에 상대 입장: " + message.getPlayerId());
+        if (isServer) {
+            if (!clientVersionChecked) {
+                statusLabel.setText("클라이언트 입장! 버전 확인 대기 중...");
+            }
+        } else if (!readyButton.isEnabled()) {
+            statusLabel.setText("호스트 입장! 모드 수신 대기 중...");
+        }
+    }
+    
     /**
      * MODE_SELECT 수신 처리 (클라이언트만)
      */
@@ -486,12 +528,34 @@ public class P2PWaitingRoom extends JFrame implements NetworkManager.GameControl
         
         statusLabel.setText("게임 시작 요청 수신!");
         
-        // 클라이언트도 게임 시작
-        startP2PGame(mode);
+        // 클라이언트도 게임 시작 (시드가 없으면 각자 무작위 블록, 난이도는 호스트 설정)
+        Integer difficulty = message.getDifficulty();
+        startP2PGame(mode, message.getPieceSeed(), difficulty != null ? difficulty : 0);
     }
     
     // ==================== 메시지 전송 헬퍼 ====================
     
+    /**
+     * 릴레이: ROOM_JOIN 전송 (playerId로 호스트/게스트 구분)
+     */
+    private void sendRoomJoin() {
+        GameControlMessage msg = new GameControlMessage(
+            ControlType.ROOM_JOIN, 
+            null, 
+            myPlayerId, 
+            relayRoomKey
+        );
+        
+        boolean ok = networkManager.sendMessage(msg);
+        if (ok) {
+            System.out.println("[릴레이] ROOM_JOIN 전송: " + (relayRoomKey.isEmpty() ? "빠른 매칭" : relayRoomKey)
+                + " (" + (isServer ? "호스트" : "게스트") + ")");
+            statusLabel.setText("릴레이 방 입장 (" + (relayRoomKey.isEmpty() ? "빠른 매칭" : relayRoomKey) + "), 상대 대기 중...");
+        } else {
+            System.err.println("[릴레이] ROOM_JOIN 전송 실패");
+        }
+    }
+    
     /**
      * 서버: MODE_SELECT 전송
      */
@@ -582,16 +646,46 @@ public class P2PWaitingRoom extends JFrame implements NetworkManager.GameControl
         }
     }
     
+    // ==================== 릴레이 접속 ====================
+    
+    /**
+     * 릴레이 서버를 거쳐 대기실 입장 (호스트/게스트 공통)
+     * 접속은 호출한 스레드에서 하므로 EDT가 아닌 곳에서 호출하고, 대기실은 EDT에서 엽니다.
+     * 
+     * @param roomKey 방 코드 (양쪽이 같은 코드를 입력, 빈 문자열이면 빠른 매칭)
+     * @param asHost 호스트(모드 선택/게임 시작)로 입장하면 true
+     * @return 릴레이에 연결된 NetworkManager
+     */
+    public static NetworkManager connectViaRelay(String relayHost, int relayPort, String roomKey, boolean asHost)
+            throws ConnectionException {
+        NetworkManager manager = new NetworkManager();
+        manager.connectAsClient(relayHost, relayPort);
+        String key = roomKey == null ? "" : roomKey.trim();
+        SwingUtilities.invokeLater(() -> new P2PWaitingRoom(manager, asHost, key));
+        return manager;
+    }
+    
     // ==================== 게임 시작 ====================
     
-    private void startP2PGame(VersusMode mode) {
-        System.out.println("[P2PWaitingRoom] 게임 시작: mode=" + mode + ", isServer=" + isServer);
+    /**
+     * 설정 파일의 난이도 (0: normal, 1: hard, 2: easy) - 호스트가 START_REQUEST에 실어 보냄 (블록 순서 가중치에만 사용)
+     */
+    private static int localDifficulty() {
+        String difficultyStr = new settings.SettingModel().getDifficulty();
+        if ("hard".equals(difficultyStr)) return 1;
+        if ("easy".equals(difficultyStr)) return 2;
+        return 0;
+    }
+    
+    private void startP2PGame(VersusMode mode, Long pieceSeed, int difficulty) {
+        System.out.println("[P2PWaitingRoom] 게임 시작: mode=" + mode + ", isServer=" + isServer + ", pieceSeed=" + pieceSeed
+            + ", difficulty=" + difficulty);
         
         // 대기실 종료 후 P2PVersusFrameBoard로 이동
         networkManager.removeGameControlListener(this);
         dispose();
         
-        P2PVersusFrameBoard board = new P2PVersusFrameBoard(networkManager, mode, 0);
+        P2PVersusFrameBoard board = new P2PVersusFrameBoard(networkManager, mode, difficulty, pieceSeed, isServer);
         
         // 서버/클라이언트 모두 requestStart 호출
         board.requestStart();
@@ -0,0 +1,206 @@
+package p2p;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * 상대방 화면(RemoteGamePanel)에 적용할 원격 이벤트 수신 큐
+ *
+ * 수신 스레드는 이벤트마다 invokeLater를 부르는 대신 post()/postMove()로 큐에 넣기만 하고,
+ * EDT에서 프레임(FRAME_MILLIS)마다 한 번 drain()이 쌓인 이벤트를 순서대로 모두 적용합니다.
+ * - 연속된 이동(postMove)은 마지막 위치만 적용합니다 (중간 위치는 어차피 화면에 남지 않음).
+ * - 적용하는 동안 RemoteGamePanel을 배치 모드로 두어 보드/블록을 마지막에 한 번만 그립니다.
+ * - 한 번에 LOAD_THRESHOLD개 이상 쌓이면 상대 화면 갱신 주기를 THROTTLED_FRAME_MILLIS로 늦추고,
+ *   RECOVER_THRESHOLD개 이하로 줄면 원래 주기로 돌아갑니다.
+ * 이벤트 자체는 하나도 버리지 않으므로 보드 해시 검증 결과는 이벤트별 invokeLater와 같습니다.
+ */
+public class RemoteEventQueue {
+
+    public static final int FRAME_MILLIS = 16;            // 기본 갱신 주기 (약 60fps)
+    public static final int THROTTLED_FRAME_MILLIS = 50;  // 부하가 클 때 갱신 주기 (20fps)
+    public static final int LOAD_THRESHOLD = 32;          // 한 번에 이만큼 쌓이면 갱신 주기를 늦춤
+    public static final int RECOVER_THRESHOLD = 8;        // 이만큼 이하로 줄면 원래 주기로
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private static final class Entry {
+        final Runnable action;
+        final boolean move;  // 위치만 바꾸는 이벤트 (연속되면 마지막만 적용)
+
+        Entry(Runnable action, boolean move) {
+            this.action = action;
+            this.move = move;
+        }
+    }
+
+    private final RemoteGamePanel panel;
+    private final ConcurrentLinkedQueue<Entry> inbound = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private final List<Entry> batch = new ArrayList<>();  // EDT 전용, 재사용
+
+    private Timer drainTimer;        // EDT 전용
+    private long lastDrainNanos;     // EDT 전용
+    private volatile boolean throttled = false;
+    private volatile boolean closed = false;
+
+    // 통계 (EDT에서만 갱신)
+    private long drains;
+    private long applied;
+    private long collapsed;
+
+    /**
+     * @param panel 배치로 그릴 상대방 패널 (null이면 배치 없이 적용만)
+     */
+    public RemoteEventQueue(RemoteGamePanel panel) {
+        this.panel = panel;
+    }
+
+    /**
+     * 이벤트 추가 (아무 스레드에서나 호출 가능, EDT에서 순서대로 실행됨)
+     */
+    public void post(Runnable action) {
+        enqueue(new Entry(action, false));
+    }
+
+    /**
+     * 블록 이동 이벤트 추가 (바로 뒤에 또 이동이 있으면 건너뜀)
+     */
+    public void postMove(Runnable action) {
+        enqueue(new Entry(action, true));
+    }
+
+    private void enqueue(Entry entry) {
+        if (closed) return;
+        inbound.add(entry);
+        if (drainScheduled.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::scheduleDrain);
+        }
+    }
+
+    /**
+     * 마지막 drain 후 한 프레임이 지났으면 바로, 아니면 남은 시간 뒤에 drain (EDT)
+     */
+    private void scheduleDrain() {
+        if (closed) return;
+        long elapsedMillis = (System.nanoTime() - lastDrainNanos) / NANOS_PER_MILLI;
+        int delay = (int) Math.max(0, getFrameMillis() - elapsedMillis);
+        if (delay == 0) {
+            drain();
+            return;
+        }
+        if (drainTimer == null) {
+            drainTimer = new Timer(delay, e -> drain());
+            drainTimer.setRepeats(false);
+        }
+        drainTimer.setInitialDelay(delay);
+        drainTimer.restart();
+    }
+
+    /**
+     * 쌓인 이벤트를 모두 적용하고 상대 화면을 한 번 그림 (EDT)
+     */
+    public void drain() {
+        drainScheduled.set(false);  // 이후에 들어온 이벤트는 다음 drain을 예약
+        lastDrainNanos = System.nanoTime();
+        Entry entry;
+        while ((entry = inbound.poll()) != null) {
+            batch.add(entry);
+        }
+        if (batch.isEmpty() || closed) {
+            batch.clear();
+            return;
+        }
+
+        drains++;
+        if (panel != null) panel.beginBatch();
+        try {
+            int size = batch.size();
+            for (int i = 0; i < size; i++) {
+                Entry current = batch.get(i);
+                if (current.move && i + 1 < size && batch.get(i + 1).move) {
+                    collapsed++;  // 다음 이동이 이 위치를 덮어씀
+                    continue;
+                }
+                try {
+                    current.action.run();
+                    applied++;
+                } catch (Throwable t) {
+                    System.err.println("[P2P] 원격 이벤트 적용 예외: " + t.getMessage());
+                    t.printStackTrace();
+                }
+            }
+        } finally {
+            if (panel != null) panel.endBatch();
+            updateThrottle(batch.size());
+            batch.clear();
+        }
+    }
+
+    private void updateThrottle(int batchSize) {
+        if (!throttled && batchSize >= LOAD_THRESHOLD) {
+            throttled = true;
+            System.out.println("[P2P] 🐢 원격 이벤트 폭주 (" + batchSize + "개) - 상대 화면 갱신을 "
+                + THROTTLED_FRAME_MILLIS + "ms 주기로 늦춤");
+        } else if (throttled && batchSize <= RECOVER_THRESHOLD) {
+            throttled = false;
+            System.out.println("[P2P] ✅ 원격 이벤트 안정 - 상대 화면 갱신 주기 복구 (" + FRAME_MILLIS + "ms)");
+        }
+    }
+
+    /**
+     * 큐 닫기 (남은 이벤트 버림, 창을 닫을 때 호출)
+     */
+    public void close() {
+        closed = true;
+        inbound.clear();
+        if (SwingUtilities.isEventDispatchThread()) {
+            if (drainTimer != null) drainTimer.stop();
+        } else {
+            SwingUtilities.invokeLater(() -> {
+                if (drainTimer != null) drainTimer.stop();
+            });
+        }
+    }
+
+    /**
+     * 현재 상대 화면 갱신 주기 (ms)
+     */
+    public int getFrameMillis() {
+        return throttled ? THROTTLED_FRAME_MILLIS : FRAME_MILLIS;
+    }
+
+    public boolean isThrottled() {
+        return throttled;
+    }
+
+    /** 아직 적용하지 않은 이벤트 수 */
+    public int getPendingCount() {
+        return inbound.size();
+    }
+
+    /** 이벤트를 적용한 drain 횟수 */
+    public long getDrainCount() {
+        return drains;
+    }
+
+    /** 적용한 이벤트 수 */
+    public long getAppliedCount() {
+        return applied;
+    }
+
+    /** 다음 이동에 덮여 건너뛴 이동 수 */
+    public long getCollapsedCount() {
+        return collapsed;
+    }
+
+    @Override
+    public String toString() {
+        return "RemoteEventQueue{drains=" + drains + ", applied=" + applied + ", collapsed=" + collapsed
+            + ", throttled=" + throttled + "}";
+    }
+}
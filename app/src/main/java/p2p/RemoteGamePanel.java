@@ -3,11 +3,13 @@ package p2p;
 import blocks.Block;
 import game.GameView;
 import game.core.GameController;
+import game.model.AttackPattern;
 import game.panels.GameBoardPanel;
 
 /**
  * 원격 게임 화면 관리 (단순화 버전)
  * - 받은 블록 데이터를 GameBoardPanel에 직접 전달
+ * - RemoteEventQueue가 beginBatch()/endBatch() 사이에 이벤트를 모아 적용하면 마지막 상태만 한 번 그림
  */
 public class RemoteGamePanel {
     
@@ -17,8 +19,18 @@ public class RemoteGamePanel {
     // Remote fixed board state (matches GameState board dimensions used in GameController)
     private int[][] remoteBoard;
     private int[][] remoteColorBoard;
+    // 마지막으로 받은 키프레임 (delta 적용 기준)
+    private int[] keyframePacked;
+    private int keyframeVersion = -1;
+    // 재구성한 보드의 해시 (BoardHash, 상대방이 보낸 해시와 비교)
+    private long boardHash;
     // Queue for pending remote events that arrived before a spawn
     private final java.util.Queue<PendingEvent> pendingEvents = new java.util.ArrayDeque<>();
+    // 배치 모드 (RemoteEventQueue가 쌓인 이벤트를 적용하는 동안, EDT 전용)
+    private boolean batching = false;
+    private boolean boardDirty = false;  // 배치가 끝나면 고정 보드를 다시 그림
+    private boolean pieceDirty = false;  // 배치가 끝나면 떨어지는 블록을 다시 그림
+    private Block batchPiece;            // 배치가 끝나면 표시할 블록
 
     private static class PendingEvent {
         enum Type { MOVE, ROTATE, PLACE }
@@ -39,6 +51,95 @@ public class RemoteGamePanel {
             this.remoteBoard = new int[23][12];
             this.remoteColorBoard = new int[23][12];
         }
+        this.boardHash = game.core.BoardHash.of(remoteBoard);
+    }
+
+    /**
+     * 재구성한 보드의 해시
+     */
+    public long getBoardHash() {
+        return boardHash;
+    }
+
+    /**
+     * 스폰 전에 도착해 아직 적용하지 못한 이벤트가 있는지 (있으면 해시 비교가 의미 없음)
+     */
+    public boolean hasPendingEvents() {
+        synchronized (pendingEvents) {
+            return !pendingEvents.isEmpty();
+        }
+    }
+
+    private void rehash() {
+        this.boardHash = game.core.BoardHash.of(remoteBoard);
+    }
+
+    /**
+     * 배치 시작 (EDT) - endBatch()까지 보드/블록 그리기를 미루고 마지막 상태만 한 번 그림
+     */
+    public void beginBatch() {
+        batching = true;
+    }
+
+    /**
+     * 배치 끝 (EDT) - 미뤄 둔 보드/블록을 한 번씩 그림
+     */
+    public void endBatch() {
+        batching = false;
+        if (boardDirty) {
+            boardDirty = false;
+            renderBoard();
+        }
+        if (pieceDirty) {
+            pieceDirty = false;
+            Block block = batchPiece;
+            batchPiece = null;
+            showRemoteBlock(block);
+        }
+    }
+
+    private game.core.GameState boardState() {
+        return new game.core.GameState.Builder(this.remoteBoard, this.remoteColorBoard, null, null, false).build();
+    }
+
+    /**
+     * 재구성한 고정 보드 그리기 (보드만 그리므로 떨어지는 블록 표시는 지워짐)
+     * EDT가 아니면 EDT로 넘기고, 배치 중이면 endBatch()까지 미룸
+     */
+    private void renderBoard() {
+        if (javax.swing.SwingUtilities.isEventDispatchThread()) {
+            if (batching) {
+                boardDirty = true;
+                pieceDirty = false;  // 보드를 그리면 앞서 표시한 블록은 지워짐
+                batchPiece = null;
+                return;
+            }
+            if (boardPanel != null) boardPanel.render(boardState());
+        } else {
+            final game.core.GameState state = boardState();
+            javax.swing.SwingUtilities.invokeLater(() -> {
+                if (boardPanel != null) boardPanel.render(state);
+            });
+        }
+    }
+
+    /**
+     * 떨어지는 블록 표시 (null이면 지움)
+     * EDT가 아니면 EDT로 넘기고, 배치 중이면 마지막 블록만 endBatch()에서 표시
+     */
+    private void showRemoteBlock(Block block) {
+        if (javax.swing.SwingUtilities.isEventDispatchThread()) {
+            if (batching) {
+                pieceDirty = true;
+                batchPiece = block;
+                return;
+            }
+            if (boardPanel != null) boardPanel.setRemoteBlock(block);
+        } else {
+            javax.swing.SwingUtilities.invokeLater(() -> {
+                if (boardPanel != null) boardPanel.setRemoteBlock(block);
+            });
+        }
     }
 
     /**
@@ -51,34 +152,99 @@ public class RemoteGamePanel {
             game.core.GameState gs = controller.getCurrentState();
             if (gs == null) return;
 
+            // getBoardArray()/getColorBoard()가 이미 복사본을 돌려주므로 그대로 사용 (이중 복사 방지)
             int[][] board = gs.getBoardArray();
             int[][] color = gs.getColorBoard();
+            if (board.length >= 23 && board[0].length >= 12 && color != null && color.length == board.length) {
+                this.remoteBoard = board;
+                this.remoteColorBoard = color;
+            } else {
+                int ROWS = Math.max(23, board.length);
+                int COLS = Math.max(12, board[0].length);
+                this.remoteBoard = new int[ROWS][COLS];
+                this.remoteColorBoard = new int[ROWS][COLS];
+                for (int r = 0; r < board.length && r < ROWS; r++) {
+                    for (int c = 0; c < board[r].length && c < COLS; c++) {
+                        this.remoteBoard[r][c] = board[r][c];
+                        this.remoteColorBoard[r][c] = color != null && r < color.length && c < color[r].length ? color[r][c] : 0;
+                    }
+                }
+            }
+            rehash();
+            renderBoard();
+        } catch (Throwable t) {
+            System.err.println("[REMOTE] syncFromController 실패: " + t.getMessage());
+        }
+    }
+    
+    /**
+     * 키프레임/delta 스냅샷 적용
+     * - 키프레임: 기준 보드로 저장하고 화면과 다른 칸만 갱신
+     * - delta: 기준 키프레임 버전이 맞을 때만 (키프레임 XOR delta)를 적용, 아니면 다음 키프레임까지 무시
+     * @return 보드가 실제로 바뀌었으면 true
+     */
+    public boolean applySnapshot(game.events.BoardSnapshotEvent snapshot) {
+        if (snapshot == null) return false;
+        int rows = snapshot.getRows();
+        int cols = snapshot.getCols();
+        if (rows <= 0 || cols <= 0) return false;
 
-            // deep-copy into our internal arrays to avoid aliasing
-            int ROWS = Math.max(23, board.length);
-            int COLS = Math.max(12, board[0].length);
-            this.remoteBoard = new int[ROWS][COLS];
-            this.remoteColorBoard = new int[ROWS][COLS];
-            for (int r = 0; r < board.length && r < ROWS; r++) {
-                for (int c = 0; c < board[r].length && c < COLS; c++) {
-                    this.remoteBoard[r][c] = board[r][c];
-                    this.remoteColorBoard[r][c] = color != null && r < color.length && c < color[r].length ? color[r][c] : 0;
+        int[] target;
+        if (snapshot.isKeyframe()) {
+            target = snapshot.getPacked();
+            keyframePacked = target;
+            keyframeVersion = snapshot.getVersion();
+        } else {
+            if (keyframePacked == null || keyframeVersion != snapshot.getBaseVersion()
+                    || snapshot.getDeltaWords() == null
+                    || snapshot.getDeltaWords().length != keyframePacked.length) {
+                System.out.println("[REMOTE] delta 무시 (기준 키프레임 없음: base=" + snapshot.getBaseVersion()
+                    + ", 보유=" + keyframeVersion + ")");
+                return false;
+            }
+            target = game.core.BoardDeltaCodec.xor(keyframePacked, snapshot.getDeltaWords());
+        }
+
+        try {
+            if (remoteBoard.length < rows || remoteBoard[0].length < cols) {
+                int[][] newBoard = new int[Math.max(rows, remoteBoard.length)][Math.max(cols, remoteBoard[0].length)];
+                int[][] newColor = new int[newBoard.length][newBoard[0].length];
+                for (int r = 0; r < remoteBoard.length; r++) {
+                    System.arraycopy(remoteBoard[r], 0, newBoard[r], 0, remoteBoard[r].length);
+                    System.arraycopy(remoteColorBoard[r], 0, newColor[r], 0, remoteColorBoard[r].length);
                 }
+                remoteBoard = newBoard;
+                remoteColorBoard = newColor;
             }
 
-            final game.core.GameState state = new game.core.GameState.Builder(this.remoteBoard, this.remoteColorBoard, null, null, false).build();
-            if (javax.swing.SwingUtilities.isEventDispatchThread()) {
-                if (boardPanel != null) boardPanel.render(state);
-            } else {
-                javax.swing.SwingUtilities.invokeLater(() -> {
-                    if (boardPanel != null) boardPanel.render(state);
-                });
+            // 다른 칸만 갱신 (벽은 재구성 보드에 두지 않음 - clearLines가 전체 행을 내리기 때문)
+            int cells = rows * cols;
+            int changed = 0;
+            for (int r = 2; r <= rows - 2; r++) {
+                for (int c = 1; c <= cols - 2; c++) {
+                    int i = r * cols + c;
+                    if (remoteBoard[r][c] != target[i] || remoteColorBoard[r][c] != target[cells + i]) {
+                        if ((remoteBoard[r][c] != 0) != (target[i] != 0)) {
+                            boardHash = game.core.BoardHash.toggle(boardHash, r, c);
+                        }
+                        remoteBoard[r][c] = target[i];
+                        remoteColorBoard[r][c] = target[cells + i];
+                        changed++;
+                    }
+                }
             }
+            if (changed == 0) return false;
+
+            System.out.println("[REMOTE] 🔄 스냅샷 적용 (" + (snapshot.isKeyframe() ? "키프레임" : "delta")
+                + " v" + snapshot.getVersion() + ", " + changed + "칸 보정)");
+            renderBoard();
+            return true;
         } catch (Throwable t) {
-            System.err.println("[REMOTE] syncFromController 실패: " + t.getMessage());
+            System.err.println("[REMOTE] applySnapshot 실패: " + t.getMessage());
+            return false;
         }
     }
-    
+
     public void setRemoteComponents(GameView view, GameController controller) {
         // GameView에서 GameBoardPanel 가져오기 (재귀 탐색)
         this.boardPanel = findGameBoardPanel(view);
@@ -148,14 +314,9 @@ public class RemoteGamePanel {
         this.currentBlock = block;
         if (boardPanel != null) {
             // Ensure UI update happens on EDT
-            if (javax.swing.SwingUtilities.isEventDispatchThread()) {
-                boardPanel.setRemoteBlock(block);
-                // Drain any events that were queued while waiting for the spawn
-                drainPendingEvents();
-            } else {
-                javax.swing.SwingUtilities.invokeLater(() -> boardPanel.setRemoteBlock(block));
-                javax.swing.SwingUtilities.invokeLater(() -> drainPendingEvents());
-            }
+            showRemoteBlock(block);
+            // Drain any events that were queued while waiting for the spawn
+            drainPendingEvents();
         }
     }
     
@@ -178,13 +339,7 @@ public class RemoteGamePanel {
         }
         
         currentBlock.setPosition(x, y);
-        if (boardPanel != null) {
-            if (javax.swing.SwingUtilities.isEventDispatchThread()) {
-                boardPanel.setRemoteBlock(currentBlock);
-            } else {
-                javax.swing.SwingUtilities.invokeLater(() -> boardPanel.setRemoteBlock(currentBlock));
-            }
-        }
+        showRemoteBlock(currentBlock);
         System.out.println("[REMOTE] 📍 moved to (" + x + ", " + y + ")");
     }
     
@@ -202,13 +357,7 @@ public class RemoteGamePanel {
         }
         
         currentBlock.getRotatedShape();
-        if (boardPanel != null) {
-            if (javax.swing.SwingUtilities.isEventDispatchThread()) {
-                boardPanel.setRemoteBlock(currentBlock);
-            } else {
-                javax.swing.SwingUtilities.invokeLater(() -> boardPanel.setRemoteBlock(currentBlock));
-            }
-        }
+        showRemoteBlock(currentBlock);
         System.out.println("[REMOTE] 🔄 rotated");
     }
     
@@ -244,6 +393,9 @@ public class RemoteGamePanel {
                             int boardCol = currentBlock.getX() + c;
                             if (boardRow >= 0 && boardRow < remoteBoard.length && boardCol >= 0 && boardCol < remoteBoard[0].length) {
                                 // mark occupied cell using the original shape value so types match
+                                if (remoteBoard[boardRow][boardCol] == 0 && game.core.BoardHash.isInner(remoteBoard, boardRow, boardCol)) {
+                                    boardHash = game.core.BoardHash.toggle(boardHash, boardRow, boardCol);
+                                }
                                 remoteBoard[boardRow][boardCol] = shape[r][c];
                                 try {
                                     java.awt.Color col = currentBlock.getColor();
@@ -261,28 +413,10 @@ public class RemoteGamePanel {
                 }
             }
 
-            // Build a lightweight GameState to render the fixed board
-            final game.core.GameState gs = new game.core.GameState.Builder(
-                this.remoteBoard,
-                this.remoteColorBoard,
-                null,
-                null,
-                false
-            ).build();
-
-            // Clear transient falling block and update UI on EDT
+            // Clear transient falling block and render the fixed board on EDT
             this.currentBlock = null;
-            if (boardPanel != null) {
-                if (javax.swing.SwingUtilities.isEventDispatchThread()) {
-                    boardPanel.render(gs);
-                    boardPanel.setRemoteBlock(null);
-                } else {
-                    javax.swing.SwingUtilities.invokeLater(() -> {
-                        boardPanel.render(gs);
-                        boardPanel.setRemoteBlock(null);
-                    });
-                }
-            }
+            renderBoard();
+            showRemoteBlock(null);
         } catch (Throwable t) {
             System.err.println("[REMOTE] placeBlock 처리 중 예외: " + t.getMessage());
             t.printStackTrace();
@@ -303,14 +437,14 @@ public class RemoteGamePanel {
                         case MOVE:
                             if (currentBlock != null) {
                                 currentBlock.setPosition(ev.x, ev.y);
-                                if (boardPanel != null) boardPanel.setRemoteBlock(currentBlock);
+                                showRemoteBlock(currentBlock);
                                 System.out.println("[REMOTE] ▶ applied queued MOVE to (" + ev.x + "," + ev.y + ")");
                             }
                             break;
                         case ROTATE:
                             if (currentBlock != null) {
                                 currentBlock.getRotatedShape();
-                                if (boardPanel != null) boardPanel.setRemoteBlock(currentBlock);
+                                showRemoteBlock(currentBlock);
                                 System.out.println("[REMOTE] ▶ applied queued ROTATE");
                             }
                             break;
@@ -344,7 +478,7 @@ public class RemoteGamePanel {
             emergency.bind(boundView);
             emergency.setPosition(x, y);
             this.currentBlock = emergency;
-            if (boardPanel != null) boardPanel.setRemoteBlock(emergency);
+            showRemoteBlock(emergency);
             System.out.println("[REMOTE] 🚨 Emergency block spawned: " + emergency.getClass().getSimpleName() + " at (" + x + "," + y + ")");
             // Now drain queued events so the block moves to the correct position
             drainPendingEvents();
@@ -373,7 +507,7 @@ public class RemoteGamePanel {
             placeholder.bind(boundView);
             placeholder.setPosition(x, y);
             this.currentBlock = placeholder;
-            if (boardPanel != null) boardPanel.setRemoteBlock(placeholder);
+            showRemoteBlock(placeholder);
             System.out.println("[REMOTE] ✅ placeholder block created at (" + x + "," + y + ")");
         } catch (Throwable t) {
             System.err.println("[REMOTE] placeholder 생성 실패: " + t.getMessage());
@@ -422,16 +556,13 @@ public class RemoteGamePanel {
                 }
             }
 
-            // replace boards
+            // replace boards (지워진 줄과 그 위로 내려온 줄만 해시 다시 계산)
+            int lowest = clearedLines[clearedLines.length - 1];
+            long shifted = game.core.BoardHash.rows(remoteBoard, 0, lowest) ^ game.core.BoardHash.rows(newBoard, 0, lowest);
             this.remoteBoard = newBoard;
             this.remoteColorBoard = newColor;
-
-            final game.core.GameState gs = new game.core.GameState.Builder(this.remoteBoard, this.remoteColorBoard, null, null, false).build();
-            if (javax.swing.SwingUtilities.isEventDispatchThread()) {
-                boardPanel.render(gs);
-            } else {
-                javax.swing.SwingUtilities.invokeLater(() -> boardPanel.render(gs));
-            }
+            this.boardHash ^= shifted;
+            renderBoard();
         } catch (Throwable t) {
             System.err.println("[REMOTE] clearLines 실패: " + t.getMessage());
             t.printStackTrace();
@@ -444,6 +575,14 @@ public class RemoteGamePanel {
      * GameController.addAttackLines but only affects the visual remote board.
      */
     public void applyAttackVisual(int lines, int[][] blockPattern, int blockX) {
+        applyAttackRows(lines, AttackPattern.fromMatrix(blockPattern), blockX);
+    }
+
+    /**
+     * 공격줄 시각 적용 (비트마스크 패턴)
+     * 패턴은 보드 안쪽 전체 너비 기준이므로 INNER_LEFT부터 적용합니다.
+     */
+    public void applyAttackRows(int lines, AttackPattern holes, int blockX) {
         if (lines <= 0) return;
         try {
             int ROWS = remoteBoard.length;
@@ -461,47 +600,17 @@ public class RemoteGamePanel {
                 }
             }
 
-            // fill bottom with attack color
-            for (int r = INNER_BOTTOM - lines + 1; r <= INNER_BOTTOM; r++) {
-                for (int c = INNER_LEFT; c <= INNER_RIGHT; c++) {
-                    remoteBoard[r][c] = 1;
-                    remoteColorBoard[r][c] = 8;
-                }
-            }
-
-            // carve holes based on blockPattern
+            // fill bottom with attack color and carve holes from the row masks
             // If there are more attack lines than pattern rows, repeat the pattern
-            if (blockPattern != null && blockPattern.length > 0) {
-                int patternH = blockPattern.length;
-                int patternW = blockPattern[0].length;
-                System.out.println("[REMOTE] applyAttackVisual: lines=" + lines + ", patternH=" + patternH + ", patternW=" + patternW);
-                for (int rOff = 0; rOff < lines; rOff++) {
-                    int boardRow = INNER_BOTTOM - rOff;
-                    int patternRow = rOff % patternH;
-                    System.out.print("[REMOTE]   rOff=" + rOff + ", boardRow=" + boardRow + ", patternRow=" + patternRow + ", pattern=[");
-                    for (int j = 0; j < patternW; j++) {
-                        System.out.print(blockPattern[patternRow][j]);
-                    }
-                    System.out.println("]");
-                    // 패턴은 전체 보드 너비이므로 INNER_LEFT부터 시작
-                    for (int j = 0; j < patternW && j < (INNER_RIGHT - INNER_LEFT + 1); j++) {
-                        int boardCol = INNER_LEFT + j;
-                        if (patternRow >= 0 && patternRow < blockPattern.length 
-                                && j < blockPattern[patternRow].length 
-                                && blockPattern[patternRow][j] == 1) {
-                            remoteBoard[boardRow][boardCol] = 0;
-                            remoteColorBoard[boardRow][boardCol] = 0;
-                        }
-                    }
-                }
+            System.out.println("[REMOTE] applyAttackVisual: lines=" + lines + ", pattern=" + (holes != null ? holes : "<none>"));
+            for (int rOff = 0; rOff < lines && INNER_BOTTOM - rOff >= INNER_TOP; rOff++) {
+                int boardRow = INNER_BOTTOM - rOff;
+                AttackPattern.fillGarbageRow(holes, rOff, remoteBoard[boardRow], remoteColorBoard[boardRow],
+                    INNER_LEFT, INNER_LEFT, INNER_RIGHT);
             }
 
-            final game.core.GameState st = new game.core.GameState.Builder(this.remoteBoard, this.remoteColorBoard, null, null, false).build();
-            if (javax.swing.SwingUtilities.isEventDispatchThread()) {
-                if (boardPanel != null) boardPanel.render(st);
-            } else {
-                javax.swing.SwingUtilities.invokeLater(() -> { if (boardPanel != null) boardPanel.render(st); });
-            }
+            rehash();
+            renderBoard();
         } catch (Throwable t) {
             System.err.println("[REMOTE] applyAttackVisual 실패: " + t.getMessage());
             t.printStackTrace();
@@ -625,13 +734,10 @@ public class RemoteGamePanel {
                     break;
             }
 
+            rehash();
+
             // Render new board state
-            final game.core.GameState state = new game.core.GameState.Builder(this.remoteBoard, this.remoteColorBoard, null, null, false).build();
-            if (javax.swing.SwingUtilities.isEventDispatchThread()) {
-                boardPanel.render(state);
-            } else {
-                javax.swing.SwingUtilities.invokeLater(() -> boardPanel.render(state));
-            }
+            renderBoard();
 
         } catch (Throwable t) {
             System.err.println("[REMOTE] applyItemEffect 실패: " + t.getMessage());
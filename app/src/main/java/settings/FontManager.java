@@ -1,36 +1,216 @@
 package settings;
 
+import java.awt.Color;
 import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 한글 폰트 관리 유틸리티 클래스
  * 게임 전체에서 한글이 깨지지 않도록 일관된 폰트를 제공
+ *
+ * 같은 (이름, 스타일, 크기)의 폰트와 그 FontMetrics, 글자 이미지를 캐시해 두어
+ * 화면을 그릴 때마다 Font를 새로 만들거나 글자를 다시 래스터화하지 않습니다.
+ * Font와 FontMetrics는 불변이라 어느 스레드에서 받아도 됩니다.
  */
 public class FontManager {
     private static final String KOREAN_FONT_NAME = "맑은 고딕";
     private static final String FALLBACK_FONT_NAME = Font.SANS_SERIF;
-    
+
+    private static final int MAX_GLYPHS = 512;  // 넘으면 글자 이미지 캐시를 비움
+
+    private static final Map<FontKey, Font> FONTS = new ConcurrentHashMap<>();
+    private static final Map<Font, FontMetrics> METRICS = new ConcurrentHashMap<>();
+    private static final Map<GlyphKey, BufferedImage> GLYPHS = new ConcurrentHashMap<>();
+
+    // FontMetrics 계산용 (기본 렌더링 설정: 안티앨리어싱/분수 좌표 없음 = 패널의 기본 Graphics와 같음)
+    private static final Graphics2D METRICS_GRAPHICS = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+
+    // 맑은 고딕 설치 여부 확인 결과 (처음 한 번만 확인)
+    private static volatile String resolvedKoreanName;
+
     /**
      * 한글 지원 폰트 생성
+     * 호출할 때마다 새 Font를 만듭니다. 매 프레임 그리는 곳에서는 getCachedKoreanFont를 쓰세요.
      * @param style 폰트 스타일 (Font.PLAIN, Font.BOLD 등)
      * @param size 폰트 크기
      * @return 한글을 지원하는 Font 객체
      */
     public static Font getKoreanFont(int style, int size) {
-        Font font = new Font(KOREAN_FONT_NAME, style, size);
-        
-        // 맑은 고딕이 시스템에 없으면 기본 산세리프 폰트 사용
-        if (!font.getFamily().equals(KOREAN_FONT_NAME)) {
-            font = new Font(FALLBACK_FONT_NAME, style, size);
+        return new Font(resolveKoreanName(), style, size);
+    }
+
+    /**
+     * 한글 지원 폰트 (같은 스타일/크기면 캐시된 객체 반환)
+     */
+    public static Font getCachedKoreanFont(int style, int size) {
+        return FONTS.computeIfAbsent(new FontKey(FontKey.KOREAN, KOREAN_FONT_NAME, style, size, null),
+            key -> getKoreanFont(style, size));
+    }
+
+    private static String resolveKoreanName() {
+        String name = resolvedKoreanName;
+        if (name == null) {
+            // 맑은 고딕이 시스템에 없으면 기본 산세리프 폰트 사용
+            Font probe = new Font(KOREAN_FONT_NAME, Font.PLAIN, 12);
+            name = probe.getFamily().equals(KOREAN_FONT_NAME) ? KOREAN_FONT_NAME : FALLBACK_FONT_NAME;
+            resolvedKoreanName = name;
         }
-        
-        return font;
+        return name;
     }
-    
+
     /**
      * 기본 한글 폰트 (PLAIN, 12pt)
      */
     public static Font getDefaultKoreanFont() {
         return getKoreanFont(Font.PLAIN, 12);
     }
+
+    /**
+     * 이름으로 폰트 조회 (new Font(name, style, size)와 같음, 캐시된 객체 반환)
+     */
+    public static Font getFont(String name, int style, int size) {
+        return FONTS.computeIfAbsent(new FontKey(FontKey.NAMED, name, style, size, null), key -> new Font(name, style, size));
+    }
+
+    /**
+     * 폰트 크기만 바꾼 폰트 (base.deriveFont(size)와 같음, 캐시된 객체 반환)
+     */
+    public static Font deriveFont(Font base, int size) {
+        if (base.getSize() == size) {
+            return base;
+        }
+        return FONTS.computeIfAbsent(new FontKey(FontKey.DERIVED, base.getName(), base.getStyle(), size, base),
+            key -> base.deriveFont((float) size));
+    }
+
+    /**
+     * 폰트의 FontMetrics (기본 렌더링 설정 기준, 캐시됨)
+     */
+    public static FontMetrics getFontMetrics(Font font) {
+        return METRICS.computeIfAbsent(font, f -> {
+            synchronized (METRICS_GRAPHICS) {
+                return METRICS_GRAPHICS.getFontMetrics(f);
+            }
+        });
+    }
+
+    /**
+     * 글자 하나를 그려 둔 투명 이미지
+     * 이미지 (0,0)은 글자 기준점에서 (-getGlyphPadding, -ascent - getGlyphPadding) 위치입니다.
+     */
+    public static BufferedImage getGlyphImage(char c, Font font, Color color) {
+        if (GLYPHS.size() >= MAX_GLYPHS) {
+            GLYPHS.clear();
+        }
+        return GLYPHS.computeIfAbsent(new GlyphKey(c, font, color.getRGB()), key -> {
+            FontMetrics fm = getFontMetrics(font);
+            int pad = getGlyphPadding(font);
+            int width = Math.max(1, fm.charWidth(c) + pad * 2);
+            int height = Math.max(1, fm.getAscent() + fm.getDescent() + pad * 2);
+            BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = image.createGraphics();
+            try {
+                g.setFont(font);
+                g.setColor(color);
+                g.drawString(String.valueOf(c), pad, pad + fm.getAscent());
+            } finally {
+                g.dispose();
+            }
+            return image;
+        });
+    }
+
+    /**
+     * 글자 이미지 가장자리 여백 (글자 모양이 폭/높이를 살짝 넘는 경우 대비)
+     */
+    public static int getGlyphPadding(Font font) {
+        return Math.max(1, font.getSize() / 4);
+    }
+
+    /**
+     * 캐시된 글자 이미지로 문자열 그리기 (g.drawString(text, x, baseline)과 같은 위치)
+     * 숫자처럼 자주 바뀌는 짧은 문자열용 - 커닝이나 합자가 필요한 글은 drawString을 쓰세요.
+     */
+    public static void drawCachedText(Graphics2D g, String text, int x, int baseline, Font font, Color color) {
+        FontMetrics fm = getFontMetrics(font);
+        int pad = getGlyphPadding(font);
+        int top = baseline - fm.getAscent() - pad;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            g.drawImage(getGlyphImage(c, font, color), x - pad, top, null);
+            x += fm.charWidth(c);
+        }
+    }
+
+    /**
+     * 캐시 비우기 (테스트/설정 변경용)
+     */
+    public static void clearCache() {
+        FONTS.clear();
+        METRICS.clear();
+        GLYPHS.clear();
+        resolvedKoreanName = null;
+    }
+
+    private static final class FontKey {
+        static final int KOREAN = 0;   // getCachedKoreanFont (대체 폰트 적용)
+        static final int NAMED = 1;    // getFont
+        static final int DERIVED = 2;  // deriveFont
+
+        final int kind;
+        final String name;
+        final int style;
+        final int size;
+        final Font base;  // deriveFont용 원본 (그 외에는 null)
+
+        FontKey(int kind, String name, int style, int size, Font base) {
+            this.kind = kind;
+            this.name = name;
+            this.style = style;
+            this.size = size;
+            this.base = base;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof FontKey)) return false;
+            FontKey k = (FontKey) o;
+            return kind == k.kind && style == k.style && size == k.size
+                && name.equals(k.name) && Objects.equals(base, k.base);
+        }
+
+        @Override
+        public int hashCode() {
+            return ((kind * 31 + name.hashCode()) * 31 + style) * 31 + size;
+        }
+    }
+
+    private static final class GlyphKey {
+        final char c;
+        final Font font;
+        final int rgb;
+
+        GlyphKey(char c, Font font, int rgb) {
+            this.c = c;
+            this.font = font;
+            this.rgb = rgb;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof GlyphKey)) return false;
+            GlyphKey k = (GlyphKey) o;
+            return c == k.c && rgb == k.rgb && font.equals(k.font);
+        }
+
+        @Override
+        public int hashCode() {
+            return (font.hashCode() * 31 + c) * 31 + rgb;
+        }
+    }
 }
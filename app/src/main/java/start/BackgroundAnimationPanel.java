@@ -2,24 +2,26 @@ package start;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
 /**
  * 메인 화면 배경에 떨어지는 블록 애니메이션을 표시하는 패널
+ *
+ * 떨어지는 블록은 객체 목록 대신 미리 크기를 잡아 둔 배열(x, y, 속도, 모양, 투명도 단계)로 관리하고,
+ * 화면 아래로 나간 블록은 그 자리에서 새 블록으로 다시 씁니다 (틱마다 할당 없음).
+ * 블록 모양은 (모양 × 투명도 단계)별로 한 장의 아틀라스 이미지에 미리 그려 두어 블록 하나를 drawImage 한 번으로 그립니다.
+ * 패널이 화면에 보이지 않거나 창이 활성 상태가 아니면 타이머를 멈춥니다.
  */
 public class BackgroundAnimationPanel extends JPanel {
-    
+
     private static final int CELL_SIZE = 30; // 블록 한 칸 크기 (더 작게)
-    private List<FallingBlock> fallingBlocks;
-    private Timer animationTimer;
-    private Random random;
-    private int panelWidth;
-    private int panelHeight;
-    private BufferedImage backgroundImage;
-    
+    private static final int BLOCK_COUNT = 25; // 동시에 떨어지는 블록 수 (전체 화면이므로 더 많이!)
+    private static final int ALPHA_LEVELS = 5; // 투명도 단계 (60% ~ 80%)
+
     // 테트리스 블록 모양 정의
     private static final int[][][] SHAPES = {
         // I 블록
@@ -37,7 +39,7 @@ public class BackgroundAnimationPanel extends JPanel {
         // Z 블록
         {{1, 1, 0}, {0, 1, 1}}
     };
-    
+
     // 블록 색상
     private static final Color[] COLORS = {
         new Color(0, 240, 240),   // I - 시안
@@ -48,39 +50,89 @@ public class BackgroundAnimationPanel extends JPanel {
         new Color(0, 240, 0),     // S - 초록
         new Color(240, 0, 0)      // Z - 빨강
     };
-    
+
+    // 아틀라스 칸 크기 (가장 큰 모양 4x3 + 테두리 1px)
+    private static final int SLOT_WIDTH = 4 * CELL_SIZE + 1;
+    private static final int SLOT_HEIGHT = 3 * CELL_SIZE + 1;
+
+    // 모든 패널이 같이 쓰는 블록 이미지 아틀라스 (열: 모양, 행: 투명도 단계)
+    private static BufferedImage atlas;
+
+    // 떨어지는 블록 (struct-of-arrays)
+    private final int[] blockX = new int[BLOCK_COUNT];
+    private final float[] blockY = new float[BLOCK_COUNT];
+    private final float[] blockSpeed = new float[BLOCK_COUNT];
+    private final int[] blockShape = new int[BLOCK_COUNT];
+    private final int[] blockAlpha = new int[BLOCK_COUNT];
+    private int blockCount = 0;
+
+    private Timer animationTimer;
+    private boolean stopped = false;
+    private Window window;
+    private Random random;
+    private int panelWidth;
+    private int panelHeight;
+    private BufferedImage backgroundImage;
+
+    // 창 활성/비활성, 최소화 시 애니메이션 멈춤/재개
+    private final WindowAdapter windowListener = new WindowAdapter() {
+        @Override
+        public void windowActivated(WindowEvent e) {
+            updateAnimationState();
+        }
+
+        @Override
+        public void windowDeactivated(WindowEvent e) {
+            updateAnimationState();
+        }
+
+        @Override
+        public void windowIconified(WindowEvent e) {
+            updateAnimationState();
+        }
+
+        @Override
+        public void windowDeiconified(WindowEvent e) {
+            updateAnimationState();
+        }
+    };
+
     public BackgroundAnimationPanel(int width, int height) {
         this(width, height, true); // 기본적으로 애니메이션 활성화
     }
-    
+
     public BackgroundAnimationPanel(int width, int height, boolean enableAnimation) {
         this.panelWidth = width;
         this.panelHeight = height;
-        this.fallingBlocks = new ArrayList<>();
         this.random = new Random();
-        
+
         setPreferredSize(new Dimension(width, height));
         setOpaque(true); // 배경 이미지를 그리기 위해 불투명으로 설정
-        
+
         // 배경 이미지 로드 (우주 별 이미지)
         loadBackgroundImage();
-        
-        // 애니메이션이 활성화된 경우에만 블록 생성 및 타이머 시작
+
+        // 애니메이션이 활성화된 경우에만 블록 생성 및 타이머 준비
         if (enableAnimation) {
-            // 초기 블록 생성 (전체 화면이므로 더 많이!)
-            for (int i = 0; i < 25; i++) {
-                addRandomBlock();
+            for (int i = 0; i < BLOCK_COUNT; i++) {
+                spawnBlock(i);
             }
-            
-            // 애니메이션 타이머 (60 FPS)
+            blockCount = BLOCK_COUNT;
+
+            // 애니메이션 타이머 (60 FPS) - 화면에 보이고 창이 활성일 때만 동작
             animationTimer = new Timer(16, e -> {
                 updateBlocks();
                 repaint();
             });
-            animationTimer.start();
+            addHierarchyListener(e -> {
+                if ((e.getChangeFlags() & (HierarchyEvent.SHOWING_CHANGED | HierarchyEvent.PARENT_CHANGED)) != 0) {
+                    bindWindow(SwingUtilities.getWindowAncestor(this));
+                    updateAnimationState();
+                }
+            });
         }
     }
-    
+
     /**
      * 배경 이미지 로드
      */
@@ -93,21 +145,21 @@ public class BackgroundAnimationPanel extends JPanel {
             backgroundImage = null;
         }
     }
-    
+
     /**
-     * 우주 배경 생성 (별이 빛나는 검은 배경)
+     * 우주 배경 생성 (별이 빛나는 검은 배경, 불투명이라 알파 없이 빠르게 복사됨)
      */
     private BufferedImage createSpaceBackground(int width, int height) {
-        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
         Graphics2D g2d = image.createGraphics();
-        
+
         // 검은 배경
         g2d.setColor(new Color(10, 15, 35)); // 어두운 남색
         g2d.fillRect(0, 0, width, height);
-        
+
         // 별 그리기
         Random rand = new Random(12345); // 고정된 시드로 별 위치 일정하게
-        
+
         // 작은 별들 (흰색)
         g2d.setColor(Color.WHITE);
         for (int i = 0; i < 200; i++) {
@@ -116,21 +168,21 @@ public class BackgroundAnimationPanel extends JPanel {
             int size = 1 + rand.nextInt(2);
             g2d.fillOval(x, y, size, size);
         }
-        
+
         // 반짝이는 별들 (노란색)
         for (int i = 0; i < 30; i++) {
             int x = rand.nextInt(width);
             int y = rand.nextInt(height);
-            
+
             // 별 모양 그리기
             g2d.setColor(new Color(255, 255, 200, 255));
             drawStar(g2d, x, y, 3 + rand.nextInt(3));
         }
-        
+
         g2d.dispose();
         return image;
     }
-    
+
     /**
      * 별 모양 그리기
      */
@@ -138,133 +190,193 @@ public class BackgroundAnimationPanel extends JPanel {
         // 4방향 빛 선 그리기
         g2d.drawLine(x - size, y, x + size, y); // 가로
         g2d.drawLine(x, y - size, x, y + size); // 세로
-        
+
         // 중심점
         g2d.fillOval(x - 1, y - 1, 3, 3);
     }
-    
+
+    /**
+     * 블록 이미지 아틀라스 (처음 한 번만 그림)
+     */
+    private static synchronized BufferedImage getAtlas() {
+        if (atlas == null) {
+            atlas = createAtlas();
+        }
+        return atlas;
+    }
+
+    private static BufferedImage createAtlas() {
+        BufferedImage image = new BufferedImage(SLOT_WIDTH * SHAPES.length, SLOT_HEIGHT * ALPHA_LEVELS,
+            BufferedImage.TYPE_INT_ARGB);
+        BufferedImage shapeImage = new BufferedImage(SLOT_WIDTH, SLOT_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            for (int s = 0; s < SHAPES.length; s++) {
+                drawShape(shapeImage, SHAPES[s], COLORS[s]);
+                for (int level = 0; level < ALPHA_LEVELS; level++) {
+                    g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alphaOf(level)));
+                    g.drawImage(shapeImage, s * SLOT_WIDTH, level * SLOT_HEIGHT, null);
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * 모양 하나를 불투명하게 그림 (칸마다 채우기 + 테두리 + 하이라이트)
+     */
+    private static void drawShape(BufferedImage target, int[][] shape, Color color) {
+        Graphics2D g2d = target.createGraphics();
+        try {
+            g2d.setComposite(AlphaComposite.Clear);
+            g2d.fillRect(0, 0, target.getWidth(), target.getHeight());
+            g2d.setComposite(AlphaComposite.SrcOver);
+            Color border = color.darker();
+            Color highlight = new Color(255, 255, 255, 100);
+            for (int row = 0; row < shape.length; row++) {
+                for (int col = 0; col < shape[row].length; col++) {
+                    if (shape[row][col] == 1) {
+                        int drawX = col * CELL_SIZE;
+                        int drawY = row * CELL_SIZE;
+
+                        // 블록 채우기
+                        g2d.setColor(color);
+                        g2d.fillRect(drawX, drawY, CELL_SIZE, CELL_SIZE);
+
+                        // 테두리
+                        g2d.setColor(border);
+                        g2d.drawRect(drawX, drawY, CELL_SIZE, CELL_SIZE);
+
+                        // 하이라이트 효과
+                        g2d.setColor(highlight);
+                        g2d.fillRect(drawX + 2, drawY + 2, CELL_SIZE - 4, CELL_SIZE / 3);
+                    }
+                }
+            }
+        } finally {
+            g2d.dispose();
+        }
+    }
+
+    private static float alphaOf(int level) {
+        return 0.6f + 0.2f * level / (ALPHA_LEVELS - 1);
+    }
+
     /**
-     * 랜덤한 위치와 속도로 새로운 블록 추가
+     * i번째 자리에 랜덤한 위치와 속도로 새로운 블록 배치
      */
-    private void addRandomBlock() {
+    private void spawnBlock(int i) {
         int shapeIndex = random.nextInt(SHAPES.length);
         int[][] shape = SHAPES[shapeIndex];
-        Color color = COLORS[shapeIndex];
-        
+
         // 랜덤 X 위치 (화면 내부)
         int maxX = (panelWidth / CELL_SIZE) - shape[0].length;
-        int x = random.nextInt(Math.max(1, maxX)) * CELL_SIZE;
-        
+        blockX[i] = random.nextInt(Math.max(1, maxX)) * CELL_SIZE;
+
         // 화면 위쪽에서 시작 (더 넓은 범위로 분산)
-        int y = -shape.length * CELL_SIZE - random.nextInt(400);
-        
+        blockY[i] = -shape.length * CELL_SIZE - random.nextInt(400);
+
         // 랜덤 속도 (0.5~4 픽셀/프레임 - 더 다양한 속도)
-        double speed = 0.5 + random.nextDouble() * 3.5;
-        
-        // 랜덤 투명도 (60%~80% - 덜 투명하게)
-        float alpha = 0.6f + random.nextFloat() * 0.2f;
-        
-        fallingBlocks.add(new FallingBlock(x, y, shape, color, speed, alpha));
+        blockSpeed[i] = 0.5f + random.nextFloat() * 3.5f;
+
+        // 랜덤 투명도 단계 (60%~80% - 덜 투명하게)
+        blockAlpha[i] = random.nextInt(ALPHA_LEVELS);
+        blockShape[i] = shapeIndex;
     }
-    
+
     /**
-     * 블록 위치 업데이트
+     * 블록 위치 업데이트 (화면 아래로 나간 블록은 그 자리에서 새 블록으로)
      */
-    private void updateBlocks() {
-        List<FallingBlock> blocksToRemove = new ArrayList<>();
-        
-        for (FallingBlock block : fallingBlocks) {
-            block.y += block.speed;
-            
-            // 화면 아래로 나간 블록 제거
-            if (block.y > panelHeight) {
-                blocksToRemove.add(block);
+    void updateBlocks() {
+        for (int i = 0; i < blockCount; i++) {
+            blockY[i] += blockSpeed[i];
+            if (blockY[i] > panelHeight) {
+                spawnBlock(i);
             }
         }
-        
-        // 제거된 블록만큼 새로운 블록 추가
-        fallingBlocks.removeAll(blocksToRemove);
-        for (int i = 0; i < blocksToRemove.size(); i++) {
-            addRandomBlock();
-        }
     }
-    
+
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
-        
+
         // 배경 이미지 그리기
         if (backgroundImage != null) {
-            g2d.drawImage(backgroundImage, 0, 0, null);
+            g.drawImage(backgroundImage, 0, 0, null);
+        }
+        if (blockCount == 0) {
+            return;
+        }
+
+        // 모든 블록 그리기 (아틀라스에서 해당 칸만 복사)
+        BufferedImage sprites = getAtlas();
+        for (int i = 0; i < blockCount; i++) {
+            int sx = blockShape[i] * SLOT_WIDTH;
+            int sy = blockAlpha[i] * SLOT_HEIGHT;
+            int dx = blockX[i];
+            int dy = (int) blockY[i];
+            g.drawImage(sprites, dx, dy, dx + SLOT_WIDTH, dy + SLOT_HEIGHT,
+                sx, sy, sx + SLOT_WIDTH, sy + SLOT_HEIGHT, null);
+        }
+    }
+
+    /**
+     * 창이 바뀌면 창 활성/최소화 리스너를 옮겨 붙임
+     */
+    private void bindWindow(Window newWindow) {
+        if (newWindow == window) {
+            return;
+        }
+        if (window != null) {
+            window.removeWindowListener(windowListener);
+        }
+        window = newWindow;
+        if (window != null) {
+            window.addWindowListener(windowListener);
+        }
+    }
+
+    /**
+     * 보이고 창이 활성일 때만 타이머 실행
+     */
+    private void updateAnimationState() {
+        if (animationTimer == null) {
+            return;
         }
-        
-        // 안티앨리어싱
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        
-        // 모든 블록 그리기
-        for (FallingBlock block : fallingBlocks) {
-            block.draw(g2d);
+        boolean shouldRun = !stopped && isShowing() && window != null && window.isActive();
+        if (shouldRun && !animationTimer.isRunning()) {
+            animationTimer.start();
+        } else if (!shouldRun && animationTimer.isRunning()) {
+            animationTimer.stop();
         }
     }
-    
+
     /**
      * 애니메이션 정지
      */
     public void stopAnimation() {
+        stopped = true;
         if (animationTimer != null) {
             animationTimer.stop();
         }
+        bindWindow(null);
     }
-    
+
     /**
-     * 떨어지는 블록 클래스
+     * 애니메이션 타이머가 돌고 있는지
      */
-    private class FallingBlock {
-        int x;
-        double y;
-        int[][] shape;
-        Color color;
-        double speed;
-        float alpha;
-        
-        FallingBlock(int x, double y, int[][] shape, Color color, double speed, float alpha) {
-            this.x = x;
-            this.y = y;
-            this.shape = shape;
-            this.color = color;
-            this.speed = speed;
-            this.alpha = alpha;
-        }
-        
-        void draw(Graphics2D g2d) {
-            // 투명도 적용
-            Composite oldComposite = g2d.getComposite();
-            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-            
-            for (int row = 0; row < shape.length; row++) {
-                for (int col = 0; col < shape[row].length; col++) {
-                    if (shape[row][col] == 1) {
-                        int drawX = x + col * CELL_SIZE;
-                        int drawY = (int)y + row * CELL_SIZE;
-                        
-                        // 블록 채우기
-                        g2d.setColor(color);
-                        g2d.fillRect(drawX, drawY, CELL_SIZE, CELL_SIZE);
-                        
-                        // 테두리
-                        g2d.setColor(color.darker());
-                        g2d.drawRect(drawX, drawY, CELL_SIZE, CELL_SIZE);
-                        
-                        // 하이라이트 효과
-                        g2d.setColor(new Color(255, 255, 255, 100));
-                        g2d.fillRect(drawX + 2, drawY + 2, CELL_SIZE - 4, CELL_SIZE / 3);
-                    }
-                }
-            }
-            
-            // 원래 투명도로 복원
-            g2d.setComposite(oldComposite);
-        }
+    public boolean isAnimationRunning() {
+        return animationTimer != null && animationTimer.isRunning();
+    }
+
+    // 테스트용
+    int getBlockCount() {
+        return blockCount;
+    }
+
+    float getBlockY(int i) {
+        return blockY[i];
     }
 }
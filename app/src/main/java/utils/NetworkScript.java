@@ -0,0 +1,138 @@
+package utils;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 시간에 따라 바뀌는 네트워크 조건 (NetworkSimulator.setScript)
+ *
+ * 구간(Phase)마다 지연/지터/손실률을 정하고, 모든 구간을 지나면 처음부터 반복합니다.
+ * 대역폭과 연속 손실(burst loss) 설정은 스크립트 전체에 적용됩니다.
+ *
+ * 미리 정의된 스크립트:
+ * - 3g: 느린 대역폭, 긴 지연, 20초마다 2초 핸드오버(지연 급증)
+ * - congested-wifi: 짧은 지연이지만 5초마다 1초씩 혼잡 (지터와 손실 급증)
+ * - burst-loss: 평소엔 손실이 없다가 한 번 잃기 시작하면 여러 패킷을 연달아 잃음
+ */
+public final class NetworkScript {
+
+    /**
+     * 스크립트의 한 구간
+     */
+    public static final class Phase {
+        final long durationMs;
+        final long latency;
+        final long jitter;
+        final double lossRate;
+
+        public Phase(long durationMs, long latency, long jitter, double lossRate) {
+            if (durationMs <= 0) {
+                throw new IllegalArgumentException("구간 길이는 1ms 이상: " + durationMs);
+            }
+            this.durationMs = durationMs;
+            this.latency = latency;
+            this.jitter = jitter;
+            this.lossRate = lossRate;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%dms/±%dms/%.1f%%", latency, jitter, lossRate * 100);
+        }
+    }
+
+    public static final NetworkScript MOBILE_3G = new NetworkScript("3g", 48 * 1024, 0, 0, 0,
+        new Phase(18000, 150, 40, 0.01),
+        new Phase(2000, 600, 150, 0.05));         // 핸드오버
+
+    public static final NetworkScript CONGESTED_WIFI = new NetworkScript("congested-wifi", 256 * 1024, 0, 0, 0,
+        new Phase(4000, 20, 10, 0.005),
+        new Phase(1000, 150, 100, 0.05));         // 혼잡
+
+    public static final NetworkScript BURST_LOSS = new NetworkScript("burst-loss", 0, 0.02, 0.25, 0.7,
+        new Phase(60000, 40, 10, 0.0));
+
+    private final String name;
+    private final long bandwidthLimit;
+    private final double burstEnterRate;
+    private final double burstExitRate;
+    private final double burstLossRate;
+    private final List<Phase> phases;
+    private final long cycleMs;
+
+    /**
+     * @param name 이름 (로그 및 시스템 속성용)
+     * @param bandwidthLimit 대역폭 제한 (bytes/sec, 0 = 무제한)
+     * @param burstEnterRate 패킷마다 연속 손실 구간에 들어갈 확률 (0 = 사용 안 함)
+     * @param burstExitRate 연속 손실 구간에서 패킷마다 빠져나올 확률
+     * @param burstLossRate 연속 손실 구간의 손실률
+     * @param phases 반복할 구간들
+     */
+    public NetworkScript(String name, long bandwidthLimit, double burstEnterRate, double burstExitRate,
+                         double burstLossRate, Phase... phases) {
+        if (phases.length == 0) {
+            throw new IllegalArgumentException("구간이 최소 하나 필요합니다");
+        }
+        this.name = name;
+        this.bandwidthLimit = bandwidthLimit;
+        this.burstEnterRate = burstEnterRate;
+        this.burstExitRate = burstExitRate;
+        this.burstLossRate = burstLossRate;
+        this.phases = List.of(phases);
+        long total = 0;
+        for (Phase phase : phases) {
+            total += phase.durationMs;
+        }
+        this.cycleMs = total;
+    }
+
+    /**
+     * 스크립트 시작 후 elapsedMs 시점의 구간
+     */
+    Phase phaseAt(long elapsedMs) {
+        long t = Math.floorMod(elapsedMs, cycleMs);
+        for (Phase phase : phases) {
+            if (t < phase.durationMs) {
+                return phase;
+            }
+            t -= phase.durationMs;
+        }
+        return phases.get(phases.size() - 1);
+    }
+
+    /**
+     * 이름으로 미리 정의된 스크립트 찾기 (대소문자, '_'와 '-' 구분 없음)
+     * @return 없으면 null
+     */
+    public static NetworkScript forName(String name) {
+        if (name == null) {
+            return null;
+        }
+        switch (name.trim().toLowerCase(Locale.ROOT).replace('_', '-')) {
+            case "3g":
+            case "mobile-3g":
+                return MOBILE_3G;
+            case "congested-wifi":
+            case "wifi":
+                return CONGESTED_WIFI;
+            case "burst-loss":
+                return BURST_LOSS;
+            default:
+                return null;
+        }
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public long getBandwidthLimit() { return bandwidthLimit; }
+    public double getBurstEnterRate() { return burstEnterRate; }
+    public double getBurstExitRate() { return burstExitRate; }
+    public double getBurstLossRate() { return burstLossRate; }
+    public List<Phase> getPhases() { return phases; }
+    public long getCycleMs() { return cycleMs; }
+
+    @Override
+    public String toString() {
+        return name + phases;
+    }
+}
@@ -10,8 +10,12 @@ import java.util.Random;
  * 기능:
  * - 지연 시뮬레이션 (10ms ~ 500ms)
  * - 패킷 손실 시뮬레이션 (0% ~ 20%)
- * - 대역폭 제한 시뮬레이션
+ * - 대역폭 제한 시뮬레이션 (실제 전송 계층에서는 토큰 버킷)
  * - 지터(jitter) 시뮬레이션
+ * - 연속 손실(burst loss) 시뮬레이션 (Gilbert-Elliott 모델)
+ * - 시간에 따라 바뀌는 조건 (NetworkScript)
+ * - 실제 전송 계층에 연결 (samplePacket, network.transport.LoopbackNetwork,
+ *   network.transport.SimulatedTransportProvider)
  */
 public class NetworkSimulator {
     
@@ -19,8 +23,24 @@ public class NetworkSimulator {
     private long jitter = 0;                // 지터 (ms)
     private double packetLossRate = 0.0;    // 패킷 손실률 (0.0 ~ 1.0)
     private long bandwidthLimit = 0;        // 대역폭 제한 (bytes/sec, 0 = 무제한)
+    private TokenBucket tokenBucket;        // samplePacket용 대역폭 제한기 (대역폭 제한이 있을 때만)
     
-    private final Random random = new Random();
+    // 연속 손실 (0이면 사용 안 함)
+    private double burstEnterRate = 0.0;    // 패킷마다 연속 손실 구간에 들어갈 확률
+    private double burstExitRate = 0.0;     // 연속 손실 구간에서 패킷마다 빠져나올 확률
+    private double burstLossRate = 0.0;     // 연속 손실 구간의 손실률
+    private boolean inBurst = false;
+    
+    // 스크립트 (null이면 고정 조건)
+    private NetworkScript script;
+    private NetworkScript.Phase currentPhase;
+    private long scriptStart = -1;
+    
+    /** 토큰 버킷이 한 번에 허용하는 양 (대역폭 기준 시간, 최소 MTU 하나) */
+    private static final long TOKEN_BUCKET_BURST_MS = 100;
+    private static final int MTU = 1500;
+    
+    private final Random random;
     private long totalPacketsSent = 0;
     private long totalPacketsLost = 0;
     private long totalBytesTransferred = 0;
@@ -46,6 +66,23 @@ public class NetworkSimulator {
      * @param packetLossRate 패킷 손실률 (0.0 ~ 1.0)
      */
     public NetworkSimulator(long baseLatency, long jitter, double packetLossRate) {
+        this(baseLatency, jitter, packetLossRate, new Random());
+    }
+    
+    /**
+     * 재현 가능한 네트워크 시뮬레이터 생성자 (같은 시드면 같은 지연/손실 순서)
+     * 
+     * @param baseLatency 기본 지연 시간 (ms)
+     * @param jitter 지터 (ms)
+     * @param packetLossRate 패킷 손실률 (0.0 ~ 1.0)
+     * @param seed 난수 시드
+     */
+    public NetworkSimulator(long baseLatency, long jitter, double packetLossRate, long seed) {
+        this(baseLatency, jitter, packetLossRate, new Random(seed));
+    }
+    
+    private NetworkSimulator(long baseLatency, long jitter, double packetLossRate, Random random) {
+        this.random = random;
         this.baseLatency = baseLatency;
         this.jitter = jitter;
         this.packetLossRate = Math.max(0.0, Math.min(1.0, packetLossRate));
@@ -87,12 +124,51 @@ public class NetworkSimulator {
      * 
      * @param bytesPerSecond 초당 바이트 수 (0 = 무제한)
      */
-    public void setBandwidthLimit(long bytesPerSecond) {
+    public synchronized void setBandwidthLimit(long bytesPerSecond) {
         this.bandwidthLimit = Math.max(0, bytesPerSecond);
+        this.tokenBucket = bandwidthLimit == 0 ? null
+            : new TokenBucket(bandwidthLimit, Math.max(MTU, bandwidthLimit * TOKEN_BUCKET_BURST_MS / 1000));
         System.out.println("🌐 [NetworkSimulator] 대역폭 제한: " + 
             (bandwidthLimit == 0 ? "무제한" : bandwidthLimit + " bytes/sec"));
     }
     
+    /**
+     * 연속 손실 설정 (Gilbert-Elliott 모델)
+     * 평소에는 packetLossRate로 잃다가, enterRate 확률로 연속 손실 구간에 들어가면
+     * exitRate 확률로 빠져나올 때까지 lossRate로 잃습니다.
+     * 
+     * @param enterRate 패킷마다 연속 손실 구간에 들어갈 확률 (0 = 사용 안 함)
+     * @param exitRate 연속 손실 구간에서 패킷마다 빠져나올 확률
+     * @param lossRate 연속 손실 구간의 손실률
+     */
+    public synchronized void setBurstLoss(double enterRate, double exitRate, double lossRate) {
+        this.burstEnterRate = clamp(enterRate);
+        this.burstExitRate = clamp(exitRate);
+        this.burstLossRate = clamp(lossRate);
+        this.inBurst = false;
+        if (burstEnterRate > 0) {
+            System.out.println("🌐 [NetworkSimulator] 연속 손실: 진입 " + String.format("%.1f", burstEnterRate * 100)
+                + "%, 탈출 " + String.format("%.1f", burstExitRate * 100)
+                + "%, 구간 손실률 " + String.format("%.1f", burstLossRate * 100) + "%");
+        }
+    }
+    
+    /**
+     * 스크립트 적용 (null이면 해제하고 현재 조건 유지)
+     * 대역폭과 연속 손실은 바로 적용하고, 구간별 지연/지터/손실률은 패킷을 보낼 때마다 시각에 맞춰 바꿉니다.
+     */
+    public synchronized void setScript(NetworkScript script) {
+        this.script = script;
+        this.currentPhase = null;
+        this.scriptStart = -1;
+        if (script == null) {
+            return;
+        }
+        setBandwidthLimit(script.getBandwidthLimit());
+        setBurstLoss(script.getBurstEnterRate(), script.getBurstExitRate(), script.getBurstLossRate());
+        System.out.println("🌐 [NetworkSimulator] 스크립트 설정: " + script);
+    }
+    
     /**
      * 메시지 전송 시뮬레이션
      * 
@@ -128,13 +204,76 @@ public class NetworkSimulator {
         return true;
     }
     
+    /**
+     * 패킷 하나의 전송 결과를 대기 없이 계산 (실제 전송 계층용, 예: LoopbackNetwork)
+     * sendMessage()와 같은 통계를 남기지만 스레드를 재우지 않고 지연 시간만 돌려줍니다.
+     * 대역폭 제한이 있으면 토큰 버킷이 허용할 때까지의 대기 시간이 지연에 더해집니다.
+     * 
+     * @param bytes 패킷 크기
+     * @return 지연 시간 (ms), 손실이면 -1
+     */
+    public long samplePacket(int bytes) {
+        return samplePacket(bytes, System.currentTimeMillis());
+    }
+    
+    synchronized long samplePacket(int bytes, long nowMs) {
+        applyScript(nowMs);
+        totalPacketsSent++;
+        if (shouldDropPacket()) {
+            totalPacketsLost++;
+            return -1;
+        }
+        
+        long actualLatency = calculateActualLatency();
+        updateLatencyStats(actualLatency);
+        totalBytesTransferred += bytes;
+        if (tokenBucket != null) {
+            actualLatency += tokenBucket.reserve(bytes, nowMs);
+        }
+        return actualLatency;
+    }
+    
+    /**
+     * 스크립트의 현재 구간 조건 적용
+     */
+    private void applyScript(long nowMs) {
+        if (script == null) {
+            return;
+        }
+        if (scriptStart < 0) {
+            scriptStart = nowMs;
+        }
+        NetworkScript.Phase phase = script.phaseAt(nowMs - scriptStart);
+        if (phase != currentPhase) {
+            currentPhase = phase;
+            baseLatency = phase.latency;
+            jitter = phase.jitter;
+            packetLossRate = phase.lossRate;
+            System.out.println("🌐 [NetworkSimulator] " + script.getName() + " 구간 전환: " + phase);
+        }
+    }
+    
     /**
      * 패킷 손실 여부 결정
      */
     private boolean shouldDropPacket() {
+        if (burstEnterRate > 0) {
+            if (inBurst) {
+                inBurst = random.nextDouble() >= burstExitRate;
+            } else {
+                inBurst = random.nextDouble() < burstEnterRate;
+            }
+            if (inBurst) {
+                return random.nextDouble() < burstLossRate;
+            }
+        }
         return random.nextDouble() < packetLossRate;
     }
     
+    private static double clamp(double rate) {
+        return Math.max(0.0, Math.min(1.0, rate));
+    }
+    
     /**
      * 실제 지연 시간 계산 (기본 지연 + 지터)
      */
@@ -180,7 +319,11 @@ public class NetworkSimulator {
     /**
      * 네트워크 프로파일 설정 (사전 정의된 시나리오)
      */
-    public void setProfile(NetworkProfile profile) {
+    public synchronized void setProfile(NetworkProfile profile) {
+        script = null;
+        currentPhase = null;
+        burstEnterRate = 0.0;
+        inBurst = false;
         switch (profile) {
             case PERFECT:
                 setLatency(0);
@@ -258,7 +401,36 @@ public class NetworkSimulator {
         System.out.println("📊 [NetworkSimulator] 통계 리셋");
     }
     
+    /**
+     * 이름으로 시뮬레이터 생성 (시스템 속성 등 외부 설정용)
+     * NetworkProfile 이름(perfect, good, normal, poor, terrible) 또는 NetworkScript 이름(3g, congested-wifi, burst-loss)
+     * 
+     * @param name 프로파일 이름 (대소문자 구분 없음)
+     * @param seed 난수 시드 (null이면 매번 다름)
+     * @return 알 수 없는 이름이면 null
+     */
+    public static NetworkSimulator forProfileName(String name, Long seed) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        NetworkSimulator simulator = seed == null ? new NetworkSimulator() : new NetworkSimulator(0, 0, 0.0, seed);
+        NetworkScript script = NetworkScript.forName(name);
+        if (script != null) {
+            simulator.setScript(script);
+            return simulator;
+        }
+        for (NetworkProfile profile : NetworkProfile.values()) {
+            if (profile.name().equalsIgnoreCase(name.trim())) {
+                simulator.setProfile(profile);
+                return simulator;
+            }
+        }
+        return null;
+    }
+    
     // Getters
+    public long getBandwidthLimit() { return bandwidthLimit; }
+    public NetworkScript getScript() { return script; }
     public long getBaseLatency() { return baseLatency; }
     public long getJitter() { return jitter; }
     public double getPacketLossRate() { return packetLossRate; }
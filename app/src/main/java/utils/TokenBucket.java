@@ -0,0 +1,59 @@
+package utils;
+
+/**
+ * 토큰 버킷 대역폭 제한기
+ *
+ * 초당 rate개씩 토큰이 채워지고 최대 capacity개까지 쌓입니다 (순간 전송 허용량).
+ * reserve()는 토큰을 먼저 빌려 쓰고(잔량이 음수가 될 수 있음), 빚을 갚을 때까지의 대기 시간을 돌려줍니다.
+ * 그래서 호출한 스레드를 재우지 않고도 패킷마다 전송 가능 시각을 계산할 수 있습니다.
+ */
+public class TokenBucket {
+
+    private final long ratePerSecond;
+    private final long capacity;
+    private double tokens;
+    private long lastRefill = -1;
+
+    /**
+     * @param ratePerSecond 초당 채워지는 토큰 수 (예: bytes/sec)
+     * @param capacity 최대 토큰 수 (처음에는 가득 찬 상태)
+     */
+    public TokenBucket(long ratePerSecond, long capacity) {
+        if (ratePerSecond <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("rate와 capacity는 1 이상: " + ratePerSecond + ", " + capacity);
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.capacity = capacity;
+        this.tokens = capacity;
+    }
+
+    /**
+     * amount개의 토큰 예약
+     * @param nowMs 현재 시각 (ms)
+     * @return 예약한 토큰을 쓸 수 있을 때까지 기다려야 하는 시간 (ms, 바로 가능하면 0)
+     */
+    public synchronized long reserve(int amount, long nowMs) {
+        refill(nowMs);
+        tokens -= amount;
+        if (tokens >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-tokens * 1000.0 / ratePerSecond);
+    }
+
+    private void refill(long nowMs) {
+        if (lastRefill >= 0 && nowMs > lastRefill) {
+            tokens = Math.min(capacity, tokens + (nowMs - lastRefill) * ratePerSecond / 1000.0);
+        }
+        if (nowMs > lastRefill) {
+            lastRefill = nowMs;
+        }
+    }
+
+    public synchronized double getTokens() {
+        return tokens;
+    }
+
+    public long getRatePerSecond() { return ratePerSecond; }
+    public long getCapacity() { return capacity; }
+}
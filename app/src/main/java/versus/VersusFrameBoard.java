@@ -6,7 +6,9 @@ import javax.swing.*;
 
 import game.GameView;
 import game.core.GameController;
+import game.loop.ActiveRenderLoop;
 import game.events.*;
+import game.model.AttackPattern;
 
 /**
  * 2인 대전용 프레임
@@ -54,6 +56,7 @@ public class VersusFrameBoard extends JFrame {
     // 공통
     private VersusPauseBoard pauseBoard;
     private VersusResultBoard resultBoard;
+    private ActiveRenderLoop activeRenderLoop;  // -Dtetris.render=active일 때만 사용 (null이면 Swing 그리기)
     
     public VersusFrameBoard(VersusMode mode, int difficulty) {
         this.mode = mode;
@@ -142,6 +145,9 @@ public class VersusFrameBoard extends JFrame {
         setLocationRelativeTo(null);
         setVisible(true);
         
+        // 선택: 능동 렌더링 (사용할 수 없으면 Swing 그리기 유지)
+        activeRenderLoop = ActiveRenderLoop.attachIfRequested(layeredPane, backgroundPanel, mainPanel);
+        
         // 게임 시작
         startGame();
     }
@@ -200,7 +206,7 @@ public class VersusFrameBoard extends JFrame {
             @Override
             public void onEvent(LineClearedEvent event) {
                 handleLineCleared(player, event.getClearedLines().length, 
-                    event.getLastBlockPattern(), event.getLastBlockX());
+                    event.getHolePattern(), event.getLastBlockX());
             }
         }, 0);
         
@@ -325,7 +331,7 @@ public class VersusFrameBoard extends JFrame {
     /**
      * 줄 삭제 처리 (공격 시스템)
      */
-    private void handleLineCleared(int player, int linesCleared, int[][] clearedLinePattern, int blockX) {
+    private void handleLineCleared(int player, int linesCleared, AttackPattern clearedLinePattern, int blockX) {
         // 공격 줄 수 계산
         int attackLines = VersusAttackManager.calculateAttackLines(linesCleared);
         
@@ -336,14 +342,14 @@ public class VersusFrameBoard extends JFrame {
                 System.out.println("Player 1 attacks Player 2 with " + received + " lines");
                 // 공격줄을 큐에 넣고, 블록이 고정될 때 적용되도록 변경
                 if (received > 0) {
-                    gameController2.queueAttackLines(received, clearedLinePattern, blockX);
+                    gameController2.queueAttack(received, clearedLinePattern, blockX);
                 }
             } else {
                 int received = attackManager1.receiveAttack(attackLines);
                 System.out.println("Player 2 attacks Player 1 with " + received + " lines");
                 // 공격줄을 큐에 넣고, 블록이 고정될 때 적용되도록 변경
                 if (received > 0) {
-                    gameController1.queueAttackLines(received, clearedLinePattern, blockX);
+                    gameController1.queueAttack(received, clearedLinePattern, blockX);
                 }
             }
         }
@@ -0,0 +1,71 @@
+package blocks;
+
+import blocks.item.OneLineClearBlock;
+import blocks.item.WeightBlock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BlockTypeRegistry 테스트")
+class BlockTypeRegistryTest {
+
+    @Test
+    @DisplayName("클래스 이름과 타입 ID 왕복")
+    void testIdRoundTrip() {
+        for (int id = BlockTypeRegistry.I; id <= BlockTypeRegistry.WEIGHT; id++) {
+            String className = BlockTypeRegistry.classNameOf(id);
+            assertNotNull(className);
+            assertEquals(id, BlockTypeRegistry.idOf(className));
+        }
+        assertEquals(BlockTypeRegistry.I, BlockTypeRegistry.idOf("blocks.IBlock"));
+        assertEquals(BlockTypeRegistry.WEIGHT, BlockTypeRegistry.idOf(WeightBlock.class.getName()));
+    }
+
+    @Test
+    @DisplayName("없는 이름은 NONE/UNKNOWN")
+    void testUnknownAndNone() {
+        assertEquals(BlockTypeRegistry.NONE, BlockTypeRegistry.idOf((String) null));
+        assertEquals(BlockTypeRegistry.NONE, BlockTypeRegistry.idOf(""));
+        assertEquals(BlockTypeRegistry.UNKNOWN, BlockTypeRegistry.idOf("blocks.NoSuchBlock"));
+        assertNull(BlockTypeRegistry.classNameOf(BlockTypeRegistry.NONE));
+        assertNull(BlockTypeRegistry.classNameOf(BlockTypeRegistry.UNKNOWN));
+    }
+
+    @Test
+    @DisplayName("create는 shape가 초기화된 독립 복사본을 반환")
+    void testCreateReturnsIndependentCopies() {
+        Block a = BlockTypeRegistry.create(BlockTypeRegistry.T);
+        Block b = BlockTypeRegistry.create(BlockTypeRegistry.T);
+
+        assertTrue(a instanceof TBlock);
+        assertNotNull(a.getShape());
+        assertNotSame(a, b);
+        assertNotSame(a.getShape(), b.getShape());
+
+        int[][] before = b.getShape();
+        a.getRotatedShape();
+        a.setPosition(7, 9);
+        assertArrayEquals(before, b.getShape());
+        assertEquals(0, b.getX());
+        assertEquals(a.getColor(), b.getColor());
+    }
+
+    @Test
+    @DisplayName("블록 인스턴스로 ID 조회")
+    void testIdOfBlock() {
+        assertEquals(BlockTypeRegistry.O, BlockTypeRegistry.idOf(new OBlock()));
+        assertEquals(BlockTypeRegistry.ONE_LINE_CLEAR,
+            BlockTypeRegistry.idOf(new OneLineClearBlock(new int[][] {{1, 1}})));
+        assertEquals(BlockTypeRegistry.NONE, BlockTypeRegistry.idOf((Block) null));
+    }
+
+    @Test
+    @DisplayName("기반 모양이 필요한 아이템과 잘못된 ID는 null")
+    void testCreateWithoutPrototype() {
+        assertNull(BlockTypeRegistry.create(BlockTypeRegistry.ONE_LINE_CLEAR));
+        assertNull(BlockTypeRegistry.create(BlockTypeRegistry.SCORE_DOUBLE));
+        assertNull(BlockTypeRegistry.create(BlockTypeRegistry.NONE));
+        assertNull(BlockTypeRegistry.create(200));
+    }
+}
@@ -0,0 +1,69 @@
+package blocks;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PieceSequence 테스트")
+class PieceSequenceTest {
+
+    @Test
+    @DisplayName("같은 시드와 난이도면 같은 블록 순서")
+    void testSameSeedSameSequence() {
+        PieceSequence a = new PieceSequence(12345L, 0);
+        PieceSequence b = new PieceSequence(12345L, 0);
+
+        // 한쪽은 뒤쪽부터 조회해도 결과가 같아야 함
+        assertEquals(a.indexAt(499), b.indexAt(499));
+        for (int i = 0; i < 500; i++) {
+            assertEquals(a.indexAt(i), b.indexAt(i), "position " + i);
+        }
+        assertArrayEquals(a.upcoming(100, 10), b.upcoming(100, 10));
+    }
+
+    @Test
+    @DisplayName("다른 시드면 다른 블록 순서")
+    void testDifferentSeedDifferentSequence() {
+        PieceSequence a = new PieceSequence(1L, 0);
+        PieceSequence b = new PieceSequence(2L, 0);
+
+        assertFalse(java.util.Arrays.equals(a.upcoming(0, 50), b.upcoming(0, 50)));
+    }
+
+    @Test
+    @DisplayName("blockAt은 순서의 종류와 초기 위치로 블록 생성")
+    void testBlockAtMatchesType() {
+        PieceSequence sequence = new PieceSequence(42L, 0);
+        for (int i = 0; i < 20; i++) {
+            Block block = sequence.blockAt(i);
+            assertEquals(sequence.typeAt(i), BlockTypeRegistry.idOf(block));
+            int[] position = Block.spawnPosition(sequence.indexAt(i));
+            assertEquals(position[0], block.getX());
+            assertEquals(position[1], block.getY());
+            assertNotNull(block.getShape());
+        }
+    }
+
+    @Test
+    @DisplayName("어려움 난이도는 I블록이 덜 나옴")
+    void testDifficultyWeights() {
+        int count = 20000;
+        PieceSequence normal = new PieceSequence(7L, 0);
+        PieceSequence hard = new PieceSequence(7L, 1);
+        int normalI = 0;
+        int hardI = 0;
+        for (int i = 0; i < count; i++) {
+            if (normal.indexAt(i) == 0) normalI++;
+            if (hard.indexAt(i) == 0) hardI++;
+        }
+        assertTrue(hardI < normalI, "hard=" + hardI + ", normal=" + normalI);
+    }
+
+    @Test
+    @DisplayName("음수 위치는 예외")
+    void testNegativePosition() {
+        PieceSequence sequence = new PieceSequence(0L, 0);
+        assertThrows(IllegalArgumentException.class, () -> sequence.indexAt(-1));
+    }
+}
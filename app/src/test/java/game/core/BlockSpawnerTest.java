@@ -301,4 +301,27 @@ class BlockSpawnerTest {
         // 더 높은 레벨인 5가 선택되어야 함
         assertTrue(result.speedLevel >= 5);
     }
+    
+    @Test
+    @DisplayName("공유 블록 순서 사용 시 순서대로 생성하고 번호 기록")
+    void testPieceSequence() {
+        spawner = new BlockSpawner(false, null);
+        blocks.PieceSequence sequence = new blocks.PieceSequence(99L, 0);
+        spawner.setPieceSequence(sequence);
+        
+        assertEquals(0, spawner.getNextSequenceIndex());
+        GameState state = testState;
+        for (int i = 0; i < 10; i++) {
+            state = spawner.spawnNewBlock(state).newState;
+            assertEquals(i, spawner.getCurrentSequenceIndex());
+            assertEquals(i + 1, spawner.getNextSequenceIndex());
+            assertEquals(sequence.typeAt(i), blocks.BlockTypeRegistry.idOf(spawner.getCurrentBlock()));
+            assertEquals(sequence.typeAt(i + 1), blocks.BlockTypeRegistry.idOf(spawner.getNextBlock()));
+        }
+        
+        // 리셋하면 처음부터 다시
+        spawner.reset();
+        assertEquals(0, spawner.getNextSequenceIndex());
+        assertEquals(sequence.typeAt(0), blocks.BlockTypeRegistry.idOf(spawner.getNextBlock()));
+    }
 }
@@ -0,0 +1,75 @@
+package game.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BoardDeltaCodec 테스트")
+class BoardDeltaCodecTest {
+
+    @Test
+    @DisplayName("pack/unpack 왕복")
+    void testPackUnpack() {
+        int[][] board = new int[23][12];
+        int[][] color = new int[23][12];
+        board[21][3] = 1;
+        color[21][3] = 0xFF00FF00;
+        board[2][10] = 8;
+        color[2][10] = 8;
+
+        int[] packed = BoardDeltaCodec.pack(board, color, 23, 12);
+        assertEquals(23 * 12 * 2, packed.length);
+
+        int[][] boardOut = new int[23][12];
+        int[][] colorOut = new int[23][12];
+        BoardDeltaCodec.unpack(packed, 23, 12, boardOut, colorOut);
+        assertArrayEquals(board, boardOut);
+        assertArrayEquals(color, colorOut);
+    }
+
+    @Test
+    @DisplayName("XOR delta를 다시 XOR하면 원래 보드")
+    void testXorRoundTrip() {
+        int[] a = {0, 1, 2, 0, 5};
+        int[] b = {0, 1, 3, 7, 0};
+        int[] delta = BoardDeltaCodec.xor(a, b);
+        assertArrayEquals(b, BoardDeltaCodec.xor(a, delta));
+        assertTrue(BoardDeltaCodec.isZero(BoardDeltaCodec.xor(a, a)));
+        assertFalse(BoardDeltaCodec.isZero(delta));
+    }
+
+    @Test
+    @DisplayName("RLE 인코딩/디코딩 왕복")
+    void testRleRoundTrip() {
+        int[] words = new int[552];
+        words[0] = -1;
+        words[100] = 1;
+        words[101] = 0xFF123456;
+        words[551] = 8;
+
+        byte[] encoded = BoardDeltaCodec.encodeRle(words);
+        int[] decoded = BoardDeltaCodec.decodeRle(ByteBuffer.wrap(encoded), words.length);
+        assertArrayEquals(words, decoded);
+    }
+
+    @Test
+    @DisplayName("빈 delta는 몇 바이트로 압축됨")
+    void testEmptyDeltaIsSmall() {
+        byte[] encoded = BoardDeltaCodec.encodeRle(new int[23 * 12 * 2]);
+        assertTrue(encoded.length <= 4, "빈 delta 크기: " + encoded.length);
+        assertArrayEquals(new int[23 * 12 * 2],
+            BoardDeltaCodec.decodeRle(ByteBuffer.wrap(encoded), 23 * 12 * 2));
+    }
+
+    @Test
+    @DisplayName("보드 크기를 벗어나는 RLE 데이터는 거부")
+    void testRejectsOverflow() {
+        int[] words = {1, 2, 3, 4};
+        byte[] encoded = BoardDeltaCodec.encodeRle(words);
+        assertThrows(IllegalArgumentException.class,
+            () -> BoardDeltaCodec.decodeRle(ByteBuffer.wrap(encoded), 2));
+    }
+}
@@ -0,0 +1,117 @@
+package game.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BoardHash 테스트")
+class BoardHashTest {
+
+    private int[][] boardWithWalls() {
+        int[][] board = new int[23][12];
+        for (int r = 0; r < 23; r++) {
+            board[r][0] = 1;
+            board[r][11] = 1;
+        }
+        for (int c = 0; c < 12; c++) {
+            board[0][c] = 1;
+            board[1][c] = 1;
+            board[22][c] = 1;
+        }
+        return board;
+    }
+
+    @Test
+    @DisplayName("벽은 해시에 영향을 주지 않음")
+    void testWallsIgnored() {
+        assertEquals(BoardHash.of(new int[23][12]), BoardHash.of(boardWithWalls()));
+        assertNotEquals(BoardHash.NONE, BoardHash.of(new int[23][12]));
+    }
+
+    @Test
+    @DisplayName("칸 값이 달라도 채워져 있으면 같은 해시")
+    void testOccupancyOnly() {
+        int[][] a = new int[23][12];
+        int[][] b = new int[23][12];
+        a[21][5] = 1;
+        b[21][5] = 7;
+        assertEquals(BoardHash.of(a), BoardHash.of(b));
+    }
+
+    @Test
+    @DisplayName("toggle로 갱신한 해시가 전체 계산과 같음")
+    void testIncrementalMatchesFull() {
+        int[][] board = boardWithWalls();
+        long hash = BoardHash.of(board);
+
+        int[][] cells = {{21, 4}, {21, 5}, {20, 5}, {19, 5}};
+        for (int[] cell : cells) {
+            board[cell[0]][cell[1]] = 1;
+            hash = BoardHash.toggle(hash, cell[0], cell[1]);
+        }
+        assertEquals(BoardHash.of(board), hash);
+
+        board[20][5] = 0;
+        hash = BoardHash.toggle(hash, 20, 5);
+        assertEquals(BoardHash.of(board), hash);
+    }
+
+    @Test
+    @DisplayName("같은 모양이라도 위치가 다르면 다른 해시")
+    void testPositionSensitive() {
+        int[][] a = new int[23][12];
+        int[][] b = new int[23][12];
+        a[21][1] = 1;
+        b[20][1] = 1;
+        assertNotEquals(BoardHash.of(a), BoardHash.of(b));
+    }
+
+    @Test
+    @DisplayName("isInner는 벽을 제외")
+    void testIsInner() {
+        int[][] board = new int[23][12];
+        assertTrue(BoardHash.isInner(board, 2, 1));
+        assertTrue(BoardHash.isInner(board, 21, 10));
+        assertFalse(BoardHash.isInner(board, 1, 5));
+        assertFalse(BoardHash.isInner(board, 22, 5));
+        assertFalse(BoardHash.isInner(board, 10, 0));
+        assertFalse(BoardHash.isInner(board, 10, 11));
+    }
+
+    @Test
+    @DisplayName("줄 삭제 후 이동한 줄만 다시 계산해도 전체 계산과 같음")
+    void testShiftedRowsMatchFull() {
+        int[][] board = boardWithWalls();
+        for (int c = 1; c <= 10; c++) board[21][c] = 1;
+        board[20][3] = 1;
+        board[19][3] = 1;
+        board[18][7] = 1;
+        long hash = BoardHash.of(board);
+
+        // 21번 줄 삭제: 그 위 줄이 한 칸씩 내려옴
+        long before = BoardHash.rows(board, 0, 21);
+        for (int r = 21; r > 2; r--) {
+            for (int c = 1; c <= 10; c++) board[r][c] = board[r - 1][c];
+        }
+        for (int c = 1; c <= 10; c++) board[2][c] = 0;
+        hash ^= before ^ BoardHash.rows(board, 0, 21);
+
+        assertEquals(BoardHash.of(board), hash);
+    }
+
+    @Test
+    @DisplayName("toggleChanged는 바뀐 칸만 반영")
+    void testToggleChanged() {
+        int[][] before = boardWithWalls();
+        before[21][2] = 1;
+        int[][] after = new int[before.length][];
+        for (int r = 0; r < before.length; r++) after[r] = before[r].clone();
+        after[20][4] = 1;
+        after[20][5] = 1;
+        after[21][5] = 1;
+
+        long hash = BoardHash.toggleChanged(BoardHash.of(before), before, after, 20, 21);
+        assertEquals(BoardHash.of(after), hash);
+    }
+}
@@ -746,4 +746,32 @@ class GameControllerTest {
             controller.addAttackLines(10, pattern, 5);
         });
     }
+    
+    @Test
+    @DisplayName("블록 고정 이벤트의 보드 해시가 전체 계산과 같음 (공격줄 후 포함)")
+    void testRunningBoardHashMatchesFull() {
+        controller = new GameController(testView, false, 0);
+        java.util.List<long[]> hashes = new java.util.ArrayList<>();
+        controller.getEventBus().subscribe(game.events.BlockPlacedEvent.class, e -> hashes.add(new long[] {
+            e.getBoardHash(), BoardHash.of(controller.getCurrentState().getBoardArray())
+        }));
+        controller.start();
+        
+        controller.hardDrop();
+        controller.moveLeft();
+        controller.moveLeft();
+        controller.moveLeft();
+        controller.hardDrop();
+        controller.addAttackRows(2, null, 1);
+        controller.moveRight();
+        controller.moveRight();
+        controller.moveRight();
+        controller.hardDrop();
+        
+        assertEquals(3, hashes.size());
+        for (long[] pair : hashes) {
+            assertEquals(pair[1], pair[0]);
+        }
+        assertEquals(BoardHash.of(controller.getCurrentState().getBoardArray()), controller.getBoardHash());
+    }
 }
@@ -0,0 +1,155 @@
+package game.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import blocks.Block;
+import blocks.IBlock;
+import blocks.OBlock;
+import game.GameView;
+import game.model.AttackPreviewItem;
+
+/**
+ * HudUpdater 테스트 (프레임 단위 HUD 변경 반영)
+ */
+class HudUpdaterTest {
+
+    // 뷰에 실제로 전달된 호출을 세는 GameView
+    private static class CountingGameView extends GameView {
+        int scoreCalls;
+        int lastScore;
+        int highScoreCalls;
+        int lastHighScore;
+        int nextBlockCalls;
+        Block lastNextBlock;
+        int attackPreviewCalls;
+
+        CountingGameView() {
+            super(false);
+        }
+
+        @Override
+        public void setScore(int score) {
+            scoreCalls++;
+            lastScore = score;
+        }
+
+        @Override
+        public void setHighScore(int highScore) {
+            highScoreCalls++;
+            lastHighScore = highScore;
+        }
+
+        @Override
+        public void setNextBlock(Block block) {
+            nextBlockCalls++;
+            lastNextBlock = block;
+        }
+
+        @Override
+        public void updateAttackPreview(List<AttackPreviewItem> items) {
+            attackPreviewCalls++;
+        }
+    }
+
+    private CountingGameView view;
+    private int previewBuilds;
+    private HudUpdater hud;
+
+    @BeforeEach
+    void setUp() {
+        view = new CountingGameView();
+        previewBuilds = 0;
+        hud = new HudUpdater(view, false, () -> {
+            previewBuilds++;
+            return new ArrayList<>();
+        });
+    }
+
+    @Test
+    @DisplayName("여러 번 바뀐 점수는 flush 때 마지막 값만 한 번 반영")
+    void testScoreCoalesced() throws Exception {
+        // 예약된 flush가 중간에 끼어들지 않도록 EDT에서 실행
+        SwingUtilities.invokeAndWait(() -> {
+            for (int i = 1; i <= 100; i++) {
+                hud.setScore(i);
+            }
+            assertEquals(0, view.scoreCalls, "flush 전에는 뷰를 건드리지 않음");
+
+            hud.flush();
+        });
+        assertEquals(1, view.scoreCalls);
+        assertEquals(100, view.lastScore);
+        assertEquals(100, hud.getUpdateCount());
+        assertEquals(1, hud.getFlushCount());
+    }
+
+    @Test
+    @DisplayName("바뀐 것이 없으면 flush가 아무것도 하지 않음")
+    void testEmptyFlush() {
+        hud.flush();
+        assertEquals(0, hud.getFlushCount());
+        assertEquals(0, view.scoreCalls);
+        assertEquals(0, view.nextBlockCalls);
+        assertEquals(0, view.attackPreviewCalls);
+    }
+
+    @Test
+    @DisplayName("저장된 최고 점수보다 높을 때만 최고 점수 표시")
+    void testHighScoreThreshold() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            hud.setScore(0);
+            hud.flush();
+        });
+        assertEquals(0, view.highScoreCalls, "0점은 최고 점수를 넘지 않음");
+
+        SwingUtilities.invokeAndWait(() -> {
+            hud.setScore(Integer.MAX_VALUE);
+            hud.flush();
+        });
+        assertEquals(1, view.highScoreCalls);
+        assertEquals(Integer.MAX_VALUE, view.lastHighScore);
+    }
+
+    @Test
+    @DisplayName("다음 블록과 공격 미리보기도 프레임당 한 번")
+    void testNextBlockAndAttackPreviewCoalesced() throws Exception {
+        Block first = new IBlock();
+        Block second = new OBlock();
+        SwingUtilities.invokeAndWait(() -> {
+            hud.setNextBlock(first);
+            hud.setNextBlock(second);
+            hud.attackPreviewChanged();
+            hud.attackPreviewChanged();
+            hud.attackPreviewChanged();
+
+            hud.flush();
+        });
+        assertEquals(1, view.nextBlockCalls);
+        assertSame(second, view.lastNextBlock);
+        assertEquals(1, view.attackPreviewCalls);
+        assertEquals(1, previewBuilds, "미리보기 목록은 반영할 때 한 번만 만듦");
+    }
+
+    @Test
+    @DisplayName("직접 flush하지 않아도 EDT에서 한 번 반영됨")
+    void testScheduledFlush() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            hud.setScore(10);
+            hud.setScore(20);
+        });
+        SwingUtilities.invokeAndWait(() -> { });  // 예약된 flush 실행 대기
+
+        assertEquals(1, view.scoreCalls);
+        assertEquals(20, view.lastScore);
+        assertEquals(1, hud.getFlushCount());
+    }
+}
@@ -0,0 +1,97 @@
+package game.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RenderBuffer 테스트")
+class RenderBufferTest {
+
+    /** 모든 칸이 같은 값(n)인 보드 상태 */
+    private static GameState uniform(int n) {
+        int[][] board = new int[22][12];
+        int[][] colorBoard = new int[22][12];
+        for (int row = 2; row < 22; row++) {
+            for (int col = 1; col <= 10; col++) {
+                board[row][col] = 1;
+                colorBoard[row][col] = n;
+            }
+        }
+        return new GameState.Builder(board, colorBoard, null, null, false).build();
+    }
+
+    @Test
+    @DisplayName("읽는 쪽은 가장 최근에 publish된 스냅샷을 받음")
+    void testLatestWins() {
+        RenderBuffer buffer = new RenderBuffer();
+        assertFalse(buffer.acquire().hasBoard(), "publish 전에는 빈 스냅샷");
+        assertNull(buffer.lastPublished());
+
+        for (int n = 1; n <= 3; n++) {
+            buffer.beginWrite().fill(uniform(n));
+            buffer.publish();
+        }
+        RenderSnapshot latest = buffer.acquire();
+        assertEquals(3, RenderSnapshot.rgbOf(latest.getCell(0, 0)));
+        assertSame(latest, buffer.lastPublished());
+        assertSame(latest, buffer.acquire(), "새 내용이 없으면 같은 버퍼");
+    }
+
+    @Test
+    @DisplayName("쓰는 쪽은 읽는 쪽이 들고 있는 버퍼를 받지 않음")
+    void testWriterNeverGetsReaderBuffer() {
+        RenderBuffer buffer = new RenderBuffer();
+        buffer.beginWrite().fill(uniform(1));
+        buffer.publish();
+        RenderSnapshot reading = buffer.acquire();
+
+        for (int i = 0; i < 10; i++) {
+            assertNotSame(reading, buffer.beginWrite());
+            buffer.beginWrite().fill(uniform(i + 2));
+            buffer.publish();
+        }
+        assertEquals(1, RenderSnapshot.rgbOf(reading.getCell(19, 9)), "읽는 중인 내용은 바뀌지 않음");
+    }
+
+    @Test
+    @DisplayName("다른 스레드에서 쓰고 읽어도 섞인 스냅샷이 보이지 않음")
+    void testNoTearingAcrossThreads() throws Exception {
+        RenderBuffer buffer = new RenderBuffer();
+        GameState[] states = new GameState[8];
+        for (int i = 0; i < states.length; i++) states[i] = uniform(i + 1);
+
+        AtomicBoolean done = new AtomicBoolean(false);
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                buffer.beginWrite().fill(states[i % states.length]);
+                buffer.publish();
+            }
+            done.set(true);
+        });
+        writer.start();
+
+        int lastSeen = 0;
+        while (!done.get() && failure.get() == null) {
+            RenderSnapshot snapshot = buffer.acquire();
+            if (!snapshot.hasBoard()) continue;
+            int first = snapshot.getCell(0, 0);
+            for (int row = 0; row < RenderSnapshot.ROWS && failure.get() == null; row++) {
+                for (int col = 0; col < RenderSnapshot.COLS; col++) {
+                    if (snapshot.getCell(row, col) != first) {
+                        failure.set("섞인 스냅샷: (" + row + "," + col + ")");
+                        break;
+                    }
+                }
+            }
+            lastSeen = first;
+        }
+        writer.join();
+        assertNull(failure.get());
+        assertNotEquals(-1, lastSeen);
+    }
+}
@@ -0,0 +1,141 @@
+package game.core;
+
+import blocks.Block;
+import blocks.JBlock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RenderSnapshot 테스트")
+class RenderSnapshotTest {
+
+    private static GameState state(Block block) {
+        int[][] board = new int[23][12];
+        int[][] colorBoard = new int[23][12];
+        board[21][1] = 1;
+        colorBoard[21][1] = 0xFF123456;
+        board[21][2] = 3;  // 색 정보 없음 → 종류별 기본색
+        board[1][5] = 2;   // 숨김 영역
+        return new GameState.Builder(board, colorBoard, block, null, false)
+            .lineClearAnimating(true)
+            .flashBlack(true)
+            .flashingRows(Arrays.asList(21))
+            .build();
+    }
+
+    @Test
+    @DisplayName("보이는 칸만 색을 정해 채움")
+    void testFillBoard() {
+        Block block = new JBlock();
+        block.setShape();
+        block.setPosition(4, 2);
+        RenderSnapshot snapshot = new RenderSnapshot();
+        snapshot.fill(state(block));
+
+        assertTrue(snapshot.hasBoard());
+        int cell = snapshot.getCell(19, 0);
+        assertEquals(1, RenderSnapshot.typeOf(cell));
+        assertEquals(0x123456, RenderSnapshot.rgbOf(cell));
+        assertEquals(RenderSnapshot.typeRgb(3), RenderSnapshot.rgbOf(snapshot.getCell(19, 1)));
+        assertEquals(0, snapshot.getCell(0, 4));
+
+        assertTrue(snapshot.hasPiece());
+        int[][] shape = block.getShape();
+        for (int r = 0; r < shape.length; r++) {
+            for (int c = 0; c < shape[r].length; c++) {
+                int piece = snapshot.getPieceCell(r, 3 + c);
+                assertEquals(shape[r][c], RenderSnapshot.typeOf(piece));
+                if (shape[r][c] != 0) {
+                    assertEquals(block.getColor().getRGB() & 0xFFFFFF, RenderSnapshot.rgbOf(piece));
+                }
+            }
+        }
+
+        assertTrue(snapshot.isLineClearAnimating());
+        assertTrue(snapshot.isRowFlashing(19));
+        assertFalse(snapshot.isRowFlashing(18));
+    }
+
+    @Test
+    @DisplayName("AnimationManager 상태로 채우면 applyAnimationState와 같은 애니메이션 상태")
+    void testFillWithAnimation() {
+        AnimationManager animation = new AnimationManager(null);
+        animation.startBoxClearAnimation(Arrays.asList(new int[]{10, 5}), null);
+        try {
+            GameState plain = new GameState.Builder(new int[23][12], new int[23][12], null, null, false).build();
+            RenderSnapshot snapshot = new RenderSnapshot();
+            snapshot.fill(plain, animation);
+
+            GameState applied = animation.applyAnimationState(plain);
+            assertEquals(applied.isBoxClearAnimating(), snapshot.isBoxClearAnimating());
+            assertEquals(applied.isBoxFlashBlack(), snapshot.isBoxFlashBlack());
+            assertEquals(1, snapshot.getBoxCenterCount());
+            assertEquals(10, snapshot.getBoxCenterRow(0));
+            assertEquals(5, snapshot.getBoxCenterCol(0));
+            assertFalse(snapshot.isLineClearAnimating());
+            assertFalse(snapshot.hasPiece());
+        } finally {
+            animation.stopAllAnimations();
+        }
+    }
+
+    @Test
+    @DisplayName("copyFrom과 setPiece")
+    void testCopyAndSetPiece() {
+        RenderSnapshot source = new RenderSnapshot();
+        source.fill(state(null));
+        RenderSnapshot copy = new RenderSnapshot();
+        copy.copyFrom(source);
+        assertEquals(source.getCell(19, 0), copy.getCell(19, 0));
+        assertTrue(copy.isRowFlashing(19));
+
+        Block block = new JBlock();
+        block.setShape();
+        block.setPosition(1, 2);
+        copy.setPiece(block);
+        assertTrue(copy.hasPiece());
+        assertFalse(source.hasPiece(), "원본은 그대로");
+
+        copy.setPiece(null);
+        assertFalse(copy.hasPiece());
+        snapshotIsClearWithNull();
+    }
+
+    private void snapshotIsClearWithNull() {
+        RenderSnapshot snapshot = new RenderSnapshot();
+        snapshot.fill(state(null));
+        snapshot.fill(null);
+        assertFalse(snapshot.hasBoard());
+        assertEquals(0, snapshot.getCell(19, 0));
+        assertFalse(snapshot.isLineClearAnimating());
+    }
+
+    @Test
+    @DisplayName("채울 때 메모리를 할당하지 않음")
+    void testFillDoesNotAllocate() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return;  // 스레드별 할당량을 잴 수 없는 JVM
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!bean.isThreadAllocatedMemorySupported() || !bean.isThreadAllocatedMemoryEnabled()) {
+            return;
+        }
+
+        Block block = new JBlock();
+        block.setShape();
+        GameState state = state(block);
+        RenderSnapshot snapshot = new RenderSnapshot();
+        for (int i = 0; i < 10_000; i++) snapshot.fill(state);  // JIT 워밍업
+
+        long thread = Thread.currentThread().getId();
+        long before = bean.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 10_000; i++) snapshot.fill(state);
+        long allocated = bean.getThreadAllocatedBytes(thread) - before;
+
+        assertTrue(allocated < 64 * 1024, "10000번 채우는 동안 할당: " + allocated + " bytes");
+    }
+}
@@ -150,4 +150,19 @@ class BlockPlacedEventTest {
         assertTrue(str.contains("blockType=2"));
         assertTrue(str.contains("playerId=1"));
     }
+    
+    @Test
+    @DisplayName("보드 해시 포함 직렬화 테스트")
+    void testSerializationWithBoardHash() {
+        BlockPlacedEvent original = new BlockPlacedEvent(3, 8, 4, 2, 0x1234567890ABCDEFL);
+        
+        byte[] serialized = original.serialize();
+        assertEquals(32, serialized.length); // long(8) + int(4)*4 + long(8)
+        
+        BlockPlacedEvent deserialized = new BlockPlacedEvent();
+        deserialized.deserialize(serialized);
+        
+        assertEquals(0x1234567890ABCDEFL, deserialized.getBoardHash());
+        assertEquals(2, deserialized.getPlayerId());
+    }
 }
@@ -108,4 +108,81 @@ class BlockSpawnedEventTest {
         assertTrue(str.contains("y=0"));
         assertTrue(str.contains("blocks.TBlock"));
     }
+    
+    @Test
+    @DisplayName("등록된 블록은 1바이트 타입 ID로 직렬화")
+    void testCompactTypeIds() {
+        BlockSpawnedEvent event = new BlockSpawnedEvent("blocks.IBlock", 3, 0, "blocks.item.WeightBlock");
+        
+        byte[] serialized = event.serialize();
+        assertEquals(8 + 4 + 4 + 1 + 1, serialized.length);
+        
+        BlockSpawnedEvent deserialized = new BlockSpawnedEvent();
+        deserialized.deserialize(serialized);
+        assertEquals(blocks.BlockTypeRegistry.I, deserialized.getBlockTypeId());
+        assertEquals(blocks.BlockTypeRegistry.WEIGHT, deserialized.getNextBlockTypeId());
+        assertEquals("blocks.item.WeightBlock", deserialized.getNextBlockClassName());
+    }
+    
+    @Test
+    @DisplayName("순서 번호 이벤트는 번호만 인코딩하고 수신 측 순서로 복원")
+    void testSequencedEncodeAndResolve() {
+        blocks.PieceSequence sequence = new blocks.PieceSequence(2024L, 0);
+        int index = 300;
+        blocks.Block current = sequence.blockAt(index);
+        blocks.Block next = sequence.blockAt(index + 1);
+        BlockSpawnedEvent original = new BlockSpawnedEvent(
+            current.getClass().getName(), current.getX(), current.getY(), next.getClass().getName(), index);
+        
+        byte[] encoded = EventCodecRegistry.encode(original);
+        assertEquals(1 + 2, encoded.length);  // 형식 1바이트 + varint(300)
+        
+        BlockSpawnedEvent decoded = new BlockSpawnedEvent();
+        decoded.decode(java.nio.ByteBuffer.wrap(encoded));
+        assertTrue(decoded.needsResolve());
+        assertEquals(index, decoded.getSequenceIndex());
+        
+        decoded.resolve(new blocks.PieceSequence(2024L, 0));
+        assertFalse(decoded.needsResolve());
+        assertEquals(original.getBlockClassName(), decoded.getBlockClassName());
+        assertEquals(original.getX(), decoded.getX());
+        assertEquals(original.getY(), decoded.getY());
+        assertEquals(original.getNextBlockClassName(), decoded.getNextBlockClassName());
+    }
+    
+    @Test
+    @DisplayName("순서 번호 없는 이벤트와 toFullForm은 종류/위치를 그대로 인코딩")
+    void testFullFormEncoding() {
+        BlockSpawnedEvent sequenced = new BlockSpawnedEvent("blocks.TBlock", 4, 2, "blocks.IBlock", 7);
+        BlockSpawnedEvent full = sequenced.toFullForm();
+        assertFalse(full.isSequenced());
+        
+        BlockSpawnedEvent decoded = new BlockSpawnedEvent();
+        decoded.decode(java.nio.ByteBuffer.wrap(EventCodecRegistry.encode(full)));
+        assertFalse(decoded.needsResolve());
+        assertEquals("blocks.TBlock", decoded.getBlockClassName());
+        assertEquals(4, decoded.getX());
+        assertEquals(2, decoded.getY());
+        assertEquals("blocks.IBlock", decoded.getNextBlockClassName());
+        assertEquals(-1, decoded.getSequenceIndex());
+    }
+    
+    @Test
+    @DisplayName("블록 객체로 만든 이벤트는 타입 ID를 그대로 담고 이름은 필요할 때만 만듦")
+    void testOfBlockKeepsTypeIds() {
+        blocks.Block current = new blocks.JBlock();
+        current.setPosition(3, 1);
+        BlockSpawnedEvent event = BlockSpawnedEvent.of(current, new blocks.ZBlock(), -1);
+        
+        assertEquals(blocks.BlockTypeRegistry.J, event.getBlockTypeId());
+        assertEquals(blocks.BlockTypeRegistry.Z, event.getNextBlockTypeId());
+        assertEquals(3, event.getX());
+        assertEquals(1, event.getY());
+        assertEquals("blocks.JBlock", event.getBlockClassName());
+        assertEquals("blocks.ZBlock", event.getNextBlockClassName());
+        
+        BlockSpawnedEvent noNext = BlockSpawnedEvent.of(current, null, -1);
+        assertEquals(blocks.BlockTypeRegistry.NONE, noNext.getNextBlockTypeId());
+        assertNull(noNext.getNextBlockClassName());
+    }
 }
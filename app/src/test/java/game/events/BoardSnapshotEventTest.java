@@ -0,0 +1,86 @@
+package game.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BoardSnapshotEvent 테스트")
+class BoardSnapshotEventTest {
+
+    @Test
+    @DisplayName("직렬화/역직렬화 왕복 테스트")
+    void testSerializeRoundTrip() {
+        int[][] board = new int[23][12];
+        int[][] color = new int[23][12];
+        board[21][1] = 1;
+        color[21][1] = 0xFF0000;
+        board[20][10] = 1;
+        color[20][10] = 8;
+
+        BoardSnapshotEvent event = new BoardSnapshotEvent(board, color, 1500, 2);
+        BoardSnapshotEvent restored = new BoardSnapshotEvent();
+        restored.deserialize(event.serialize());
+
+        assertEquals("BOARD_SNAPSHOT", restored.getEventType());
+        assertEquals(1500, restored.getScore());
+        assertEquals(2, restored.getPlayerId());
+        assertArrayEquals(board, restored.getBoard());
+        assertArrayEquals(color, restored.getColorBoard());
+    }
+
+    @Test
+    @DisplayName("빈 칸은 색상을 전송하지 않음")
+    void testCompactEncoding() {
+        int[][] empty = new int[23][12];
+        int[][] oneCell = new int[23][12];
+        oneCell[5][5] = 1;
+
+        int emptySize = new BoardSnapshotEvent(empty, empty, 0, 1).serialize().length;
+        int oneCellSize = new BoardSnapshotEvent(oneCell, oneCell, 0, 1).serialize().length;
+
+        assertEquals(emptySize + 5, oneCellSize);
+    }
+
+    @Test
+    @DisplayName("delta 직렬화/역직렬화 왕복 테스트")
+    void testDeltaRoundTrip() {
+        int[][] board = new int[23][12];
+        int[][] color = new int[23][12];
+        int[] base = game.core.BoardDeltaCodec.pack(board, color, 23, 12);
+        board[21][4] = 1;
+        color[21][4] = 0xFF0000FF;
+        int[] current = game.core.BoardDeltaCodec.pack(board, color, 23, 12);
+        int[] xor = game.core.BoardDeltaCodec.xor(base, current);
+
+        BoardSnapshotEvent delta = BoardSnapshotEvent.delta(3, 1, xor, 23, 12, 700, 1);
+        byte[] data = delta.serialize();
+        BoardSnapshotEvent restored = new BoardSnapshotEvent();
+        restored.deserialize(data);
+
+        assertFalse(restored.isKeyframe());
+        assertEquals(3, restored.getVersion());
+        assertEquals(1, restored.getBaseVersion());
+        assertEquals(700, restored.getScore());
+        assertArrayEquals(current, game.core.BoardDeltaCodec.xor(base, restored.getDeltaWords()));
+
+        int keyframeSize = BoardSnapshotEvent.keyframe(board, color, 700, 1, 3).serialize().length;
+        assertTrue(data.length < keyframeSize, "delta가 키프레임보다 커짐: " + data.length);
+    }
+
+    @Test
+    @DisplayName("키프레임 pack 결과가 원본 보드와 일치")
+    void testKeyframePacked() {
+        int[][] board = new int[23][12];
+        int[][] color = new int[23][12];
+        board[10][2] = 1;
+        color[10][2] = 0xFFFFFF00;
+
+        BoardSnapshotEvent restored = new BoardSnapshotEvent();
+        restored.deserialize(BoardSnapshotEvent.keyframe(board, color, 0, 2, 5).serialize());
+
+        assertTrue(restored.isKeyframe());
+        assertEquals(5, restored.getVersion());
+        assertArrayEquals(game.core.BoardDeltaCodec.pack(board, color, 23, 12), restored.getPacked());
+    }
+}
@@ -0,0 +1,103 @@
+package game.events;
+
+import game.model.AttackPattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EventCodecRegistry 테스트")
+class EventCodecRegistryTest {
+
+    @Test
+    @DisplayName("ID와 타입 문자열이 서로 대응")
+    void testIdAndType() {
+        assertEquals(EventCodecRegistry.BLOCK_PLACED, EventCodecRegistry.idOf(new BlockPlacedEvent()));
+        assertEquals("BLOCK_PLACED", EventCodecRegistry.typeOf(EventCodecRegistry.BLOCK_PLACED));
+        assertEquals(EventCodecRegistry.LINE_CLEARED, EventCodecRegistry.idOfType("LINE_CLEARED"));
+        assertEquals(EventCodecRegistry.UNKNOWN, EventCodecRegistry.idOfType("UNKNOWN_EVENT"));
+        assertNull(EventCodecRegistry.typeOf(EventCodecRegistry.UNKNOWN));
+        assertNull(EventCodecRegistry.newInstance(200));
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 이벤트는 UNKNOWN")
+    void testUnregisteredEvent() {
+        GameEvent event = new AttackEvent(2, 1);
+        assertEquals(EventCodecRegistry.UNKNOWN, EventCodecRegistry.idOf(event));
+        assertFalse(EventCodecRegistry.isSync(event));
+    }
+
+    @Test
+    @DisplayName("동기화 여부가 이벤트별로 등록됨")
+    void testSyncFlags() {
+        assertTrue(EventCodecRegistry.isSync(new BlockMovedEvent()));
+        assertTrue(EventCodecRegistry.isSync(new BoardSnapshotEvent()));
+        assertFalse(EventCodecRegistry.isSync(new TickEvent()));
+        assertFalse(EventCodecRegistry.isSync((GameEvent) null));
+        assertTrue(EventCodecRegistry.getSyncEventClasses().contains(AttackAppliedEvent.class));
+    }
+
+    @Test
+    @DisplayName("BlockMovedEvent 압축 인코딩 왕복 (음수 좌표 포함)")
+    void testBlockMovedRoundTrip() {
+        BlockMovedEvent original = new BlockMovedEvent(-1, 5, 3, 2);
+        byte[] data = EventCodecRegistry.encode(original);
+        assertTrue(data.length < original.serialize().length);
+
+        BlockMovedEvent restored = (BlockMovedEvent) EventCodecRegistry.decode(EventCodecRegistry.BLOCK_MOVED, data);
+        assertEquals(-1, restored.getX());
+        assertEquals(5, restored.getY());
+        assertEquals(3, restored.getBlockType());
+        assertEquals(2, restored.getRotation());
+    }
+
+    @Test
+    @DisplayName("LineClearedEvent 패턴과 해시 왕복")
+    void testLineClearedRoundTrip() {
+        int[][] pattern = {{1, 1}, {0, 1}};
+        LineClearedEvent original = new LineClearedEvent(new int[]{19, 20}, 300, 2, AttackPattern.fromMatrix(pattern), -1, 0xABCDEFL);
+        LineClearedEvent restored = (LineClearedEvent) EventCodecRegistry.decode(
+            EventCodecRegistry.LINE_CLEARED, EventCodecRegistry.encode(original));
+
+        assertArrayEquals(new int[]{19, 20}, restored.getClearedLines());
+        assertEquals(300, restored.getScore());
+        assertEquals(2, restored.getPlayerId());
+        assertArrayEquals(pattern, restored.getLastBlockPattern());
+        assertEquals(-1, restored.getLastBlockX());
+        assertEquals(0xABCDEFL, restored.getBoardHash());
+    }
+
+    @Test
+    @DisplayName("오버라이드하지 않은 이벤트는 serialize() 결과로 왕복")
+    void testDefaultCodec() {
+        int[][] board = new int[23][12];
+        int[][] color = new int[23][12];
+        board[21][3] = 1;
+        color[21][3] = 0xFF00FF;
+        BoardSnapshotEvent original = new BoardSnapshotEvent(board, color, 500, 1);
+
+        BoardSnapshotEvent restored = (BoardSnapshotEvent) EventCodecRegistry.decode(
+            EventCodecRegistry.BOARD_SNAPSHOT, EventCodecRegistry.encode(original));
+        assertEquals(500, restored.getScore());
+        assertEquals(1, restored.getBoard()[21][3]);
+    }
+
+    @Test
+    @DisplayName("하나의 버퍼에 여러 이벤트를 이어서 인코딩")
+    void testSharedBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        EventCodecRegistry.encode(new ScoreUpdateEvent(1234), buffer);
+        EventCodecRegistry.encode(new GameOverEvent(9999, 2), buffer);
+        buffer.flip();
+
+        ScoreUpdateEvent score = (ScoreUpdateEvent) EventCodecRegistry.decode(EventCodecRegistry.SCORE_UPDATE, buffer);
+        GameOverEvent over = (GameOverEvent) EventCodecRegistry.decode(EventCodecRegistry.GAME_OVER, buffer);
+        assertEquals(1234, score.getNewScore());
+        assertEquals(9999, over.getFinalScore());
+        assertEquals(2, over.getPlayerId());
+        assertFalse(buffer.hasRemaining());
+    }
+}
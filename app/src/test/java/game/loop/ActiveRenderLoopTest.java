@@ -0,0 +1,49 @@
+package game.loop;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JLayeredPane;
+import javax.swing.JPanel;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ActiveRenderLoop 테스트")
+class ActiveRenderLoopTest {
+
+    @AfterEach
+    void clearProperty() {
+        System.clearProperty(ActiveRenderLoop.MODE_PROPERTY);
+    }
+
+    @Test
+    @DisplayName("요청하지 않으면 Swing 그리기 유지")
+    void testNotRequested() {
+        JLayeredPane pane = new JLayeredPane();
+        JPanel layer = new JPanel();
+        pane.add(layer, JLayeredPane.DEFAULT_LAYER);
+
+        assertFalse(ActiveRenderLoop.isRequested());
+        assertNull(ActiveRenderLoop.attachIfRequested(pane, layer));
+        assertTrue(layer.isVisible());
+        assertEquals(1, pane.getComponentCount());
+    }
+
+    @Test
+    @DisplayName("사용할 수 없는 환경(헤드리스)이면 레이어를 건드리지 않고 null")
+    void testFallbackWhenUnavailable() {
+        System.setProperty(ActiveRenderLoop.MODE_PROPERTY, "active");
+        assertTrue(ActiveRenderLoop.isRequested());
+
+        JLayeredPane pane = new JLayeredPane();
+        JPanel layer = new JPanel();
+        layer.setBounds(0, 0, 100, 100);
+        pane.add(layer, JLayeredPane.DEFAULT_LAYER);
+
+        // 화면에 표시되지 않은 pane에서는 BufferStrategy를 만들 수 없음
+        assertNull(ActiveRenderLoop.attachIfRequested(pane, layer));
+        assertTrue(layer.isVisible());
+        assertEquals(1, pane.getComponentCount(), "Canvas가 남아 있으면 안 됨");
+    }
+}
@@ -0,0 +1,52 @@
+package game.loop;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FramePacer 테스트")
+class FramePacerTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    @DisplayName("그리는 시간과 상관없이 일정한 간격으로 프레임 시작")
+    void testFixedSchedule() {
+        FramePacer pacer = new FramePacer(50);  // 20ms
+        assertEquals(20 * MS, pacer.getPeriodNanos());
+
+        assertEquals(1000 * MS, pacer.nextFrameTime(1000 * MS));
+        // 프레임이 3ms 걸린 뒤 → 다음 시작은 이전 시작 + 20ms
+        assertEquals(1020 * MS, pacer.nextFrameTime(1003 * MS));
+        // 조금 늦어도(한 주기 이내) 일정 유지
+        assertEquals(1040 * MS, pacer.nextFrameTime(1045 * MS));
+        assertEquals(0, pacer.getMissedFrames());
+    }
+
+    @Test
+    @DisplayName("한 주기 이상 밀리면 몰아 그리지 않고 지금부터 다시 맞춤")
+    void testResyncWhenFarBehind() {
+        FramePacer pacer = new FramePacer(50);
+        pacer.nextFrameTime(0);
+
+        long next = pacer.nextFrameTime(100 * MS);  // 20ms 예정이었는데 100ms
+        assertEquals(100 * MS, next);
+        assertEquals(4, pacer.getMissedFrames());
+        assertEquals(120 * MS, pacer.nextFrameTime(101 * MS));
+    }
+
+    @Test
+    @DisplayName("프레임률은 양수여야 함")
+    void testInvalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> new FramePacer(0));
+    }
+
+    @Test
+    @DisplayName("sleepUntil은 지정 시각까지 대기")
+    void testSleepUntil() {
+        long start = System.nanoTime();
+        FramePacer.sleepUntil(start + 5 * MS);
+        assertTrue(System.nanoTime() - start >= 5 * MS);
+    }
+}
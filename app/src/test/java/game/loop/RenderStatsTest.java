@@ -0,0 +1,55 @@
+package game.loop;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RenderStats 테스트")
+class RenderStatsTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    @DisplayName("렌더링 시간 평균/백분위/최대와 프레임률")
+    void testFrameStats() {
+        RenderStats stats = new RenderStats();
+        for (int i = 0; i < 100; i++) {
+            stats.recordFrame(i * 16 * MS, (i + 1) * 10_000L);  // 16ms 간격, 0.01ms ~ 1ms
+        }
+
+        assertEquals(100, stats.getFrameCount());
+        assertEquals(95 * 10_000L, stats.percentile(95));
+        assertEquals(100 * 10_000L, stats.maxRenderNanos());
+        assertEquals(50.5 * 10_000L, stats.meanRenderNanos(), 1e-6);
+        assertEquals(62.5, stats.framesPerSecond(), 0.01);
+    }
+
+    @Test
+    @DisplayName("최근 WINDOW 프레임만 유지")
+    void testRollingWindow() {
+        RenderStats stats = new RenderStats();
+        for (int i = 0; i < RenderStats.WINDOW; i++) {
+            stats.recordFrame(i * 16 * MS, 50 * MS);
+        }
+        for (int i = 0; i < RenderStats.WINDOW; i++) {
+            stats.recordFrame((RenderStats.WINDOW + i) * 16 * MS, MS);
+        }
+
+        assertEquals(2L * RenderStats.WINDOW, stats.getFrameCount());
+        assertEquals(MS, stats.maxRenderNanos(), "오래된 느린 프레임은 밀려나야 함");
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 0, 건너뛴 프레임 집계")
+    void testEmptyAndSkipped() {
+        RenderStats stats = new RenderStats();
+        assertEquals(0, stats.percentile(99));
+        assertEquals(0.0, stats.framesPerSecond());
+
+        stats.recordSkipped();
+        stats.recordSkipped();
+        assertEquals(2, stats.getSkippedFrames());
+        assertTrue(stats.summary().contains("skipped=2"));
+    }
+}
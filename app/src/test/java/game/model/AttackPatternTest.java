@@ -0,0 +1,134 @@
+package game.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AttackPattern 테스트")
+class AttackPatternTest {
+
+    @Test
+    @DisplayName("int[][] 패턴 왕복")
+    void testMatrixRoundTrip() {
+        int[][] matrix = {
+            {1, 0, 0, 0, 0, 0, 0, 0, 0, 1},
+            {0, 0, 0, 1, 0, 0, 0, 0, 0, 0}
+        };
+        AttackPattern pattern = AttackPattern.fromMatrix(matrix);
+
+        assertEquals(2, pattern.getHeight());
+        assertEquals(10, pattern.getWidth());
+        assertEquals(0b1000000001, pattern.rowMask(0));
+        assertTrue(pattern.isHole(1, 3));
+        assertFalse(pattern.isHole(1, 4));
+        assertEquals("1000000001", pattern.rowToString(0));
+        assertTrue(Arrays.deepEquals(matrix, pattern.toMatrix()));
+    }
+
+    @Test
+    @DisplayName("null 입력은 null")
+    void testNull() {
+        assertNull(AttackPattern.fromMatrix(null));
+        assertNull(AttackPattern.of(null, 10));
+    }
+
+    @Test
+    @DisplayName("너비는 16칸으로 제한")
+    void testWidthClamp() {
+        int[][] wide = new int[1][20];
+        wide[0][15] = 1;
+        wide[0][19] = 1;
+        AttackPattern pattern = AttackPattern.fromMatrix(wide);
+
+        assertEquals(AttackPattern.MAX_WIDTH, pattern.getWidth());
+        assertTrue(pattern.isHole(0, 15));
+        assertFalse(pattern.isHole(0, 19));
+    }
+
+    @Test
+    @DisplayName("보드 줄의 빈 칸을 구멍으로 추출")
+    void testFromBoardRows() {
+        int[][] board = new int[4][12];
+        Arrays.fill(board[2], 1);
+        board[2][1] = 0;
+        board[2][5] = 0;
+
+        AttackPattern pattern = AttackPattern.fromBoardRows(board, java.util.List.of(2), 1, 10);
+
+        assertEquals(1, pattern.getHeight());
+        assertEquals("1000100000", pattern.rowToString(0));
+    }
+
+    @Test
+    @DisplayName("공격줄 채우기 - 패턴 높이보다 많으면 반복")
+    void testFillGarbageRowRepeats() {
+        AttackPattern pattern = AttackPattern.of(new short[] {0b1, 0b10}, 10);
+        int[] row = new int[12];
+        int[] color = new int[12];
+
+        AttackPattern.fillGarbageRow(pattern, 2, row, color, 1, 1, 10);
+
+        assertEquals(0, row[1]);
+        assertEquals(0, color[1]);
+        assertEquals(1, row[2]);
+        assertEquals(8, color[2]);
+        assertEquals(0, row[0], "벽 칸은 건드리지 않음");
+        assertEquals(0, row[11], "벽 칸은 건드리지 않음");
+    }
+
+    @Test
+    @DisplayName("공격줄 채우기 - 보드 밖으로 나가는 구멍은 무시")
+    void testFillGarbageRowClipsOutside() {
+        AttackPattern pattern = AttackPattern.of(new short[] {(short) 0b1000000001}, 10);
+        int[] row = new int[12];
+        int[] color = new int[12];
+
+        AttackPattern.fillGarbageRow(pattern, 0, row, color, 5, 1, 10);
+
+        assertEquals(0, row[5]);
+        for (int c = 1; c <= 10; c++) {
+            if (c != 5) assertEquals(1, row[c], "col " + c);
+        }
+    }
+
+    @Test
+    @DisplayName("직렬화 - 4줄 패턴은 헤더 2바이트 + 마스크 8바이트")
+    void testSerialization() {
+        AttackPattern pattern = AttackPattern.of(new short[] {1, 2, 4, (short) 0x200}, 10);
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        pattern.writeTo(buffer);
+
+        assertEquals(10, buffer.position());
+        assertEquals(10, pattern.serializedSize());
+
+        buffer.flip();
+        AttackPattern restored = AttackPattern.readFrom(buffer);
+        assertEquals(pattern, restored);
+        assertEquals(pattern.hashCode(), restored.hashCode());
+    }
+
+    @Test
+    @DisplayName("역직렬화 - 잘못된 크기는 예외")
+    void testReadInvalid() {
+        ByteBuffer tooWide = ByteBuffer.wrap(new byte[] {1, 17, 0, 0});
+        assertThrows(IllegalArgumentException.class, () -> AttackPattern.readFrom(tooWide));
+
+        ByteBuffer truncated = ByteBuffer.wrap(new byte[] {3, 10, 0, 0});
+        assertThrows(IllegalArgumentException.class, () -> AttackPattern.readFrom(truncated));
+    }
+
+    @Test
+    @DisplayName("생성 후 입력 배열을 바꿔도 영향 없음")
+    void testImmutable() {
+        short[] masks = {1};
+        AttackPattern pattern = AttackPattern.of(masks, 10);
+        masks[0] = 2;
+        pattern.toRowMasks()[0] = 4;
+
+        assertEquals(1, pattern.rowMask(0));
+    }
+}
@@ -0,0 +1,67 @@
+package game.panels;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Font;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CellSpriteCache 테스트")
+class CellSpriteCacheTest {
+
+    private static final Font FONT = new Font("Dialog", Font.PLAIN, 12);
+
+    @Test
+    @DisplayName("같은 색/크기/글자면 같은 이미지 재사용")
+    void testReuse() {
+        CellSpriteCache cache = new CellSpriteCache();
+        BufferedImage a = cache.get(0xFF0000, 30, CellSpriteCache.GLYPH_NONE, FONT);
+        BufferedImage b = cache.get(0xFF0000, 30, CellSpriteCache.GLYPH_NONE, FONT);
+
+        assertSame(a, b);
+        assertEquals(30, a.getWidth());
+        assertEquals(30, a.getHeight());
+        assertEquals(0xFF0000, a.getRGB(15, 15) & 0xFFFFFF);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("글자가 있으면 다른 이미지")
+    void testGlyphSprite() {
+        CellSpriteCache cache = new CellSpriteCache();
+        BufferedImage plain = cache.get(0x0000FF, 30, CellSpriteCache.GLYPH_NONE, FONT);
+        BufferedImage lined = cache.get(0x0000FF, 30, CellSpriteCache.GLYPH_ONE_LINE, FONT);
+
+        assertNotSame(plain, lined);
+        boolean hasText = false;
+        for (int y = 0; y < 30 && !hasText; y++) {
+            for (int x = 0; x < 30; x++) {
+                if ((lined.getRGB(x, y) & 0xFFFFFF) == 0xFFFFFF) {  // 어두운 배경 → 흰 글자
+                    hasText = true;
+                    break;
+                }
+            }
+        }
+        assertTrue(hasText, "L 글자가 그려져야 함");
+    }
+
+    @Test
+    @DisplayName("셀 크기가 바뀌거나 무효화되면 다시 그림")
+    void testInvalidation() {
+        CellSpriteCache cache = new CellSpriteCache();
+        BufferedImage small = cache.get(0x00FF00, 20, CellSpriteCache.GLYPH_NONE, FONT);
+        BufferedImage large = cache.get(0x00FF00, 40, CellSpriteCache.GLYPH_NONE, FONT);
+        assertEquals(40, large.getWidth());
+        assertEquals(1, cache.size(), "이전 크기 이미지는 비워져야 함");
+        assertNotSame(small, large);
+
+        CellSpriteCache.invalidateAll();
+        BufferedImage rebuilt = cache.get(0x00FF00, 40, CellSpriteCache.GLYPH_NONE, FONT);
+        assertNotSame(large, rebuilt);
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+}
@@ -3,7 +3,13 @@ package game.panels;
 import blocks.Block;
 import blocks.IBlock;
 import blocks.JBlock;
+import game.core.AnimationManager;
 import game.core.GameState;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -128,4 +134,141 @@ class GameBoardPanelTest {
             assertDoesNotThrow(() -> panel.render(state), "연속 렌더링이 가능해야 함");
         }
     }
+    
+    private static GameState stateWithBlock(int x, int y) {
+        int[][] board = new int[23][12];
+        int[][] colorBoard = new int[23][12];
+        board[21][1] = 1;
+        colorBoard[21][1] = 0xFF0000;
+        Block block = new JBlock();
+        block.setShape();
+        block.setPosition(x, y);
+        return new GameState.Builder(board, colorBoard, block, null, false).build();
+    }
+    
+    private BufferedImage paintFull() {
+        BufferedImage image = new BufferedImage(300, 600, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        panel.paint(g);
+        g.dispose();
+        return image;
+    }
+    
+    @Test
+    @DisplayName("블록이 한 칸 내려가면 이전/새 위치만 repaint")
+    void testDirtyRegionForFallingBlock() {
+        panel.setSize(300, 600);
+        panel.render(stateWithBlock(4, 2));
+        assertNull(panel.getLastRepaintRegion(), "첫 렌더링은 전체");
+        
+        panel.render(stateWithBlock(4, 3));
+        Rectangle region = panel.getLastRepaintRegion();
+        assertNotNull(region);
+        // 3x3 모양이 한 칸 내려감 → 이전/새 위치 합쳐 최대 네 행, 세 열 (+ 선 두께)
+        assertTrue(region.height <= 4 * 30 + 6, "region=" + region);
+        assertTrue(region.width <= 3 * 30 + 6, "region=" + region);
+        assertFalse(region.intersects(new Rectangle(0, 19 * 30, 30, 30)), "쌓인 블록 영역은 제외");
+        
+        panel.render(stateWithBlock(4, 3));
+        assertTrue(panel.getLastRepaintRegion().isEmpty(), "바뀐 것이 없으면 repaint하지 않음: " + panel.getLastRepaintRegion());
+        
+        panel.setCellSize(20);
+        panel.render(stateWithBlock(4, 3));
+        assertNull(panel.getLastRepaintRegion(), "셀 크기가 바뀌면 전체");
+    }
+    
+    @Test
+    @DisplayName("부분 repaint 결과가 전체 repaint와 같음")
+    void testPartialPaintMatchesFullPaint() {
+        panel.setSize(300, 600);
+        panel.render(stateWithBlock(4, 2));
+        BufferedImage partial = paintFull();
+        
+        panel.render(stateWithBlock(4, 3));
+        Rectangle region = panel.getLastRepaintRegion();
+        BufferedImage expected = paintFull();
+        
+        // 부분 repaint: 영역을 비운 뒤(부모가 배경을 다시 그리는 것에 해당) 그 영역만 그림
+        Graphics2D g = partial.createGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fill(region);
+        g.setComposite(AlphaComposite.SrcOver);
+        g.setClip(region);
+        panel.paint(g);
+        g.dispose();
+        
+        for (int y = 0; y < 600; y++) {
+            for (int x = 0; x < 300; x++) {
+                assertEquals(expected.getRGB(x, y), partial.getRGB(x, y), "pixel (" + x + "," + y + ")");
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("애니메이션 상태로 바로 렌더링한 결과가 applyAnimationState와 같음")
+    void testRenderWithAnimationMatchesAppliedState() {
+        AnimationManager animation = new AnimationManager(null);
+        animation.startLineClearAnimation(Arrays.asList(21), null);
+        try {
+            GameState state = stateWithBlock(4, 5);
+            panel.setSize(300, 600);
+            panel.render(animation.applyAnimationState(state));
+            BufferedImage expected = paintFull();
+            
+            GameBoardPanel direct = new GameBoardPanel();
+            direct.setSize(300, 600);
+            direct.render(state, animation);
+            BufferedImage actual = new BufferedImage(300, 600, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = actual.createGraphics();
+            direct.paint(g);
+            g.dispose();
+            
+            for (int y = 0; y < 600; y++) {
+                for (int x = 0; x < 300; x++) {
+                    assertEquals(expected.getRGB(x, y), actual.getRGB(x, y), "pixel (" + x + "," + y + ")");
+                }
+            }
+            assertEquals(0xFF000000, actual.getRGB(45, 19 * 30 + 15), "플래시 행은 검은색");
+        } finally {
+            animation.stopAllAnimations();
+        }
+    }
+    
+    @Test
+    @DisplayName("래스터 페인터 결과가 셀 이미지 방식과 같음")
+    void testRasterPaintingMatchesSpritePainting() {
+        AnimationManager animation = new AnimationManager(null);
+        animation.startLineClearAnimation(Arrays.asList(20), null);
+        try {
+            int[][] board = new int[23][12];
+            int[][] colorBoard = new int[23][12];
+            board[21][1] = 1;
+            colorBoard[21][1] = 0xFF0000;
+            board[21][2] = 4;  // 한 줄 삭제 아이템 (L 글자)
+            colorBoard[21][2] = 0x333333;
+            board[20][3] = 5;  // 플래시 행에 있는 아이템
+            board[19][4] = 6;  // 색 정보 없음
+            Block block = new JBlock();
+            block.setShape();
+            block.setPosition(4, 8);
+            GameState state = new GameState.Builder(board, colorBoard, block, null, false).build();
+            
+            panel.setSize(300, 600);
+            panel.render(state, animation);
+            assertFalse(panel.isRasterPainting());
+            BufferedImage expected = paintFull();
+            
+            panel.setRasterPainting(true);
+            assertTrue(panel.isRasterPainting());
+            BufferedImage actual = paintFull();
+            
+            for (int y = 0; y < 600; y++) {
+                for (int x = 0; x < 300; x++) {
+                    assertEquals(expected.getRGB(x, y), actual.getRGB(x, y), "pixel (" + x + "," + y + ")");
+                }
+            }
+        } finally {
+            animation.stopAllAnimations();
+        }
+    }
 }
@@ -0,0 +1,95 @@
+package game.panels;
+
+import blocks.Block;
+import blocks.IBlock;
+import game.core.GameState;
+import game.core.RenderSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RasterBoardPainter 테스트")
+class RasterBoardPainterTest {
+
+    private static final int BACKGROUND = 0xF0F0FF;
+    private static final Font FONT = new Font("Dialog", Font.PLAIN, 12);
+
+    private static BufferedImage paint(RasterBoardPainter painter, RenderSnapshot snapshot, int cellSize) {
+        BufferedImage target = new BufferedImage(10 * cellSize, 20 * cellSize, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        painter.paint(g, snapshot, cellSize, new CellSpriteCache(), FONT);
+        g.dispose();
+        return target;
+    }
+
+    @Test
+    @DisplayName("칸마다 1픽셀로 쓰고 셀 크기만큼 확대")
+    void testPixelsAndScaling() {
+        int[][] board = new int[22][12];
+        int[][] colorBoard = new int[22][12];
+        board[21][10] = 1;
+        colorBoard[21][10] = 0x00FF00;
+        Block block = new IBlock();
+        block.setShape();
+        block.setPosition(1, 2);
+        RenderSnapshot snapshot = new RenderSnapshot();
+        snapshot.fill(new GameState.Builder(board, colorBoard, block, null, false).build());
+
+        RasterBoardPainter painter = new RasterBoardPainter(BACKGROUND);
+        BufferedImage image = paint(painter, snapshot, 12);
+
+        assertEquals(0x00FF00, painter.pixelAt(19, 9));
+        assertEquals(BACKGROUND, painter.pixelAt(10, 5));
+        assertEquals(block.getColor().getRGB() & 0xFFFFFF, painter.pixelAt(snapshotRowOf(snapshot), firstPieceCol(snapshot)));
+
+        // 확대: 칸 하나가 12x12 블록 전체를 같은 색으로 채움
+        for (int y = 19 * 12; y < 20 * 12; y++) {
+            for (int x = 9 * 12; x < 10 * 12; x++) {
+                assertEquals(0x00FF00, image.getRGB(x, y) & 0xFFFFFF);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("보드 없이 원격 블록만 있으면 블록과 배경만")
+    void testPieceOnly() {
+        Block block = new IBlock();
+        block.setShape();
+        block.setPosition(3, 5);
+        RenderSnapshot snapshot = new RenderSnapshot();
+        snapshot.setPiece(block);
+
+        RasterBoardPainter painter = new RasterBoardPainter(BACKGROUND);
+        paint(painter, snapshot, 10);
+
+        int pieces = 0;
+        for (int row = 0; row < 20; row++) {
+            for (int col = 0; col < 10; col++) {
+                if (painter.pixelAt(row, col) != BACKGROUND) pieces++;
+            }
+        }
+        assertEquals(4, pieces);
+    }
+
+    private static int snapshotRowOf(RenderSnapshot snapshot) {
+        for (int row = 0; row < 20; row++) {
+            for (int col = 0; col < 10; col++) {
+                if (snapshot.getPieceCell(row, col) != 0) return row;
+            }
+        }
+        return -1;
+    }
+
+    private static int firstPieceCol(RenderSnapshot snapshot) {
+        int row = snapshotRowOf(snapshot);
+        for (int col = 0; col < 10; col++) {
+            if (snapshot.getPieceCell(row, col) != 0) return col;
+        }
+        return -1;
+    }
+}
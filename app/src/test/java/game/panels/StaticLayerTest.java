@@ -0,0 +1,66 @@
+package game.panels;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StaticLayer 테스트")
+class StaticLayerTest {
+
+    private int paints = 0;
+
+    private final StaticLayer layer = new StaticLayer(true, (g, width, height) -> {
+        paints++;
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, width, height);
+    });
+
+    private BufferedImage drawOnce(int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        layer.draw(g, width, height);
+        g.dispose();
+        return target;
+    }
+
+    @Test
+    @DisplayName("크기가 같으면 한 번만 그림")
+    void testPaintsOncePerSize() {
+        BufferedImage first = drawOnce(60, 40);
+        drawOnce(60, 40);
+        drawOnce(60, 40);
+
+        assertEquals(1, paints);
+        assertTrue(layer.isValid());
+        assertEquals(Color.RED.getRGB(), first.getRGB(30, 20));
+    }
+
+    @Test
+    @DisplayName("크기 변경이나 invalidate 후 다시 그림")
+    void testRepaintsAfterResizeOrInvalidate() {
+        drawOnce(60, 40);
+        drawOnce(80, 40);
+        assertEquals(2, paints);
+
+        layer.invalidate();
+        assertFalse(layer.isValid());
+        drawOnce(80, 40);
+        assertEquals(3, paints);
+    }
+
+    @Test
+    @DisplayName("크기가 0이면 그리지 않음")
+    void testZeroSize() {
+        BufferedImage target = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        layer.draw(g, 0, 40);
+        g.dispose();
+
+        assertEquals(0, paints);
+    }
+}
@@ -0,0 +1,77 @@
+package game.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VarInt 테스트")
+class VarIntTest {
+
+    @Test
+    @DisplayName("0~127은 1바이트")
+    void testSmallValueIsOneByte() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        VarInt.putVarInt(buffer, 127);
+        assertEquals(1, buffer.position());
+        VarInt.putVarInt(buffer, 128);
+        assertEquals(3, buffer.position());
+    }
+
+    @Test
+    @DisplayName("sizeOfVarInt는 실제로 쓴 바이트 수와 같음")
+    void testSizeOfVarInt() {
+        int[] values = {0, 127, 128, 16383, 16384, Integer.MAX_VALUE, -1};
+        for (int v : values) {
+            ByteBuffer buffer = ByteBuffer.allocate(8);
+            VarInt.putVarInt(buffer, v);
+            assertEquals(buffer.position(), VarInt.sizeOfVarInt(v), "value=" + v);
+        }
+    }
+
+    @Test
+    @DisplayName("경계값 왕복")
+    void testRoundTrip() {
+        int[] values = {0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        for (int v : values) {
+            VarInt.putVarInt(buffer, v);
+            VarInt.putSignedVarInt(buffer, v);
+        }
+        VarInt.putVarLong(buffer, Long.MIN_VALUE);
+        buffer.flip();
+        for (int v : values) {
+            assertEquals(v, VarInt.getVarInt(buffer));
+            assertEquals(v, VarInt.getSignedVarInt(buffer));
+        }
+        assertEquals(Long.MIN_VALUE, VarInt.getVarLong(buffer));
+    }
+
+    @Test
+    @DisplayName("작은 음수는 zigzag로 1바이트")
+    void testZigZag() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        VarInt.putSignedVarInt(buffer, -1);
+        assertEquals(1, buffer.position());
+    }
+
+    @Test
+    @DisplayName("문자열 왕복 (UTF-8, null은 빈 문자열)")
+    void testString() {
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        VarInt.putString(buffer, "아이템");
+        VarInt.putString(buffer, null);
+        buffer.flip();
+        assertEquals("아이템", VarInt.getString(buffer));
+        assertEquals("", VarInt.getString(buffer));
+    }
+
+    @Test
+    @DisplayName("끝나지 않는 varint는 예외")
+    void testMalformed() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01});
+        assertThrows(IllegalArgumentException.class, () -> VarInt.getVarInt(buffer));
+    }
+}
@@ -147,6 +147,32 @@ class NetworkSimulatorTest {
         assertDoesNotThrow(() -> simulator.printStats());
     }
     
+    @Test
+    void testSamplePacketDoesNotSleep() {
+        simulator.setLatency(500);
+        simulator.setBandwidthLimit(1000); // 1000 bytes/sec
+        
+        long start = System.currentTimeMillis();
+        long first = simulator.samplePacket(1500);   // 토큰 버킷 기본 허용량(MTU) 안
+        long second = simulator.samplePacket(100);
+        
+        assertTrue(System.currentTimeMillis() - start < 100, "대기하지 않고 지연 시간만 계산해야 함");
+        assertEquals(500, first, "허용량 안에서는 기본 지연만");
+        assertTrue(second >= 500 + 90, "허용량을 넘으면 전송 시간(100 bytes / 1000 bytes/sec)이 더해짐: " + second);
+        assertEquals(2, simulator.getTotalPacketsSent());
+    }
+    
+    @Test
+    void testSeededSimulatorIsReproducible() {
+        NetworkSimulator a = new NetworkSimulator(50, 20, 0.3, 123L);
+        NetworkSimulator b = new NetworkSimulator(50, 20, 0.3, 123L);
+        
+        for (int i = 0; i < 50; i++) {
+            assertEquals(a.samplePacket(64), b.samplePacket(64), "같은 시드면 같은 결과");
+        }
+        assertEquals(a.getTotalPacketsLost(), b.getTotalPacketsLost());
+    }
+    
     /**
      * 테스트용 메시지 클래스
      */
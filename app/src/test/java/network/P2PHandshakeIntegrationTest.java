@@ -2,6 +2,7 @@ package network;
 
 import network.messages.GameControlMessage;
 import network.messages.GameControlMessage.ControlType;
+import network.transport.LoopbackNetwork;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import versus.VersusMode;
@@ -11,15 +12,17 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * 간단한 통합 테스트: MODE_SELECT -> READY -> START_GAME 핸드셰이크 흐름 검증
+ * 실제 소켓 대신 메모리 안의 LoopbackNetwork로 연결 (포트 충돌/연결 타임아웃 없음)
  */
 public class P2PHandshakeIntegrationTest {
 
     @Test
     public void testHandshakeFlow() throws Exception {
-        int port = 23456; // 테스트용 포트 (충돌 가능성 낮음)
+        int port = 23456; // LoopbackNetwork 안의 가상 포트
 
-        NetworkManager server = new NetworkManager();
-        NetworkManager client = new NetworkManager();
+        LoopbackNetwork network = new LoopbackNetwork();
+        NetworkManager server = new NetworkManager(network);
+        NetworkManager client = new NetworkManager(network);
 
         CountDownLatch connectedLatch = new CountDownLatch(2);
         CountDownLatch modeReceivedLatch = new CountDownLatch(1);
@@ -59,9 +62,17 @@ public class P2PHandshakeIntegrationTest {
         // 클라이언트 연결 (비동기)
         Thread clientThread = new Thread(() -> {
             try {
-                // 잠시 대기 후 연결 시도
-                Thread.sleep(200);
-                client.connectAsClient("127.0.0.1", port);
+                // 서버가 listen 하기 전이면 잠시 후 다시 시도
+                long deadline = System.currentTimeMillis() + 2000;
+                while (true) {
+                    try {
+                        client.connectAsClient(LoopbackNetwork.ADDRESS, port);
+                        break;
+                    } catch (ConnectionException e) {
+                        if (System.currentTimeMillis() > deadline) throw e;
+                        Thread.sleep(10);
+                    }
+                }
                 connectedLatch.countDown();
             } catch (Exception e) {
                 e.printStackTrace();
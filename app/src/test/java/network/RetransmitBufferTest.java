@@ -0,0 +1,85 @@
+package network;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import network.messages.MessageType;
+import network.messages.NetworkMessage;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RetransmitBuffer 테스트
+ */
+class RetransmitBufferTest {
+
+    private RetransmitBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new RetransmitBuffer(0x1234, 4);
+    }
+
+    private NetworkMessage message(MessageType type) {
+        return new NetworkMessage(type) {};
+    }
+
+    @Test
+    void testStampAssignsSequence() {
+        NetworkMessage first = message(MessageType.GAME_EVENT);
+        NetworkMessage second = message(MessageType.GAME_EVENT);
+
+        assertTrue(buffer.stamp(first));
+        assertTrue(buffer.stamp(second));
+
+        assertEquals(1, first.getSequence());
+        assertEquals(2, second.getSequence());
+        assertEquals(0x1234, second.getSessionId());
+        assertEquals(2, buffer.getLastSequence());
+    }
+
+    @Test
+    void testRestampIgnored() {
+        NetworkMessage msg = message(MessageType.GAME_EVENT);
+        buffer.stamp(msg);
+        assertFalse(buffer.stamp(msg), "재전송 메시지는 다시 기록하지 않음");
+        assertEquals(1, buffer.getLastSequence());
+    }
+
+    @Test
+    void testCollectAfter() {
+        for (int i = 0; i < 3; i++) {
+            buffer.stamp(message(MessageType.GAME_EVENT));
+        }
+
+        List<NetworkMessage> replay = buffer.collectAfter(1);
+        assertNotNull(replay);
+        assertEquals(2, replay.size());
+        assertEquals(2, replay.get(0).getSequence());
+        assertEquals(3, replay.get(1).getSequence());
+
+        assertTrue(buffer.collectAfter(3).isEmpty(), "모두 받았으면 재전송 없음");
+    }
+
+    @Test
+    void testCollectAfterSkipsHeartbeat() {
+        buffer.stamp(message(MessageType.GAME_EVENT));
+        buffer.stamp(message(MessageType.HEARTBEAT));
+        buffer.stamp(message(MessageType.ATTACK));
+
+        List<NetworkMessage> replay = buffer.collectAfter(0);
+        assertEquals(2, replay.size());
+        assertEquals(MessageType.ATTACK, replay.get(1).getType());
+    }
+
+    @Test
+    void testGapTooLargeRequiresResync() {
+        for (int i = 0; i < 6; i++) {
+            buffer.stamp(message(MessageType.GAME_EVENT));
+        }
+
+        // 용량 4: 3~6번만 남아 있음
+        assertEquals(3, buffer.getOldestSequence());
+        assertNotNull(buffer.collectAfter(2));
+        assertNull(buffer.collectAfter(1), "버퍼에서 밀려난 번호가 필요하면 재동기화");
+    }
+}
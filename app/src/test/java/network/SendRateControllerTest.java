@@ -0,0 +1,141 @@
+package network;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SendRateController 테스트")
+class SendRateControllerTest {
+
+    private static final int EVAL = NetworkConfig.RATE_EVAL_INTERVAL;
+
+    private SendRateController controller;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        controller = new SendRateController();
+        now = 10_000;
+    }
+
+    /** 판단 주기 하나를 넘기면서 큐 깊이 관측 */
+    private void queueAfterPeriod(int depth) {
+        now += EVAL;
+        controller.onQueueDepth(depth, now);
+    }
+
+    @Test
+    @DisplayName("정상 상태에서는 제한 없음")
+    void testNoThrottleWhenHealthy() {
+        queueAfterPeriod(1);
+        controller.onRttSample(20, now);
+
+        assertEquals(0, controller.getIntervalMs());
+        assertFalse(controller.isThrottling());
+        assertTrue(controller.tryAcquire(SendRateController.Channel.PIECE, now));
+        assertTrue(controller.tryAcquire(SendRateController.Channel.PIECE, now));
+    }
+
+    @Test
+    @DisplayName("큐가 쌓이면 간격이 두 배씩 늘어나 최저 속도에서 멈춤")
+    void testBackoffOnQueueDepth() {
+        queueAfterPeriod(NetworkConfig.RATE_QUEUE_HIGH_WATER);
+        assertEquals(NetworkConfig.RATE_MIN_INTERVAL, controller.getIntervalMs());
+
+        queueAfterPeriod(NetworkConfig.RATE_QUEUE_HIGH_WATER);
+        assertEquals(NetworkConfig.RATE_MIN_INTERVAL * 2L, controller.getIntervalMs());
+
+        for (int i = 0; i < 10; i++) {
+            queueAfterPeriod(NetworkConfig.RATE_QUEUE_HIGH_WATER);
+        }
+        assertEquals(NetworkConfig.RATE_MAX_INTERVAL, controller.getIntervalMs());
+    }
+
+    @Test
+    @DisplayName("판단 주기 안의 관측은 한 번에 모아서 판단")
+    void testEvaluatesOncePerPeriod() {
+        queueAfterPeriod(NetworkConfig.RATE_QUEUE_HIGH_WATER);
+        controller.onQueueDepth(NetworkConfig.RATE_QUEUE_HIGH_WATER, now + 1);
+        controller.onQueueDepth(NetworkConfig.RATE_QUEUE_HIGH_WATER, now + 2);
+
+        assertEquals(NetworkConfig.RATE_MIN_INTERVAL, controller.getIntervalMs());
+    }
+
+    @Test
+    @DisplayName("쓰기 지연이 있으면 혼잡으로 판단")
+    void testWriteStall() {
+        now += EVAL;
+        controller.onWrite(NetworkConfig.RATE_WRITE_STALL_MS, 0, now);
+
+        assertTrue(controller.isThrottling());
+    }
+
+    @Test
+    @DisplayName("RTT가 기준을 넘거나 급격히 오르면 혼잡으로 판단")
+    void testRttTrend() {
+        controller.onRttSample(40, now);
+        now += EVAL;
+        controller.onRttSample(40, now);
+        assertFalse(controller.isThrottling());
+
+        now += EVAL;
+        controller.onRttSample(180, now);
+        assertTrue(controller.isThrottling(), "기준선 대비 급상승");
+
+        SendRateController high = new SendRateController();
+        high.onRttSample(NetworkConfig.LAG_THRESHOLD + 50, now + EVAL);
+        assertTrue(high.isThrottling(), "기준 초과");
+    }
+
+    @Test
+    @DisplayName("상태가 좋아지면 점진적으로 회복")
+    void testRecovery() {
+        for (int i = 0; i < 10; i++) {
+            queueAfterPeriod(NetworkConfig.RATE_QUEUE_HIGH_WATER);
+        }
+        long throttled = controller.getIntervalMs();
+
+        queueAfterPeriod(0);
+        assertEquals(throttled - NetworkConfig.RATE_RECOVERY_STEP, controller.getIntervalMs());
+
+        for (int i = 0; i < 100 && controller.isThrottling(); i++) {
+            queueAfterPeriod(0);
+        }
+        assertEquals(0, controller.getIntervalMs());
+    }
+
+    @Test
+    @DisplayName("중간 상태에서는 현재 간격 유지")
+    void testHoldBetweenWatermarks() {
+        queueAfterPeriod(NetworkConfig.RATE_QUEUE_HIGH_WATER);
+        long interval = controller.getIntervalMs();
+
+        queueAfterPeriod(NetworkConfig.RATE_QUEUE_LOW_WATER + 1);
+        assertEquals(interval, controller.getIntervalMs());
+    }
+
+    @Test
+    @DisplayName("제한 중에는 종류별로 간격을 지켜야 통과")
+    void testTryAcquireRespectsInterval() {
+        queueAfterPeriod(NetworkConfig.RATE_QUEUE_HIGH_WATER);
+        long interval = controller.getIntervalMs();
+
+        assertTrue(controller.tryAcquire(SendRateController.Channel.PIECE, now));
+        assertFalse(controller.tryAcquire(SendRateController.Channel.PIECE, now + interval - 1));
+        assertTrue(controller.tryAcquire(SendRateController.Channel.SCORE, now + 1), "종류마다 따로 관리");
+        assertTrue(controller.tryAcquire(SendRateController.Channel.PIECE, now + interval));
+        assertEquals(1, controller.getThrottledCount());
+    }
+
+    @Test
+    @DisplayName("reset 후 제한 해제")
+    void testReset() {
+        queueAfterPeriod(NetworkConfig.RATE_QUEUE_HIGH_WATER);
+        controller.reset();
+
+        assertFalse(controller.isThrottling());
+        assertEquals(0, controller.getThrottledCount());
+    }
+}
@@ -0,0 +1,108 @@
+package network;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import network.messages.MessageType;
+import network.messages.NetworkMessage;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SequenceTracker 테스트
+ */
+class SequenceTrackerTest {
+
+    private SequenceTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new SequenceTracker();
+    }
+
+    @Test
+    void testInOrder() {
+        assertEquals(SequenceTracker.Result.NEW_SESSION, tracker.track(7, 1));
+        assertEquals(SequenceTracker.Result.IN_ORDER, tracker.track(7, 2));
+        assertEquals(SequenceTracker.Result.IN_ORDER, tracker.track(7, 3));
+
+        assertEquals(3, tracker.getReceivedCount());
+        assertEquals(0, tracker.getGapCount());
+        assertEquals(3, tracker.getHighestSequence());
+    }
+
+    @Test
+    void testGapDetection() {
+        tracker.track(7, 1);
+        assertEquals(SequenceTracker.Result.GAP, tracker.track(7, 5));
+
+        assertEquals(1, tracker.getGapCount());
+        assertEquals(3, tracker.getMissingCount(), "2, 3, 4번이 누락");
+    }
+
+    @Test
+    void testReorderFillsGap() {
+        tracker.track(7, 1);
+        tracker.track(7, 3);
+        assertEquals(SequenceTracker.Result.REORDERED, tracker.track(7, 2));
+
+        assertEquals(1, tracker.getReorderCount());
+        assertEquals(0, tracker.getMissingCount());
+    }
+
+    @Test
+    void testDuplicate() {
+        tracker.track(7, 1);
+        tracker.track(7, 2);
+        assertEquals(SequenceTracker.Result.DUPLICATE, tracker.track(7, 2));
+        assertEquals(SequenceTracker.Result.DUPLICATE, tracker.track(7, 1));
+
+        assertEquals(2, tracker.getDuplicateCount());
+        assertEquals(2, tracker.getReceivedCount());
+    }
+
+    @Test
+    void testTooOldIsDuplicate() {
+        tracker.track(7, 1);
+        tracker.track(7, 1 + SequenceTracker.WINDOW_SIZE + 10);
+        assertEquals(SequenceTracker.Result.DUPLICATE, tracker.track(7, 2), "윈도우 밖의 번호는 중복으로 처리");
+    }
+
+    @Test
+    void testNewSession() {
+        tracker.track(7, 1);
+        tracker.track(7, 2);
+        assertEquals(SequenceTracker.Result.NEW_SESSION, tracker.track(9, 1));
+
+        assertEquals(9, tracker.getSessionId());
+        assertEquals(1, tracker.getSessionChangeCount());
+        assertEquals(SequenceTracker.Result.IN_ORDER, tracker.track(9, 2));
+    }
+
+    @Test
+    void testUnsequencedMessage() {
+        NetworkMessage message = new NetworkMessage(MessageType.HEARTBEAT) {};
+        assertEquals(SequenceTracker.Result.UNSEQUENCED, tracker.track(message));
+        assertEquals(0, tracker.getReceivedCount());
+    }
+
+    @Test
+    void testAssignedMessage() {
+        NetworkMessage message = new NetworkMessage(MessageType.HEARTBEAT) {};
+        assertTrue(message.assignSequence(42, 1));
+        assertFalse(message.assignSequence(42, 2), "이미 부여된 번호는 유지");
+        assertEquals(1, message.getSequence());
+        assertEquals("2a-1", message.getMessageId());
+
+        assertEquals(SequenceTracker.Result.NEW_SESSION, tracker.track(message));
+    }
+
+    @Test
+    void testReset() {
+        tracker.track(7, 1);
+        tracker.track(7, 4);
+        tracker.reset();
+
+        assertEquals(0, tracker.getReceivedCount());
+        assertEquals(0, tracker.getGapCount());
+        assertEquals(SequenceTracker.Result.NEW_SESSION, tracker.track(7, 5));
+    }
+}
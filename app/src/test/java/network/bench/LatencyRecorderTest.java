@@ -0,0 +1,34 @@
+package network.bench;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LatencyRecorder 테스트")
+class LatencyRecorderTest {
+
+    @Test
+    @DisplayName("백분위는 nearest-rank 방식")
+    void testPercentiles() {
+        LatencyRecorder recorder = new LatencyRecorder(4);
+        for (int i = 1000; i >= 1; i--) {
+            recorder.record(i);   // 순서와 무관하게 정렬해서 계산
+        }
+        assertEquals(1000, recorder.getCount());
+        assertEquals(500, recorder.percentile(50));
+        assertEquals(990, recorder.percentile(99));
+        assertEquals(999, recorder.percentile(99.9));
+        assertEquals(1000, recorder.percentile(100));
+        assertEquals(1000, recorder.max());
+        assertEquals(500.5, recorder.mean(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("표본이 없으면 0")
+    void testEmpty() {
+        LatencyRecorder recorder = new LatencyRecorder(0);
+        assertEquals(0, recorder.percentile(99));
+        assertEquals(0, recorder.mean());
+    }
+}
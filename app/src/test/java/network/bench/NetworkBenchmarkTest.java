@@ -0,0 +1,104 @@
+package network.bench;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import game.events.BlockMovedEvent;
+import game.model.AttackPattern;
+import network.messages.AttackMessage;
+import network.messages.GameEventMessage;
+import network.messages.NetworkMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NetworkBenchmark 테스트")
+class NetworkBenchmarkTest {
+
+    @Test
+    @DisplayName("짧은 실행으로 전송 방식별 결과를 JSON에 기록")
+    void testWritesJsonReport() throws Exception {
+        Path out = Files.createTempFile("netbench", ".json");
+        try {
+            NetworkBenchmark.Options options = NetworkBenchmark.Options.parse(
+                "--messages", "500", "--warmup", "100", "--latency-messages", "100", "--rate", "2000",
+                "--out", out.toString());
+            NetworkBenchmark.Report report = NetworkBenchmark.run(options);
+
+            assertEquals(2, report.getResults().size());
+            for (NetworkBenchmark.CodecResult result : report.getResults()) {
+                assertTrue(result.getMessagesPerSecond() > 0, result.getCodec());
+                assertTrue(result.getBytesPerMessage() > 0, result.getCodec());
+                assertTrue(result.getP50Us() <= result.getP99Us());
+                assertTrue(result.getP99Us() <= result.getP999Us());
+            }
+            assertTrue(report.getResults().get(1).getBytesPerMessage() < report.getResults().get(0).getBytesPerMessage(),
+                "바이너리 프레임이 Java 직렬화보다 작아야 함");
+
+            JsonObject json = JsonParser.parseString(Files.readString(out, StandardCharsets.UTF_8)).getAsJsonObject();
+            JsonArray results = json.getAsJsonArray("results");
+            assertEquals("serialization", results.get(0).getAsJsonObject().get("codec").getAsString());
+            assertTrue(results.get(1).getAsJsonObject().has("p999Us"));
+            assertEquals(500, json.getAsJsonObject("config").get("messages").getAsInt());
+            assertTrue(json.getAsJsonObject("mix").get("MOVE").getAsLong() > 0);
+        } finally {
+            Files.deleteIfExists(out);
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 옵션은 예외")
+    void testRejectsUnknownOption() {
+        assertThrows(IllegalArgumentException.class, () -> NetworkBenchmark.Options.parse("--bogus"));
+    }
+
+    @Test
+    @DisplayName("같은 시드면 같은 트래픽")
+    void testTrafficMixIsDeterministic() {
+        TrafficMix a = new TrafficMix(7, 1);
+        TrafficMix b = new TrafficMix(7, 1);
+        for (int i = 0; i < 200; i++) {
+            NetworkMessage ma = a.next();
+            NetworkMessage mb = b.next();
+            assertEquals(ma.getClass(), mb.getClass());
+            if (ma instanceof GameEventMessage) {
+                // 일부 이벤트는 생성 시각을 담으므로 종류와 크기만 비교
+                GameEventMessage ea = (GameEventMessage) ma;
+                GameEventMessage eb = (GameEventMessage) mb;
+                assertEquals(ea.getEventId(), eb.getEventId());
+                assertEquals(ea.getEventData().length, eb.getEventData().length);
+            }
+        }
+        assertEquals(a.getCounts(), b.getCounts());
+    }
+
+    @Test
+    @DisplayName("바이너리 프레임 인코딩/디코딩")
+    void testBinaryFrameRoundTrip() {
+        ByteBuffer frame = ByteBuffer.allocate(256);
+        BinaryFrameCodec.encode(new GameEventMessage(new BlockMovedEvent(3, 7, 2, 1), 1), frame);
+        AttackPattern pattern = AttackPattern.of(new short[] { 0b1, 0b100 }, 10);
+        BinaryFrameCodec.encode(new AttackMessage(2, 2, pattern, -1), frame);
+        frame.flip();
+
+        int id = frame.get() & 0xFF;
+        int length = frame.get();
+        Object moved = BinaryFrameCodec.decode(id, ByteBuffer.wrap(frame.array(), frame.position(), length));
+        frame.position(frame.position() + length);
+        assertEquals(3, ((BlockMovedEvent) moved).getX());
+
+        id = frame.get() & 0xFF;
+        length = frame.get();
+        AttackMessage attack = (AttackMessage) BinaryFrameCodec.decode(id, frame.slice(frame.position(), length));
+        assertEquals(BinaryFrameCodec.ATTACK_FRAME, id);
+        assertEquals(2, attack.getAttackLines());
+        assertEquals(-1, attack.getBlockX());
+        assertEquals(pattern, attack.getHolePattern());
+    }
+}
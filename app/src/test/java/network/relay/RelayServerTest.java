@@ -0,0 +1,220 @@
+package network.relay;
+
+import network.NetworkManager;
+import network.messages.GameControlMessage;
+import network.messages.GameControlMessage.ControlType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import versus.VersusMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RelayServer 테스트")
+class RelayServerTest {
+
+    private RelayServer relay;
+    private final List<NetworkManager> clients = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        relay = new RelayServer(0, 8, 0);
+        relay.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (NetworkManager client : clients) {
+            client.disconnect();
+        }
+        relay.stop();
+    }
+
+    /** 릴레이에 접속하고 수신한 제어 메시지를 큐에 모으는 클라이언트 */
+    private BlockingQueue<GameControlMessage> connect(NetworkManager client) throws Exception {
+        BlockingQueue<GameControlMessage> received = new LinkedBlockingQueue<>();
+        client.addGameControlListener(received::add);
+        client.connectAsClient("127.0.0.1", relay.getLocalPort());
+        clients.add(client);
+        return received;
+    }
+
+    private void waitFor(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    /** P2PWaitingRoom의 릴레이 모드처럼 ROOM_JOIN 전송 (playerId 1: 호스트, 2: 게스트) */
+    private static void join(NetworkManager client, int playerId, String roomKey) {
+        assertTrue(client.sendMessage(new GameControlMessage(ControlType.ROOM_JOIN, null, playerId, roomKey)));
+    }
+
+    private static GameControlMessage expect(BlockingQueue<GameControlMessage> queue, ControlType type)
+            throws InterruptedException {
+        GameControlMessage message = queue.poll(5, TimeUnit.SECONDS);
+        assertNotNull(message, type + " 메시지를 받아야 함");
+        assertEquals(type, message.getControlType());
+        return message;
+    }
+
+    /**
+     * 대기실의 실제 메시지 순서 (호스트: MODE_SELECT → 게스트: VERSION_CHECK → READY → 호스트: START_REQUEST)
+     * 게스트는 MODE_SELECT를 받아야 준비 버튼이 켜지므로, READY 전에 MODE_SELECT가 도착해야 함
+     */
+    private void runWaitingRoomFlow(NetworkManager host, BlockingQueue<GameControlMessage> hostInbox,
+                                    NetworkManager guest, BlockingQueue<GameControlMessage> guestInbox)
+            throws Exception {
+        assertEquals(Integer.valueOf(2), expect(hostInbox, ControlType.ROOM_JOIN).getPlayerId());
+        assertEquals(Integer.valueOf(1), expect(guestInbox, ControlType.ROOM_JOIN).getPlayerId());
+        assertEquals(VersusMode.NORMAL, expect(guestInbox, ControlType.MODE_SELECT).getMode());
+
+        guest.sendMessage(new GameControlMessage(ControlType.VERSION_CHECK, null, 2, "1.0.0"));
+        assertEquals("1.0.0", expect(hostInbox, ControlType.VERSION_CHECK).getInfo());
+
+        guest.sendMessage(new GameControlMessage(ControlType.READY, null, 2, null));
+        expect(hostInbox, ControlType.READY);
+
+        host.sendMessage(new GameControlMessage(ControlType.START_REQUEST, VersusMode.NORMAL, 1, null, 42L, 1));
+        GameControlMessage start = expect(guestInbox, ControlType.START_REQUEST);
+        assertEquals(Long.valueOf(42L), start.getPieceSeed());
+        assertEquals(Integer.valueOf(1), start.getDifficulty());
+
+        guest.sendMessage(new GameControlMessage(ControlType.PAUSE_GAME));
+        expect(hostInbox, ControlType.PAUSE_GAME);
+    }
+
+    @Test
+    @DisplayName("호스트가 먼저 입장: 대기실 메시지 순서 그대로 중계")
+    void testWaitingRoomFlowHostFirst() throws Exception {
+        NetworkManager host = new NetworkManager();
+        NetworkManager guest = new NetworkManager();
+        BlockingQueue<GameControlMessage> hostInbox = connect(host);
+        BlockingQueue<GameControlMessage> guestInbox = connect(guest);
+
+        join(host, 1, "room-1");
+        host.sendMessage(new GameControlMessage(ControlType.MODE_SELECT, VersusMode.NORMAL, 1, null));
+        waitFor(() -> relay.getWaitingCount() == 1);
+
+        join(guest, 2, "room-1");
+        runWaitingRoomFlow(host, hostInbox, guest, guestInbox);
+
+        assertEquals(1, relay.getRooms().size());
+        RelayRoom room = relay.getRooms().get(0);
+        assertEquals(VersusMode.NORMAL, room.getMode());
+        waitFor(() -> room.getBytes(RelayRoom.Direction.HOST_TO_GUEST) > 0
+            && room.getBytes(RelayRoom.Direction.GUEST_TO_HOST) > 0);
+        assertTrue(room.summary().contains("방 " + room.getId()));
+    }
+
+    @Test
+    @DisplayName("게스트가 먼저 입장해도 MODE_SELECT를 READY 전에 받음")
+    void testWaitingRoomFlowGuestFirst() throws Exception {
+        NetworkManager host = new NetworkManager();
+        NetworkManager guest = new NetworkManager();
+        BlockingQueue<GameControlMessage> hostInbox = connect(host);
+        BlockingQueue<GameControlMessage> guestInbox = connect(guest);
+
+        join(guest, 2, "");
+        waitFor(() -> relay.getWaitingCount() == 1);
+
+        join(host, 1, "");
+        host.sendMessage(new GameControlMessage(ControlType.MODE_SELECT, VersusMode.NORMAL, 1, null));
+        runWaitingRoomFlow(host, hostInbox, guest, guestInbox);
+        assertEquals(1, relay.getRooms().size());
+    }
+
+    @Test
+    @DisplayName("같은 방 코드끼리 짝지음")
+    void testRoomKeyMatching() throws Exception {
+        NetworkManager hostA = new NetworkManager();
+        NetworkManager hostB = new NetworkManager();
+        NetworkManager guestB = new NetworkManager();
+        connect(hostA);
+        BlockingQueue<GameControlMessage> hostBInbox = connect(hostB);
+        BlockingQueue<GameControlMessage> guestBInbox = connect(guestB);
+
+        join(hostA, 1, "room-a");
+        hostA.sendMessage(new GameControlMessage(ControlType.MODE_SELECT, VersusMode.ITEM, 1, null));
+        join(hostB, 1, "room-b");
+        hostB.sendMessage(new GameControlMessage(ControlType.MODE_SELECT, VersusMode.TIME_LIMIT, 1, null));
+        waitFor(() -> relay.getWaitingCount() == 2);
+
+        join(guestB, 2, "room-b");
+        expect(guestBInbox, ControlType.ROOM_JOIN);
+        assertEquals(VersusMode.TIME_LIMIT, expect(guestBInbox, ControlType.MODE_SELECT).getMode());
+        expect(hostBInbox, ControlType.ROOM_JOIN);
+
+        assertEquals(1, relay.getWaitingCount(), "room-a 호스트는 계속 대기");
+        assertEquals("room-b", relay.getRooms().get(0).getKey());
+        assertEquals(VersusMode.TIME_LIMIT, relay.getRooms().get(0).getMode());
+    }
+
+    @Test
+    @DisplayName("같은 역할끼리는 짝짓지 않음")
+    void testSameRoleNotPaired() throws Exception {
+        NetworkManager hostA = new NetworkManager();
+        NetworkManager hostB = new NetworkManager();
+        connect(hostA);
+        connect(hostB);
+
+        join(hostA, 1, "room-1");
+        join(hostB, 1, "room-1");
+        waitFor(() -> relay.getWaitingCount() == 2);
+        assertTrue(relay.getRooms().isEmpty());
+    }
+
+    @Test
+    @DisplayName("한쪽이 끊기면 방 종료")
+    void testRoomClosedWhenPeerLeaves() throws Exception {
+        NetworkManager host = new NetworkManager();
+        NetworkManager guest = new NetworkManager();
+        connect(host);
+        BlockingQueue<GameControlMessage> guestInbox = connect(guest);
+
+        join(host, 1, "");
+        join(guest, 2, "");
+        expect(guestInbox, ControlType.ROOM_JOIN);
+        waitFor(() -> relay.getRooms().size() == 1);
+        RelayRoom room = relay.getRooms().get(0);
+
+        host.disconnect();
+        waitFor(room::isClosed);
+        assertTrue(relay.getRooms().isEmpty());
+        assertEquals(1, relay.getTotalRoomsCreated());
+    }
+
+    @Test
+    @DisplayName("스레드 수를 넘는 접속은 거절")
+    void testRejectsOverCapacity() throws Exception {
+        relay.stop();
+        relay = new RelayServer(0, 2, 0);
+        relay.start();
+
+        List<java.net.Socket> sockets = new ArrayList<>();
+        try {
+            for (int i = 0; i < 3; i++) {
+                sockets.add(new java.net.Socket("127.0.0.1", relay.getLocalPort()));
+            }
+            waitFor(() -> relay.getTotalRejected() == 1);
+            assertEquals(2, relay.getActiveConnections());
+        } finally {
+            for (java.net.Socket socket : sockets) socket.close();
+        }
+    }
+
+    @Test
+    @DisplayName("스레드 수는 2 이상")
+    void testInvalidThreadCount() {
+        assertThrows(IllegalArgumentException.class, () -> new RelayServer(0, 1));
+    }
+}
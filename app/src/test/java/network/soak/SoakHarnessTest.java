@@ -0,0 +1,58 @@
+package network.soak;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SoakHarness 테스트")
+class SoakHarnessTest {
+
+    @Test
+    @DisplayName("짧은 소크: 일시정지/강제 끊김을 거쳐도 자원이 늘지 않음")
+    void testShortSoakPasses() throws Exception {
+        Path out = Files.createTempFile("soak", ".json");
+        try {
+            SoakHarness.Options options = SoakHarness.Options.parse(
+                "--duration", "12s", "--match", "800ms", "--pause-every", "300ms",
+                "--disconnect-every", "4", "--session-matches", "5", "--warmup", "2",
+                "--out", out.toString());
+            SoakHarness.Report report = SoakHarness.run(options);
+
+            assertTrue(report.getMatches() >= 7, "경기 수: " + report.getMatches());
+            assertTrue(report.getSessions() >= 2, "연결을 새로 만들어야 함");
+            assertTrue(report.getPauses() > 0);
+            assertTrue(report.getReconnects() > 0, "강제 끊김 후 세션 재개");
+            assertEquals(0, report.getFailedReconnects());
+            assertTrue(report.getBotActions() > 0);
+            for (SoakHarness.Sample sample : report.getSamples()) {
+                assertEquals(0, sample.getNetworkListeners(), "경기가 끝나면 리스너가 모두 해제되어야 함");
+                assertEquals(0, sample.getRetainedObjects(), "끝난 경기 객체는 GC로 수거되어야 함");
+            }
+            assertTrue(report.isPassed(), report.getVerdicts().toString());
+
+            JsonObject json = JsonParser.parseString(Files.readString(out, StandardCharsets.UTF_8)).getAsJsonObject();
+            assertEquals(6, json.getAsJsonArray("verdicts").size());
+            assertTrue(json.getAsJsonArray("samples").size() >= 7);
+        } finally {
+            Files.deleteIfExists(out);
+        }
+    }
+
+    @Test
+    @DisplayName("시간 옵션 단위")
+    void testParseDuration() {
+        assertEquals(500, SoakHarness.Options.parseDuration("500ms"));
+        assertEquals(90_000, SoakHarness.Options.parseDuration("90s"));
+        assertEquals(30 * 60_000, SoakHarness.Options.parseDuration("30m"));
+        assertEquals(4 * 3_600_000, SoakHarness.Options.parseDuration("4h"));
+        assertEquals(15_000, SoakHarness.Options.parseDuration("15"));
+        assertThrows(IllegalArgumentException.class, () -> SoakHarness.Options.parse("--bogus"));
+    }
+}
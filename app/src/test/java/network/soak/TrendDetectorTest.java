@@ -0,0 +1,65 @@
+package network.soak;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TrendDetector 테스트")
+class TrendDetectorTest {
+
+    private static double[] times(int n) {
+        double[] xs = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = i * 10.0;
+        }
+        return xs;
+    }
+
+    @Test
+    @DisplayName("꾸준히 오르면 누수로 판정")
+    void testSteadyGrowthIsLeak() {
+        double[] ys = new double[20];
+        for (int i = 0; i < ys.length; i++) {
+            ys[i] = 100 + i;   // 경기마다 1씩 증가
+        }
+        TrendDetector.Verdict verdict = TrendDetector.evaluate("threads", times(20), ys, 2);
+
+        assertTrue(verdict.isLeaking());
+        assertEquals(19, verdict.getGrowth(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("평탄한 값에 튀는 표본이 몇 개 있어도 누수 아님")
+    void testOutliersDoNotTrigger() {
+        double[] ys = new double[30];
+        for (int i = 0; i < ys.length; i++) {
+            ys[i] = 50 + (i % 3) * 0.1;
+        }
+        ys[25] = 90;   // 재연결 중 측정 등 순간 증가
+        ys[28] = 80;
+
+        TrendDetector.Verdict verdict = TrendDetector.evaluate("heapMb", times(30), ys, 2);
+        assertFalse(verdict.isLeaking(), verdict.toString());
+    }
+
+    @Test
+    @DisplayName("Theil-Sen 기울기는 이상치에 거의 영향받지 않음")
+    void testSlopeIsRobust() {
+        double[] xs = times(11);
+        double[] ys = new double[11];
+        for (int i = 0; i < ys.length; i++) {
+            ys[i] = 2 * xs[i];
+        }
+        ys[10] = 1e6;
+        assertEquals(2, TrendDetector.slope(xs, ys), 1e-9);
+    }
+
+    @Test
+    @DisplayName("표본이 적거나 측정 불가(-1)면 판정하지 않음")
+    void testSkipsUnmeasured() {
+        assertFalse(TrendDetector.evaluate("x", times(3), new double[] { 1, 5, 9 }, 0).isLeaking());
+        assertFalse(TrendDetector.evaluate("swingTimers", times(6), new double[] { -1, -1, -1, -1, -1, -1 }, 0).isLeaking());
+        assertEquals(0, TrendDetector.evaluate("x", new double[0], new double[0], 0).getSamples());
+    }
+}
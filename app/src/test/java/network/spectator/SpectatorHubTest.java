@@ -0,0 +1,138 @@
+package network.spectator;
+
+import game.events.BoardSnapshotEvent;
+import game.events.EventCodecRegistry;
+import game.events.GameEvent;
+import game.events.ScoreUpdateEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.Socket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SpectatorHub 테스트")
+class SpectatorHubTest {
+
+    private SpectatorHub hub;
+    private SpectatorClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        hub = new SpectatorHub(0, 4, 4);
+        hub.start();
+        client = new SpectatorClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.disconnect();
+        hub.stop();
+    }
+
+    private void publish(int playerId, GameEvent event) {
+        hub.publish(playerId, event, EventCodecRegistry.idOf(event), EventCodecRegistry.encode(event));
+    }
+
+    private static BoardSnapshotEvent keyframe(int playerId) {
+        int[][] board = new int[23][12];
+        board[21][3] = 1;
+        return BoardSnapshotEvent.keyframe(board, new int[23][12], 0, playerId, 1);
+    }
+
+    private <T extends GameEvent> BlockingQueue<T> collect(int playerId, Class<T> type) {
+        BlockingQueue<T> queue = new LinkedBlockingQueue<>();
+        client.getEventBus(playerId).subscribe(type, queue::add);
+        return queue;
+    }
+
+    private void waitFor(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    @Test
+    @DisplayName("접속 시 플레이어별 최신 상태부터 받음")
+    void testCatchUpOnJoin() throws Exception {
+        publish(1, keyframe(1));
+        publish(1, new ScoreUpdateEvent(100));
+        publish(1, new ScoreUpdateEvent(300));
+        publish(2, new ScoreUpdateEvent(50));
+
+        BlockingQueue<BoardSnapshotEvent> snapshots = collect(1, BoardSnapshotEvent.class);
+        BlockingQueue<ScoreUpdateEvent> scores1 = collect(1, ScoreUpdateEvent.class);
+        BlockingQueue<ScoreUpdateEvent> scores2 = collect(2, ScoreUpdateEvent.class);
+        client.connect("127.0.0.1", hub.getLocalPort(), 2000);
+
+        BoardSnapshotEvent snapshot = snapshots.poll(5, TimeUnit.SECONDS);
+        assertNotNull(snapshot);
+        assertEquals(1, snapshot.getBoard()[21][3]);
+        assertEquals(300, scores1.poll(5, TimeUnit.SECONDS).getNewScore(), "마지막 점수만");
+        assertEquals(50, scores2.poll(5, TimeUnit.SECONDS).getNewScore());
+        assertNull(scores1.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("접속 후 양쪽 플레이어 이벤트를 순서대로 받음")
+    void testLiveFanOut() throws Exception {
+        BlockingQueue<ScoreUpdateEvent> scores1 = collect(1, ScoreUpdateEvent.class);
+        BlockingQueue<ScoreUpdateEvent> scores2 = collect(2, ScoreUpdateEvent.class);
+        client.connect("127.0.0.1", hub.getLocalPort(), 2000);
+        waitFor(() -> hub.getSpectatorCount() == 1);
+
+        for (int i = 1; i <= 3; i++) {
+            publish(1, new ScoreUpdateEvent(i));
+            publish(2, new ScoreUpdateEvent(i * 10));
+            Thread.sleep(20);  // 큐 크기(4)를 넘지 않도록
+        }
+        for (int i = 1; i <= 3; i++) {
+            assertEquals(i, scores1.poll(5, TimeUnit.SECONDS).getNewScore());
+            assertEquals(i * 10, scores2.poll(5, TimeUnit.SECONDS).getNewScore());
+        }
+        assertEquals(6, hub.getFramesPublished());
+    }
+
+    @Test
+    @DisplayName("느린 관전자는 경기를 막지 않고 따라잡기로 전환")
+    void testSlowSpectatorDoesNotBlock() throws Exception {
+        try (Socket slow = new Socket("127.0.0.1", hub.getLocalPort())) {
+            waitFor(() -> hub.getSpectatorCount() == 1);
+
+            // 소켓 버퍼를 넘길 만큼 큰 프레임을 계속 보냄 (관전자는 읽지 않음)
+            byte[] body = new byte[16 * 1024];
+            long start = System.currentTimeMillis();
+            for (int i = 0; i < 1000; i++) {
+                hub.publish(1, new ScoreUpdateEvent(i), EventCodecRegistry.SCORE_UPDATE, body);
+            }
+            long elapsed = System.currentTimeMillis() - start;
+
+            assertTrue(elapsed < 2000, "publish가 관전자 때문에 막히면 안 됨: " + elapsed + "ms");
+            assertTrue(hub.getTotalDrops() > 0, "큐가 넘쳐 따라잡기로 전환되어야 함");
+        }
+    }
+
+    @Test
+    @DisplayName("프레임 형식: 플레이어 ID, 이벤트 ID, 길이(varint), 본문")
+    void testFrameFormat() {
+        byte[] frame = SpectatorHub.encodeFrame(2, EventCodecRegistry.SCORE_UPDATE, new byte[200]);
+
+        assertEquals(2 + 2 + 200, frame.length);
+        assertEquals(2, frame[0]);
+        assertEquals(EventCodecRegistry.SCORE_UPDATE, frame[1]);
+    }
+
+    @Test
+    @DisplayName("잘못된 플레이어 ID는 무시")
+    void testIgnoresInvalidPlayer() {
+        publish(3, new ScoreUpdateEvent(1));
+        assertEquals(0, hub.getFramesPublished());
+    }
+}
@@ -0,0 +1,261 @@
+package network.transport;
+
+import network.ConnectionManager;
+import network.NetworkManager;
+import network.messages.GameControlMessage;
+import network.messages.GameControlMessage.ControlType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import utils.NetworkSimulator;
+import versus.VersusMode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LoopbackNetwork 테스트")
+class LoopbackNetworkTest {
+
+    private static Transport[] pair(LoopbackNetwork network) throws IOException {
+        TransportListener listener = network.listen(0);
+        Transport client = network.connect(LoopbackNetwork.ADDRESS, listener.getLocalPort(), 1000);
+        Transport server = listener.accept(1000);
+        return new Transport[] { server, client };
+    }
+
+    private static void readFully(InputStream in, byte[] buffer) throws IOException {
+        int off = 0;
+        while (off < buffer.length) {
+            int n = in.read(buffer, off, buffer.length - off);
+            if (n < 0) {
+                throw new IOException("EOF");
+            }
+            off += n;
+        }
+    }
+
+    @Test
+    @DisplayName("양방향으로 바이트 전달")
+    void testRoundTrip() throws Exception {
+        Transport[] link = pair(new LoopbackNetwork());
+
+        link[1].getOutputStream().write(new byte[] { 1, 2, 3 });
+        byte[] received = new byte[3];
+        readFully(link[0].getInputStream(), received);
+        assertArrayEquals(new byte[] { 1, 2, 3 }, received);
+
+        link[0].getOutputStream().write(9);
+        assertEquals(9, link[1].getInputStream().read());
+        assertEquals(link[0].getLocalPort(), link[1].getRemotePort());
+        assertEquals(link[1].getLocalPort(), link[0].getRemotePort());
+    }
+
+    @Test
+    @DisplayName("버퍼보다 큰 데이터도 순서대로 전달")
+    void testLargerThanBuffer() throws Exception {
+        Transport[] link = pair(new LoopbackNetwork(null, 64));
+        byte[] data = new byte[10_000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            try {
+                link[1].getOutputStream().write(data);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        byte[] received = new byte[data.length];
+        readFully(link[0].getInputStream(), received);
+        writer.get(5, TimeUnit.SECONDS);
+        assertArrayEquals(data, received);
+    }
+
+    @Test
+    @DisplayName("대기 중인 리스너가 없으면 연결 거부")
+    void testConnectionRefused() {
+        LoopbackNetwork network = new LoopbackNetwork();
+        assertThrows(ConnectException.class, () -> network.connect(LoopbackNetwork.ADDRESS, 1234, 100));
+    }
+
+    @Test
+    @DisplayName("접속 대기와 읽기는 시간 초과 시 SocketTimeoutException")
+    void testTimeouts() throws Exception {
+        LoopbackNetwork network = new LoopbackNetwork();
+        TransportListener listener = network.listen(0);
+        assertThrows(SocketTimeoutException.class, () -> listener.accept(50));
+
+        Transport client = network.connect(LoopbackNetwork.ADDRESS, listener.getLocalPort(), 100);
+        client.setReadTimeout(50);
+        assertThrows(SocketTimeoutException.class, () -> client.getInputStream().read());
+    }
+
+    @Test
+    @DisplayName("상대가 닫으면 남은 데이터를 읽은 뒤 EOF, 쓰기는 실패")
+    void testCloseSemantics() throws Exception {
+        Transport[] link = pair(new LoopbackNetwork());
+        link[1].getOutputStream().write(7);
+        link[1].close();
+
+        InputStream in = link[0].getInputStream();
+        assertEquals(7, in.read());
+        assertEquals(-1, in.read());
+        OutputStream out = link[0].getOutputStream();
+        assertThrows(IOException.class, () -> out.write(1));
+    }
+
+    @Test
+    @DisplayName("리스너를 닫으면 대기 중인 accept가 깨어나고 포트가 해제됨")
+    void testListenerClose() throws Exception {
+        LoopbackNetwork network = new LoopbackNetwork();
+        TransportListener listener = network.listen(4000);
+        CompletableFuture<Throwable> accept = CompletableFuture.supplyAsync(() -> {
+            try {
+                listener.accept(0);
+                return null;
+            } catch (IOException e) {
+                return e;
+            }
+        });
+        Thread.sleep(50);
+        listener.close();
+
+        assertNotNull(accept.get(2, TimeUnit.SECONDS));
+        assertThrows(ConnectException.class, () -> network.connect(LoopbackNetwork.ADDRESS, 4000, 100));
+        network.listen(4000).close();   // 같은 포트를 다시 열 수 있음
+    }
+
+    @Test
+    @DisplayName("시뮬레이터 지연이 적용되고 지터가 있어도 순서 유지")
+    void testLatencyAndOrdering() throws Exception {
+        NetworkSimulator simulator = new NetworkSimulator(40, 30, 0.0, 42L);
+        Transport[] link = pair(new LoopbackNetwork(simulator));
+        OutputStream out = link[1].getOutputStream();
+        InputStream in = link[0].getInputStream();
+
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 20; i++) {
+            out.write(i);
+        }
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, in.read());
+        }
+        assertTrue(System.currentTimeMillis() - start >= 10, "최소 지연(40-30ms)은 걸려야 함");
+        assertEquals(20, simulator.getTotalPacketsSent());
+    }
+
+    @Test
+    @DisplayName("손실은 재전송 지연으로 나타나고 데이터는 빠짐없이 도착")
+    void testLossBecomesRetransmitDelay() throws Exception {
+        NetworkSimulator simulator = new NetworkSimulator(0, 0, 0.3, 7L);
+        Transport[] link = pair(new LoopbackNetwork(simulator));
+
+        for (int i = 0; i < 5; i++) {
+            link[1].getOutputStream().write(i);
+        }
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, link[0].getInputStream().read());
+        }
+        assertTrue(simulator.getTotalPacketsSent() >= 5);
+    }
+
+    @Test
+    @DisplayName("ConnectionManager가 소켓 없이 Object 스트림으로 통신")
+    void testConnectionManagerOverLoopback() throws Exception {
+        LoopbackNetwork network = new LoopbackNetwork();
+        ConnectionManager server = new ConnectionManager(network);
+        ConnectionManager client = new ConnectionManager(network);
+        try {
+            CompletableFuture<Void> serverStart = CompletableFuture.runAsync(() -> {
+                try {
+                    server.startServer(5000);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            while (!server.isServerRunning()) {
+                Thread.sleep(5);
+            }
+            client.connectToServer(LoopbackNetwork.ADDRESS, 5000);
+            serverStart.get(2, TimeUnit.SECONDS);
+
+            assertTrue(server.isConnected());
+            assertTrue(client.isConnected());
+            assertNull(client.getSocket());
+
+            ObjectOutputStream out = client.getOutputStream();
+            out.writeObject("hello");
+            out.flush();
+            ObjectInputStream in = server.getInputStream();
+            assertEquals("hello", in.readObject());
+        } finally {
+            client.disconnect();
+            server.disconnect();
+        }
+    }
+
+    @Test
+    @DisplayName("NetworkManager 두 개가 메모리 안에서 핸드셰이크")
+    void testNetworkManagerOverLoopback() throws Exception {
+        LoopbackNetwork network = new LoopbackNetwork(new NetworkSimulator(5, 2, 0.0, 1L));
+        NetworkManager host = new NetworkManager(network);
+        NetworkManager guest = new NetworkManager(network);
+        CountDownLatch modeReceived = new CountDownLatch(1);
+        CountDownLatch readyReceived = new CountDownLatch(1);
+        guest.addGameControlListener(msg -> {
+            if (msg.getControlType() == ControlType.MODE_SELECT) {
+                modeReceived.countDown();
+                guest.sendMessage(new GameControlMessage(ControlType.READY));
+            }
+        });
+        host.addGameControlListener(msg -> {
+            if (msg.getControlType() == ControlType.READY) {
+                readyReceived.countDown();
+            }
+        });
+
+        try {
+            CompletableFuture<Void> hostStart = CompletableFuture.runAsync(() -> {
+                try {
+                    host.startAsServer(6000);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            connectWithRetry(guest, 6000);
+            hostStart.get(2, TimeUnit.SECONDS);
+
+            assertTrue(host.sendMessage(new GameControlMessage(ControlType.MODE_SELECT, VersusMode.NORMAL)));
+            assertTrue(modeReceived.await(2, TimeUnit.SECONDS));
+            assertTrue(readyReceived.await(2, TimeUnit.SECONDS));
+        } finally {
+            guest.disconnect();
+            host.disconnect();
+        }
+    }
+
+    private static void connectWithRetry(NetworkManager client, int port) throws Exception {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (true) {
+            try {
+                client.connectAsClient(LoopbackNetwork.ADDRESS, port);
+                return;
+            } catch (Exception e) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package network.transport;
+
+import network.ConnectionManager;
+import network.NetworkConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import utils.NetworkSimulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SimulatedTransportProvider 테스트")
+class SimulatedTransportProviderTest {
+
+    private static Transport[] pair(TransportProvider provider) throws IOException {
+        TransportListener listener = provider.listen(0);
+        Transport client = provider.connect(LoopbackNetwork.ADDRESS, listener.getLocalPort(), 1000);
+        Transport server = listener.accept(1000);
+        return new Transport[] { server, client };
+    }
+
+    @Test
+    @DisplayName("보내는 방향에 지연이 적용되고 순서 유지")
+    void testOutboundLatency() throws Exception {
+        NetworkSimulator simulator = new NetworkSimulator(80, 0, 0.0, 1L);
+        Transport[] link = pair(new SimulatedTransportProvider(new LoopbackNetwork(), simulator));
+
+        long start = System.currentTimeMillis();
+        ObjectOutputStream out = new ObjectOutputStream(link[1].getOutputStream());
+        out.writeObject("first");
+        out.writeObject("second");
+        out.flush();
+        ObjectInputStream in = new ObjectInputStream(link[0].getInputStream());
+        assertEquals("first", in.readObject());
+        assertEquals("second", in.readObject());
+
+        assertTrue(System.currentTimeMillis() - start >= 75, "지연(80ms)이 적용되어야 함");
+        assertTrue(simulator.getTotalPacketsSent() > 0);
+    }
+
+    @Test
+    @DisplayName("대역폭 제한은 토큰 버킷으로 전송 시간을 늘림")
+    void testBandwidthShaping() throws Exception {
+        NetworkSimulator simulator = new NetworkSimulator(0, 0, 0.0, 1L);
+        simulator.setBandwidthLimit(20_000);  // 20 KB/s, 허용량 2000 bytes
+        Transport[] link = pair(new SimulatedTransportProvider(new LoopbackNetwork(), simulator));
+
+        byte[] data = new byte[8_000];
+        long start = System.currentTimeMillis();
+        link[1].getOutputStream().write(data);
+        InputStream in = link[0].getInputStream();
+        int received = 0;
+        while (received < data.length) {
+            int n = in.read(new byte[data.length], 0, data.length - received);
+            assertTrue(n > 0);
+            received += n;
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        assertTrue(elapsed >= 250, "(8000 - 2000) / 20000 = 300ms 정도 걸려야 함: " + elapsed + "ms");
+    }
+
+    @Test
+    @DisplayName("닫으면 상대방은 EOF")
+    void testClosePropagates() throws Exception {
+        Transport[] link = pair(new SimulatedTransportProvider(new LoopbackNetwork(), new NetworkSimulator()));
+        OutputStream out = link[1].getOutputStream();
+        out.write(5);
+        Thread.sleep(50);   // 전송 스레드가 보낼 시간
+        link[1].close();
+
+        InputStream in = link[0].getInputStream();
+        assertEquals(5, in.read());
+        assertEquals(-1, in.read());
+        assertTrue(link[1].isClosed());
+    }
+
+    @Test
+    @DisplayName("시스템 속성이 없으면 일반 소켓, 있으면 시뮬레이터 적용")
+    void testFromSystemProperties() {
+        String previous = System.getProperty(NetworkConfig.SIMULATOR_PROPERTY);
+        try {
+            System.clearProperty(NetworkConfig.SIMULATOR_PROPERTY);
+            assertTrue(SimulatedTransportProvider.fromSystemProperties() instanceof SocketTransportProvider);
+
+            System.setProperty(NetworkConfig.SIMULATOR_PROPERTY, "congested-wifi");
+            TransportProvider provider = SimulatedTransportProvider.fromSystemProperties();
+            assertTrue(provider instanceof SimulatedTransportProvider);
+            assertNotNull(((SimulatedTransportProvider) provider).getSimulator().getScript());
+
+            System.setProperty(NetworkConfig.SIMULATOR_PROPERTY, "no-such-profile");
+            assertTrue(SimulatedTransportProvider.fromSystemProperties() instanceof SocketTransportProvider);
+        } finally {
+            if (previous == null) {
+                System.clearProperty(NetworkConfig.SIMULATOR_PROPERTY);
+            } else {
+                System.setProperty(NetworkConfig.SIMULATOR_PROPERTY, previous);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("ConnectionManager가 시뮬레이션된 연결로 통신")
+    void testConnectionManagerOverSimulatedLink() throws Exception {
+        TransportProvider provider = new SimulatedTransportProvider(new LoopbackNetwork(),
+            new NetworkSimulator(20, 5, 0.0, 2L));
+        ConnectionManager server = new ConnectionManager(provider);
+        ConnectionManager client = new ConnectionManager(provider);
+        try {
+            Thread serverThread = new Thread(() -> {
+                try {
+                    server.startServer(7000);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            });
+            serverThread.start();
+            while (!server.isServerRunning()) {
+                Thread.sleep(5);
+            }
+            client.connectToServer(LoopbackNetwork.ADDRESS, 7000);
+            serverThread.join(2000);
+
+            client.getOutputStream().writeObject(42);
+            client.getOutputStream().flush();
+            assertEquals(42, server.getInputStream().readObject());
+        } finally {
+            client.disconnect();
+            server.disconnect();
+        }
+    }
+}
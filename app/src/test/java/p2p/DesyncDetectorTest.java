@@ -0,0 +1,51 @@
+package p2p;
+
+import game.core.BoardHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DesyncDetector 테스트")
+class DesyncDetectorTest {
+
+    @Test
+    @DisplayName("해시가 같으면 MATCH")
+    void testMatch() {
+        DesyncDetector detector = new DesyncDetector();
+        assertEquals(DesyncDetector.Result.MATCH, detector.check("BLOCK_PLACED", 42L, 42L, false));
+        assertEquals(1, detector.getChecks());
+        assertEquals(0, detector.getMismatches());
+        assertEquals("", detector.getStatusSuffix());
+    }
+
+    @Test
+    @DisplayName("해시가 다르면 MISMATCH로 집계")
+    void testMismatch() {
+        DesyncDetector detector = new DesyncDetector();
+        assertEquals(DesyncDetector.Result.MISMATCH, detector.check("LINE_CLEARED", 1L, 2L, false));
+        assertEquals(1, detector.getMismatches());
+        assertNotNull(detector.getLastMismatch());
+        assertTrue(detector.getStatusSuffix().contains("불일치 1/1"));
+    }
+
+    @Test
+    @DisplayName("해시가 없거나 대기 이벤트가 있으면 비교하지 않음")
+    void testSkipped() {
+        DesyncDetector detector = new DesyncDetector();
+        assertEquals(DesyncDetector.Result.SKIPPED, detector.check("BLOCK_PLACED", BoardHash.NONE, 5L, false));
+        assertEquals(DesyncDetector.Result.SKIPPED, detector.check("BLOCK_PLACED", 5L, 6L, true));
+        assertEquals(2, detector.getSkipped());
+        assertEquals(0, detector.getChecks());
+    }
+
+    @Test
+    @DisplayName("재동기화 요청은 쿨다운 동안 한 번만")
+    void testResyncCooldown() {
+        DesyncDetector detector = new DesyncDetector();
+        assertTrue(detector.shouldRequestResync(1000));
+        assertFalse(detector.shouldRequestResync(1000 + DesyncDetector.RESYNC_COOLDOWN_MS - 1));
+        assertTrue(detector.shouldRequestResync(1000 + DesyncDetector.RESYNC_COOLDOWN_MS));
+        assertEquals(2, detector.getResyncRequests());
+    }
+}
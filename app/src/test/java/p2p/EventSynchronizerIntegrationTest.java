@@ -28,6 +28,7 @@ class EventSynchronizerIntegrationTest {
     private static class TestMessageSender extends MessageSender {
         private final AtomicInteger messageCount = new AtomicInteger(0);
         private NetworkMessage lastMessage = null;
+        private final java.util.List<NetworkMessage> messages = new java.util.ArrayList<>();
         
         public TestMessageSender() throws Exception {
             super(new ObjectOutputStream(new ByteArrayOutputStream()));
@@ -37,6 +38,7 @@ class EventSynchronizerIntegrationTest {
         public boolean sendMessage(NetworkMessage message) {
             messageCount.incrementAndGet();
             lastMessage = message;
+            messages.add(message);
             return true; // 항상 성공
         }
         
@@ -48,9 +50,14 @@ class EventSynchronizerIntegrationTest {
             return lastMessage;
         }
         
+        public java.util.List<NetworkMessage> getMessages() {
+            return messages;
+        }
+        
         public void reset() {
             messageCount.set(0);
             lastMessage = null;
+            messages.clear();
         }
     }
     
@@ -268,4 +275,104 @@ class EventSynchronizerIntegrationTest {
         // 원격 이벤트가 수신되었는지 확인
         assertTrue(remoteEventCount.get() >= 1, "Remote events should be received");
     }
+
+    // ==================== 송신 속도 조절 테스트 ====================
+    
+    @Test
+    void testThrottledMoveDeliveredBeforePlace() throws Exception {
+        network.SendRateController controller = new network.SendRateController();
+        EventBus bus = new EventBus();
+        TestMessageSender sender = new TestMessageSender();
+        new EventSynchronizer(bus, new EventBus(), sender, playerId, controller);
+        
+        // 혼잡 상태로 만들어 최대 간격까지 늘림
+        long now = System.currentTimeMillis();
+        for (int i = 1; i <= 5; i++) {
+            controller.onQueueDepth(network.NetworkConfig.RATE_QUEUE_HIGH_WATER, now + i * network.NetworkConfig.RATE_EVAL_INTERVAL);
+        }
+        assertTrue(controller.isThrottling());
+        
+        // 첫 이동만 바로 전송, 나머지는 최신 값 하나로 보류
+        for (int x = 1; x <= 5; x++) {
+            bus.publish(new BlockMovedEvent(x, 2, 0, 0));
+        }
+        assertEquals(1, sender.getMessageCount());
+        
+        // 고정 전에 보류 중인 마지막 이동이 먼저 전송됨
+        bus.publish(new BlockPlacedEvent());
+        assertEquals(3, sender.getMessageCount());
+        assertEquals("BLOCK_PLACED", ((GameEventMessage) sender.getLastMessage()).getEventType());
+        
+        // 받은 메시지를 순서대로 상대 화면에 적용하면 블록이 마지막 위치(x=5)에 고정됨
+        RemoteGamePanel remote = new RemoteGamePanel();
+        blocks.OBlock block = new blocks.OBlock();
+        block.setShape();
+        block.setPosition(1, 2);
+        remote.spawnBlock(block);
+        for (NetworkMessage message : sender.getMessages()) {
+            GameEvent event = ((GameEventMessage) message).toGameEvent();
+            if (event instanceof BlockMovedEvent) {
+                remote.moveBlock(((BlockMovedEvent) event).getX(), ((BlockMovedEvent) event).getY());
+            } else if (event instanceof BlockPlacedEvent) {
+                remote.placeBlock();
+            }
+        }
+        int[][] expected = new int[23][12];
+        int[][] shape = block.getShape();
+        for (int r = 0; r < shape.length; r++) {
+            for (int c = 0; c < shape[r].length; c++) {
+                if (shape[r][c] != 0) expected[2 + r][5 + c] = shape[r][c];
+            }
+        }
+        assertEquals(game.core.BoardHash.of(expected), remote.getBoardHash(), "상대 블록이 마지막 이동 위치에 고정되어야 함");
+        
+        // 필수 이벤트는 제한 없이 전송
+        bus.publish(new LineClearedEvent(new int[]{20}, 100, playerId));
+        assertEquals(4, sender.getMessageCount());
+        GameEventMessage last = (GameEventMessage) sender.getLastMessage();
+        assertEquals("LINE_CLEARED", last.getEventType());
+        
+        // 새 블록이 나오면 이전 블록의 보류 이동은 버려짐
+        bus.publish(new BlockMovedEvent(3, 2, 0, 0));
+        assertEquals(4, sender.getMessageCount());
+        bus.publish(new BlockSpawnedEvent("blocks.IBlock", 4, 0));
+        assertEquals(5, sender.getMessageCount());
+        assertEquals("BLOCK_SPAWNED", ((GameEventMessage) sender.getLastMessage()).getEventType());
+        
+        // 게임 오버 전에는 보류 중인 점수가 먼저 전송됨
+        bus.publish(new ScoreUpdateEvent(100));
+        bus.publish(new ScoreUpdateEvent(200));
+        bus.publish(new GameOverEvent(200, playerId));
+        assertEquals(8, sender.getMessageCount());
+    }
+    
+    // ==================== 블록 순서 불일치 테스트 ====================
+    
+    @Test
+    void testSequencedSpawnSentInFullFormWithoutSharedSequence() throws Exception {
+        blocks.PieceSequence sequence = new blocks.PieceSequence(42L, 0);
+        synchronizer.setPieceSequence(sequence);
+        testSender.reset();
+        
+        // 순서를 공유하면 순서 번호만 전송
+        localEventBus.publish(new BlockSpawnedEvent("blocks.IBlock", 3, 0, "blocks.OBlock", 0));
+        BlockSpawnedEvent sent = (BlockSpawnedEvent) ((GameEventMessage) testSender.getLastMessage()).toGameEvent();
+        assertTrue(sent.isSequenced());
+        
+        // 시드가 어긋나면 종류/위치를 그대로 전송
+        synchronizer.setSequencedSpawns(false);
+        localEventBus.publish(new BlockSpawnedEvent("blocks.IBlock", 3, 0, "blocks.OBlock", 1));
+        sent = (BlockSpawnedEvent) ((GameEventMessage) testSender.getLastMessage()).toGameEvent();
+        assertFalse(sent.isSequenced());
+        assertEquals("blocks.IBlock", sent.getBlockClassName());
+        assertEquals("blocks.OBlock", sent.getNextBlockClassName());
+        assertEquals(3, sent.getX());
+        
+        // 블록 순서가 없을 때도 전체 형식
+        synchronizer.setSequencedSpawns(true);
+        synchronizer.setPieceSequence(null);
+        localEventBus.publish(new BlockSpawnedEvent("blocks.IBlock", 3, 0, "blocks.OBlock", 2));
+        sent = (BlockSpawnedEvent) ((GameEventMessage) testSender.getLastMessage()).toGameEvent();
+        assertFalse(sent.isSequenced());
+    }
 }
@@ -0,0 +1,139 @@
+package p2p;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import blocks.IBlock;
+
+/**
+ * RemoteEventQueue 테스트 (원격 이벤트를 모아 프레임마다 한 번 적용)
+ */
+class RemoteEventQueueTest {
+
+    private RemoteGamePanel panel;
+    private RemoteEventQueue queue;
+    private List<String> log;
+
+    @BeforeEach
+    void setUp() {
+        panel = new RemoteGamePanel();
+        queue = new RemoteEventQueue(panel);
+        log = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("쌓인 이벤트를 순서대로 적용하고 연속된 이동은 마지막만 적용")
+    void testDrainAppliesInOrderAndCollapsesMoves() throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            queue.post(() -> log.add("spawn"));
+            queue.postMove(() -> log.add("move1"));
+            queue.postMove(() -> log.add("move2"));
+            queue.postMove(() -> log.add("move3"));
+            queue.post(() -> log.add("rotate"));
+            queue.postMove(() -> log.add("move4"));
+            queue.post(() -> log.add("place"));
+            queue.drain();
+        });
+
+        assertEquals(List.of("spawn", "move3", "rotate", "move4", "place"), log);
+        assertEquals(5, queue.getAppliedCount());
+        assertEquals(2, queue.getCollapsedCount());
+        assertEquals(1, queue.getDrainCount());
+        assertEquals(0, queue.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("배치로 적용해도 블록은 마지막 위치로 이동")
+    void testBatchedMovesReachLastPosition() throws Exception {
+        IBlock block = new IBlock();
+        block.setShape();
+        SwingUtilities.invokeAndWait(() -> {
+            queue.post(() -> panel.spawnBlock(block));
+            for (int x = 1; x <= 5; x++) {
+                final int nx = x;
+                queue.postMove(() -> panel.moveBlock(nx, 4));
+            }
+            queue.drain();
+        });
+
+        assertEquals(5, block.getX());
+        assertEquals(4, block.getY());
+        assertEquals(4, queue.getCollapsedCount());
+    }
+
+    @Test
+    @DisplayName("한 번에 많이 쌓이면 갱신 주기를 늦추고, 줄면 복구")
+    void testThrottleUnderLoad() throws Exception {
+        assertEquals(RemoteEventQueue.FRAME_MILLIS, queue.getFrameMillis());
+
+        SwingUtilities.invokeAndWait(() -> {
+            for (int i = 0; i < RemoteEventQueue.LOAD_THRESHOLD; i++) {
+                queue.post(() -> log.add("event"));
+            }
+            queue.drain();
+        });
+        assertTrue(queue.isThrottled());
+        assertEquals(RemoteEventQueue.THROTTLED_FRAME_MILLIS, queue.getFrameMillis());
+
+        SwingUtilities.invokeAndWait(() -> {
+            queue.post(() -> log.add("event"));
+            queue.drain();
+        });
+        assertFalse(queue.isThrottled());
+        assertEquals(RemoteEventQueue.LOAD_THRESHOLD + 1, log.size());
+    }
+
+    @Test
+    @DisplayName("다른 스레드에서 넣은 이벤트도 EDT에서 자동으로 적용")
+    void testScheduledDrain() throws Exception {
+        List<Boolean> onEdt = new ArrayList<>();
+        Thread receiver = new Thread(() -> {
+            for (int i = 0; i < 10; i++) {
+                queue.post(() -> onEdt.add(SwingUtilities.isEventDispatchThread()));
+            }
+        });
+        receiver.start();
+        receiver.join();
+
+        long deadline = System.currentTimeMillis() + 2000;
+        while (System.currentTimeMillis() < deadline) {
+            final int[] size = new int[1];
+            SwingUtilities.invokeAndWait(() -> size[0] = onEdt.size());
+            if (size[0] == 10) break;
+            Thread.sleep(10);
+        }
+
+        SwingUtilities.invokeAndWait(() -> {
+            assertEquals(10, onEdt.size());
+            assertFalse(onEdt.contains(Boolean.FALSE));
+        });
+    }
+
+    @Test
+    @DisplayName("닫은 뒤에는 이벤트를 받지 않음")
+    void testClose() throws Exception {
+        queue.close();
+        SwingUtilities.invokeAndWait(() -> {
+            queue.post(() -> log.add("late"));
+            queue.drain();
+        });
+        assertTrue(log.isEmpty());
+        assertEquals(0, queue.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("빈 큐를 drain해도 아무 일도 없음")
+    void testEmptyDrain() throws Exception {
+        SwingUtilities.invokeAndWait(() -> queue.drain());
+        assertEquals(0, queue.getDrainCount());
+        assertFalse(queue.isThrottled());
+    }
+}
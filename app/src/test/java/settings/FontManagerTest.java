@@ -4,7 +4,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.awt.Color;
 import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
 
 /**
  * FontManager 클래스 테스트
@@ -205,4 +208,59 @@ class FontManagerTest {
         assertNotNull(font.getName());
         assertTrue(font.getSize() > 0 || font.getSize() == 0);
     }
+
+    @Test
+    void testCachedFonts_AreSameInstance() {
+        assertSame(FontManager.getCachedKoreanFont(Font.BOLD, 11), FontManager.getCachedKoreanFont(Font.BOLD, 11));
+        assertEquals(FontManager.getKoreanFont(Font.BOLD, 11), FontManager.getCachedKoreanFont(Font.BOLD, 11));
+
+        Font arial = FontManager.getFont("Arial", Font.BOLD, 20);
+        assertSame(arial, FontManager.getFont("Arial", Font.BOLD, 20));
+        assertEquals(new Font("Arial", Font.BOLD, 20), arial);
+
+        Font derived = FontManager.deriveFont(arial, 14);
+        assertEquals(14, derived.getSize());
+        assertEquals(Font.BOLD, derived.getStyle());
+        assertSame(derived, FontManager.deriveFont(arial, 14));
+        assertSame(arial, FontManager.deriveFont(arial, 20), "크기가 같으면 원본 그대로");
+    }
+
+    @Test
+    void testFontMetrics_Cached() {
+        Font font = FontManager.getFont("Dialog", Font.PLAIN, 16);
+        assertSame(FontManager.getFontMetrics(font), FontManager.getFontMetrics(font));
+        assertTrue(FontManager.getFontMetrics(font).stringWidth("123") > 0);
+    }
+
+    @Test
+    void testGlyphImage_Cached() {
+        Font font = FontManager.getFont("Dialog", Font.BOLD, 18);
+        BufferedImage a = FontManager.getGlyphImage('7', font, Color.BLACK);
+        assertSame(a, FontManager.getGlyphImage('7', font, Color.BLACK));
+        assertNotSame(a, FontManager.getGlyphImage('7', font, Color.RED), "색이 다르면 다른 이미지");
+    }
+
+    @Test
+    void testDrawCachedText_MatchesDrawString() {
+        Font font = FontManager.getFont("Dialog", Font.BOLD, 18);
+        String text = "12345";
+
+        BufferedImage expected = new BufferedImage(120, 40, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g1 = expected.createGraphics();
+        g1.setFont(font);
+        g1.setColor(Color.BLACK);
+        g1.drawString(text, 10, 28);
+        g1.dispose();
+
+        BufferedImage actual = new BufferedImage(120, 40, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = actual.createGraphics();
+        FontManager.drawCachedText(g2, text, 10, 28, font, Color.BLACK);
+        g2.dispose();
+
+        for (int y = 0; y < 40; y++) {
+            for (int x = 0; x < 120; x++) {
+                assertEquals(expected.getRGB(x, y), actual.getRGB(x, y), "픽셀 (" + x + "," + y + ")");
+            }
+        }
+    }
 }
@@ -0,0 +1,94 @@
+package start;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BackgroundAnimationPanel 테스트 (배열 기반 블록 갱신, 아틀라스 그리기, 자동 멈춤)
+ */
+public class BackgroundAnimationPanelTest {
+
+    private static final int WIDTH = 600;
+    private static final int HEIGHT = 800;
+
+    @Test
+    @DisplayName("애니메이션을 끄면 블록 없이 배경만 그림")
+    void testDisabledHasNoBlocks() {
+        BackgroundAnimationPanel panel = new BackgroundAnimationPanel(WIDTH, HEIGHT, false);
+        assertEquals(0, panel.getBlockCount());
+        assertFalse(panel.isAnimationRunning());
+        assertDoesNotThrow(() -> paint(panel));
+    }
+
+    @Test
+    @DisplayName("화면에 보이지 않으면 타이머가 돌지 않음")
+    void testNotRunningWhenNotShowing() {
+        BackgroundAnimationPanel panel = new BackgroundAnimationPanel(WIDTH, HEIGHT);
+        assertEquals(25, panel.getBlockCount());
+        assertFalse(panel.isAnimationRunning());
+        panel.stopAnimation();
+        assertFalse(panel.isAnimationRunning());
+    }
+
+    @Test
+    @DisplayName("화면 아래로 나간 블록은 같은 자리에서 다시 생성됨")
+    void testBlocksRespawnInPlace() {
+        BackgroundAnimationPanel panel = new BackgroundAnimationPanel(WIDTH, HEIGHT);
+        for (int tick = 0; tick < 2000; tick++) {
+            panel.updateBlocks();
+            for (int i = 0; i < panel.getBlockCount(); i++) {
+                assertTrue(panel.getBlockY(i) <= HEIGHT, "블록 " + i + "이 화면 아래에 남아 있음");
+            }
+        }
+        assertEquals(25, panel.getBlockCount());
+    }
+
+    @Test
+    @DisplayName("블록이 있어도 아틀라스로 그리기 가능")
+    void testPaintWithBlocks() {
+        BackgroundAnimationPanel panel = new BackgroundAnimationPanel(WIDTH, HEIGHT);
+        for (int tick = 0; tick < 200; tick++) {
+            panel.updateBlocks();
+        }
+        assertDoesNotThrow(() -> paint(panel));
+    }
+
+    @Test
+    @DisplayName("블록 갱신 중 메모리를 할당하지 않음")
+    void testUpdateDoesNotAllocate() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return;  // 스레드별 할당량을 잴 수 없는 JVM
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!bean.isThreadAllocatedMemorySupported() || !bean.isThreadAllocatedMemoryEnabled()) {
+            return;
+        }
+
+        BackgroundAnimationPanel panel = new BackgroundAnimationPanel(WIDTH, HEIGHT);
+        for (int i = 0; i < 10_000; i++) panel.updateBlocks();  // JIT 워밍업
+
+        long thread = Thread.currentThread().getId();
+        long before = bean.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 10_000; i++) panel.updateBlocks();
+        long allocated = bean.getThreadAllocatedBytes(thread) - before;
+
+        assertTrue(allocated < 64 * 1024, "10000번 갱신하는 동안 할당: " + allocated + " bytes");
+    }
+
+    private static void paint(BackgroundAnimationPanel panel) {
+        panel.setSize(WIDTH, HEIGHT);
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            panel.paint(g);
+        } finally {
+            g.dispose();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NetworkScript 테스트")
+class NetworkScriptTest {
+
+    @Test
+    @DisplayName("이름으로 스크립트 찾기")
+    void testForName() {
+        assertSame(NetworkScript.MOBILE_3G, NetworkScript.forName("3G"));
+        assertSame(NetworkScript.CONGESTED_WIFI, NetworkScript.forName("congested_wifi"));
+        assertSame(NetworkScript.BURST_LOSS, NetworkScript.forName(" burst-loss "));
+        assertNull(NetworkScript.forName("dial-up"));
+        assertNull(NetworkScript.forName(null));
+    }
+
+    @Test
+    @DisplayName("구간은 시간에 따라 바뀌고 반복됨")
+    void testPhaseCycle() {
+        NetworkScript.Phase calm = new NetworkScript.Phase(100, 10, 0, 0.0);
+        NetworkScript.Phase spike = new NetworkScript.Phase(50, 300, 0, 0.0);
+        NetworkScript script = new NetworkScript("test", 0, 0, 0, 0, calm, spike);
+
+        assertEquals(150, script.getCycleMs());
+        assertSame(calm, script.phaseAt(0));
+        assertSame(spike, script.phaseAt(120));
+        assertSame(calm, script.phaseAt(160));
+    }
+
+    @Test
+    @DisplayName("시뮬레이터가 패킷 시각에 맞는 구간 조건을 적용")
+    void testSimulatorFollowsScript() {
+        NetworkSimulator simulator = new NetworkSimulator(0, 0, 0.0, 1L);
+        simulator.setScript(new NetworkScript("test", 0, 0, 0, 0,
+            new NetworkScript.Phase(100, 10, 0, 0.0),
+            new NetworkScript.Phase(100, 300, 0, 0.0)));
+
+        assertEquals(10, simulator.samplePacket(100, 1_000));
+        assertEquals(300, simulator.samplePacket(100, 1_150));
+        assertEquals(10, simulator.samplePacket(100, 1_200));
+    }
+
+    @Test
+    @DisplayName("연속 손실은 손실이 몰려서 발생")
+    void testBurstLossClusters() {
+        NetworkSimulator simulator = new NetworkSimulator(0, 0, 0.0, 3L);
+        simulator.setBurstLoss(0.02, 0.2, 1.0);
+
+        int losses = 0;
+        int lossAfterLoss = 0;
+        boolean previousLost = false;
+        for (int i = 0; i < 5000; i++) {
+            boolean lost = simulator.samplePacket(100, i) < 0;
+            if (lost) {
+                losses++;
+                if (previousLost) {
+                    lossAfterLoss++;
+                }
+            }
+            previousLost = lost;
+        }
+        assertTrue(losses > 0);
+        assertTrue(lossAfterLoss * 2 > losses, "손실 대부분이 다른 손실 바로 뒤에 와야 함: " + lossAfterLoss + "/" + losses);
+    }
+
+    @Test
+    @DisplayName("프로파일 이름으로 시뮬레이터 생성")
+    void testSimulatorForProfileName() {
+        assertSame(NetworkScript.MOBILE_3G, NetworkSimulator.forProfileName("3g", 1L).getScript());
+        assertEquals(48 * 1024, NetworkSimulator.forProfileName("3g", null).getBandwidthLimit());
+
+        NetworkSimulator poor = NetworkSimulator.forProfileName("poor", null);
+        assertEquals(200, poor.getBaseLatency());
+        assertNull(poor.getScript());
+
+        assertNull(NetworkSimulator.forProfileName("unknown", null));
+        assertNull(NetworkSimulator.forProfileName("", null));
+    }
+}
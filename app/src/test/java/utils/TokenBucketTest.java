@@ -0,0 +1,44 @@
+package utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenBucket 테스트")
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("허용량 안에서는 대기 없음")
+    void testBurstWithinCapacity() {
+        TokenBucket bucket = new TokenBucket(1000, 500);
+        assertEquals(0, bucket.reserve(300, 0));
+        assertEquals(0, bucket.reserve(200, 0));
+    }
+
+    @Test
+    @DisplayName("허용량을 넘으면 초과분만큼 대기 (빚을 쌓음)")
+    void testDebtAccumulates() {
+        TokenBucket bucket = new TokenBucket(1000, 100);
+        assertEquals(0, bucket.reserve(100, 0));
+        assertEquals(100, bucket.reserve(100, 0), "100 bytes / 1000 bytes/sec");
+        assertEquals(200, bucket.reserve(100, 0), "앞 패킷 뒤에 줄을 섬");
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 채워지고 최대 허용량을 넘지 않음")
+    void testRefill() {
+        TokenBucket bucket = new TokenBucket(1000, 100);
+        bucket.reserve(100, 0);
+        assertEquals(0, bucket.reserve(50, 50), "50ms 동안 50개 채워짐");
+        assertEquals(0, bucket.reserve(100, 10_000), "오래 쉬어도 허용량(100)까지만");
+        assertEquals(100, bucket.reserve(100, 10_000));
+    }
+
+    @Test
+    @DisplayName("잘못된 설정은 예외")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 100));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(100, 0));
+    }
+}